@@ -0,0 +1,15 @@
+#!/usr/bin/env bash
+# Ejecuta los benchmarks con el perfilador de GC (gc.alloc.rate.norm = bytes por operación)
+# y deja los resultados en JSON para guardarlos como artefacto de CI y comparar entre builds.
+#
+#   ./ejecutar-benchmarks.sh                      # todos salvo PlanificadorPartidosBenchmark
+#   ./ejecutar-benchmarks.sh JugadorServiceBenchmark -f 2
+set -euo pipefail
+
+cd "$(dirname "$0")"
+(cd .. && mvn -B -q install -DskipTests)
+mvn -B -q package
+
+FILTRO=${1:-'^(?!.*PlanificadorPartidos).*'}
+shift || true
+java -jar target/benchmarks.jar "$FILTRO" -prof gc -rf json -rff target/jmh-resultados.json "$@"
@@ -0,0 +1,73 @@
+package com.torneos;
+
+import com.torneos.dto.EquipoResponseDTO;
+import com.torneos.entity.Equipo;
+import com.torneos.entity.Jugador;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Datos sintéticos y deterministas para los benchmarks: equipos con plantilla completa,
+ * ~10% de bajas y posiciones repartidas como en una plantilla real.
+ */
+public final class DatosBenchmark {
+
+    private static final Jugador.Posicion[] POSICIONES = {
+            Jugador.Posicion.PORTERO, Jugador.Posicion.PORTERO,
+            Jugador.Posicion.DEFENSA, Jugador.Posicion.DEFENSA, Jugador.Posicion.DEFENSA, Jugador.Posicion.DEFENSA,
+            Jugador.Posicion.MEDIO, Jugador.Posicion.MEDIO, Jugador.Posicion.MEDIO, Jugador.Posicion.MEDIO,
+            Jugador.Posicion.DELANTERO, Jugador.Posicion.DELANTERO
+    };
+    private static final String[] NOMBRES = { "Juan", "Carlos", "Andrés", "Luis", "Mateo", "Sebastián", "Diego" };
+    private static final String[] APELLIDOS = { "Pérez", "Gómez", "Rodríguez", "Martínez", "López", "Hernández" };
+
+    private DatosBenchmark() {
+    }
+
+    public static Equipo equipo(long idEquipo, int jugadores, long semilla) {
+        SplittableRandom aleatorio = new SplittableRandom(semilla);
+        Equipo equipo = new Equipo("Club Deportivo " + idEquipo, "Sub-" + (15 + aleatorio.nextInt(6)));
+        equipo.setIdEquipo(idEquipo);
+        equipo.setEscudoUrl("https://cdn.torneos.local/escudos/" + idEquipo + ".png");
+        equipo.setDescripcion("Equipo sintético " + idEquipo);
+        equipo.setFechaFundacion(LocalDate.of(1950 + aleatorio.nextInt(70), 1 + aleatorio.nextInt(12), 1));
+        equipo.setActivo(true);
+        equipo.setFechaCreacion(LocalDateTime.of(2024, 1, 1, 12, 0));
+        equipo.setFechaActualizacion(LocalDateTime.of(2024, 6, 1, 12, 0));
+
+        List<Jugador> plantilla = new ArrayList<>(jugadores);
+        for (int i = 0; i < jugadores; i++) {
+            Jugador jugador = new Jugador(
+                    NOMBRES[aleatorio.nextInt(NOMBRES.length)] + " " + APELLIDOS[aleatorio.nextInt(APELLIDOS.length)],
+                    LocalDate.of(2000 + aleatorio.nextInt(10), 1 + aleatorio.nextInt(12), 1 + aleatorio.nextInt(28)),
+                    POSICIONES[aleatorio.nextInt(POSICIONES.length)], i + 1, equipo);
+            jugador.setIdJugador(idEquipo * 1000 + i);
+            jugador.setContactoEmergencia("+57 300 " + (1_000_000 + aleatorio.nextInt(9_000_000)));
+            jugador.setActivo(aleatorio.nextInt(10) != 0);
+            jugador.setFechaCreacion(LocalDateTime.of(2024, 1, 1, 12, 0));
+            jugador.setFechaActualizacion(LocalDateTime.of(2024, 6, 1, 12, 0));
+            plantilla.add(jugador);
+        }
+        equipo.setJugadores(plantilla);
+        return equipo;
+    }
+
+    public static EquipoResponseDTO equipoResponse(Equipo equipo) {
+        EquipoResponseDTO dto = new EquipoResponseDTO();
+        dto.setIdEquipo(equipo.getIdEquipo());
+        dto.setNombre(equipo.getNombre());
+        dto.setCategoria(equipo.getCategoria());
+        dto.setEscudoUrl(equipo.getEscudoUrl());
+        dto.setDescripcion(equipo.getDescripcion());
+        dto.setFechaFundacion(equipo.getFechaFundacion());
+        dto.setActivo(equipo.getActivo());
+        dto.setFechaCreacion(equipo.getFechaCreacion());
+        dto.setFechaActualizacion(equipo.getFechaActualizacion());
+        dto.setCantidadJugadores(equipo.getJugadores().size());
+        return dto;
+    }
+}
@@ -0,0 +1,88 @@
+package com.torneos.dto;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.torneos.DatosBenchmark;
+import com.torneos.entity.Equipo;
+import com.torneos.entity.Jugador;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización Jackson de listas de JugadorResponseDTO y EquipoResponseDTO a bytes, con el
+ * ObjectMapper que construye Spring Boot (Jackson2ObjectMapperBuilder, módulos java.time).
+ * Tamaños: una plantilla (25) y una página máxima (100).
+ *
+ *   java -jar target/benchmarks.jar SerializacionDTOBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacionDTOBenchmark {
+
+    @Param({ "25", "100" })
+    public int tamano;
+
+    private ObjectWriter escritor;
+    private List<JugadorResponseDTO> jugadores;
+    private List<EquipoResponseDTO> equipos;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        escritor = Jackson2ObjectMapperBuilder.json().build().writer();
+
+        jugadores = new ArrayList<>(tamano);
+        equipos = new ArrayList<>(tamano);
+        for (long idEquipo = 1; jugadores.size() < tamano; idEquipo++) {
+            Equipo equipo = DatosBenchmark.equipo(idEquipo, 25, idEquipo);
+            equipos.add(DatosBenchmark.equipoResponse(equipo));
+            for (Jugador jugador : equipo.getJugadores()) {
+                if (jugadores.size() < tamano) {
+                    jugadores.add(aDTO(jugador));
+                }
+            }
+        }
+        for (long idEquipo = equipos.size() + 1; equipos.size() < tamano; idEquipo++) {
+            equipos.add(DatosBenchmark.equipoResponse(DatosBenchmark.equipo(idEquipo, 25, idEquipo)));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializarJugadores() throws Exception {
+        return escritor.writeValueAsBytes(jugadores);
+    }
+
+    @Benchmark
+    public byte[] serializarEquipos() throws Exception {
+        return escritor.writeValueAsBytes(equipos);
+    }
+
+    // Mismo camino que las proyecciones de JugadorRepository (constructor de DTO)
+    private static JugadorResponseDTO aDTO(Jugador jugador) {
+        Equipo equipo = jugador.getEquipo();
+        JugadorResponseDTO dto = new JugadorResponseDTO(jugador.getIdJugador(), null, jugador.getNombre(),
+                jugador.getFechaNacimiento(), jugador.getPosicion(), jugador.getNumeroCamiseta(),
+                jugador.getContactoEmergencia(), jugador.getActivo(), jugador.getFechaCreacion(),
+                jugador.getFechaActualizacion(), equipo.getIdEquipo(), equipo.getNombre(), equipo.getCategoria(),
+                equipo.getEscudoUrl());
+        dto.setEdad(20);
+        return dto;
+    }
+}
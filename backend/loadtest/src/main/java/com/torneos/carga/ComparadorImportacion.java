@@ -0,0 +1,121 @@
+package com.torneos.carga;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rendimiento de la importación masiva (POST /jugadores/importar, NDJSON en lotes JDBC) frente al
+ * alta jugador a jugador (POST /jugadores), con el mismo número de filas repartidas entre los
+ * equipos de GeneradorDatos. Cada camino usa su propio rango de dorsales a partir de
+ * --dorsal-inicial (los generados ocupan del 1 al 25); para repetir la prueba hay que regenerar
+ * los datos o subir --dorsal-inicial.
+ *
+ *   java -cp target/torneos-loadtest.jar com.torneos.carga.ComparadorImportacion \
+ *        --usuario=admin --password=secreto --filas=20000 --hilos=1
+ */
+public final class ComparadorImportacion {
+
+    private static final Pattern INSERTADOS = Pattern.compile("\"insertados\"\\s*:\\s*(\\d+)");
+
+    private ComparadorImportacion() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Configuracion configuracion = Configuracion.desdeArgumentos(args);
+        Map<String, String> valores = Configuracion.leerArgumentos(args);
+        int filas = Integer.parseInt(valores.getOrDefault("filas", "10000"));
+        int hilos = Integer.parseInt(valores.getOrDefault("hilos", "1"));
+        int dorsalInicial = Integer.parseInt(valores.getOrDefault("dorsal-inicial", "26"));
+        int dorsalesPorCamino = (filas + configuracion.equipos - 1) / configuracion.equipos;
+        if (dorsalInicial + 2 * dorsalesPorCamino - 1 > 99) {
+            throw new IllegalArgumentException("No caben " + filas + " filas por camino en " + configuracion.equipos
+                    + " equipos con dorsales desde " + dorsalInicial + " hasta 99");
+        }
+
+        HttpClient cliente = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        String token = PruebaCarga.iniciarSesion(cliente, configuracion);
+
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < filas; i++) {
+            ndjson.append(cuerpoJugador(configuracion.equipos, dorsalInicial, i)).append('\n');
+        }
+        long inicio = System.nanoTime();
+        HttpResponse<String> respuesta = cliente.send(peticion(configuracion.urlBase + "/jugadores/importar", token)
+                .header("Content-Type", "application/x-ndjson")
+                .timeout(Duration.ofMinutes(30))
+                .POST(HttpRequest.BodyPublishers.ofString(ndjson.toString()))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        double segundosLote = (System.nanoTime() - inicio) / 1e9;
+        Matcher insertados = INSERTADOS.matcher(respuesta.body());
+        if (respuesta.statusCode() != 200 || !insertados.find()) {
+            throw new IllegalStateException("Importación fallida (" + respuesta.statusCode() + "): "
+                    + respuesta.body());
+        }
+        long insertadosLote = Long.parseLong(insertados.group(1));
+
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        List<Future<Long>> resultados = new ArrayList<>();
+        inicio = System.nanoTime();
+        for (int h = 0; h < hilos; h++) {
+            int primero = h;
+            resultados.add(ejecutor.submit(() -> {
+                long creados = 0;
+                for (int i = primero; i < filas; i += hilos) {
+                    String cuerpo = cuerpoJugador(configuracion.equipos, dorsalInicial + dorsalesPorCamino, i);
+                    HttpResponse<Void> alta = cliente.send(peticion(configuracion.urlBase + "/jugadores", token)
+                            .header("Content-Type", "application/json")
+                            .timeout(Duration.ofSeconds(30))
+                            .POST(HttpRequest.BodyPublishers.ofString(cuerpo))
+                            .build(), HttpResponse.BodyHandlers.discarding());
+                    if (alta.statusCode() == 201) {
+                        creados++;
+                    }
+                }
+                return creados;
+            }));
+        }
+        long insertadosFila = 0;
+        for (Future<Long> resultado : resultados) {
+            insertadosFila += resultado.get();
+        }
+        double segundosFila = (System.nanoTime() - inicio) / 1e9;
+        ejecutor.shutdown();
+
+        System.out.printf("== Importación de %d jugadores en %d equipos ==%n", filas, configuracion.equipos);
+        System.out.printf("Masiva:        %d insertados en %.2f s (%.0f filas/s)%n",
+                insertadosLote, segundosLote, insertadosLote / segundosLote);
+        System.out.printf("Por fila (%d): %d insertados en %.2f s (%.0f filas/s)%n",
+                hilos, insertadosFila, segundosFila, insertadosFila / segundosFila);
+        System.out.printf("Aceleración:   x%.1f%n", (insertadosLote / segundosLote) / (insertadosFila / segundosFila));
+        System.exit(0);
+    }
+
+    private static HttpRequest.Builder peticion(String url, String token) {
+        return HttpRequest.newBuilder(URI.create(url)).header("Authorization", "Bearer " + token);
+    }
+
+    /**
+     * Fila i: equipos consecutivos y, al dar la vuelta, el siguiente dorsal del rango
+     */
+    private static String cuerpoJugador(int equipos, int dorsalInicial, int i) {
+        long idEquipo = 1 + i % equipos;
+        int dorsal = dorsalInicial + i / equipos;
+        long idJugador = DatosLiga.primerJugador(idEquipo) + i % DatosLiga.JUGADORES_POR_EQUIPO;
+        return "{\"nombre\":\"" + DatosLiga.nombreJugador(idJugador) + " " + dorsal + "\""
+                + ",\"fechaNacimiento\":\"" + DatosLiga.fechaNacimiento(idJugador) + "\""
+                + ",\"posicion\":\"" + DatosLiga.posicion(idJugador) + "\""
+                + ",\"numeroCamiseta\":" + dorsal
+                + ",\"idEquipo\":" + idEquipo + "}";
+    }
+}
@@ -0,0 +1,57 @@
+package com.torneos.carga;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parámetros de la prueba, en formato --clave=valor
+ */
+final class Configuracion {
+
+    final String urlBase;
+    final String usuario;
+    final String password;
+    final int concurrencia;
+    final Duration calentamiento;
+    final Duration duracion;
+    final List<String> rutas;
+    final Map<Mezcla.Operacion, Integer> mezcla;
+    final int equipos;
+    final boolean preparar;
+    final Duration intervaloMetricas;
+    final String etiqueta;
+
+    private Configuracion(Map<String, String> valores) {
+        urlBase = valores.getOrDefault("url", "http://localhost:8080/api/v1");
+        usuario = valores.get("usuario");
+        password = valores.get("password");
+        concurrencia = Integer.parseInt(valores.getOrDefault("concurrencia", "200"));
+        calentamiento = Duration.ofSeconds(Long.parseLong(valores.getOrDefault("calentamiento", "15")));
+        duracion = Duration.ofSeconds(Long.parseLong(valores.getOrDefault("duracion", "60")));
+        rutas = new ArrayList<>(List.of(valores.getOrDefault("rutas", "/jugadores/equipo/1").split(",")));
+        mezcla = valores.containsKey("mezcla") ? Mezcla.leerPesos(valores.get("mezcla")) : null;
+        equipos = Integer.parseInt(valores.getOrDefault("equipos", "10000"));
+        preparar = Boolean.parseBoolean(valores.getOrDefault("preparar", "false"));
+        intervaloMetricas = Duration.ofMillis(Long.parseLong(valores.getOrDefault("intervalo-metricas-ms", "1000")));
+        etiqueta = valores.getOrDefault("etiqueta", "prueba");
+    }
+
+    static Configuracion desdeArgumentos(String[] args) {
+        return new Configuracion(leerArgumentos(args));
+    }
+
+    static Map<String, String> leerArgumentos(String[] args) {
+        Map<String, String> valores = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Argumento inválido (se espera --clave=valor): " + arg);
+            }
+            int igual = arg.indexOf('=');
+            valores.put(arg.substring(2, igual), arg.substring(igual + 1));
+        }
+        return valores;
+    }
+}
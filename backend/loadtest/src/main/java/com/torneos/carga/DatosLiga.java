@@ -0,0 +1,97 @@
+package com.torneos.carga;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Atributos de equipos y jugadores generados, como funciones puras del id. GeneradorDatos los
+ * escribe con ids consecutivos desde 1 y la prueba de carga los reconstruye para enviar
+ * actualizaciones válidas sin consultar antes la API.
+ */
+final class DatosLiga {
+
+    static final int JUGADORES_POR_EQUIPO = 25;
+
+    private static final String[] CATEGORIAS = { "Sub-13", "Sub-15", "Sub-17", "Sub-20", "Libre", "Veteranos" };
+    private static final String[] PREFIJOS_EQUIPO = { "Atlético", "Deportivo", "Real", "Unión", "Independiente",
+            "Sporting", "Club", "Juventud", "Estrella", "Racing" };
+    private static final String[] NOMBRES = { "Juan", "Carlos", "Andrés", "Luis", "Mateo", "Sebastián", "Diego",
+            "Santiago", "Felipe", "Nicolás", "Samuel", "Tomás", "Daniel", "Martín", "Alejandro", "Gabriel" };
+    private static final String[] APELLIDOS = { "Pérez", "Gómez", "Rodríguez", "Martínez", "López", "Hernández",
+            "García", "Sánchez", "Ramírez", "Torres", "Díaz", "Vargas", "Castro", "Moreno", "Rojas", "Muñoz" };
+    private static final LocalDate NACIMIENTO_MINIMO = LocalDate.of(1988, 1, 1);
+    private static final int RANGO_NACIMIENTO_DIAS = 24 * 365;
+
+    private DatosLiga() {
+    }
+
+    static String nombreEquipo(long idEquipo) {
+        return PREFIJOS_EQUIPO[indice(idEquipo, 0, PREFIJOS_EQUIPO.length)] + " "
+                + APELLIDOS[indice(idEquipo, 1, APELLIDOS.length)] + " " + idEquipo;
+    }
+
+    static String categoria(long idEquipo) {
+        return CATEGORIAS[indice(idEquipo, 2, CATEGORIAS.length)];
+    }
+
+    static long equipoDeJugador(long idJugador) {
+        return (idJugador - 1) / JUGADORES_POR_EQUIPO + 1;
+    }
+
+    static long primerJugador(long idEquipo) {
+        return (idEquipo - 1) * JUGADORES_POR_EQUIPO + 1;
+    }
+
+    static int numeroCamiseta(long idJugador) {
+        return (int) ((idJugador - 1) % JUGADORES_POR_EQUIPO) + 1;
+    }
+
+    /**
+     * Plantilla de 25: 3 porteros, 8 defensas, 8 medios y 6 delanteros según el dorsal
+     */
+    static String posicion(long idJugador) {
+        int dorsal = numeroCamiseta(idJugador);
+        if (dorsal == 1 || dorsal == 12 || dorsal == 25) {
+            return "PORTERO";
+        }
+        if (dorsal <= 9) {
+            return "DEFENSA";
+        }
+        if (dorsal <= 18) {
+            return "MEDIO";
+        }
+        return "DELANTERO";
+    }
+
+    static String nombreJugador(long idJugador) {
+        return NOMBRES[indice(idJugador, 3, NOMBRES.length)] + " " + APELLIDOS[indice(idJugador, 4, APELLIDOS.length)]
+                + " " + APELLIDOS[indice(idJugador, 5, APELLIDOS.length)];
+    }
+
+    static LocalDate fechaNacimiento(long idJugador) {
+        return NACIMIENTO_MINIMO.plusDays(indice(idJugador, 6, RANGO_NACIMIENTO_DIAS));
+    }
+
+    /**
+     * Un 4% de los jugadores está de baja
+     */
+    static boolean activo(long idJugador) {
+        return indice(idJugador, 7, 100) >= 4;
+    }
+
+    static String terminoBusqueda(SplittableRandom aleatorio) {
+        String palabra = aleatorio.nextBoolean()
+                ? NOMBRES[aleatorio.nextInt(NOMBRES.length)] : APELLIDOS[aleatorio.nextInt(APELLIDOS.length)];
+        // Mitad palabras completas, mitad prefijos como los que escribe el autocompletado
+        return aleatorio.nextBoolean() ? palabra : palabra.substring(0, Math.min(palabra.length(), 4));
+    }
+
+    // splitmix64: valores bien repartidos e independientes para cada (id, atributo)
+    private static int indice(long id, int atributo, int limite) {
+        long z = id * 0x9E3779B97F4A7C15L + atributo * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (int) Math.floorMod(z, (long) limite);
+    }
+}
@@ -0,0 +1,75 @@
+package com.torneos.carga;
+
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+/**
+ * Filas en formato texto de COPY (tabuladores, \N para NULL) enviadas en bloques de 1 MB.
+ */
+final class EscritorCopy implements AutoCloseable {
+
+    private static final int TAMANO_BLOQUE = 1 << 20;
+
+    private final CopyIn copia;
+    private final StringBuilder bloque = new StringBuilder(TAMANO_BLOQUE + 4096);
+    private long filas;
+
+    EscritorCopy(CopyManager copyManager, String tabla, String columnas) throws SQLException {
+        this.copia = copyManager.copyIn("COPY " + tabla + " (" + columnas + ") FROM STDIN");
+    }
+
+    void fila(Object... valores) throws SQLException {
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                bloque.append('\t');
+            }
+            Object valor = valores[i];
+            if (valor == null) {
+                bloque.append("\\N");
+            } else if (valor instanceof String texto) {
+                escapar(texto);
+            } else {
+                bloque.append(valor);
+            }
+        }
+        bloque.append('\n');
+        filas++;
+        if (bloque.length() >= TAMANO_BLOQUE) {
+            enviar();
+        }
+    }
+
+    long getFilas() {
+        return filas;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        enviar();
+        copia.endCopy();
+    }
+
+    private void escapar(String texto) {
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            switch (c) {
+                case '\\' -> bloque.append("\\\\");
+                case '\t' -> bloque.append("\\t");
+                case '\n' -> bloque.append("\\n");
+                case '\r' -> bloque.append("\\r");
+                default -> bloque.append(c);
+            }
+        }
+    }
+
+    private void enviar() throws SQLException {
+        if (bloque.length() > 0) {
+            byte[] bytes = bloque.toString().getBytes(StandardCharsets.UTF_8);
+            copia.writeToCopy(bytes, 0, bytes.length);
+            bloque.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.torneos.carga;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Genera una liga completa con COPY sobre el esquema real (el de Flyway, V1 en adelante):
+ * equipos con plantillas de 25 jugadores, torneos de liga a una vuelta con sus rondas, partidos
+ * (jugados hasta hoy, programados después), resultados y estadísticas por jugador y partido.
+ * Todo en una transacción; las secuencias quedan por encima de los ids generados.
+ *
+ * Las tablas derivadas (contadores de plantilla, posiciones, líderes) las reconstruye el backend:
+ * PruebaCarga --preparar=true llama a los endpoints de /admin antes de medir. Conviene generar
+ * con el backend parado: el índice de autocompletado se carga al arrancar.
+ *
+ *   java -cp target/torneos-loadtest.jar com.torneos.carga.GeneradorDatos --limpiar=true \
+ *        --equipos=10000 --partidos=50000 --estadisticas=1000000
+ *
+ * Con --jugadores=1000000 genera 40.000 equipos (el tamaño de MedicionBusqueda).
+ */
+public final class GeneradorDatos {
+
+    private static final String[] TABLAS = { "estadisticas_jugador", "resultados", "partidos", "rondas",
+            "inscripciones", "posiciones", "torneos", "jugadores", "equipo_contadores", "categoria_contadores",
+            "equipos" };
+    private static final String[] SECUENCIAS = {
+            "equipos_id_equipo_seq:equipos:id_equipo",
+            "jugadores_id_jugador_seq:jugadores:id_jugador",
+            "torneos_id_torneo_seq:torneos:id_torneo",
+            "inscripciones_id_inscripcion_seq:inscripciones:id_inscripcion",
+            "rondas_id_ronda_seq:rondas:id_ronda",
+            "partidos_id_partido_seq:partidos:id_partido",
+            "resultados_id_resultado_seq:resultados:id_resultado",
+            "estadisticas_jugador_id_estadistica_seq:estadisticas_jugador:id_estadistica" };
+    private static final int MAXIMO_ESTADISTICAS_POR_PARTIDO = 2 * DatosLiga.JUGADORES_POR_EQUIPO;
+
+    private final int equipos;
+    private final int partidos;
+    private final long estadisticas;
+    private final int equiposPorTorneo;
+    private final SplittableRandom aleatorio;
+    private final LocalDateTime ahora = LocalDateTime.now();
+
+    // Partidos generados, por índice (id = índice + 1)
+    private final int[] local;
+    private final int[] visitante;
+    private final boolean[] jugado;
+
+    private GeneradorDatos(Map<String, String> valores) {
+        // --jugadores fija el tamaño en jugadores en lugar de equipos (plantillas de 25)
+        equipos = valores.containsKey("jugadores")
+                ? (int) ((Long.parseLong(valores.get("jugadores")) + DatosLiga.JUGADORES_POR_EQUIPO - 1)
+                        / DatosLiga.JUGADORES_POR_EQUIPO)
+                : Integer.parseInt(valores.getOrDefault("equipos", "10000"));
+        partidos = Integer.parseInt(valores.getOrDefault("partidos", "50000"));
+        estadisticas = Long.parseLong(valores.getOrDefault("estadisticas", "1000000"));
+        equiposPorTorneo = Integer.parseInt(valores.getOrDefault("equipos-por-torneo", "20"));
+        aleatorio = new SplittableRandom(Long.parseLong(valores.getOrDefault("semilla", "42")));
+        if (equiposPorTorneo % 2 != 0 || equiposPorTorneo > equipos) {
+            throw new IllegalArgumentException("equipos-por-torneo debe ser par y no mayor que equipos");
+        }
+        local = new int[partidos];
+        visitante = new int[partidos];
+        jugado = new boolean[partidos];
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> valores = Configuracion.leerArgumentos(args);
+        String url = valores.getOrDefault("jdbc-url", "jdbc:postgresql://localhost:5432/torneos_db");
+        String usuario = valores.getOrDefault("db-usuario", "torneos_user");
+        String password = valores.getOrDefault("db-password", "torneos_pass");
+        boolean limpiar = Boolean.parseBoolean(valores.getOrDefault("limpiar", "false"));
+
+        GeneradorDatos generador = new GeneradorDatos(valores);
+        try (Connection conexion = DriverManager.getConnection(url, usuario, password)) {
+            conexion.setAutoCommit(false);
+            generador.generar(conexion, limpiar);
+            conexion.commit();
+
+            conexion.setAutoCommit(true);
+            try (Statement sentencia = conexion.createStatement()) {
+                for (String tabla : TABLAS) {
+                    sentencia.execute("ANALYZE " + tabla);
+                }
+            }
+        }
+    }
+
+    private void generar(Connection conexion, boolean limpiar) throws SQLException {
+        try (Statement sentencia = conexion.createStatement()) {
+            if (limpiar) {
+                sentencia.execute("TRUNCATE " + String.join(", ", TABLAS) + " CASCADE");
+            } else {
+                try (ResultSet rs = sentencia.executeQuery("SELECT EXISTS (SELECT 1 FROM equipos)")) {
+                    rs.next();
+                    if (rs.getBoolean(1)) {
+                        throw new IllegalStateException("La base ya tiene equipos; usar --limpiar=true para vaciarla");
+                    }
+                }
+            }
+        }
+
+        CopyManager copyManager = conexion.unwrap(PGConnection.class).getCopyAPI();
+        cronometrar("equipos", () -> copiarEquipos(copyManager));
+        cronometrar("jugadores", () -> copiarJugadores(copyManager));
+        cronometrar("torneos, inscripciones, rondas y partidos", () -> copiarCalendario(copyManager));
+        cronometrar("resultados", () -> copiarResultados(copyManager));
+        cronometrar("estadisticas_jugador", () -> copiarEstadisticas(copyManager));
+
+        try (Statement sentencia = conexion.createStatement()) {
+            for (String secuencia : SECUENCIAS) {
+                String[] partes = secuencia.split(":");
+                // Con el optimizador pooled de Hibernate el siguiente bloque empieza en MAX + 1
+                sentencia.execute("SELECT setval('" + partes[0] + "', (SELECT COALESCE(MAX(" + partes[2]
+                        + "), 1) FROM " + partes[1] + "))");
+            }
+        }
+    }
+
+    private long copiarEquipos(CopyManager copyManager) throws SQLException {
+        try (EscritorCopy copia = new EscritorCopy(copyManager, "equipos",
+                "id_equipo, nombre, categoria, escudo_url, descripcion, fecha_fundacion, activo")) {
+            for (long id = 1; id <= equipos; id++) {
+                copia.fila(id, DatosLiga.nombreEquipo(id), DatosLiga.categoria(id),
+                        "https://cdn.torneos.local/escudos/" + id + ".png", null,
+                        LocalDate.of(1920 + aleatorio.nextInt(100), 1 + aleatorio.nextInt(12), 1), true);
+            }
+            return copia.getFilas();
+        }
+    }
+
+    private long copiarJugadores(CopyManager copyManager) throws SQLException {
+        long total = (long) equipos * DatosLiga.JUGADORES_POR_EQUIPO;
+        try (EscritorCopy copia = new EscritorCopy(copyManager, "jugadores",
+                "id_jugador, id_equipo, nombre, fecha_nacimiento, posicion, numero_camiseta, contacto_emergencia, activo")) {
+            for (long id = 1; id <= total; id++) {
+                copia.fila(id, DatosLiga.equipoDeJugador(id), DatosLiga.nombreJugador(id),
+                        DatosLiga.fechaNacimiento(id), DatosLiga.posicion(id), DatosLiga.numeroCamiseta(id),
+                        "+57 3" + (100_000_000 + aleatorio.nextInt(900_000_000)), DatosLiga.activo(id));
+            }
+            return copia.getFilas();
+        }
+    }
+
+    /**
+     * Torneos de liga a una vuelta (método del círculo) hasta completar los partidos pedidos.
+     * Los torneos rotan por los equipos y se reparten en las tres últimas temporadas y la actual;
+     * los de la actual empezaron hace 8 semanas, así que parte de sus partidos está por jugar.
+     */
+    private long copiarCalendario(CopyManager copyManager) throws SQLException {
+        int rondasPorTorneo = equiposPorTorneo - 1;
+        int partidosPorRonda = equiposPorTorneo / 2;
+        int torneos = (partidos + rondasPorTorneo * partidosPorRonda - 1) / (rondasPorTorneo * partidosPorRonda);
+        LocalDate hoy = ahora.toLocalDate();
+
+        LocalDate[] inicio = new LocalDate[torneos];
+        try (EscritorCopy copia = new EscritorCopy(copyManager, "torneos",
+                "id_torneo, nombre, formato, fecha_inicio, fecha_fin, max_equipos, estado, activo")) {
+            for (int t = 0; t < torneos; t++) {
+                int temporada = hoy.getYear() - 3 + t % 4;
+                inicio[t] = temporada == hoy.getYear() ? hoy.minusWeeks(8) : LocalDate.of(temporada, 2, 1);
+                LocalDate fin = inicio[t].plusWeeks(rondasPorTorneo);
+                copia.fila(t + 1, "Liga " + (t + 1) + " " + temporada, "LIGUILLA", inicio[t], fin, equiposPorTorneo,
+                        fin.isBefore(hoy) ? "FINALIZADO" : "EN_CURSO", true);
+            }
+        }
+
+        try (EscritorCopy copia = new EscritorCopy(copyManager, "inscripciones", "id_torneo, id_equipo, activo")) {
+            for (int t = 0; t < torneos; t++) {
+                for (int k = 0; k < equiposPorTorneo; k++) {
+                    copia.fila(t + 1, equipoDeTorneo(t, k), true);
+                }
+            }
+        }
+
+        try (EscritorCopy copia = new EscritorCopy(copyManager, "rondas",
+                "id_ronda, id_torneo, nombre_ronda, orden_ronda, fecha_inicio, fecha_fin, activo")) {
+            for (int t = 0; t < torneos; t++) {
+                for (int r = 0; r < rondasPorTorneo; r++) {
+                    LocalDate fecha = inicio[t].plusWeeks(r);
+                    copia.fila(t * rondasPorTorneo + r + 1, t + 1, "Jornada " + (r + 1), r + 1, fecha, fecha.plusDays(2),
+                            true);
+                }
+            }
+        }
+
+        try (EscritorCopy copia = new EscritorCopy(copyManager, "partidos",
+                "id_partido, id_ronda, equipo_local, equipo_visitante, fecha_hora, cancha, estado, minuto_actual, activo")) {
+            int p = 0;
+            int[] orden = new int[equiposPorTorneo];
+            for (int t = 0; t < torneos && p < partidos; t++) {
+                for (int k = 0; k < equiposPorTorneo; k++) {
+                    orden[k] = k;
+                }
+                for (int r = 0; r < rondasPorTorneo && p < partidos; r++) {
+                    for (int i = 0; i < partidosPorRonda && p < partidos; i++, p++) {
+                        int a = equipoDeTorneo(t, orden[i]);
+                        int b = equipoDeTorneo(t, orden[equiposPorTorneo - 1 - i]);
+                        local[p] = r % 2 == 0 ? a : b;
+                        visitante[p] = r % 2 == 0 ? b : a;
+                        LocalDateTime fechaHora = inicio[t].plusWeeks(r).plusDays(i % 3).atTime(16 + 2 * (i % 3), 0);
+                        jugado[p] = fechaHora.plusHours(2).isBefore(ahora);
+                        copia.fila(p + 1, t * rondasPorTorneo + r + 1, local[p], visitante[p], fechaHora,
+                                "Cancha " + (1 + i % 6), jugado[p] ? "FINALIZADO" : "PROGRAMADO",
+                                jugado[p] ? 90 : 0, true);
+                    }
+                    // Rotar todos menos el primero
+                    int ultimo = orden[equiposPorTorneo - 1];
+                    System.arraycopy(orden, 1, orden, 2, equiposPorTorneo - 2);
+                    orden[1] = ultimo;
+                }
+            }
+            return copia.getFilas();
+        }
+    }
+
+    private long copiarResultados(CopyManager copyManager) throws SQLException {
+        try (EscritorCopy copia = new EscritorCopy(copyManager, "resultados",
+                "id_resultado, id_partido, goles_local, goles_visitante, tarjetas_amarillas_local, tarjetas_rojas_local, "
+                        + "tarjetas_amarillas_visitante, tarjetas_rojas_visitante, detalles_estadisticas")) {
+            long id = 1;
+            for (int p = 0; p < partidos; p++) {
+                if (!jugado[p]) {
+                    continue;
+                }
+                int posesion = 35 + aleatorio.nextInt(31);
+                int tirosLocal = 4 + aleatorio.nextInt(16);
+                int tirosVisitante = 4 + aleatorio.nextInt(16);
+                String detalles = "{\"posesionLocal\":" + posesion + ",\"posesionVisitante\":" + (100 - posesion)
+                        + ",\"tirosLocal\":" + tirosLocal + ",\"tirosVisitante\":" + tirosVisitante
+                        + ",\"tirosAPuertaLocal\":" + aleatorio.nextInt(tirosLocal + 1)
+                        + ",\"tirosAPuertaVisitante\":" + aleatorio.nextInt(tirosVisitante + 1)
+                        + ",\"cornersLocal\":" + aleatorio.nextInt(12) + ",\"cornersVisitante\":" + aleatorio.nextInt(12)
+                        + ",\"faltasLocal\":" + (5 + aleatorio.nextInt(15))
+                        + ",\"faltasVisitante\":" + (5 + aleatorio.nextInt(15)) + "}";
+                copia.fila(id++, p + 1, goles(), goles(), aleatorio.nextInt(5), aleatorio.nextInt(10) == 0 ? 1 : 0,
+                        aleatorio.nextInt(5), aleatorio.nextInt(10) == 0 ? 1 : 0, detalles);
+            }
+            return copia.getFilas();
+        }
+    }
+
+    /**
+     * Reparte las estadísticas pedidas entre los partidos jugados, mitad por equipo,
+     * con jugadores distintos de cada plantilla (como mucho la plantilla completa de ambos).
+     */
+    private long copiarEstadisticas(CopyManager copyManager) throws SQLException {
+        int jugados = 0;
+        for (boolean j : jugado) {
+            jugados += j ? 1 : 0;
+        }
+        if (jugados == 0) {
+            return 0;
+        }
+        long base = estadisticas / jugados;
+        long resto = estadisticas % jugados;
+        if (base >= MAXIMO_ESTADISTICAS_POR_PARTIDO) {
+            System.out.printf("Aviso: solo caben %d estadísticas por partido jugado%n", MAXIMO_ESTADISTICAS_POR_PARTIDO);
+        }
+
+        try (EscritorCopy copia = new EscritorCopy(copyManager, "estadisticas_jugador",
+                "id_estadistica, id_partido, id_jugador, goles, asistencias, tarjetas_amarillas, tarjetas_rojas, "
+                        + "minutos_jugados, atajadas")) {
+            long id = 1;
+            int indiceJugado = 0;
+            for (int p = 0; p < partidos; p++) {
+                if (!jugado[p]) {
+                    continue;
+                }
+                int cuota = (int) Math.min(MAXIMO_ESTADISTICAS_POR_PARTIDO, base + (indiceJugado++ < resto ? 1 : 0));
+                int deLocal = (cuota + 1) / 2;
+                id = copiarEstadisticasEquipo(copia, id, p, local[p], deLocal);
+                id = copiarEstadisticasEquipo(copia, id, p, visitante[p], cuota - deLocal);
+            }
+            return copia.getFilas();
+        }
+    }
+
+    private long copiarEstadisticasEquipo(EscritorCopy copia, long id, int partido, int equipo, int cantidad)
+            throws SQLException {
+        long primero = DatosLiga.primerJugador(equipo);
+        int desfase = aleatorio.nextInt(DatosLiga.JUGADORES_POR_EQUIPO);
+        for (int j = 0; j < cantidad; j++) {
+            long idJugador = primero + (desfase + j) % DatosLiga.JUGADORES_POR_EQUIPO;
+            boolean portero = DatosLiga.posicion(idJugador).equals("PORTERO");
+            copia.fila(id++, partido + 1, idJugador,
+                    portero ? 0 : (aleatorio.nextInt(8) == 0 ? 1 + aleatorio.nextInt(2) : 0),
+                    aleatorio.nextInt(6) == 0 ? 1 : 0,
+                    aleatorio.nextInt(8) == 0 ? 1 : 0,
+                    aleatorio.nextInt(60) == 0 ? 1 : 0,
+                    j < 11 ? 90 : aleatorio.nextInt(46),
+                    portero ? aleatorio.nextInt(9) : 0);
+        }
+        return id;
+    }
+
+    private int equipoDeTorneo(int torneo, int posicion) {
+        return (int) (((long) torneo * equiposPorTorneo + posicion) % equipos) + 1;
+    }
+
+    private int goles() {
+        int goles = 0;
+        while (goles < 7 && aleatorio.nextInt(100) < 58) {
+            goles++;
+        }
+        return goles;
+    }
+
+    private static void cronometrar(String descripcion, Paso paso) throws SQLException {
+        long inicio = System.nanoTime();
+        long filas = paso.ejecutar();
+        System.out.printf("%-45s %,10d filas  %6.1f s%n", descripcion, filas, (System.nanoTime() - inicio) / 1e9);
+    }
+
+    @FunctionalInterface
+    private interface Paso {
+        long ejecutar() throws SQLException;
+    }
+}
@@ -0,0 +1,131 @@
+package com.torneos.carga;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Latencia de la consulta de JugadorRepository.buscarIdsPorSimilitud directamente contra la base,
+ * sin la API delante, sobre los jugadores de GeneradorDatos (--jugadores=1000000 para el tamaño de
+ * referencia). Por cada término mide --repeticiones ejecuciones tras --calentamiento (percentiles
+ * exactos) y muestra el EXPLAIN (ANALYZE, BUFFERS) de la última, con la caché de la base ya caliente.
+ * Los términos por defecto cubren un nombre completo, un apellido, un prefijo de autocompletado,
+ * un texto sin tildes y uno con erratas.
+ *
+ *   java -cp target/torneos-loadtest.jar com.torneos.carga.MedicionBusqueda \
+ *        --repeticiones=200 --terminos="Juan Pérez,Rodríguez,Sebas,martinez,Gomes Rodrigez"
+ */
+public final class MedicionBusqueda {
+
+    // Copia de la consulta nativa del repositorio: si cambia allí, cambiarla aquí
+    private static final String CONSULTA = "SELECT j.id_jugador FROM jugadores j WHERE j.activo = true "
+            + "AND (f_unaccent(lower(j.nombre)) LIKE '%' || f_unaccent(lower(?)) || '%' "
+            + "OR f_unaccent(lower(j.nombre)) % f_unaccent(lower(?))) "
+            + "ORDER BY similarity(f_unaccent(lower(j.nombre)), f_unaccent(lower(?))) DESC, j.id_jugador "
+            + "LIMIT ? OFFSET ?";
+    private static final String TERMINOS = "Juan Pérez,Rodríguez,Sebas,martinez,Gomes Rodrigez";
+
+    private MedicionBusqueda() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> valores = Configuracion.leerArgumentos(args);
+        String url = valores.getOrDefault("jdbc-url", "jdbc:postgresql://localhost:5432/torneos_db");
+        String usuario = valores.getOrDefault("db-usuario", "torneos_user");
+        String password = valores.getOrDefault("db-password", "torneos_pass");
+        int calentamiento = Integer.parseInt(valores.getOrDefault("calentamiento", "20"));
+        int repeticiones = Integer.parseInt(valores.getOrDefault("repeticiones", "200"));
+        int tamano = Integer.parseInt(valores.getOrDefault("tamano", "20"));
+        int pagina = Integer.parseInt(valores.getOrDefault("pagina", "0"));
+        List<String> terminos = List.of(valores.getOrDefault("terminos", TERMINOS).split(","));
+
+        try (Connection conexion = DriverManager.getConnection(url, usuario, password)) {
+            conexion.setReadOnly(true);
+            System.out.printf("== buscarIdsPorSimilitud: %d jugadores activos, tamaño %d, página %d, %s ==%n",
+                    contarActivos(conexion), tamano, pagina, version(conexion));
+            System.out.printf("%-20s %6s %9s %9s %9s %9s%n", "término", "filas", "p50 ms", "p95 ms", "p99 ms",
+                    "máx ms");
+
+            StringBuilder planes = new StringBuilder();
+            try (PreparedStatement consulta = conexion.prepareStatement(CONSULTA);
+                 PreparedStatement explicar = conexion.prepareStatement("EXPLAIN (ANALYZE, BUFFERS) " + CONSULTA)) {
+                for (String termino : terminos) {
+                    // Como JugadorService: tamaño + 1 para saber si hay más páginas
+                    asignar(consulta, termino.trim(), tamano + 1, (long) pagina * tamano);
+                    asignar(explicar, termino.trim(), tamano + 1, (long) pagina * tamano);
+
+                    for (int i = 0; i < calentamiento; i++) {
+                        ejecutar(consulta);
+                    }
+                    RegistroLatencias registro = new RegistroLatencias();
+                    int filas = 0;
+                    for (int i = 0; i < repeticiones; i++) {
+                        long inicio = System.nanoTime();
+                        filas = ejecutar(consulta);
+                        registro.registrar(System.nanoTime() - inicio, 200);
+                    }
+                    registro.ordenar();
+                    System.out.printf("%-20s %6d %9.2f %9.2f %9.2f %9.2f%n", termino.trim(), filas,
+                            registro.percentil(50) / 1000.0, registro.percentil(95) / 1000.0,
+                            registro.percentil(99) / 1000.0, registro.percentil(100) / 1000.0);
+
+                    planes.append(System.lineSeparator()).append("-- ").append(termino.trim())
+                            .append(System.lineSeparator());
+                    try (ResultSet rs = explicar.executeQuery()) {
+                        while (rs.next()) {
+                            planes.append(rs.getString(1)).append(System.lineSeparator());
+                        }
+                    }
+                }
+            }
+            System.out.print(planes);
+        }
+    }
+
+    private static void asignar(PreparedStatement sentencia, String termino, int limite, long desplazamiento)
+            throws SQLException {
+        sentencia.setString(1, escaparLike(termino));
+        sentencia.setString(2, termino);
+        sentencia.setString(3, termino);
+        sentencia.setInt(4, limite);
+        sentencia.setLong(5, desplazamiento);
+    }
+
+    private static int ejecutar(PreparedStatement consulta) throws SQLException {
+        int filas = 0;
+        try (ResultSet rs = consulta.executeQuery()) {
+            while (rs.next()) {
+                filas++;
+            }
+        }
+        return filas;
+    }
+
+    private static long contarActivos(Connection conexion) throws SQLException {
+        try (Statement sentencia = conexion.createStatement();
+             ResultSet rs = sentencia.executeQuery("SELECT count(*) FROM jugadores WHERE activo = true")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static String version(Connection conexion) throws SQLException {
+        try (Statement sentencia = conexion.createStatement();
+             ResultSet rs = sentencia.executeQuery("SHOW server_version")) {
+            rs.next();
+            return "PostgreSQL " + rs.getString(1);
+        }
+    }
+
+    /**
+     * Igual que BusquedaUtil.escaparLike del backend
+     */
+    private static String escaparLike(String texto) {
+        return texto.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,113 @@
+package com.torneos.carga;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Mezcla de operaciones de un día de partido sobre los datos de GeneradorDatos, con pesos
+ * relativos: --mezcla=plantillas:60,jugadores:15,busquedas:15,escrituras:10
+ *
+ * Los ids se eligen al azar (uniforme) entre los generados; las escrituras actualizan el contacto
+ * de emergencia de un jugador reenviando el resto de sus datos, lo que invalida las cachés de DTO.
+ */
+final class Mezcla {
+
+    enum Operacion {
+        PLANTILLAS,
+        JUGADORES,
+        BUSQUEDAS,
+        ESCRITURAS
+    }
+
+    private final Operacion[] operaciones;
+    private final int[] acumulado;
+    private final int total;
+    private final String urlBase;
+    private final String token;
+    private final int equipos;
+
+    Mezcla(Map<Operacion, Integer> pesos, String urlBase, String token, int equipos) {
+        this.operaciones = pesos.keySet().toArray(new Operacion[0]);
+        this.acumulado = new int[operaciones.length];
+        int suma = 0;
+        for (int i = 0; i < operaciones.length; i++) {
+            suma += pesos.get(operaciones[i]);
+            acumulado[i] = suma;
+        }
+        this.total = suma;
+        this.urlBase = urlBase;
+        this.token = token;
+        this.equipos = equipos;
+    }
+
+    static Map<Operacion, Integer> leerPesos(String texto) {
+        Map<Operacion, Integer> pesos = new EnumMap<>(Operacion.class);
+        for (String parte : texto.split(",")) {
+            String[] claveValor = parte.split(":");
+            if (claveValor.length != 2) {
+                throw new IllegalArgumentException("Mezcla inválida (se espera operacion:peso): " + parte);
+            }
+            int peso = Integer.parseInt(claveValor[1].trim());
+            if (peso > 0) {
+                pesos.put(Operacion.valueOf(claveValor[0].trim().toUpperCase()), peso);
+            }
+        }
+        if (pesos.isEmpty()) {
+            throw new IllegalArgumentException("La mezcla no tiene operaciones con peso");
+        }
+        return pesos;
+    }
+
+    Operacion elegir(SplittableRandom aleatorio) {
+        int valor = aleatorio.nextInt(total);
+        for (int i = 0; i < acumulado.length; i++) {
+            if (valor < acumulado[i]) {
+                return operaciones[i];
+            }
+        }
+        return operaciones[operaciones.length - 1];
+    }
+
+    HttpRequest peticion(Operacion operacion, SplittableRandom aleatorio) {
+        long idEquipo = 1 + aleatorio.nextInt(equipos);
+        long idJugador = DatosLiga.primerJugador(idEquipo) + aleatorio.nextInt(DatosLiga.JUGADORES_POR_EQUIPO);
+        return switch (operacion) {
+            case PLANTILLAS -> get("/jugadores/equipo/" + idEquipo);
+            case JUGADORES -> get("/jugadores/" + idJugador);
+            case BUSQUEDAS -> get("/jugadores/buscar/similitud?tamano=20&nombre="
+                    + URLEncoder.encode(DatosLiga.terminoBusqueda(aleatorio), StandardCharsets.UTF_8));
+            case ESCRITURAS -> peticionBase("/jugadores/" + idJugador)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(cuerpoJugador(idJugador, aleatorio)))
+                    .build();
+        };
+    }
+
+    private HttpRequest get(String ruta) {
+        return peticionBase(ruta).GET().build();
+    }
+
+    private HttpRequest.Builder peticionBase(String ruta) {
+        HttpRequest.Builder peticion = HttpRequest.newBuilder(URI.create(urlBase + ruta))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            peticion.header("Authorization", "Bearer " + token);
+        }
+        return peticion;
+    }
+
+    private static String cuerpoJugador(long idJugador, SplittableRandom aleatorio) {
+        return "{\"nombre\":\"" + DatosLiga.nombreJugador(idJugador) + "\""
+                + ",\"fechaNacimiento\":\"" + DatosLiga.fechaNacimiento(idJugador) + "\""
+                + ",\"posicion\":\"" + DatosLiga.posicion(idJugador) + "\""
+                + ",\"numeroCamiseta\":" + DatosLiga.numeroCamiseta(idJugador)
+                + ",\"idEquipo\":" + DatosLiga.equipoDeJugador(idJugador)
+                + ",\"contactoEmergencia\":\"+57 3" + (100_000_000 + aleatorio.nextInt(900_000_000)) + "\"}";
+    }
+}
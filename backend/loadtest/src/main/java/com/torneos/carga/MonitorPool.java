@@ -0,0 +1,149 @@
+package com.torneos.carga;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Muestrea el pool de Hikari del backend en /actuator/metrics durante la medición (requiere un
+ * usuario ADMIN): conexiones activas frente al máximo, hilos esperando conexión y tiempo de espera
+ * acumulado (hikaricp.connections.acquire) entre el inicio y el final. Con réplicas de lectura
+ * los valores son la suma de todos los pools.
+ */
+final class MonitorPool implements AutoCloseable {
+
+    private static final Pattern MEDIDA = Pattern.compile(
+            "\"statistic\"\\s*:\\s*\"([A-Z_]+)\"\\s*,\\s*\"value\"\\s*:\\s*([-0-9.Ee+]+|\"NaN\"|NaN)");
+
+    private final HttpClient cliente;
+    private final String urlBase;
+    private final String token;
+    private final ScheduledExecutorService muestreo;
+
+    // Solo los escribe el hilo de muestreo
+    private volatile int muestras;
+    private volatile int muestrasConEspera;
+    private volatile double activasMaximo;
+    private volatile double activasSuma;
+    private volatile double pendientesMaximo;
+    private volatile double pendientesSuma;
+    private volatile double maximoPool;
+    private volatile boolean disponible = true;
+
+    private final double esperaInicialSegundos;
+    private final double adquisicionesIniciales;
+
+    MonitorPool(HttpClient cliente, String urlBase, String token, Duration intervalo) {
+        this.cliente = cliente;
+        this.urlBase = urlBase;
+        this.token = token;
+        this.muestreo = Executors.newSingleThreadScheduledExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "monitor-pool");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        double[] adquisicion = medidas("hikaricp.connections.acquire");
+        esperaInicialSegundos = adquisicion[1];
+        adquisicionesIniciales = adquisicion[0];
+        maximoPool = medida("hikaricp.connections.max", "VALUE");
+        muestreo.scheduleAtFixedRate(this::muestrear, 0, intervalo.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        muestreo.shutdownNow();
+    }
+
+    void imprimirInforme() {
+        if (!disponible || muestras == 0) {
+            System.out.println("Pool:         sin datos de /actuator/metrics (¿usuario ADMIN?)");
+            return;
+        }
+        double[] adquisicion = medidas("hikaricp.connections.acquire");
+        double adquisiciones = adquisicion[0] - adquisicionesIniciales;
+        double esperaMs = adquisiciones > 0 ? (adquisicion[1] - esperaInicialSegundos) * 1000 / adquisiciones : 0;
+        System.out.printf("Pool:         activas media=%.1f max=%.0f de %.0f, esperando media=%.1f max=%.0f, "
+                        + "saturado %.0f%% de las muestras%n",
+                activasSuma / muestras, activasMaximo, maximoPool, pendientesSuma / muestras, pendientesMaximo,
+                100.0 * muestrasConEspera / muestras);
+        System.out.printf("Adquisición:  %.0f conexiones, espera media %.3f ms, máxima %.1f ms%n",
+                adquisiciones, esperaMs, adquisicion[2] * 1000);
+    }
+
+    private void muestrear() {
+        double activas = medida("hikaricp.connections.active", "VALUE");
+        double pendientes = medida("hikaricp.connections.pending", "VALUE");
+        if (Double.isNaN(activas) || Double.isNaN(pendientes)) {
+            disponible = false;
+            return;
+        }
+        muestras++;
+        activasSuma += activas;
+        activasMaximo = Math.max(activasMaximo, activas);
+        pendientesSuma += pendientes;
+        pendientesMaximo = Math.max(pendientesMaximo, pendientes);
+        if (pendientes > 0) {
+            muestrasConEspera++;
+        }
+    }
+
+    private double medida(String metrica, String estadistica) {
+        String cuerpo = consultar(metrica);
+        if (cuerpo != null) {
+            Matcher medida = MEDIDA.matcher(cuerpo);
+            while (medida.find()) {
+                if (medida.group(1).equals(estadistica)) {
+                    return valor(medida.group(2));
+                }
+            }
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * COUNT, TOTAL_TIME (s) y MAX (s) de un temporizador
+     */
+    private double[] medidas(String metrica) {
+        double[] valores = { 0, 0, 0 };
+        String cuerpo = consultar(metrica);
+        if (cuerpo != null) {
+            Matcher medida = MEDIDA.matcher(cuerpo);
+            while (medida.find()) {
+                switch (medida.group(1)) {
+                    case "COUNT" -> valores[0] = valor(medida.group(2));
+                    case "TOTAL_TIME" -> valores[1] = valor(medida.group(2));
+                    case "MAX" -> valores[2] = valor(medida.group(2));
+                    default -> {
+                    }
+                }
+            }
+        }
+        return valores;
+    }
+
+    private String consultar(String metrica) {
+        HttpRequest.Builder peticion = HttpRequest.newBuilder(URI.create(urlBase + "/actuator/metrics/" + metrica))
+                .timeout(Duration.ofSeconds(5))
+                .GET();
+        if (token != null) {
+            peticion.header("Authorization", "Bearer " + token);
+        }
+        try {
+            HttpResponse<String> respuesta = cliente.send(peticion.build(), HttpResponse.BodyHandlers.ofString());
+            return respuesta.statusCode() == 200 ? respuesta.body() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static double valor(String texto) {
+        return texto.contains("NaN") ? Double.NaN : Double.parseDouble(texto);
+    }
+}
@@ -0,0 +1,203 @@
+package com.torneos.carga;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Prueba de carga en bucle cerrado: "concurrencia" clientes lanzan peticiones sin pausa durante
+ * "duracion" segundos, tras un calentamiento que no se mide. Sin --mezcla recorren las rutas GET
+ * indicadas; con --mezcla eligen al azar lecturas de plantillas, jugadores, búsquedas y escrituras
+ * sobre los datos de GeneradorDatos, y el informe separa latencias por operación.
+ * Con un usuario ADMIN se informa además de la saturación del pool de conexiones.
+ *
+ * Ejemplos:
+ *   java -jar target/torneos-loadtest.jar --usuario=admin --password=secreto \
+ *        --concurrencia=400 --duracion=60 --rutas=/jugadores/equipo/1,/jugadores/7 --etiqueta=virtual
+ *   java -jar target/torneos-loadtest.jar --usuario=admin --password=secreto --preparar=true \
+ *        --mezcla=plantillas:60,jugadores:15,busquedas:15,escrituras:10 --equipos=10000
+ */
+public final class PruebaCarga {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final String RUTAS = "rutas";
+    private static final List<String> PREPARACION = List.of("/admin/contadores/reconciliar",
+            "/admin/posiciones/reconstruir", "/admin/lideres/recargar");
+
+    private PruebaCarga() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Configuracion configuracion = Configuracion.desdeArgumentos(args);
+        HttpClient cliente = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(4))
+                .build();
+        String token = configuracion.usuario != null ? iniciarSesion(cliente, configuracion) : null;
+        Mezcla mezcla = configuracion.mezcla != null
+                ? new Mezcla(configuracion.mezcla, configuracion.urlBase, token, configuracion.equipos) : null;
+        if (configuracion.preparar) {
+            preparar(cliente, configuracion, token);
+        }
+
+        System.out.printf("Calentamiento %d s, %d clientes...%n",
+                configuracion.calentamiento.toSeconds(), configuracion.concurrencia);
+        ejecutar(cliente, configuracion, mezcla, token, configuracion.calentamiento);
+
+        System.out.printf("Midiendo %d s...%n", configuracion.duracion.toSeconds());
+        MonitorPool monitor = token != null
+                ? new MonitorPool(cliente, configuracion.urlBase, token, configuracion.intervaloMetricas) : null;
+        long inicio = System.nanoTime();
+        Map<String, RegistroLatencias> porOperacion = ejecutar(cliente, configuracion, mezcla, token,
+                configuracion.duracion);
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        if (monitor != null) {
+            monitor.close();
+        }
+
+        imprimirInforme(configuracion, porOperacion, segundos, monitor);
+        System.exit(0);
+    }
+
+    private static Map<String, RegistroLatencias> ejecutar(HttpClient cliente, Configuracion configuracion,
+            Mezcla mezcla, String token, Duration duracion) throws Exception {
+        ExecutorService clientes = Executors.newFixedThreadPool(configuracion.concurrencia);
+        long fin = System.nanoTime() + duracion.toNanos();
+        List<Future<Map<String, RegistroLatencias>>> resultados = new ArrayList<>();
+        for (int i = 0; i < configuracion.concurrencia; i++) {
+            int desfase = i;
+            resultados.add(clientes.submit(() -> mezcla != null
+                    ? bucleMezcla(cliente, mezcla, fin, desfase)
+                    : bucleCliente(cliente, configuracion, token, fin, desfase)));
+        }
+
+        Map<String, RegistroLatencias> total = new TreeMap<>();
+        for (Future<Map<String, RegistroLatencias>> resultado : resultados) {
+            resultado.get().forEach((operacion, registro) ->
+                    total.computeIfAbsent(operacion, o -> new RegistroLatencias()).combinar(registro));
+        }
+        clientes.shutdown();
+        return total;
+    }
+
+    private static Map<String, RegistroLatencias> bucleCliente(HttpClient cliente, Configuracion configuracion,
+            String token, long fin, int desfase) {
+        RegistroLatencias registro = new RegistroLatencias();
+        List<HttpRequest> peticiones = new ArrayList<>();
+        for (String ruta : configuracion.rutas) {
+            HttpRequest.Builder peticion = HttpRequest.newBuilder(URI.create(configuracion.urlBase + ruta))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET();
+            if (token != null) {
+                peticion.header("Authorization", "Bearer " + token);
+            }
+            peticiones.add(peticion.build());
+        }
+
+        int siguiente = desfase;
+        while (System.nanoTime() < fin) {
+            enviar(cliente, peticiones.get(siguiente++ % peticiones.size()), registro);
+        }
+        return Map.of(RUTAS, registro);
+    }
+
+    private static Map<String, RegistroLatencias> bucleMezcla(HttpClient cliente, Mezcla mezcla, long fin,
+            int desfase) {
+        Map<String, RegistroLatencias> registros = new TreeMap<>();
+        SplittableRandom aleatorio = new SplittableRandom(System.nanoTime() + desfase);
+        while (System.nanoTime() < fin) {
+            Mezcla.Operacion operacion = mezcla.elegir(aleatorio);
+            RegistroLatencias registro = registros.computeIfAbsent(operacion.name().toLowerCase(),
+                    o -> new RegistroLatencias());
+            enviar(cliente, mezcla.peticion(operacion, aleatorio), registro);
+        }
+        return registros;
+    }
+
+    private static void enviar(HttpClient cliente, HttpRequest peticion, RegistroLatencias registro) {
+        long inicio = System.nanoTime();
+        try {
+            HttpResponse<Void> respuesta = cliente.send(peticion, HttpResponse.BodyHandlers.discarding());
+            registro.registrar(System.nanoTime() - inicio, respuesta.statusCode());
+        } catch (Exception e) {
+            registro.registrarError();
+        }
+    }
+
+    /**
+     * Reconstruye en el backend las tablas derivadas de los datos generados (contadores de
+     * plantilla, posiciones y líderes) antes de medir
+     */
+    private static void preparar(HttpClient cliente, Configuracion configuracion, String token) throws Exception {
+        for (String ruta : PREPARACION) {
+            HttpRequest.Builder peticion = HttpRequest.newBuilder(URI.create(configuracion.urlBase + ruta))
+                    .timeout(Duration.ofMinutes(10))
+                    .POST(HttpRequest.BodyPublishers.noBody());
+            if (token != null) {
+                peticion.header("Authorization", "Bearer " + token);
+            }
+            long inicio = System.nanoTime();
+            HttpResponse<String> respuesta = cliente.send(peticion.build(), HttpResponse.BodyHandlers.ofString());
+            if (respuesta.statusCode() != 200) {
+                throw new IllegalStateException("Preparación fallida en " + ruta + " (" + respuesta.statusCode() + "): "
+                        + respuesta.body());
+            }
+            System.out.printf("%s: %s (%.1f s)%n", ruta, respuesta.body(), (System.nanoTime() - inicio) / 1e9);
+        }
+    }
+
+    static String iniciarSesion(HttpClient cliente, Configuracion configuracion) throws Exception {
+        String cuerpo = "{\"username\":\"" + configuracion.usuario + "\",\"password\":\"" + configuracion.password + "\"}";
+        HttpRequest peticion = HttpRequest.newBuilder(URI.create(configuracion.urlBase + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(cuerpo))
+                .build();
+        HttpResponse<String> respuesta = cliente.send(peticion, HttpResponse.BodyHandlers.ofString());
+        Matcher token = TOKEN.matcher(respuesta.body());
+        if (respuesta.statusCode() != 200 || !token.find()) {
+            throw new IllegalStateException("Login fallido (" + respuesta.statusCode() + "): " + respuesta.body());
+        }
+        return token.group(1);
+    }
+
+    private static void imprimirInforme(Configuracion configuracion, Map<String, RegistroLatencias> porOperacion,
+            double segundos, MonitorPool monitor) {
+        RegistroLatencias total = new RegistroLatencias();
+        porOperacion.values().forEach(total::combinar);
+        total.ordenar();
+        System.out.println();
+        System.out.printf("== %s: %d clientes, %.0f s ==%n", configuracion.etiqueta, configuracion.concurrencia, segundos);
+        System.out.printf("Peticiones:   %d (%.1f/s)%n", total.getCantidad(), total.getCantidad() / segundos);
+        System.out.printf("Por estado:   %s, errores de red: %d%n", total.getRespuestasPorEstado(), total.getErrores());
+        imprimirLatencias("Latencia ms: ", total);
+        if (porOperacion.size() > 1 || !porOperacion.containsKey(RUTAS)) {
+            porOperacion.forEach((operacion, registro) -> {
+                registro.ordenar();
+                System.out.printf("  %-11s %d (%.1f/s), estados %s%n", operacion, registro.getCantidad(),
+                        registro.getCantidad() / segundos, registro.getRespuestasPorEstado());
+                imprimirLatencias("    ms:      ", registro);
+            });
+        }
+        if (monitor != null) {
+            monitor.imprimirInforme();
+        }
+    }
+
+    private static void imprimirLatencias(String prefijo, RegistroLatencias registro) {
+        System.out.printf("%s p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n", prefijo,
+                registro.percentil(50) / 1000.0, registro.percentil(90) / 1000.0, registro.percentil(99) / 1000.0,
+                registro.percentil(99.9) / 1000.0, registro.percentil(100) / 1000.0);
+    }
+}
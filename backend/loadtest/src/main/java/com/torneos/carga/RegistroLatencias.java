@@ -0,0 +1,66 @@
+package com.torneos.carga;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencias de un trabajador (sin sincronización); al final se combinan todas.
+ * Guarda cada muestra en microsegundos para calcular percentiles exactos.
+ */
+final class RegistroLatencias {
+
+    private long[] muestras = new long[1 << 16];
+    private int cantidad;
+    private final Map<Integer, Integer> respuestasPorEstado = new TreeMap<>();
+    private int errores;
+
+    void registrar(long nanos, int estado) {
+        if (cantidad == muestras.length) {
+            muestras = Arrays.copyOf(muestras, muestras.length * 2);
+        }
+        muestras[cantidad++] = nanos / 1000;
+        respuestasPorEstado.merge(estado, 1, Integer::sum);
+    }
+
+    void registrarError() {
+        errores++;
+    }
+
+    void combinar(RegistroLatencias otro) {
+        if (cantidad + otro.cantidad > muestras.length) {
+            muestras = Arrays.copyOf(muestras, cantidad + otro.cantidad);
+        }
+        System.arraycopy(otro.muestras, 0, muestras, cantidad, otro.cantidad);
+        cantidad += otro.cantidad;
+        otro.respuestasPorEstado.forEach((estado, n) -> respuestasPorEstado.merge(estado, n, Integer::sum));
+        errores += otro.errores;
+    }
+
+    void ordenar() {
+        Arrays.sort(muestras, 0, cantidad);
+    }
+
+    /**
+     * Percentil en microsegundos; requiere ordenar() antes
+     */
+    long percentil(double p) {
+        if (cantidad == 0) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(p / 100.0 * cantidad) - 1;
+        return muestras[Math.max(0, Math.min(indice, cantidad - 1))];
+    }
+
+    int getCantidad() {
+        return cantidad;
+    }
+
+    int getErrores() {
+        return errores;
+    }
+
+    Map<Integer, Integer> getRespuestasPorEstado() {
+        return respuestasPorEstado;
+    }
+}
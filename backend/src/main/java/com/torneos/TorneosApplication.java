@@ -2,7 +2,10 @@ package com.torneos;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 /**
@@ -11,9 +14,11 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
  * @author Sistema Torneos Team
  * @version 1.0.0
  */
-@SpringBootApplication
+@SpringBootApplication(exclude = UserDetailsServiceAutoConfiguration.class)
 @EnableJpaAuditing
 @EnableTransactionManagement
+@EnableScheduling
+@EnableAsync
 public class TorneosApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,69 @@
+package com.torneos.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Caché de segundo nivel de Hibernate sobre JCache (Caffeine), opcional:
+ * se activa con torneos.cache.l2.habilitada=true (L2_CACHE_ENABLED).
+ *
+ * Las regiones se crean aquí con su TTL y tamaño máximo; Hibernate falla al arrancar
+ * si una entidad o consulta usa una región no declarada (missing_cache_strategy: fail).
+ * Los aciertos y fallos por región se publican en /actuator/metrics como
+ * hibernate.second.level.cache.requests e hibernate.cache.query.requests.
+ */
+@Configuration
+@ConditionalOnProperty(name = "torneos.cache.l2.habilitada", havingValue = "true")
+@EnableConfigurationProperties(PropiedadesCacheL2.class)
+public class CacheL2Config {
+
+    public static final String REGION_EQUIPOS = "equipos";
+    public static final String REGION_TORNEOS = "torneos";
+    public static final String REGION_JUGADORES = "jugadores";
+    public static final String REGION_CONSULTAS_EQUIPOS = "consultas-equipos";
+    public static final String REGION_CONSULTAS_JUGADORES = "consultas-jugadores";
+
+    private static final List<String> REGIONES = List.of(REGION_EQUIPOS, REGION_TORNEOS, REGION_JUGADORES,
+            REGION_CONSULTAS_EQUIPOS, REGION_CONSULTAS_JUGADORES,
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager cacheManagerL2(PropiedadesCacheL2 propiedades) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        for (String region : REGIONES) {
+            CaffeineConfiguration<Object, Object> configuracion = configuracionBase();
+            configuracion.setMaximumSize(OptionalLong.of(propiedades.getTamanoMaximo(region)));
+            configuracion.setExpireAfterWrite(OptionalLong.of(propiedades.getTtl(region).toNanos()));
+            cacheManager.createCache(region, configuracion);
+        }
+        // Las marcas de tiempo de las tablas no deben expirar ni desalojarse antes que las consultas que validan
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, configuracionBase());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer cacheL2HibernatePropertiesCustomizer(CacheManager cacheManagerL2) {
+        return propiedades -> propiedades.put(ConfigSettings.CACHE_MANAGER, cacheManagerL2);
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuracionBase() {
+        CaffeineConfiguration<Object, Object> configuracion = new CaffeineConfiguration<>();
+        // Hibernate ya guarda copias desensambladas: no hace falta copiar otra vez por serialización
+        configuracion.setStoreByValue(false);
+        configuracion.setStatisticsEnabled(true);
+        return configuracion;
+    }
+}
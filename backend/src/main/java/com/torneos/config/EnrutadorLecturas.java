@@ -0,0 +1,316 @@
+package com.torneos.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * DataSource que envía las transacciones readOnly a una réplica sana (por turnos) y todo lo
+ * demás a la primaria. Debe usarse detrás de un LazyConnectionDataSourceProxy: la conexión se
+ * pide en la primera sentencia, cuando el flag readOnly de la transacción ya está fijado, y
+ * sin open-in-view, para que cada transacción pida la suya (ver ReplicasLecturaConfig).
+ *
+ * Una réplica se marca caída si falla la verificación periódica, si su retraso de replicación
+ * supera torneos.replicas.retraso-maximo o si no entrega una conexión; mientras tanto sus
+ * lecturas van a la primaria. Con ventana-lectura-propia > 0, las lecturas de un usuario que
+ * acaba de confirmar una escritura también van a la primaria durante esa ventana (por instancia).
+ * Las cargas de cachés sin caducidad van siempre a la primaria (enPrimaria).
+ */
+public class EnrutadorLecturas extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrutadorLecturas.class);
+
+    static final String PRIMARIA = "primaria";
+
+    private static final ThreadLocal<Boolean> PRIMARIA_FORZADA = new ThreadLocal<>();
+
+    // Una réplica al día (todo lo recibido ya aplicado) o una instancia que no está en recuperación tiene retraso 0;
+    // pg_last_xact_replay_timestamp() solo avanza con transacciones, así que no basta por sí solo en reposo
+    private static final String SQL_RETRASO =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                    + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final DataSource primaria;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Map<String, Replica> replicasPorNombre = new HashMap<>();
+    private final PropiedadesReplicas propiedades;
+    private final Cache<String, Boolean> escrituraReciente;
+    private final AtomicInteger turno = new AtomicInteger();
+    private final Counter respaldoPorCaida;
+    private final Counter respaldoPorLecturaPropia;
+    private final Counter respaldoSinReplica;
+    private ScheduledExecutorService verificador;
+
+    public EnrutadorLecturas(DataSource primaria, PropiedadesReplicas propiedades, MeterRegistry meterRegistry) {
+        this.primaria = primaria;
+        this.propiedades = propiedades;
+        this.escrituraReciente = propiedades.getVentanaLecturaPropia().isZero() ? null
+                : Caffeine.newBuilder()
+                        .expireAfterWrite(propiedades.getVentanaLecturaPropia())
+                        .maximumSize(100_000)
+                        .build();
+
+        Map<Object, Object> destinos = new HashMap<>();
+        destinos.put(PRIMARIA, primaria);
+        for (PropiedadesReplicas.Instancia instancia : propiedades.getInstancias()) {
+            Replica replica = new Replica(instancia.getNombre(), crearPool(instancia, meterRegistry));
+            replicas.add(replica);
+            replicasPorNombre.put(replica.nombre, replica);
+            destinos.put(replica.nombre, replica.dataSource);
+            Gauge.builder("torneos.replicas.sana", replica, r -> r.sana ? 1 : 0)
+                    .tag("replica", replica.nombre)
+                    .register(meterRegistry);
+            Gauge.builder("torneos.replicas.retraso", replica, r -> r.retrasoSegundos)
+                    .tag("replica", replica.nombre)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            replica.lecturas = Counter.builder("torneos.replicas.lecturas")
+                    .tag("replica", replica.nombre)
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(primaria);
+        setLenientFallback(false);
+
+        respaldoPorCaida = Counter.builder("torneos.replicas.respaldo").tag("motivo", "caida").register(meterRegistry);
+        respaldoPorLecturaPropia = Counter.builder("torneos.replicas.respaldo").tag("motivo", "lectura-propia")
+                .register(meterRegistry);
+        respaldoSinReplica = Counter.builder("torneos.replicas.respaldo").tag("motivo", "sin-replica-sana")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        verificador = Executors.newSingleThreadScheduledExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "replicas-salud");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        long intervalo = propiedades.getIntervaloSalud().toMillis();
+        verificador.scheduleWithFixedDelay(this::verificarReplicas, 0, intervalo, TimeUnit.MILLISECONDS);
+        log.info("Enrutado de lecturas activo: {} réplica(s), ventana de lectura propia {}",
+                replicas.size(), propiedades.getVentanaLecturaPropia());
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordarEscritura();
+            return PRIMARIA;
+        }
+        if (PRIMARIA_FORZADA.get() != null) {
+            return PRIMARIA;
+        }
+        if (escrituraReciente != null) {
+            String usuario = usuarioActual();
+            if (usuario != null && escrituraReciente.getIfPresent(usuario) != null) {
+                respaldoPorLecturaPropia.increment();
+                return PRIMARIA;
+            }
+        }
+        Replica replica = elegirReplica();
+        if (replica == null) {
+            if (!replicas.isEmpty()) {
+                respaldoSinReplica.increment();
+            }
+            return PRIMARIA;
+        }
+        return replica.nombre;
+    }
+
+    /**
+     * Ejecuta la acción con sus lecturas en la primaria aunque la transacción sea readOnly. Para las
+     * cargas de cachés que solo se invalidan al escribir: un valor leído de una réplica retrasada se
+     * guardaría después de la invalidación y quedaría obsoleto hasta la siguiente escritura. Solo
+     * afecta a las conexiones que se piden dentro, así que debe llamarse sin transacción en curso.
+     */
+    public static <T> T enPrimaria(Supplier<T> accion) {
+        if (PRIMARIA_FORZADA.get() != null) {
+            return accion.get();
+        }
+        PRIMARIA_FORZADA.set(Boolean.TRUE);
+        try {
+            return accion.get();
+        } finally {
+            PRIMARIA_FORZADA.remove();
+        }
+    }
+
+    /**
+     * Pide la conexión al destino elegido; si una réplica no la entrega, se marca caída
+     * y la lectura se hace en la primaria en lugar de fallar la petición.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = replicasPorNombre.get(determineCurrentLookupKey());
+        if (replica == null) {
+            return primaria.getConnection();
+        }
+        try {
+            Connection conexion = replica.dataSource.getConnection();
+            replica.lecturas.increment();
+            return conexion;
+        } catch (SQLException e) {
+            marcarCaida(replica, e.getMessage());
+            respaldoPorCaida.increment();
+            return primaria.getConnection();
+        }
+    }
+
+    /**
+     * Estado de cada réplica para el indicador de salud.
+     */
+    public Map<String, Object> estadoReplicas() {
+        Map<String, Object> estado = new HashMap<>();
+        for (Replica replica : replicas) {
+            Map<String, Object> detalle = new HashMap<>();
+            detalle.put("sana", replica.sana);
+            detalle.put("retrasoSegundos", replica.retrasoSegundos);
+            if (replica.ultimoError != null) {
+                detalle.put("ultimoError", replica.ultimoError);
+            }
+            estado.put(replica.nombre, detalle);
+        }
+        return Collections.unmodifiableMap(estado);
+    }
+
+    @Override
+    public void destroy() {
+        if (verificador != null) {
+            verificador.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            replica.dataSource.close();
+        }
+    }
+
+    private Replica elegirReplica() {
+        int total = replicas.size();
+        if (total == 0) {
+            return null;
+        }
+        int inicio = Math.floorMod(turno.getAndIncrement(), total);
+        for (int i = 0; i < total; i++) {
+            Replica replica = replicas.get((inicio + i) % total);
+            if (replica.sana) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private void recordarEscritura() {
+        if (escrituraReciente == null || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String usuario = usuarioActual();
+        if (usuario == null) {
+            return;
+        }
+        // La ventana empieza al confirmar: una transacción revertida no obliga a leer de la primaria
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                escrituraReciente.put(usuario, Boolean.TRUE);
+            }
+        });
+    }
+
+    private void verificarReplicas() {
+        double retrasoMaximo = propiedades.getRetrasoMaximo().toMillis() / 1000.0;
+        for (Replica replica : replicas) {
+            try (Connection conexion = replica.dataSource.getConnection();
+                 Statement sentencia = conexion.createStatement();
+                 ResultSet rs = sentencia.executeQuery(SQL_RETRASO)) {
+                rs.next();
+                replica.retrasoSegundos = rs.getDouble(1);
+                if (replica.retrasoSegundos > retrasoMaximo) {
+                    marcarCaida(replica, String.format("retraso de replicación %.1f s", replica.retrasoSegundos));
+                } else if (!replica.sana) {
+                    replica.sana = true;
+                    replica.ultimoError = null;
+                    log.info("Réplica {} disponible para lecturas", replica.nombre);
+                }
+            } catch (SQLException | RuntimeException e) {
+                marcarCaida(replica, e.getMessage());
+            }
+        }
+    }
+
+    private void marcarCaida(Replica replica, String motivo) {
+        replica.ultimoError = motivo;
+        if (replica.sana) {
+            replica.sana = false;
+            log.warn("Réplica {} fuera de servicio, lecturas a la primaria: {}", replica.nombre, motivo);
+        }
+    }
+
+    private static HikariDataSource crearPool(PropiedadesReplicas.Instancia instancia, MeterRegistry meterRegistry) {
+        HikariConfig configuracion = instancia.getHikari();
+        configuracion.setJdbcUrl(instancia.getUrl());
+        configuracion.setUsername(instancia.getUsername());
+        configuracion.setPassword(instancia.getPassword());
+        configuracion.setPoolName("replica-" + instancia.getNombre());
+        configuracion.setReadOnly(true);
+        // Una réplica caída al arrancar no debe impedir el arranque: la verificación la marca caída
+        configuracion.setInitializationFailTimeout(-1);
+        configuracion.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(configuracion);
+    }
+
+    private static String usuarioActual() {
+        Authentication autenticacion = SecurityContextHolder.getContext().getAuthentication();
+        if (autenticacion == null || !autenticacion.isAuthenticated()
+                || autenticacion instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return autenticacion.getName();
+    }
+
+    private static final class Replica {
+
+        private final String nombre;
+        private final HikariDataSource dataSource;
+        private Counter lecturas;
+        private volatile boolean sana;
+        private volatile double retrasoSegundos;
+        private volatile String ultimoError;
+
+        private Replica(String nombre, HikariDataSource dataSource) {
+            this.nombre = nombre;
+            this.dataSource = dataSource;
+        }
+    }
+}
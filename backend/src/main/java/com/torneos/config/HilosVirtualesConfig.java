@@ -0,0 +1,29 @@
+package com.torneos.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Perfil "virtual": Spring Boot ignora spring.threads.virtual.enabled en runtimes anteriores
+ * a Java 21, así que se avisa en lugar de arrancar en silencio con hilos de plataforma.
+ */
+@Configuration
+@Profile("virtual")
+public class HilosVirtualesConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(HilosVirtualesConfig.class);
+
+    @PostConstruct
+    public void verificarRuntime() {
+        int version = Runtime.version().feature();
+        if (version < 21) {
+            log.warn("Perfil 'virtual' activo sobre Java {}: se requiere Java 21, se usarán hilos de plataforma",
+                    version);
+        } else {
+            log.info("Peticiones y tareas @Async en hilos virtuales; concurrencia limitada por el pool de Hikari");
+        }
+    }
+}
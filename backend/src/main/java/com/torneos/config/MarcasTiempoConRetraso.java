@@ -0,0 +1,86 @@
+package com.torneos.config;
+
+import org.hibernate.cache.internal.StandardTimestampsCacheFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.support.SimpleTimestamper;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * Marcas de tiempo de la caché de consultas para usar con réplicas de lectura.
+ *
+ * Hibernate invalida las tablas al confirmar en la primaria, pero una consulta posterior servida por
+ * una réplica retrasada lee los datos anteriores y se guarda con una marca más nueva que la
+ * invalidación. Aquí un resultado solo vale si se obtuvo más de un margen después de la última
+ * escritura en sus tablas; con margen = retraso-maximo + intervalo-salud, una réplica más retrasada
+ * que eso ya está fuera de servicio. Supone el RegionFactory de JCache (marcas de SimpleTimestamper).
+ */
+class MarcasTiempoConRetraso implements TimestampsCacheFactory {
+
+    private final long margen;
+
+    MarcasTiempoConRetraso(Duration margen) {
+        this.margen = margen.toMillis() * SimpleTimestamper.ONE_MS;
+    }
+
+    @Override
+    public TimestampsCache buildTimestampsCache(CacheImplementor cacheImplementor, TimestampsRegion region) {
+        return new Cache(StandardTimestampsCacheFactory.INSTANCE.buildTimestampsCache(cacheImplementor, region),
+                margen);
+    }
+
+    private static final class Cache implements TimestampsCache {
+
+        private final TimestampsCache base;
+        private final long margen;
+
+        private Cache(TimestampsCache base, long margen) {
+            this.base = base;
+            this.margen = margen;
+        }
+
+        @Override
+        public TimestampsRegion getRegion() {
+            return base.getRegion();
+        }
+
+        @Override
+        public void preInvalidate(String[] spaces, SharedSessionContractImplementor session) {
+            base.preInvalidate(spaces, session);
+        }
+
+        @Override
+        public void invalidate(String[] spaces, SharedSessionContractImplementor session) {
+            base.invalidate(spaces, session);
+        }
+
+        @Override
+        public boolean isUpToDate(String[] spaces, Long timestamp, SharedSessionContractImplementor session) {
+            return base.isUpToDate(spaces, desplazar(timestamp), session);
+        }
+
+        @Override
+        public boolean isUpToDate(Collection<String> spaces, Long timestamp, SharedSessionContractImplementor session) {
+            return base.isUpToDate(spaces, desplazar(timestamp), session);
+        }
+
+        @Override
+        public void clear() {
+            base.clear();
+        }
+
+        @Override
+        public void destroy() {
+            base.destroy();
+        }
+
+        private Long desplazar(Long timestamp) {
+            return timestamp == null ? null : timestamp - margen;
+        }
+    }
+}
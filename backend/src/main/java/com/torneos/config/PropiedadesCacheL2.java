@@ -0,0 +1,85 @@
+package com.torneos.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Límites de la caché de segundo nivel (torneos.cache.l2). Cada región puede
+ * sobrescribir el TTL y el tamaño máximo por defecto.
+ */
+@ConfigurationProperties(prefix = "torneos.cache.l2")
+public class PropiedadesCacheL2 {
+
+    private boolean habilitada = false;
+    private Duration ttlPorDefecto = Duration.ofMinutes(10);
+    private long tamanoMaximoPorDefecto = 1000;
+    private Map<String, Region> regiones = new HashMap<>();
+
+    public Duration getTtl(String region) {
+        Region configurada = regiones.get(region);
+        return configurada != null && configurada.getTtl() != null ? configurada.getTtl() : ttlPorDefecto;
+    }
+
+    public long getTamanoMaximo(String region) {
+        Region configurada = regiones.get(region);
+        return configurada != null && configurada.getTamanoMaximo() != null
+                ? configurada.getTamanoMaximo() : tamanoMaximoPorDefecto;
+    }
+
+    // Getters y Setters
+    public boolean isHabilitada() {
+        return habilitada;
+    }
+
+    public void setHabilitada(boolean habilitada) {
+        this.habilitada = habilitada;
+    }
+
+    public Duration getTtlPorDefecto() {
+        return ttlPorDefecto;
+    }
+
+    public void setTtlPorDefecto(Duration ttlPorDefecto) {
+        this.ttlPorDefecto = ttlPorDefecto;
+    }
+
+    public long getTamanoMaximoPorDefecto() {
+        return tamanoMaximoPorDefecto;
+    }
+
+    public void setTamanoMaximoPorDefecto(long tamanoMaximoPorDefecto) {
+        this.tamanoMaximoPorDefecto = tamanoMaximoPorDefecto;
+    }
+
+    public Map<String, Region> getRegiones() {
+        return regiones;
+    }
+
+    public void setRegiones(Map<String, Region> regiones) {
+        this.regiones = regiones;
+    }
+
+    public static class Region {
+        private Duration ttl;
+        private Long tamanoMaximo;
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Long getTamanoMaximo() {
+            return tamanoMaximo;
+        }
+
+        public void setTamanoMaximo(Long tamanoMaximo) {
+            this.tamanoMaximo = tamanoMaximo;
+        }
+    }
+}
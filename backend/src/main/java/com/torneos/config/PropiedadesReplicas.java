@@ -0,0 +1,113 @@
+package com.torneos.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Réplicas de lectura (torneos.replicas). Cada instancia tiene su propio pool de Hikari,
+ * configurable con las mismas claves que spring.datasource.hikari.
+ */
+@ConfigurationProperties(prefix = "torneos.replicas")
+public class PropiedadesReplicas {
+
+    private boolean habilitadas = false;
+    private Duration intervaloSalud = Duration.ofSeconds(5);
+    private Duration retrasoMaximo = Duration.ofSeconds(10);
+    private Duration ventanaLecturaPropia = Duration.ZERO;
+    private List<Instancia> instancias = new ArrayList<>();
+
+    // Getters y Setters
+    public boolean isHabilitadas() {
+        return habilitadas;
+    }
+
+    public void setHabilitadas(boolean habilitadas) {
+        this.habilitadas = habilitadas;
+    }
+
+    public Duration getIntervaloSalud() {
+        return intervaloSalud;
+    }
+
+    public void setIntervaloSalud(Duration intervaloSalud) {
+        this.intervaloSalud = intervaloSalud;
+    }
+
+    public Duration getRetrasoMaximo() {
+        return retrasoMaximo;
+    }
+
+    public void setRetrasoMaximo(Duration retrasoMaximo) {
+        this.retrasoMaximo = retrasoMaximo;
+    }
+
+    public Duration getVentanaLecturaPropia() {
+        return ventanaLecturaPropia;
+    }
+
+    public void setVentanaLecturaPropia(Duration ventanaLecturaPropia) {
+        this.ventanaLecturaPropia = ventanaLecturaPropia;
+    }
+
+    public List<Instancia> getInstancias() {
+        return instancias;
+    }
+
+    public void setInstancias(List<Instancia> instancias) {
+        this.instancias = instancias;
+    }
+
+    public static class Instancia {
+
+        private String nombre;
+        private String url;
+        private String username;
+        private String password;
+        private HikariConfig hikari = new HikariConfig();
+
+        // Getters y Setters
+        public String getNombre() {
+            return nombre;
+        }
+
+        public void setNombre(String nombre) {
+            this.nombre = nombre;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public HikariConfig getHikari() {
+            return hikari;
+        }
+
+        public void setHikari(HikariConfig hikari) {
+            this.hikari = hikari;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.torneos.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Réplicas de lectura, opcional: se activa con torneos.replicas.habilitadas=true (DB_REPLICAS_ENABLED).
+ *
+ * La primaria se sigue configurando con spring.datasource y spring.datasource.hikari; el DataSource
+ * principal pasa a ser el enrutador envuelto en un LazyConnectionDataSourceProxy, de modo que JPA,
+ * JdbcTemplate y Flyway lo comparten y solo las transacciones readOnly llegan a una réplica.
+ * El estado de cada réplica se ve en /actuator/health (replicasLectura) y en torneos.replicas.*.
+ *
+ * El enrutado es por transacción solo con spring.jpa.open-in-view desactivado. Con él activo, el
+ * EntityManager de la petición retiene la conexión de la primera transacción y el proxy no vuelve
+ * a elegir destino: una escritura posterior a una lectura readOnly acabaría en la réplica. Por eso
+ * el arranque falla si las réplicas están habilitadas con open-in-view activo.
+ *
+ * Lo leído de una réplica no debe quedar en cachés que solo se invalidan al escribir: la caché de
+ * DTO de jugadores carga desde la primaria y la de consultas de Hibernate usa MarcasTiempoConRetraso.
+ */
+@Configuration
+@ConditionalOnProperty(name = "torneos.replicas.habilitadas", havingValue = "true")
+@EnableConfigurationProperties(PropiedadesReplicas.class)
+public class ReplicasLecturaConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimaria(DataSourceProperties propiedades) {
+        HikariDataSource dataSource = propiedades.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primaria");
+        return dataSource;
+    }
+
+    @Bean
+    public EnrutadorLecturas enrutadorLecturas(HikariDataSource dataSourcePrimaria, PropiedadesReplicas propiedades,
+            MeterRegistry meterRegistry, @Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException("Las réplicas de lectura requieren spring.jpa.open-in-view=false");
+        }
+        return new EnrutadorLecturas(dataSourcePrimaria, propiedades, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(EnrutadorLecturas enrutadorLecturas) {
+        return new LazyConnectionDataSourceProxy(enrutadorLecturas);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "torneos.cache.l2.habilitada", havingValue = "true")
+    public HibernatePropertiesCustomizer replicasCacheConsultasHibernatePropertiesCustomizer(
+            PropiedadesReplicas propiedades) {
+        MarcasTiempoConRetraso marcas = new MarcasTiempoConRetraso(
+                propiedades.getRetrasoMaximo().plus(propiedades.getIntervaloSalud()));
+        return hibernate -> hibernate.put(AvailableSettings.QUERY_CACHE_FACTORY, marcas);
+    }
+
+    @Bean
+    public HealthIndicator replicasLecturaHealthIndicator(EnrutadorLecturas enrutadorLecturas) {
+        // Una réplica caída no deja la aplicación fuera de servicio: las lecturas siguen en la primaria
+        return () -> Health.up().withDetails(enrutadorLecturas.estadoReplicas()).build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.torneos.controller;
+
+import com.torneos.dto.ReconciliacionContadoresDTO;
+import com.torneos.dto.ReconstruccionPosicionesDTO;
+import com.torneos.service.ContadoresPlantillaService;
+import com.torneos.service.LideresService;
+import com.torneos.service.PosicionesService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin")
+public class AdminController {
+
+    @Autowired
+    private ContadoresPlantillaService contadoresPlantillaService;
+
+    @Autowired
+    private PosicionesService posicionesService;
+
+    @Autowired
+    private LideresService lideresService;
+
+    @PostMapping("/contadores/reconciliar")
+    public ResponseEntity<ReconciliacionContadoresDTO> reconciliarContadores() {
+        return ResponseEntity.ok(contadoresPlantillaService.reconciliar());
+    }
+
+    @PostMapping("/posiciones/reconstruir")
+    public ResponseEntity<ReconstruccionPosicionesDTO> reconstruirPosiciones() {
+        return ResponseEntity.ok(posicionesService.reconstruir());
+    }
+
+    @PostMapping("/lideres/recargar")
+    public ResponseEntity<Map<String, Long>> recargarLideres() {
+        return ResponseEntity.ok(Map.of("filas", lideresService.recargar()));
+    }
+}
@@ -0,0 +1,22 @@
+package com.torneos.controller;
+
+import com.torneos.dto.LoginRequestDTO;
+import com.torneos.dto.LoginResponseDTO;
+import com.torneos.service.AutenticacionService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/auth")
+public class AuthController {
+
+    @Autowired
+    private AutenticacionService autenticacionService;
+
+    @PostMapping("/login")
+    public ResponseEntity<LoginResponseDTO> login(@Valid @RequestBody LoginRequestDTO request) {
+        return ResponseEntity.ok(autenticacionService.login(request));
+    }
+}
@@ -0,0 +1,24 @@
+package com.torneos.controller;
+
+import com.torneos.dto.SugerenciaDTO;
+import com.torneos.service.AutocompletadoService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/autocompletado")
+public class AutocompletadoController {
+
+    @Autowired
+    private AutocompletadoService autocompletadoService;
+
+    @GetMapping
+    public ResponseEntity<List<SugerenciaDTO>> sugerir(@RequestParam String q,
+            @RequestParam(required = false) SugerenciaDTO.Tipo tipo,
+            @RequestParam(defaultValue = "10") int limite) {
+        return ResponseEntity.ok(autocompletadoService.sugerir(q, tipo, limite));
+    }
+}
@@ -0,0 +1,69 @@
+package com.torneos.controller;
+
+import com.torneos.dto.ContadoresEquipoDTO;
+import com.torneos.dto.EquipoBasicoDTO;
+import com.torneos.dto.EquipoRequestDTO;
+import com.torneos.dto.EquipoResponseDTO;
+import com.torneos.service.EquipoService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/equipos")
+public class EquipoController {
+
+    @Autowired
+    private EquipoService equipoService;
+
+    @PostMapping
+    public ResponseEntity<EquipoResponseDTO> crearEquipo(@Valid @RequestBody EquipoRequestDTO request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(equipoService.crearEquipo(request));
+    }
+
+    @GetMapping("/{idEquipo}")
+    public ResponseEntity<EquipoResponseDTO> obtenerEquipo(@PathVariable Long idEquipo) {
+        return ResponseEntity.ok(equipoService.obtenerEquipo(idEquipo));
+    }
+
+    @PutMapping("/{idEquipo}")
+    public ResponseEntity<EquipoResponseDTO> actualizarEquipo(@PathVariable Long idEquipo,
+            @Valid @RequestBody EquipoRequestDTO request) {
+        return ResponseEntity.ok(equipoService.actualizarEquipo(idEquipo, request));
+    }
+
+    @DeleteMapping("/{idEquipo}")
+    public ResponseEntity<Void> eliminarEquipo(@PathVariable Long idEquipo) {
+        equipoService.eliminarEquipo(idEquipo);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{idEquipo}/contadores")
+    public ResponseEntity<ContadoresEquipoDTO> obtenerContadoresEquipo(@PathVariable Long idEquipo) {
+        return ResponseEntity.ok(equipoService.obtenerContadoresEquipo(idEquipo));
+    }
+
+    @GetMapping("/categorias/contadores")
+    public ResponseEntity<Map<String, Integer>> listarEquiposPorCategoria() {
+        return ResponseEntity.ok(equipoService.listarEquiposPorCategoria());
+    }
+
+    @GetMapping("/buscar/similitud")
+    public ResponseEntity<Slice<EquipoBasicoDTO>> buscarEquiposPorSimilitud(@RequestParam String nombre,
+            @RequestParam(defaultValue = "0") int pagina,
+            @RequestParam(defaultValue = "20") int tamano) {
+        return ResponseEntity.ok(equipoService.buscarEquiposPorSimilitud(nombre, pagina, tamano));
+    }
+
+    @GetMapping("/{idEquipo}/dorsales-libres")
+    public ResponseEntity<List<Integer>> listarDorsalesLibres(@PathVariable Long idEquipo,
+            @RequestParam(defaultValue = "10") int limite) {
+        return ResponseEntity.ok(equipoService.listarDorsalesLibres(idEquipo, limite));
+    }
+}
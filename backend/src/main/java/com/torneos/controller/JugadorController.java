@@ -0,0 +1,129 @@
+package com.torneos.controller;
+
+import com.torneos.dto.DistribucionEdadDTO;
+import com.torneos.dto.JugadorRequestDTO;
+import com.torneos.dto.JugadorResponseDTO;
+import com.torneos.dto.PaginaCursorDTO;
+import com.torneos.dto.ResultadoImportacionDTO;
+import com.torneos.entity.Jugador;
+import com.torneos.service.ImportacionJugadoresService;
+import com.torneos.service.JugadorService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping("/jugadores")
+public class JugadorController {
+
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+    private static final String TEXT_CSV = "text/csv";
+
+    @Autowired
+    private JugadorService jugadorService;
+
+    @Autowired
+    private ImportacionJugadoresService importacionJugadoresService;
+
+    @PostMapping
+    public ResponseEntity<JugadorResponseDTO> registrarJugador(@Valid @RequestBody JugadorRequestDTO request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(jugadorService.registrarJugador(request));
+    }
+
+    @GetMapping("/{idJugador}")
+    public ResponseEntity<JugadorResponseDTO> obtenerJugador(@PathVariable Long idJugador) {
+        return ResponseEntity.ok(jugadorService.obtenerJugador(idJugador));
+    }
+
+    @GetMapping("/equipo/{idEquipo}")
+    public ResponseEntity<List<JugadorResponseDTO>> listarJugadoresPorEquipo(@PathVariable Long idEquipo) {
+        return ResponseEntity.ok(jugadorService.listarJugadoresPorEquipo(idEquipo));
+    }
+
+    @PutMapping("/{idJugador}")
+    public ResponseEntity<JugadorResponseDTO> actualizarJugador(@PathVariable Long idJugador,
+            @Valid @RequestBody JugadorRequestDTO request) {
+        return ResponseEntity.ok(jugadorService.actualizarJugador(idJugador, request));
+    }
+
+    @DeleteMapping("/{idJugador}")
+    public ResponseEntity<Void> eliminarJugador(@PathVariable Long idJugador) {
+        jugadorService.eliminarJugador(idJugador);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/buscar")
+    public ResponseEntity<List<JugadorResponseDTO>> buscarJugadoresPorNombre(@RequestParam String nombre) {
+        return ResponseEntity.ok(jugadorService.buscarJugadoresPorNombre(nombre));
+    }
+
+    @GetMapping("/buscar/similitud")
+    public ResponseEntity<Slice<JugadorResponseDTO>> buscarJugadoresPorSimilitud(@RequestParam String nombre,
+            @RequestParam(defaultValue = "0") int pagina,
+            @RequestParam(defaultValue = "20") int tamano) {
+        return ResponseEntity.ok(jugadorService.buscarJugadoresPorSimilitud(nombre, pagina, tamano));
+    }
+
+    @GetMapping("/edad")
+    public ResponseEntity<Page<JugadorResponseDTO>> buscarJugadoresPorEdad(
+            @RequestParam(required = false) Integer edadMin,
+            @RequestParam(required = false) Integer edadMax,
+            @RequestParam(required = false) Jugador.CategoriaEdad categoria,
+            @RequestParam(defaultValue = "0") int pagina,
+            @RequestParam(defaultValue = "20") int tamano) {
+        return ResponseEntity.ok(jugadorService.buscarJugadoresPorEdad(edadMin, edadMax, categoria, pagina, tamano));
+    }
+
+    @GetMapping("/distribucion-edades")
+    public ResponseEntity<List<DistribucionEdadDTO>> obtenerDistribucionEdades(
+            @RequestParam(required = false) Long idEquipo,
+            @RequestParam(required = false) String categoria,
+            @RequestParam(required = false) Long idTorneo) {
+        return ResponseEntity.ok(jugadorService.obtenerDistribucionEdades(idEquipo, categoria, idTorneo));
+    }
+
+    @GetMapping("/pagina")
+    public ResponseEntity<PaginaCursorDTO<JugadorResponseDTO>> listarJugadoresPorCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int tamano) {
+        return ResponseEntity.ok(jugadorService.listarJugadoresPorCursor(cursor, tamano));
+    }
+
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> exportarJugadores(
+            @RequestParam(defaultValue = "NDJSON") JugadorService.FormatoExportacion formato) {
+        StreamingResponseBody cuerpo = salida -> jugadorService.exportarJugadores(salida, formato);
+        boolean csv = formato == JugadorService.FormatoExportacion.CSV;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(csv ? TEXT_CSV : APPLICATION_NDJSON))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=jugadores." + (csv ? "csv" : "ndjson"))
+                .body(cuerpo);
+    }
+
+    // ====== Importación masiva ======
+
+    @PostMapping(value = "/importar", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResultadoImportacionDTO> importarJugadores(InputStream entrada) {
+        return ResponseEntity.ok(importacionJugadoresService.importarJugadoresJson(entrada));
+    }
+
+    @PostMapping(value = "/importar", consumes = APPLICATION_NDJSON)
+    public ResponseEntity<ResultadoImportacionDTO> importarJugadoresNdjson(InputStream entrada) {
+        return ResponseEntity.ok(importacionJugadoresService.importarJugadoresNdjson(entrada));
+    }
+
+    @PostMapping(value = "/importar", consumes = TEXT_CSV)
+    public ResponseEntity<ResultadoImportacionDTO> importarJugadoresCsv(InputStream entrada) {
+        return ResponseEntity.ok(importacionJugadoresService.importarJugadoresCsv(entrada));
+    }
+}
@@ -0,0 +1,32 @@
+package com.torneos.controller;
+
+import com.torneos.dto.LiderDTO;
+import com.torneos.entity.EstadisticaJugador;
+import com.torneos.service.LideresService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/lideres")
+public class LideresController {
+
+    @Autowired
+    private LideresService lideresService;
+
+    @GetMapping("/torneos/{idTorneo}")
+    public ResponseEntity<List<LiderDTO>> listarLideresTorneo(@PathVariable Long idTorneo,
+            @RequestParam(defaultValue = "GOLES") EstadisticaJugador.Metrica metrica,
+            @RequestParam(defaultValue = "10") int limite) {
+        return ResponseEntity.ok(lideresService.listarLideresTorneo(idTorneo, metrica, limite));
+    }
+
+    @GetMapping("/temporadas/{temporada}")
+    public ResponseEntity<List<LiderDTO>> listarLideresTemporada(@PathVariable int temporada,
+            @RequestParam(defaultValue = "GOLES") EstadisticaJugador.Metrica metrica,
+            @RequestParam(defaultValue = "10") int limite) {
+        return ResponseEntity.ok(lideresService.listarLideresTemporada(temporada, metrica, limite));
+    }
+}
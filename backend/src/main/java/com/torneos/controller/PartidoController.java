@@ -0,0 +1,88 @@
+package com.torneos.controller;
+
+import com.torneos.dto.EstadisticaJugadorRequestDTO;
+import com.torneos.dto.EstadisticaJugadorResponseDTO;
+import com.torneos.dto.MarcadorDTO;
+import com.torneos.dto.MarcadorRequestDTO;
+import com.torneos.dto.PaginaCursorDTO;
+import com.torneos.dto.ResultadoRequestDTO;
+import com.torneos.dto.ResultadoResponseDTO;
+import com.torneos.service.EstadisticasService;
+import com.torneos.service.ResultadoService;
+import com.torneos.service.TransmisionMarcadores;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/partidos")
+public class PartidoController {
+
+    @Autowired
+    private ResultadoService resultadoService;
+
+    @Autowired
+    private TransmisionMarcadores transmisionMarcadores;
+
+    @Autowired
+    private EstadisticasService estadisticasService;
+
+    @PutMapping("/{idPartido}/resultado")
+    public ResponseEntity<ResultadoResponseDTO> registrarResultado(@PathVariable Long idPartido,
+            @Valid @RequestBody ResultadoRequestDTO request) {
+        return ResponseEntity.ok(resultadoService.registrarResultado(idPartido, request));
+    }
+
+    @GetMapping("/resultados")
+    public ResponseEntity<PaginaCursorDTO<ResultadoResponseDTO>> buscarResultadosPorDetalles(
+            @RequestParam(required = false) Long idTorneo,
+            @RequestParam(required = false) Integer posesionMinima,
+            @RequestParam(required = false) Integer tirosMinimos,
+            @RequestParam(required = false) String detalles,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int tamano) {
+        return ResponseEntity.ok(resultadoService.buscarPorDetalles(idTorneo, posesionMinima, tirosMinimos,
+                detalles, cursor, tamano));
+    }
+
+    @GetMapping("/{idPartido}/resultado")
+    public ResponseEntity<ResultadoResponseDTO> obtenerResultado(@PathVariable Long idPartido) {
+        return ResponseEntity.ok(resultadoService.obtenerResultado(idPartido));
+    }
+
+    @DeleteMapping("/{idPartido}/resultado")
+    public ResponseEntity<Void> anularResultado(@PathVariable Long idPartido) {
+        resultadoService.anularResultado(idPartido);
+        return ResponseEntity.noContent().build();
+    }
+
+    // ====== Marcador en vivo ======
+
+    @PatchMapping("/{idPartido}/marcador")
+    public ResponseEntity<MarcadorDTO> actualizarMarcador(@PathVariable Long idPartido,
+            @Valid @RequestBody MarcadorRequestDTO request) {
+        return ResponseEntity.ok(resultadoService.actualizarMarcador(idPartido, request));
+    }
+
+    @GetMapping(value = "/{idPartido}/en-vivo", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter suscribirPartido(@PathVariable Long idPartido) {
+        return transmisionMarcadores.suscribirPartido(resultadoService.obtenerMarcador(idPartido));
+    }
+
+    // ====== Estadísticas de jugadores ======
+
+    @PutMapping("/{idPartido}/estadisticas/{idJugador}")
+    public ResponseEntity<EstadisticaJugadorResponseDTO> registrarEstadistica(@PathVariable Long idPartido,
+            @PathVariable Long idJugador, @Valid @RequestBody EstadisticaJugadorRequestDTO request) {
+        return ResponseEntity.ok(estadisticasService.registrarEstadistica(idPartido, idJugador, request));
+    }
+
+    @GetMapping("/{idPartido}/estadisticas/{idJugador}")
+    public ResponseEntity<EstadisticaJugadorResponseDTO> obtenerEstadistica(@PathVariable Long idPartido,
+            @PathVariable Long idJugador) {
+        return ResponseEntity.ok(estadisticasService.obtenerEstadistica(idPartido, idJugador));
+    }
+}
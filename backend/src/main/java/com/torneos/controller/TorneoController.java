@@ -0,0 +1,57 @@
+package com.torneos.controller;
+
+import com.torneos.dto.PosicionDTO;
+import com.torneos.dto.ProgramacionRequestDTO;
+import com.torneos.dto.ResultadoFixtureDTO;
+import com.torneos.dto.ResultadoProgramacionDTO;
+import com.torneos.service.FixtureService;
+import com.torneos.service.PosicionesService;
+import com.torneos.service.ProgramacionPartidosService;
+import com.torneos.service.TransmisionMarcadores;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/torneos")
+public class TorneoController {
+
+    @Autowired
+    private FixtureService fixtureService;
+
+    @Autowired
+    private PosicionesService posicionesService;
+
+    @Autowired
+    private TransmisionMarcadores transmisionMarcadores;
+
+    @Autowired
+    private ProgramacionPartidosService programacionPartidosService;
+
+    @PostMapping("/{idTorneo}/fixture")
+    public ResponseEntity<ResultadoFixtureDTO> generarFixture(@PathVariable Long idTorneo) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(fixtureService.generarFixture(idTorneo));
+    }
+
+    @PostMapping("/{idTorneo}/programacion")
+    public ResponseEntity<ResultadoProgramacionDTO> programarPartidos(@PathVariable Long idTorneo,
+            @Valid @RequestBody ProgramacionRequestDTO request) {
+        return ResponseEntity.ok(programacionPartidosService.programar(idTorneo, request));
+    }
+
+    @GetMapping("/{idTorneo}/posiciones")
+    public ResponseEntity<List<PosicionDTO>> listarPosiciones(@PathVariable Long idTorneo) {
+        return ResponseEntity.ok(posicionesService.listarPosiciones(idTorneo));
+    }
+
+    @GetMapping(value = "/{idTorneo}/en-vivo", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter suscribirTorneo(@PathVariable Long idTorneo) {
+        return transmisionMarcadores.suscribirTorneo(idTorneo);
+    }
+}
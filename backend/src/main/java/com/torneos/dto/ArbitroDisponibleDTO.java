@@ -0,0 +1,33 @@
+package com.torneos.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class ArbitroDisponibleDTO {
+
+    @NotNull(message = "El ID del árbitro es obligatorio")
+    private Long idArbitro;
+
+    private List<LocalDate> fechasNoDisponibles;
+
+    public ArbitroDisponibleDTO() {
+    }
+
+    public Long getIdArbitro() {
+        return idArbitro;
+    }
+
+    public void setIdArbitro(Long idArbitro) {
+        this.idArbitro = idArbitro;
+    }
+
+    public List<LocalDate> getFechasNoDisponibles() {
+        return fechasNoDisponibles;
+    }
+
+    public void setFechasNoDisponibles(List<LocalDate> fechasNoDisponibles) {
+        this.fechasNoDisponibles = fechasNoDisponibles;
+    }
+}
@@ -0,0 +1,63 @@
+package com.torneos.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+public class CanchaDisponibleDTO {
+
+    @NotBlank(message = "El nombre de la cancha es obligatorio")
+    @Size(max = 100, message = "La cancha no puede exceder 100 caracteres")
+    private String nombre;
+
+    // Horas de inicio de partido disponibles cada día
+    @NotEmpty(message = "La cancha debe tener al menos un horario")
+    private List<@NotNull LocalTime> horarios;
+
+    // Vacío = todos los días de la semana
+    private Set<DayOfWeek> diasSemana;
+
+    private List<LocalDate> fechasNoDisponibles;
+
+    public CanchaDisponibleDTO() {
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+
+    public List<LocalTime> getHorarios() {
+        return horarios;
+    }
+
+    public void setHorarios(List<LocalTime> horarios) {
+        this.horarios = horarios;
+    }
+
+    public Set<DayOfWeek> getDiasSemana() {
+        return diasSemana;
+    }
+
+    public void setDiasSemana(Set<DayOfWeek> diasSemana) {
+        this.diasSemana = diasSemana;
+    }
+
+    public List<LocalDate> getFechasNoDisponibles() {
+        return fechasNoDisponibles;
+    }
+
+    public void setFechasNoDisponibles(List<LocalDate> fechasNoDisponibles) {
+        this.fechasNoDisponibles = fechasNoDisponibles;
+    }
+}
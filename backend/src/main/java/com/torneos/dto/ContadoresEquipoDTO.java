@@ -0,0 +1,46 @@
+package com.torneos.dto;
+
+import com.torneos.entity.Jugador;
+
+import java.util.Map;
+
+public class ContadoresEquipoDTO {
+
+    private Long idEquipo;
+    private Integer jugadoresActivos;
+    private Map<Jugador.Posicion, Integer> jugadoresPorPosicion;
+
+    public ContadoresEquipoDTO() {
+    }
+
+    public ContadoresEquipoDTO(Long idEquipo, Integer jugadoresActivos,
+            Map<Jugador.Posicion, Integer> jugadoresPorPosicion) {
+        this.idEquipo = idEquipo;
+        this.jugadoresActivos = jugadoresActivos;
+        this.jugadoresPorPosicion = jugadoresPorPosicion;
+    }
+
+    public Long getIdEquipo() {
+        return idEquipo;
+    }
+
+    public void setIdEquipo(Long idEquipo) {
+        this.idEquipo = idEquipo;
+    }
+
+    public Integer getJugadoresActivos() {
+        return jugadoresActivos;
+    }
+
+    public void setJugadoresActivos(Integer jugadoresActivos) {
+        this.jugadoresActivos = jugadoresActivos;
+    }
+
+    public Map<Jugador.Posicion, Integer> getJugadoresPorPosicion() {
+        return jugadoresPorPosicion;
+    }
+
+    public void setJugadoresPorPosicion(Map<Jugador.Posicion, Integer> jugadoresPorPosicion) {
+        this.jugadoresPorPosicion = jugadoresPorPosicion;
+    }
+}
@@ -0,0 +1,31 @@
+package com.torneos.dto;
+
+public class DistribucionEdadDTO {
+
+    private Integer edad;
+    private Long cantidad;
+
+    public DistribucionEdadDTO() {
+    }
+
+    public DistribucionEdadDTO(Integer edad, Long cantidad) {
+        this.edad = edad;
+        this.cantidad = cantidad;
+    }
+
+    public Integer getEdad() {
+        return edad;
+    }
+
+    public void setEdad(Integer edad) {
+        this.edad = edad;
+    }
+
+    public Long getCantidad() {
+        return cantidad;
+    }
+
+    public void setCantidad(Long cantidad) {
+        this.cantidad = cantidad;
+    }
+}
@@ -6,6 +6,19 @@ public class EquipoBasicoDTO {
     private String categoria;
     private String escudoUrl;
 
+    public EquipoBasicoDTO() {
+    }
+
+    /**
+     * Constructor para proyecciones JPQL (SELECT new ...)
+     */
+    public EquipoBasicoDTO(Long idEquipo, String nombre, String categoria, String escudoUrl) {
+        this.idEquipo = idEquipo;
+        this.nombre = nombre;
+        this.categoria = categoria;
+        this.escudoUrl = escudoUrl;
+    }
+
     public Long getIdEquipo() {
         return idEquipo;
     }
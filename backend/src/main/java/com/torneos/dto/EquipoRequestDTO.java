@@ -0,0 +1,76 @@
+package com.torneos.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+
+public class EquipoRequestDTO {
+
+    @NotBlank(message = "El nombre del equipo es obligatorio")
+    @Size(max = 100, message = "El nombre no puede exceder 100 caracteres")
+    private String nombre;
+
+    @NotBlank(message = "La categoría es obligatoria")
+    @Size(max = 50, message = "La categoría no puede exceder 50 caracteres")
+    private String categoria;
+
+    @Size(max = 255, message = "La URL del escudo no puede exceder 255 caracteres")
+    private String escudoUrl;
+
+    private String descripcion;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate fechaFundacion;
+
+    // Constructors
+    public EquipoRequestDTO() {
+    }
+
+    public EquipoRequestDTO(String nombre, String categoria) {
+        this.nombre = nombre;
+        this.categoria = categoria;
+    }
+
+    // Getters and Setters
+    public String getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+
+    public String getCategoria() {
+        return categoria;
+    }
+
+    public void setCategoria(String categoria) {
+        this.categoria = categoria;
+    }
+
+    public String getEscudoUrl() {
+        return escudoUrl;
+    }
+
+    public void setEscudoUrl(String escudoUrl) {
+        this.escudoUrl = escudoUrl;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public void setDescripcion(String descripcion) {
+        this.descripcion = descripcion;
+    }
+
+    public LocalDate getFechaFundacion() {
+        return fechaFundacion;
+    }
+
+    public void setFechaFundacion(LocalDate fechaFundacion) {
+        this.fechaFundacion = fechaFundacion;
+    }
+}
@@ -0,0 +1,31 @@
+package com.torneos.dto;
+
+public class ErrorFilaDTO {
+
+    private Integer fila;
+    private String mensaje;
+
+    public ErrorFilaDTO() {
+    }
+
+    public ErrorFilaDTO(Integer fila, String mensaje) {
+        this.fila = fila;
+        this.mensaje = mensaje;
+    }
+
+    public Integer getFila() {
+        return fila;
+    }
+
+    public void setFila(Integer fila) {
+        this.fila = fila;
+    }
+
+    public String getMensaje() {
+        return mensaje;
+    }
+
+    public void setMensaje(String mensaje) {
+        this.mensaje = mensaje;
+    }
+}
@@ -0,0 +1,95 @@
+package com.torneos.dto;
+
+import com.torneos.entity.DetallesAdicionales;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public class EstadisticaJugadorRequestDTO {
+
+    @NotNull(message = "Los goles son obligatorios")
+    @PositiveOrZero(message = "Los goles no pueden ser negativos")
+    private Integer goles = 0;
+
+    @NotNull(message = "Las asistencias son obligatorias")
+    @PositiveOrZero(message = "Las asistencias no pueden ser negativas")
+    private Integer asistencias = 0;
+
+    @NotNull(message = "Las tarjetas amarillas son obligatorias")
+    @PositiveOrZero(message = "Las tarjetas no pueden ser negativas")
+    private Integer tarjetasAmarillas = 0;
+
+    @NotNull(message = "Las tarjetas rojas son obligatorias")
+    @PositiveOrZero(message = "Las tarjetas no pueden ser negativas")
+    private Integer tarjetasRojas = 0;
+
+    @NotNull(message = "Los minutos jugados son obligatorios")
+    @PositiveOrZero(message = "Los minutos no pueden ser negativos")
+    private Integer minutosJugados = 0;
+
+    @NotNull(message = "Las atajadas son obligatorias")
+    @PositiveOrZero(message = "Las atajadas no pueden ser negativas")
+    private Integer atajadas = 0;
+
+    @Valid
+    private DetallesAdicionales detallesAdicionales;
+
+    public EstadisticaJugadorRequestDTO() {
+    }
+
+    public Integer getGoles() {
+        return goles;
+    }
+
+    public void setGoles(Integer goles) {
+        this.goles = goles;
+    }
+
+    public Integer getAsistencias() {
+        return asistencias;
+    }
+
+    public void setAsistencias(Integer asistencias) {
+        this.asistencias = asistencias;
+    }
+
+    public Integer getTarjetasAmarillas() {
+        return tarjetasAmarillas;
+    }
+
+    public void setTarjetasAmarillas(Integer tarjetasAmarillas) {
+        this.tarjetasAmarillas = tarjetasAmarillas;
+    }
+
+    public Integer getTarjetasRojas() {
+        return tarjetasRojas;
+    }
+
+    public void setTarjetasRojas(Integer tarjetasRojas) {
+        this.tarjetasRojas = tarjetasRojas;
+    }
+
+    public Integer getMinutosJugados() {
+        return minutosJugados;
+    }
+
+    public void setMinutosJugados(Integer minutosJugados) {
+        this.minutosJugados = minutosJugados;
+    }
+
+    public Integer getAtajadas() {
+        return atajadas;
+    }
+
+    public void setAtajadas(Integer atajadas) {
+        this.atajadas = atajadas;
+    }
+
+    public DetallesAdicionales getDetallesAdicionales() {
+        return detallesAdicionales;
+    }
+
+    public void setDetallesAdicionales(DetallesAdicionales detallesAdicionales) {
+        this.detallesAdicionales = detallesAdicionales;
+    }
+}
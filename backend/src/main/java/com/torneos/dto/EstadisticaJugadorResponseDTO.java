@@ -0,0 +1,100 @@
+package com.torneos.dto;
+
+import com.torneos.entity.DetallesAdicionales;
+
+public class EstadisticaJugadorResponseDTO {
+
+    private Long idEstadistica;
+    private Long idPartido;
+    private Long idJugador;
+    private Integer goles;
+    private Integer asistencias;
+    private Integer tarjetasAmarillas;
+    private Integer tarjetasRojas;
+    private Integer minutosJugados;
+    private Integer atajadas;
+    private DetallesAdicionales detallesAdicionales;
+
+    public EstadisticaJugadorResponseDTO() {
+    }
+
+    public Long getIdEstadistica() {
+        return idEstadistica;
+    }
+
+    public void setIdEstadistica(Long idEstadistica) {
+        this.idEstadistica = idEstadistica;
+    }
+
+    public Long getIdPartido() {
+        return idPartido;
+    }
+
+    public void setIdPartido(Long idPartido) {
+        this.idPartido = idPartido;
+    }
+
+    public Long getIdJugador() {
+        return idJugador;
+    }
+
+    public void setIdJugador(Long idJugador) {
+        this.idJugador = idJugador;
+    }
+
+    public Integer getGoles() {
+        return goles;
+    }
+
+    public void setGoles(Integer goles) {
+        this.goles = goles;
+    }
+
+    public Integer getAsistencias() {
+        return asistencias;
+    }
+
+    public void setAsistencias(Integer asistencias) {
+        this.asistencias = asistencias;
+    }
+
+    public Integer getTarjetasAmarillas() {
+        return tarjetasAmarillas;
+    }
+
+    public void setTarjetasAmarillas(Integer tarjetasAmarillas) {
+        this.tarjetasAmarillas = tarjetasAmarillas;
+    }
+
+    public Integer getTarjetasRojas() {
+        return tarjetasRojas;
+    }
+
+    public void setTarjetasRojas(Integer tarjetasRojas) {
+        this.tarjetasRojas = tarjetasRojas;
+    }
+
+    public Integer getMinutosJugados() {
+        return minutosJugados;
+    }
+
+    public void setMinutosJugados(Integer minutosJugados) {
+        this.minutosJugados = minutosJugados;
+    }
+
+    public Integer getAtajadas() {
+        return atajadas;
+    }
+
+    public void setAtajadas(Integer atajadas) {
+        this.atajadas = atajadas;
+    }
+
+    public DetallesAdicionales getDetallesAdicionales() {
+        return detallesAdicionales;
+    }
+
+    public void setDetallesAdicionales(DetallesAdicionales detallesAdicionales) {
+        this.detallesAdicionales = detallesAdicionales;
+    }
+}
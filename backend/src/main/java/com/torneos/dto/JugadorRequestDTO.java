@@ -1,4 +1,4 @@
-package torneos.dto;
+package com.torneos.dto;
 
 import com.torneos.entity.Jugador;
 import jakarta.validation.constraints.*;
@@ -2,6 +2,7 @@ package com.torneos.dto;
 
 import com.torneos.entity.Jugador;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 public class JugadorResponseDTO {
@@ -26,5 +27,124 @@ public class JugadorResponseDTO {
 
     private EquipoBasicoDTO equipo;
 
+    public JugadorResponseDTO() {
+    }
+
+    /**
+     * Constructor para proyecciones JPQL (SELECT new ...): jugador y equipo en una sola consulta.
+     * La edad la completa el servicio.
+     */
+    public JugadorResponseDTO(Long idJugador, Long idUsuario, String nombre, LocalDate fechaNacimiento,
+            Jugador.Posicion posicion, Integer numeroCamiseta, String contactoEmergencia, Boolean activo,
+            LocalDateTime fechaCreacion, LocalDateTime fechaActualizacion,
+            Long idEquipo, String nombreEquipo, String categoriaEquipo, String escudoUrlEquipo) {
+        this.idJugador = idJugador;
+        this.idUsuario = idUsuario;
+        this.nombre = nombre;
+        this.fechaNacimiento = fechaNacimiento;
+        this.posicion = posicion;
+        this.numeroCamiseta = numeroCamiseta;
+        this.contactoEmergencia = contactoEmergencia;
+        this.activo = activo;
+        this.fechaCreacion = fechaCreacion;
+        this.fechaActualizacion = fechaActualizacion;
+        this.equipo = new EquipoBasicoDTO(idEquipo, nombreEquipo, categoriaEquipo, escudoUrlEquipo);
+    }
+
     // Getters y Setters
-}
\ No newline at end of file
+    public Long getIdJugador() {
+        return idJugador;
+    }
+
+    public void setIdJugador(Long idJugador) {
+        this.idJugador = idJugador;
+    }
+
+    public Long getIdUsuario() {
+        return idUsuario;
+    }
+
+    public void setIdUsuario(Long idUsuario) {
+        this.idUsuario = idUsuario;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+
+    public LocalDate getFechaNacimiento() {
+        return fechaNacimiento;
+    }
+
+    public void setFechaNacimiento(LocalDate fechaNacimiento) {
+        this.fechaNacimiento = fechaNacimiento;
+    }
+
+    public Integer getEdad() {
+        return edad;
+    }
+
+    public void setEdad(Integer edad) {
+        this.edad = edad;
+    }
+
+    public Jugador.Posicion getPosicion() {
+        return posicion;
+    }
+
+    public void setPosicion(Jugador.Posicion posicion) {
+        this.posicion = posicion;
+    }
+
+    public Integer getNumeroCamiseta() {
+        return numeroCamiseta;
+    }
+
+    public void setNumeroCamiseta(Integer numeroCamiseta) {
+        this.numeroCamiseta = numeroCamiseta;
+    }
+
+    public String getContactoEmergencia() {
+        return contactoEmergencia;
+    }
+
+    public void setContactoEmergencia(String contactoEmergencia) {
+        this.contactoEmergencia = contactoEmergencia;
+    }
+
+    public Boolean getActivo() {
+        return activo;
+    }
+
+    public void setActivo(Boolean activo) {
+        this.activo = activo;
+    }
+
+    public LocalDateTime getFechaCreacion() {
+        return fechaCreacion;
+    }
+
+    public void setFechaCreacion(LocalDateTime fechaCreacion) {
+        this.fechaCreacion = fechaCreacion;
+    }
+
+    public LocalDateTime getFechaActualizacion() {
+        return fechaActualizacion;
+    }
+
+    public void setFechaActualizacion(LocalDateTime fechaActualizacion) {
+        this.fechaActualizacion = fechaActualizacion;
+    }
+
+    public EquipoBasicoDTO getEquipo() {
+        return equipo;
+    }
+
+    public void setEquipo(EquipoBasicoDTO equipo) {
+        this.equipo = equipo;
+    }
+}
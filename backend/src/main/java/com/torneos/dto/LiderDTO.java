@@ -0,0 +1,73 @@
+package com.torneos.dto;
+
+import com.torneos.entity.EstadisticaJugador;
+
+public class LiderDTO {
+
+    private Integer posicion;
+    private Long idJugador;
+    private String nombreJugador;
+    private Long idEquipo;
+    private String nombreEquipo;
+    private EstadisticaJugador.Metrica metrica;
+    private Integer total;
+
+    public LiderDTO() {
+    }
+
+    public Integer getPosicion() {
+        return posicion;
+    }
+
+    public void setPosicion(Integer posicion) {
+        this.posicion = posicion;
+    }
+
+    public Long getIdJugador() {
+        return idJugador;
+    }
+
+    public void setIdJugador(Long idJugador) {
+        this.idJugador = idJugador;
+    }
+
+    public String getNombreJugador() {
+        return nombreJugador;
+    }
+
+    public void setNombreJugador(String nombreJugador) {
+        this.nombreJugador = nombreJugador;
+    }
+
+    public Long getIdEquipo() {
+        return idEquipo;
+    }
+
+    public void setIdEquipo(Long idEquipo) {
+        this.idEquipo = idEquipo;
+    }
+
+    public String getNombreEquipo() {
+        return nombreEquipo;
+    }
+
+    public void setNombreEquipo(String nombreEquipo) {
+        this.nombreEquipo = nombreEquipo;
+    }
+
+    public EstadisticaJugador.Metrica getMetrica() {
+        return metrica;
+    }
+
+    public void setMetrica(EstadisticaJugador.Metrica metrica) {
+        this.metrica = metrica;
+    }
+
+    public Integer getTotal() {
+        return total;
+    }
+
+    public void setTotal(Integer total) {
+        this.total = total;
+    }
+}
@@ -0,0 +1,35 @@
+package com.torneos.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public class LoginRequestDTO {
+
+    @NotBlank(message = "El username es obligatorio")
+    @Size(max = 50, message = "Máximo 50 caracteres")
+    private String username;
+
+    // BCrypt sólo usa los primeros 72 bytes
+    @NotBlank(message = "La contraseña es obligatoria")
+    @Size(max = 72, message = "Máximo 72 caracteres")
+    private String password;
+
+    public LoginRequestDTO() {
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+}
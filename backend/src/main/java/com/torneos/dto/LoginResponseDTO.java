@@ -0,0 +1,72 @@
+package com.torneos.dto;
+
+import com.torneos.entity.Usuario;
+
+public class LoginResponseDTO {
+
+    private String token;
+    private String tipo = "Bearer";
+    private long expiraEnMs;
+    private Long idUsuario;
+    private String username;
+    private Usuario.RolUsuario rol;
+
+    public LoginResponseDTO() {
+    }
+
+    public LoginResponseDTO(String token, long expiraEnMs, Long idUsuario, String username, Usuario.RolUsuario rol) {
+        this.token = token;
+        this.expiraEnMs = expiraEnMs;
+        this.idUsuario = idUsuario;
+        this.username = username;
+        this.rol = rol;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+
+    public long getExpiraEnMs() {
+        return expiraEnMs;
+    }
+
+    public void setExpiraEnMs(long expiraEnMs) {
+        this.expiraEnMs = expiraEnMs;
+    }
+
+    public Long getIdUsuario() {
+        return idUsuario;
+    }
+
+    public void setIdUsuario(Long idUsuario) {
+        this.idUsuario = idUsuario;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public Usuario.RolUsuario getRol() {
+        return rol;
+    }
+
+    public void setRol(Usuario.RolUsuario rol) {
+        this.rol = rol;
+    }
+}
@@ -0,0 +1,113 @@
+package com.torneos.dto;
+
+import com.torneos.entity.Partido;
+
+/**
+ * Estado en vivo de un partido, tal como se transmite a los suscriptores
+ */
+public class MarcadorDTO {
+
+    private Long idPartido;
+    private Long idTorneo;
+    private Partido.EstadoPartido estado;
+    private Integer minutoActual;
+    private Integer golesLocal;
+    private Integer golesVisitante;
+    private Integer tarjetasAmarillasLocal;
+    private Integer tarjetasRojasLocal;
+    private Integer tarjetasAmarillasVisitante;
+    private Integer tarjetasRojasVisitante;
+    private long secuencia;
+
+    public MarcadorDTO() {
+    }
+
+    public Long getIdPartido() {
+        return idPartido;
+    }
+
+    public void setIdPartido(Long idPartido) {
+        this.idPartido = idPartido;
+    }
+
+    public Long getIdTorneo() {
+        return idTorneo;
+    }
+
+    public void setIdTorneo(Long idTorneo) {
+        this.idTorneo = idTorneo;
+    }
+
+    public Partido.EstadoPartido getEstado() {
+        return estado;
+    }
+
+    public void setEstado(Partido.EstadoPartido estado) {
+        this.estado = estado;
+    }
+
+    public Integer getMinutoActual() {
+        return minutoActual;
+    }
+
+    public void setMinutoActual(Integer minutoActual) {
+        this.minutoActual = minutoActual;
+    }
+
+    public Integer getGolesLocal() {
+        return golesLocal;
+    }
+
+    public void setGolesLocal(Integer golesLocal) {
+        this.golesLocal = golesLocal;
+    }
+
+    public Integer getGolesVisitante() {
+        return golesVisitante;
+    }
+
+    public void setGolesVisitante(Integer golesVisitante) {
+        this.golesVisitante = golesVisitante;
+    }
+
+    public Integer getTarjetasAmarillasLocal() {
+        return tarjetasAmarillasLocal;
+    }
+
+    public void setTarjetasAmarillasLocal(Integer tarjetasAmarillasLocal) {
+        this.tarjetasAmarillasLocal = tarjetasAmarillasLocal;
+    }
+
+    public Integer getTarjetasRojasLocal() {
+        return tarjetasRojasLocal;
+    }
+
+    public void setTarjetasRojasLocal(Integer tarjetasRojasLocal) {
+        this.tarjetasRojasLocal = tarjetasRojasLocal;
+    }
+
+    public Integer getTarjetasAmarillasVisitante() {
+        return tarjetasAmarillasVisitante;
+    }
+
+    public void setTarjetasAmarillasVisitante(Integer tarjetasAmarillasVisitante) {
+        this.tarjetasAmarillasVisitante = tarjetasAmarillasVisitante;
+    }
+
+    public Integer getTarjetasRojasVisitante() {
+        return tarjetasRojasVisitante;
+    }
+
+    public void setTarjetasRojasVisitante(Integer tarjetasRojasVisitante) {
+        this.tarjetasRojasVisitante = tarjetasRojasVisitante;
+    }
+
+    // Orden de los cambios de un mismo partido: el mayor es el más reciente
+    public long getSecuencia() {
+        return secuencia;
+    }
+
+    public void setSecuencia(long secuencia) {
+        this.secuencia = secuencia;
+    }
+}
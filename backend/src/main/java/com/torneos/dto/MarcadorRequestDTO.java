@@ -0,0 +1,102 @@
+package com.torneos.dto;
+
+import com.torneos.entity.Partido;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Actualización parcial del marcador en vivo: los campos nulos conservan su valor
+ */
+public class MarcadorRequestDTO {
+
+    private Partido.EstadoPartido estado;
+
+    @PositiveOrZero(message = "El minuto no puede ser negativo")
+    @Max(value = 150, message = "El minuto no puede exceder 150")
+    private Integer minutoActual;
+
+    @PositiveOrZero(message = "Los goles no pueden ser negativos")
+    private Integer golesLocal;
+
+    @PositiveOrZero(message = "Los goles no pueden ser negativos")
+    private Integer golesVisitante;
+
+    @PositiveOrZero(message = "Las tarjetas no pueden ser negativas")
+    private Integer tarjetasAmarillasLocal;
+
+    @PositiveOrZero(message = "Las tarjetas no pueden ser negativas")
+    private Integer tarjetasRojasLocal;
+
+    @PositiveOrZero(message = "Las tarjetas no pueden ser negativas")
+    private Integer tarjetasAmarillasVisitante;
+
+    @PositiveOrZero(message = "Las tarjetas no pueden ser negativas")
+    private Integer tarjetasRojasVisitante;
+
+    public MarcadorRequestDTO() {
+    }
+
+    public Partido.EstadoPartido getEstado() {
+        return estado;
+    }
+
+    public void setEstado(Partido.EstadoPartido estado) {
+        this.estado = estado;
+    }
+
+    public Integer getMinutoActual() {
+        return minutoActual;
+    }
+
+    public void setMinutoActual(Integer minutoActual) {
+        this.minutoActual = minutoActual;
+    }
+
+    public Integer getGolesLocal() {
+        return golesLocal;
+    }
+
+    public void setGolesLocal(Integer golesLocal) {
+        this.golesLocal = golesLocal;
+    }
+
+    public Integer getGolesVisitante() {
+        return golesVisitante;
+    }
+
+    public void setGolesVisitante(Integer golesVisitante) {
+        this.golesVisitante = golesVisitante;
+    }
+
+    public Integer getTarjetasAmarillasLocal() {
+        return tarjetasAmarillasLocal;
+    }
+
+    public void setTarjetasAmarillasLocal(Integer tarjetasAmarillasLocal) {
+        this.tarjetasAmarillasLocal = tarjetasAmarillasLocal;
+    }
+
+    public Integer getTarjetasRojasLocal() {
+        return tarjetasRojasLocal;
+    }
+
+    public void setTarjetasRojasLocal(Integer tarjetasRojasLocal) {
+        this.tarjetasRojasLocal = tarjetasRojasLocal;
+    }
+
+    public Integer getTarjetasAmarillasVisitante() {
+        return tarjetasAmarillasVisitante;
+    }
+
+    public void setTarjetasAmarillasVisitante(Integer tarjetasAmarillasVisitante) {
+        this.tarjetasAmarillasVisitante = tarjetasAmarillasVisitante;
+    }
+
+    public Integer getTarjetasRojasVisitante() {
+        return tarjetasRojasVisitante;
+    }
+
+    public void setTarjetasRojasVisitante(Integer tarjetasRojasVisitante) {
+        this.tarjetasRojasVisitante = tarjetasRojasVisitante;
+    }
+}
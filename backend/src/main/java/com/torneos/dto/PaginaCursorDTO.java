@@ -0,0 +1,43 @@
+package com.torneos.dto;
+
+import java.util.List;
+
+public class PaginaCursorDTO<T> {
+
+    private List<T> contenido;
+    private String siguienteCursor;
+    private Boolean hayMas;
+
+    public PaginaCursorDTO() {
+    }
+
+    public PaginaCursorDTO(List<T> contenido, String siguienteCursor) {
+        this.contenido = contenido;
+        this.siguienteCursor = siguienteCursor;
+        this.hayMas = siguienteCursor != null;
+    }
+
+    public List<T> getContenido() {
+        return contenido;
+    }
+
+    public void setContenido(List<T> contenido) {
+        this.contenido = contenido;
+    }
+
+    public String getSiguienteCursor() {
+        return siguienteCursor;
+    }
+
+    public void setSiguienteCursor(String siguienteCursor) {
+        this.siguienteCursor = siguienteCursor;
+    }
+
+    public Boolean getHayMas() {
+        return hayMas;
+    }
+
+    public void setHayMas(Boolean hayMas) {
+        this.hayMas = hayMas;
+    }
+}
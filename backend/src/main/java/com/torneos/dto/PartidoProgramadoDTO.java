@@ -0,0 +1,46 @@
+package com.torneos.dto;
+
+import java.time.LocalDateTime;
+
+public class PartidoProgramadoDTO {
+
+    private Long idPartido;
+    private LocalDateTime fechaHora;
+    private String cancha;
+    private Long idArbitro;
+
+    public PartidoProgramadoDTO() {
+    }
+
+    public Long getIdPartido() {
+        return idPartido;
+    }
+
+    public void setIdPartido(Long idPartido) {
+        this.idPartido = idPartido;
+    }
+
+    public LocalDateTime getFechaHora() {
+        return fechaHora;
+    }
+
+    public void setFechaHora(LocalDateTime fechaHora) {
+        this.fechaHora = fechaHora;
+    }
+
+    public String getCancha() {
+        return cancha;
+    }
+
+    public void setCancha(String cancha) {
+        this.cancha = cancha;
+    }
+
+    public Long getIdArbitro() {
+        return idArbitro;
+    }
+
+    public void setIdArbitro(Long idArbitro) {
+        this.idArbitro = idArbitro;
+    }
+}
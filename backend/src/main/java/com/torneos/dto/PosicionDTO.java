@@ -0,0 +1,132 @@
+package com.torneos.dto;
+
+public class PosicionDTO {
+
+    private Integer posicion;
+    private Long idEquipo;
+    private String nombreEquipo;
+    private String escudoUrl;
+    private Integer partidosJugados;
+    private Integer ganados;
+    private Integer empatados;
+    private Integer perdidos;
+    private Integer golesFavor;
+    private Integer golesContra;
+    private Integer diferenciaGoles;
+    private Integer puntos;
+
+    public PosicionDTO() {
+    }
+
+    public PosicionDTO(Long idEquipo, String nombreEquipo, String escudoUrl, Integer partidosJugados,
+            Integer ganados, Integer empatados, Integer perdidos, Integer golesFavor, Integer golesContra,
+            Integer diferenciaGoles, Integer puntos) {
+        this.idEquipo = idEquipo;
+        this.nombreEquipo = nombreEquipo;
+        this.escudoUrl = escudoUrl;
+        this.partidosJugados = partidosJugados;
+        this.ganados = ganados;
+        this.empatados = empatados;
+        this.perdidos = perdidos;
+        this.golesFavor = golesFavor;
+        this.golesContra = golesContra;
+        this.diferenciaGoles = diferenciaGoles;
+        this.puntos = puntos;
+    }
+
+    public Integer getPosicion() {
+        return posicion;
+    }
+
+    public void setPosicion(Integer posicion) {
+        this.posicion = posicion;
+    }
+
+    public Long getIdEquipo() {
+        return idEquipo;
+    }
+
+    public void setIdEquipo(Long idEquipo) {
+        this.idEquipo = idEquipo;
+    }
+
+    public String getNombreEquipo() {
+        return nombreEquipo;
+    }
+
+    public void setNombreEquipo(String nombreEquipo) {
+        this.nombreEquipo = nombreEquipo;
+    }
+
+    public String getEscudoUrl() {
+        return escudoUrl;
+    }
+
+    public void setEscudoUrl(String escudoUrl) {
+        this.escudoUrl = escudoUrl;
+    }
+
+    public Integer getPartidosJugados() {
+        return partidosJugados;
+    }
+
+    public void setPartidosJugados(Integer partidosJugados) {
+        this.partidosJugados = partidosJugados;
+    }
+
+    public Integer getGanados() {
+        return ganados;
+    }
+
+    public void setGanados(Integer ganados) {
+        this.ganados = ganados;
+    }
+
+    public Integer getEmpatados() {
+        return empatados;
+    }
+
+    public void setEmpatados(Integer empatados) {
+        this.empatados = empatados;
+    }
+
+    public Integer getPerdidos() {
+        return perdidos;
+    }
+
+    public void setPerdidos(Integer perdidos) {
+        this.perdidos = perdidos;
+    }
+
+    public Integer getGolesFavor() {
+        return golesFavor;
+    }
+
+    public void setGolesFavor(Integer golesFavor) {
+        this.golesFavor = golesFavor;
+    }
+
+    public Integer getGolesContra() {
+        return golesContra;
+    }
+
+    public void setGolesContra(Integer golesContra) {
+        this.golesContra = golesContra;
+    }
+
+    public Integer getDiferenciaGoles() {
+        return diferenciaGoles;
+    }
+
+    public void setDiferenciaGoles(Integer diferenciaGoles) {
+        this.diferenciaGoles = diferenciaGoles;
+    }
+
+    public Integer getPuntos() {
+        return puntos;
+    }
+
+    public void setPuntos(Integer puntos) {
+        this.puntos = puntos;
+    }
+}
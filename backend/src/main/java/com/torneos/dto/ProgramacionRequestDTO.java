@@ -0,0 +1,92 @@
+package com.torneos.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class ProgramacionRequestDTO {
+
+    @NotEmpty(message = "Se debe indicar al menos una cancha")
+    @Valid
+    private List<CanchaDisponibleDTO> canchas;
+
+    // Vacío = todos los árbitros activos, disponibles todos los días
+    @Valid
+    private List<ArbitroDisponibleDTO> arbitros;
+
+    // Por defecto, las fechas de inicio y fin del torneo
+    private LocalDate fechaDesde;
+
+    private LocalDate fechaHasta;
+
+    @Positive(message = "El presupuesto debe ser positivo")
+    private Long presupuestoMs;
+
+    // true = reprogramar también los partidos que ya tienen cancha y árbitro
+    private Boolean reprogramar = false;
+
+    // false = sólo calcular, sin guardar
+    private Boolean aplicar = true;
+
+    public ProgramacionRequestDTO() {
+    }
+
+    public List<CanchaDisponibleDTO> getCanchas() {
+        return canchas;
+    }
+
+    public void setCanchas(List<CanchaDisponibleDTO> canchas) {
+        this.canchas = canchas;
+    }
+
+    public List<ArbitroDisponibleDTO> getArbitros() {
+        return arbitros;
+    }
+
+    public void setArbitros(List<ArbitroDisponibleDTO> arbitros) {
+        this.arbitros = arbitros;
+    }
+
+    public LocalDate getFechaDesde() {
+        return fechaDesde;
+    }
+
+    public void setFechaDesde(LocalDate fechaDesde) {
+        this.fechaDesde = fechaDesde;
+    }
+
+    public LocalDate getFechaHasta() {
+        return fechaHasta;
+    }
+
+    public void setFechaHasta(LocalDate fechaHasta) {
+        this.fechaHasta = fechaHasta;
+    }
+
+    public Long getPresupuestoMs() {
+        return presupuestoMs;
+    }
+
+    public void setPresupuestoMs(Long presupuestoMs) {
+        this.presupuestoMs = presupuestoMs;
+    }
+
+    public Boolean getReprogramar() {
+        return reprogramar;
+    }
+
+    public void setReprogramar(Boolean reprogramar) {
+        this.reprogramar = reprogramar;
+    }
+
+    public Boolean getAplicar() {
+        return aplicar;
+    }
+
+    public void setAplicar(Boolean aplicar) {
+        this.aplicar = aplicar;
+    }
+}
@@ -0,0 +1,41 @@
+package com.torneos.dto;
+
+public class ReconciliacionContadoresDTO {
+
+    private int equiposCorregidos;
+    private int categoriasCorregidas;
+    private long duracionMs;
+
+    public ReconciliacionContadoresDTO() {
+    }
+
+    public ReconciliacionContadoresDTO(int equiposCorregidos, int categoriasCorregidas, long duracionMs) {
+        this.equiposCorregidos = equiposCorregidos;
+        this.categoriasCorregidas = categoriasCorregidas;
+        this.duracionMs = duracionMs;
+    }
+
+    public int getEquiposCorregidos() {
+        return equiposCorregidos;
+    }
+
+    public void setEquiposCorregidos(int equiposCorregidos) {
+        this.equiposCorregidos = equiposCorregidos;
+    }
+
+    public int getCategoriasCorregidas() {
+        return categoriasCorregidas;
+    }
+
+    public void setCategoriasCorregidas(int categoriasCorregidas) {
+        this.categoriasCorregidas = categoriasCorregidas;
+    }
+
+    public long getDuracionMs() {
+        return duracionMs;
+    }
+
+    public void setDuracionMs(long duracionMs) {
+        this.duracionMs = duracionMs;
+    }
+}
@@ -0,0 +1,41 @@
+package com.torneos.dto;
+
+public class ReconstruccionPosicionesDTO {
+
+    private int filasCorregidas;
+    private int filasEliminadas;
+    private long duracionMs;
+
+    public ReconstruccionPosicionesDTO() {
+    }
+
+    public ReconstruccionPosicionesDTO(int filasCorregidas, int filasEliminadas, long duracionMs) {
+        this.filasCorregidas = filasCorregidas;
+        this.filasEliminadas = filasEliminadas;
+        this.duracionMs = duracionMs;
+    }
+
+    public int getFilasCorregidas() {
+        return filasCorregidas;
+    }
+
+    public void setFilasCorregidas(int filasCorregidas) {
+        this.filasCorregidas = filasCorregidas;
+    }
+
+    public int getFilasEliminadas() {
+        return filasEliminadas;
+    }
+
+    public void setFilasEliminadas(int filasEliminadas) {
+        this.filasEliminadas = filasEliminadas;
+    }
+
+    public long getDuracionMs() {
+        return duracionMs;
+    }
+
+    public void setDuracionMs(long duracionMs) {
+        this.duracionMs = duracionMs;
+    }
+}
@@ -0,0 +1,83 @@
+package com.torneos.dto;
+
+import com.torneos.entity.Torneo;
+
+public class ResultadoFixtureDTO {
+
+    private Long idTorneo;
+    private Torneo.FormatoTorneo formato;
+    private int equipos;
+    private int rondas;
+    private int partidos;
+    private int descansos;
+    private long duracionGeneracionMs;
+    private long duracionMs;
+
+    public ResultadoFixtureDTO() {
+    }
+
+    public Long getIdTorneo() {
+        return idTorneo;
+    }
+
+    public void setIdTorneo(Long idTorneo) {
+        this.idTorneo = idTorneo;
+    }
+
+    public Torneo.FormatoTorneo getFormato() {
+        return formato;
+    }
+
+    public void setFormato(Torneo.FormatoTorneo formato) {
+        this.formato = formato;
+    }
+
+    public int getEquipos() {
+        return equipos;
+    }
+
+    public void setEquipos(int equipos) {
+        this.equipos = equipos;
+    }
+
+    public int getRondas() {
+        return rondas;
+    }
+
+    public void setRondas(int rondas) {
+        this.rondas = rondas;
+    }
+
+    public int getPartidos() {
+        return partidos;
+    }
+
+    public void setPartidos(int partidos) {
+        this.partidos = partidos;
+    }
+
+    // Jornadas de descanso (liga impar) o pases directos (eliminación directa)
+    public int getDescansos() {
+        return descansos;
+    }
+
+    public void setDescansos(int descansos) {
+        this.descansos = descansos;
+    }
+
+    public long getDuracionGeneracionMs() {
+        return duracionGeneracionMs;
+    }
+
+    public void setDuracionGeneracionMs(long duracionGeneracionMs) {
+        this.duracionGeneracionMs = duracionGeneracionMs;
+    }
+
+    public long getDuracionMs() {
+        return duracionMs;
+    }
+
+    public void setDuracionMs(long duracionMs) {
+        this.duracionMs = duracionMs;
+    }
+}
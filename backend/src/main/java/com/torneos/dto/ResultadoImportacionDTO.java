@@ -0,0 +1,56 @@
+package com.torneos.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ResultadoImportacionDTO {
+
+    private Integer totalFilas = 0;
+    private Integer insertados = 0;
+    private Integer rechazados = 0;
+    private Long duracionMs;
+    private List<ErrorFilaDTO> errores = new ArrayList<>();
+
+    public ResultadoImportacionDTO() {
+    }
+
+    public Integer getTotalFilas() {
+        return totalFilas;
+    }
+
+    public void setTotalFilas(Integer totalFilas) {
+        this.totalFilas = totalFilas;
+    }
+
+    public Integer getInsertados() {
+        return insertados;
+    }
+
+    public void setInsertados(Integer insertados) {
+        this.insertados = insertados;
+    }
+
+    public Integer getRechazados() {
+        return rechazados;
+    }
+
+    public void setRechazados(Integer rechazados) {
+        this.rechazados = rechazados;
+    }
+
+    public Long getDuracionMs() {
+        return duracionMs;
+    }
+
+    public void setDuracionMs(Long duracionMs) {
+        this.duracionMs = duracionMs;
+    }
+
+    public List<ErrorFilaDTO> getErrores() {
+        return errores;
+    }
+
+    public void setErrores(List<ErrorFilaDTO> errores) {
+        this.errores = errores;
+    }
+}
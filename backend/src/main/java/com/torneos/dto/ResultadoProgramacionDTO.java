@@ -0,0 +1,136 @@
+package com.torneos.dto;
+
+import java.util.List;
+
+public class ResultadoProgramacionDTO {
+
+    private Long idTorneo;
+    private int partidos;
+    private int franjas;
+    private int arbitros;
+    private long conflictosEquipo;
+    private long conflictosArbitro;
+    private long desviacionDias;
+    private long costoInicial;
+    private long costo;
+    private long iteraciones;
+    private int epocas;
+    private long duracionMs;
+    private boolean aplicado;
+    private List<PartidoProgramadoDTO> asignaciones;
+
+    public ResultadoProgramacionDTO() {
+    }
+
+    public Long getIdTorneo() {
+        return idTorneo;
+    }
+
+    public void setIdTorneo(Long idTorneo) {
+        this.idTorneo = idTorneo;
+    }
+
+    public int getPartidos() {
+        return partidos;
+    }
+
+    public void setPartidos(int partidos) {
+        this.partidos = partidos;
+    }
+
+    public int getFranjas() {
+        return franjas;
+    }
+
+    public void setFranjas(int franjas) {
+        this.franjas = franjas;
+    }
+
+    public int getArbitros() {
+        return arbitros;
+    }
+
+    public void setArbitros(int arbitros) {
+        this.arbitros = arbitros;
+    }
+
+    public long getConflictosEquipo() {
+        return conflictosEquipo;
+    }
+
+    public void setConflictosEquipo(long conflictosEquipo) {
+        this.conflictosEquipo = conflictosEquipo;
+    }
+
+    public long getConflictosArbitro() {
+        return conflictosArbitro;
+    }
+
+    public void setConflictosArbitro(long conflictosArbitro) {
+        this.conflictosArbitro = conflictosArbitro;
+    }
+
+    public long getDesviacionDias() {
+        return desviacionDias;
+    }
+
+    public void setDesviacionDias(long desviacionDias) {
+        this.desviacionDias = desviacionDias;
+    }
+
+    public long getCostoInicial() {
+        return costoInicial;
+    }
+
+    public void setCostoInicial(long costoInicial) {
+        this.costoInicial = costoInicial;
+    }
+
+    public long getCosto() {
+        return costo;
+    }
+
+    public void setCosto(long costo) {
+        this.costo = costo;
+    }
+
+    public long getIteraciones() {
+        return iteraciones;
+    }
+
+    public void setIteraciones(long iteraciones) {
+        this.iteraciones = iteraciones;
+    }
+
+    public int getEpocas() {
+        return epocas;
+    }
+
+    public void setEpocas(int epocas) {
+        this.epocas = epocas;
+    }
+
+    public long getDuracionMs() {
+        return duracionMs;
+    }
+
+    public void setDuracionMs(long duracionMs) {
+        this.duracionMs = duracionMs;
+    }
+
+    public boolean isAplicado() {
+        return aplicado;
+    }
+
+    public void setAplicado(boolean aplicado) {
+        this.aplicado = aplicado;
+    }
+
+    public List<PartidoProgramadoDTO> getAsignaciones() {
+        return asignaciones;
+    }
+
+    public void setAsignaciones(List<PartidoProgramadoDTO> asignaciones) {
+        this.asignaciones = asignaciones;
+    }
+}
@@ -0,0 +1,101 @@
+package com.torneos.dto;
+
+import com.torneos.entity.DetallesEstadisticas;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public class ResultadoRequestDTO {
+
+    @NotNull(message = "Los goles del local son obligatorios")
+    @PositiveOrZero(message = "Los goles no pueden ser negativos")
+    private Integer golesLocal;
+
+    @NotNull(message = "Los goles del visitante son obligatorios")
+    @PositiveOrZero(message = "Los goles no pueden ser negativos")
+    private Integer golesVisitante;
+
+    @PositiveOrZero(message = "Las tarjetas no pueden ser negativas")
+    private Integer tarjetasAmarillasLocal = 0;
+
+    @PositiveOrZero(message = "Las tarjetas no pueden ser negativas")
+    private Integer tarjetasRojasLocal = 0;
+
+    @PositiveOrZero(message = "Las tarjetas no pueden ser negativas")
+    private Integer tarjetasAmarillasVisitante = 0;
+
+    @PositiveOrZero(message = "Las tarjetas no pueden ser negativas")
+    private Integer tarjetasRojasVisitante = 0;
+
+    private String observaciones;
+
+    @Valid
+    private DetallesEstadisticas detallesEstadisticas;
+
+    public ResultadoRequestDTO() {
+    }
+
+    public Integer getGolesLocal() {
+        return golesLocal;
+    }
+
+    public void setGolesLocal(Integer golesLocal) {
+        this.golesLocal = golesLocal;
+    }
+
+    public Integer getGolesVisitante() {
+        return golesVisitante;
+    }
+
+    public void setGolesVisitante(Integer golesVisitante) {
+        this.golesVisitante = golesVisitante;
+    }
+
+    public Integer getTarjetasAmarillasLocal() {
+        return tarjetasAmarillasLocal;
+    }
+
+    public void setTarjetasAmarillasLocal(Integer tarjetasAmarillasLocal) {
+        this.tarjetasAmarillasLocal = tarjetasAmarillasLocal;
+    }
+
+    public Integer getTarjetasRojasLocal() {
+        return tarjetasRojasLocal;
+    }
+
+    public void setTarjetasRojasLocal(Integer tarjetasRojasLocal) {
+        this.tarjetasRojasLocal = tarjetasRojasLocal;
+    }
+
+    public Integer getTarjetasAmarillasVisitante() {
+        return tarjetasAmarillasVisitante;
+    }
+
+    public void setTarjetasAmarillasVisitante(Integer tarjetasAmarillasVisitante) {
+        this.tarjetasAmarillasVisitante = tarjetasAmarillasVisitante;
+    }
+
+    public Integer getTarjetasRojasVisitante() {
+        return tarjetasRojasVisitante;
+    }
+
+    public void setTarjetasRojasVisitante(Integer tarjetasRojasVisitante) {
+        this.tarjetasRojasVisitante = tarjetasRojasVisitante;
+    }
+
+    public String getObservaciones() {
+        return observaciones;
+    }
+
+    public void setObservaciones(String observaciones) {
+        this.observaciones = observaciones;
+    }
+
+    public DetallesEstadisticas getDetallesEstadisticas() {
+        return detallesEstadisticas;
+    }
+
+    public void setDetallesEstadisticas(DetallesEstadisticas detallesEstadisticas) {
+        this.detallesEstadisticas = detallesEstadisticas;
+    }
+}
@@ -0,0 +1,138 @@
+package com.torneos.dto;
+
+import com.torneos.entity.DetallesEstadisticas;
+
+import java.time.LocalDateTime;
+
+public class ResultadoResponseDTO {
+
+    private Long idResultado;
+    private Long idPartido;
+    private Long idEquipoLocal;
+    private Long idEquipoVisitante;
+    private Integer golesLocal;
+    private Integer golesVisitante;
+    private Integer tarjetasAmarillasLocal;
+    private Integer tarjetasRojasLocal;
+    private Integer tarjetasAmarillasVisitante;
+    private Integer tarjetasRojasVisitante;
+    private String observaciones;
+    private DetallesEstadisticas detallesEstadisticas;
+    private LocalDateTime fechaRegistro;
+    private LocalDateTime fechaActualizacion;
+
+    public ResultadoResponseDTO() {
+    }
+
+    public Long getIdResultado() {
+        return idResultado;
+    }
+
+    public void setIdResultado(Long idResultado) {
+        this.idResultado = idResultado;
+    }
+
+    public Long getIdPartido() {
+        return idPartido;
+    }
+
+    public void setIdPartido(Long idPartido) {
+        this.idPartido = idPartido;
+    }
+
+    public Long getIdEquipoLocal() {
+        return idEquipoLocal;
+    }
+
+    public void setIdEquipoLocal(Long idEquipoLocal) {
+        this.idEquipoLocal = idEquipoLocal;
+    }
+
+    public Long getIdEquipoVisitante() {
+        return idEquipoVisitante;
+    }
+
+    public void setIdEquipoVisitante(Long idEquipoVisitante) {
+        this.idEquipoVisitante = idEquipoVisitante;
+    }
+
+    public Integer getGolesLocal() {
+        return golesLocal;
+    }
+
+    public void setGolesLocal(Integer golesLocal) {
+        this.golesLocal = golesLocal;
+    }
+
+    public Integer getGolesVisitante() {
+        return golesVisitante;
+    }
+
+    public void setGolesVisitante(Integer golesVisitante) {
+        this.golesVisitante = golesVisitante;
+    }
+
+    public Integer getTarjetasAmarillasLocal() {
+        return tarjetasAmarillasLocal;
+    }
+
+    public void setTarjetasAmarillasLocal(Integer tarjetasAmarillasLocal) {
+        this.tarjetasAmarillasLocal = tarjetasAmarillasLocal;
+    }
+
+    public Integer getTarjetasRojasLocal() {
+        return tarjetasRojasLocal;
+    }
+
+    public void setTarjetasRojasLocal(Integer tarjetasRojasLocal) {
+        this.tarjetasRojasLocal = tarjetasRojasLocal;
+    }
+
+    public Integer getTarjetasAmarillasVisitante() {
+        return tarjetasAmarillasVisitante;
+    }
+
+    public void setTarjetasAmarillasVisitante(Integer tarjetasAmarillasVisitante) {
+        this.tarjetasAmarillasVisitante = tarjetasAmarillasVisitante;
+    }
+
+    public Integer getTarjetasRojasVisitante() {
+        return tarjetasRojasVisitante;
+    }
+
+    public void setTarjetasRojasVisitante(Integer tarjetasRojasVisitante) {
+        this.tarjetasRojasVisitante = tarjetasRojasVisitante;
+    }
+
+    public String getObservaciones() {
+        return observaciones;
+    }
+
+    public void setObservaciones(String observaciones) {
+        this.observaciones = observaciones;
+    }
+
+    public DetallesEstadisticas getDetallesEstadisticas() {
+        return detallesEstadisticas;
+    }
+
+    public void setDetallesEstadisticas(DetallesEstadisticas detallesEstadisticas) {
+        this.detallesEstadisticas = detallesEstadisticas;
+    }
+
+    public LocalDateTime getFechaRegistro() {
+        return fechaRegistro;
+    }
+
+    public void setFechaRegistro(LocalDateTime fechaRegistro) {
+        this.fechaRegistro = fechaRegistro;
+    }
+
+    public LocalDateTime getFechaActualizacion() {
+        return fechaActualizacion;
+    }
+
+    public void setFechaActualizacion(LocalDateTime fechaActualizacion) {
+        this.fechaActualizacion = fechaActualizacion;
+    }
+}
@@ -0,0 +1,48 @@
+package com.torneos.dto;
+
+public class SugerenciaDTO {
+
+    private Tipo tipo;
+    private Long id;
+    private String nombre;
+
+    public SugerenciaDTO() {
+    }
+
+    public SugerenciaDTO(Tipo tipo, Long id, String nombre) {
+        this.tipo = tipo;
+        this.id = id;
+        this.nombre = nombre;
+    }
+
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(Tipo tipo) {
+        this.tipo = tipo;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+
+    // Enum para el tipo de entidad sugerida
+    public enum Tipo {
+        JUGADOR,
+        EQUIPO,
+        TORNEO
+    }
+}
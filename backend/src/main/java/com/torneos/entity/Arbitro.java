@@ -0,0 +1,172 @@
+package com.torneos.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "arbitros")
+@EntityListeners(AuditingEntityListener.class)
+public class Arbitro {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "arbitros_seq")
+    @SequenceGenerator(name = "arbitros_seq", sequenceName = "arbitros_id_arbitro_seq", allocationSize = 50)
+    @Column(name = "id_arbitro")
+    private Long idArbitro;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_usuario")
+    private Usuario usuario;
+
+    @NotBlank(message = "El nombre del árbitro es obligatorio")
+    @Size(max = 100, message = "El nombre no puede exceder 100 caracteres")
+    @Column(name = "nombre", nullable = false, length = 100)
+    private String nombre;
+
+    @NotNull(message = "El nivel del árbitro es obligatorio")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "nivel", nullable = false, length = 30)
+    private NivelArbitro nivel;
+
+    @Size(max = 50, message = "La especialidad no puede exceder 50 caracteres")
+    @Column(name = "especialidad", length = 50)
+    private String especialidad;
+
+    @Size(max = 100, message = "El contacto no puede exceder 100 caracteres")
+    @Column(name = "contacto", length = 100)
+    private String contacto;
+
+    @Column(name = "activo", nullable = false)
+    private Boolean activo = true;
+
+    @CreatedDate
+    @Column(name = "fecha_creacion", updatable = false)
+    private LocalDateTime fechaCreacion;
+
+    @LastModifiedDate
+    @Column(name = "fecha_actualizacion")
+    private LocalDateTime fechaActualizacion;
+
+    // Constructores
+    public Arbitro() {
+    }
+
+    public Arbitro(String nombre, NivelArbitro nivel) {
+        this.nombre = nombre;
+        this.nivel = nivel;
+        this.activo = true;
+    }
+
+    // Getters y Setters
+    public Long getIdArbitro() {
+        return idArbitro;
+    }
+
+    public void setIdArbitro(Long idArbitro) {
+        this.idArbitro = idArbitro;
+    }
+
+    public Usuario getUsuario() {
+        return usuario;
+    }
+
+    public void setUsuario(Usuario usuario) {
+        this.usuario = usuario;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+
+    public NivelArbitro getNivel() {
+        return nivel;
+    }
+
+    public void setNivel(NivelArbitro nivel) {
+        this.nivel = nivel;
+    }
+
+    public String getEspecialidad() {
+        return especialidad;
+    }
+
+    public void setEspecialidad(String especialidad) {
+        this.especialidad = especialidad;
+    }
+
+    public String getContacto() {
+        return contacto;
+    }
+
+    public void setContacto(String contacto) {
+        this.contacto = contacto;
+    }
+
+    public Boolean getActivo() {
+        return activo;
+    }
+
+    public void setActivo(Boolean activo) {
+        this.activo = activo;
+    }
+
+    public LocalDateTime getFechaCreacion() {
+        return fechaCreacion;
+    }
+
+    public void setFechaCreacion(LocalDateTime fechaCreacion) {
+        this.fechaCreacion = fechaCreacion;
+    }
+
+    public LocalDateTime getFechaActualizacion() {
+        return fechaActualizacion;
+    }
+
+    public void setFechaActualizacion(LocalDateTime fechaActualizacion) {
+        this.fechaActualizacion = fechaActualizacion;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        Arbitro arbitro = (Arbitro) o;
+        return Objects.equals(idArbitro, arbitro.idArbitro);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(idArbitro);
+    }
+
+    @Override
+    public String toString() {
+        return "Arbitro{" +
+                "idArbitro=" + idArbitro +
+                ", nombre='" + nombre + '\'' +
+                ", nivel=" + nivel +
+                ", activo=" + activo +
+                '}';
+    }
+
+    // Enum para niveles de árbitro
+    public enum NivelArbitro {
+        NACIONAL,
+        REGIONAL,
+        LOCAL
+    }
+}
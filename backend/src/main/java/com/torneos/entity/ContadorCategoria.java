@@ -0,0 +1,52 @@
+package com.torneos.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Número de equipos activos por categoría, mantenido por EquipoService
+ */
+@Entity
+@Table(name = "categoria_contadores")
+public class ContadorCategoria {
+
+    @Id
+    @Column(name = "categoria", length = 50)
+    private String categoria;
+
+    @Column(name = "equipos_activos", nullable = false)
+    private Integer equiposActivos = 0;
+
+    // Constructores
+    public ContadorCategoria() {
+    }
+
+    public ContadorCategoria(String categoria, Integer equiposActivos) {
+        this.categoria = categoria;
+        this.equiposActivos = equiposActivos;
+    }
+
+    // Getters y Setters
+    public String getCategoria() {
+        return categoria;
+    }
+
+    public void setCategoria(String categoria) {
+        this.categoria = categoria;
+    }
+
+    public Integer getEquiposActivos() {
+        return equiposActivos;
+    }
+
+    public void setEquiposActivos(Integer equiposActivos) {
+        this.equiposActivos = equiposActivos;
+    }
+
+    @Override
+    public String toString() {
+        return "ContadorCategoria{" +
+                "categoria='" + categoria + '\'' +
+                ", equiposActivos=" + equiposActivos +
+                '}';
+    }
+}
@@ -0,0 +1,106 @@
+package com.torneos.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Contadores desnormalizados de la plantilla de un equipo (sólo jugadores activos).
+ * Se escriben con upserts de ContadorEquipoRepository, nunca modificando la entidad.
+ */
+@Entity
+@Table(name = "equipo_contadores")
+public class ContadorEquipo {
+
+    @Id
+    @Column(name = "id_equipo")
+    private Long idEquipo;
+
+    @Column(name = "jugadores_activos", nullable = false)
+    private Integer jugadoresActivos = 0;
+
+    @Column(name = "porteros", nullable = false)
+    private Integer porteros = 0;
+
+    @Column(name = "defensas", nullable = false)
+    private Integer defensas = 0;
+
+    @Column(name = "medios", nullable = false)
+    private Integer medios = 0;
+
+    @Column(name = "delanteros", nullable = false)
+    private Integer delanteros = 0;
+
+    // Constructores
+    public ContadorEquipo() {
+    }
+
+    public ContadorEquipo(Long idEquipo) {
+        this.idEquipo = idEquipo;
+    }
+
+    // Getters y Setters
+    public Long getIdEquipo() {
+        return idEquipo;
+    }
+
+    public void setIdEquipo(Long idEquipo) {
+        this.idEquipo = idEquipo;
+    }
+
+    public Integer getJugadoresActivos() {
+        return jugadoresActivos;
+    }
+
+    public void setJugadoresActivos(Integer jugadoresActivos) {
+        this.jugadoresActivos = jugadoresActivos;
+    }
+
+    public Integer getPorteros() {
+        return porteros;
+    }
+
+    public void setPorteros(Integer porteros) {
+        this.porteros = porteros;
+    }
+
+    public Integer getDefensas() {
+        return defensas;
+    }
+
+    public void setDefensas(Integer defensas) {
+        this.defensas = defensas;
+    }
+
+    public Integer getMedios() {
+        return medios;
+    }
+
+    public void setMedios(Integer medios) {
+        this.medios = medios;
+    }
+
+    public Integer getDelanteros() {
+        return delanteros;
+    }
+
+    public void setDelanteros(Integer delanteros) {
+        this.delanteros = delanteros;
+    }
+
+    // Métodos de utilidad
+    public Integer getCantidadPorPosicion(Jugador.Posicion posicion) {
+        return switch (posicion) {
+            case PORTERO -> porteros;
+            case DEFENSA -> defensas;
+            case MEDIO -> medios;
+            case DELANTERO -> delanteros;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "ContadorEquipo{" +
+                "idEquipo=" + idEquipo +
+                ", jugadoresActivos=" + jugadoresActivos +
+                '}';
+    }
+}
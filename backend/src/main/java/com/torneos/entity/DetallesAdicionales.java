@@ -0,0 +1,127 @@
+package com.torneos.entity;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Estadísticas individuales adicionales de un jugador en un partido
+ * (columna JSONB estadisticas_jugador.detalles_adicionales). Las claves
+ * desconocidas se conservan en "otros".
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DetallesAdicionales implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @PositiveOrZero(message = "Los tiros no pueden ser negativos")
+    private Integer tiros;
+
+    @PositiveOrZero(message = "Los tiros no pueden ser negativos")
+    private Integer tirosAPuerta;
+
+    @PositiveOrZero(message = "Los pases no pueden ser negativos")
+    private Integer pasesIntentados;
+
+    @PositiveOrZero(message = "Los pases no pueden ser negativos")
+    private Integer pasesCompletados;
+
+    @PositiveOrZero(message = "Las recuperaciones no pueden ser negativas")
+    private Integer recuperaciones;
+
+    @PositiveOrZero(message = "Los fueras de juego no pueden ser negativos")
+    private Integer fuerasDeJuego;
+
+    private Map<String, Object> otros = new LinkedHashMap<>();
+
+    public DetallesAdicionales() {
+    }
+
+    // Getters y Setters
+    public Integer getTiros() {
+        return tiros;
+    }
+
+    public void setTiros(Integer tiros) {
+        this.tiros = tiros;
+    }
+
+    public Integer getTirosAPuerta() {
+        return tirosAPuerta;
+    }
+
+    public void setTirosAPuerta(Integer tirosAPuerta) {
+        this.tirosAPuerta = tirosAPuerta;
+    }
+
+    public Integer getPasesIntentados() {
+        return pasesIntentados;
+    }
+
+    public void setPasesIntentados(Integer pasesIntentados) {
+        this.pasesIntentados = pasesIntentados;
+    }
+
+    public Integer getPasesCompletados() {
+        return pasesCompletados;
+    }
+
+    public void setPasesCompletados(Integer pasesCompletados) {
+        this.pasesCompletados = pasesCompletados;
+    }
+
+    public Integer getRecuperaciones() {
+        return recuperaciones;
+    }
+
+    public void setRecuperaciones(Integer recuperaciones) {
+        this.recuperaciones = recuperaciones;
+    }
+
+    public Integer getFuerasDeJuego() {
+        return fuerasDeJuego;
+    }
+
+    public void setFuerasDeJuego(Integer fuerasDeJuego) {
+        this.fuerasDeJuego = fuerasDeJuego;
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getOtros() {
+        return otros;
+    }
+
+    @JsonAnySetter
+    public void setOtro(String clave, Object valor) {
+        otros.put(clave, valor);
+    }
+
+    // equals comparado por Hibernate para detectar cambios en la columna
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        DetallesAdicionales that = (DetallesAdicionales) o;
+        return Objects.equals(tiros, that.tiros)
+                && Objects.equals(tirosAPuerta, that.tirosAPuerta)
+                && Objects.equals(pasesIntentados, that.pasesIntentados)
+                && Objects.equals(pasesCompletados, that.pasesCompletados)
+                && Objects.equals(recuperaciones, that.recuperaciones)
+                && Objects.equals(fuerasDeJuego, that.fuerasDeJuego)
+                && Objects.equals(otros, that.otros);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tiros, tirosAPuerta, pasesIntentados, pasesCompletados, recuperaciones, fuerasDeJuego,
+                otros);
+    }
+}
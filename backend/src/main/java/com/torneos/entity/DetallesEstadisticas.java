@@ -0,0 +1,180 @@
+package com.torneos.entity;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Estadísticas de equipo de un partido (columna JSONB resultados.detalles_estadisticas).
+ *
+ * Hibernate la convierte una vez al cargar el resultado. Las claves de posesión y
+ * tiros tienen índices de expresión (V7) y deben seguir siendo enteros; las claves
+ * desconocidas se conservan en "otros" y se consultan con el índice GIN.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DetallesEstadisticas implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @PositiveOrZero(message = "La posesión no puede ser negativa")
+    @Max(value = 100, message = "La posesión no puede superar el 100%")
+    private Integer posesionLocal;
+
+    @PositiveOrZero(message = "La posesión no puede ser negativa")
+    @Max(value = 100, message = "La posesión no puede superar el 100%")
+    private Integer posesionVisitante;
+
+    @PositiveOrZero(message = "Los tiros no pueden ser negativos")
+    private Integer tirosLocal;
+
+    @PositiveOrZero(message = "Los tiros no pueden ser negativos")
+    private Integer tirosVisitante;
+
+    @PositiveOrZero(message = "Los tiros no pueden ser negativos")
+    private Integer tirosAPuertaLocal;
+
+    @PositiveOrZero(message = "Los tiros no pueden ser negativos")
+    private Integer tirosAPuertaVisitante;
+
+    @PositiveOrZero(message = "Los córners no pueden ser negativos")
+    private Integer cornersLocal;
+
+    @PositiveOrZero(message = "Los córners no pueden ser negativos")
+    private Integer cornersVisitante;
+
+    @PositiveOrZero(message = "Las faltas no pueden ser negativas")
+    private Integer faltasLocal;
+
+    @PositiveOrZero(message = "Las faltas no pueden ser negativas")
+    private Integer faltasVisitante;
+
+    private Map<String, Object> otros = new LinkedHashMap<>();
+
+    public DetallesEstadisticas() {
+    }
+
+    // Getters y Setters
+    public Integer getPosesionLocal() {
+        return posesionLocal;
+    }
+
+    public void setPosesionLocal(Integer posesionLocal) {
+        this.posesionLocal = posesionLocal;
+    }
+
+    public Integer getPosesionVisitante() {
+        return posesionVisitante;
+    }
+
+    public void setPosesionVisitante(Integer posesionVisitante) {
+        this.posesionVisitante = posesionVisitante;
+    }
+
+    public Integer getTirosLocal() {
+        return tirosLocal;
+    }
+
+    public void setTirosLocal(Integer tirosLocal) {
+        this.tirosLocal = tirosLocal;
+    }
+
+    public Integer getTirosVisitante() {
+        return tirosVisitante;
+    }
+
+    public void setTirosVisitante(Integer tirosVisitante) {
+        this.tirosVisitante = tirosVisitante;
+    }
+
+    public Integer getTirosAPuertaLocal() {
+        return tirosAPuertaLocal;
+    }
+
+    public void setTirosAPuertaLocal(Integer tirosAPuertaLocal) {
+        this.tirosAPuertaLocal = tirosAPuertaLocal;
+    }
+
+    public Integer getTirosAPuertaVisitante() {
+        return tirosAPuertaVisitante;
+    }
+
+    public void setTirosAPuertaVisitante(Integer tirosAPuertaVisitante) {
+        this.tirosAPuertaVisitante = tirosAPuertaVisitante;
+    }
+
+    public Integer getCornersLocal() {
+        return cornersLocal;
+    }
+
+    public void setCornersLocal(Integer cornersLocal) {
+        this.cornersLocal = cornersLocal;
+    }
+
+    public Integer getCornersVisitante() {
+        return cornersVisitante;
+    }
+
+    public void setCornersVisitante(Integer cornersVisitante) {
+        this.cornersVisitante = cornersVisitante;
+    }
+
+    public Integer getFaltasLocal() {
+        return faltasLocal;
+    }
+
+    public void setFaltasLocal(Integer faltasLocal) {
+        this.faltasLocal = faltasLocal;
+    }
+
+    public Integer getFaltasVisitante() {
+        return faltasVisitante;
+    }
+
+    public void setFaltasVisitante(Integer faltasVisitante) {
+        this.faltasVisitante = faltasVisitante;
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getOtros() {
+        return otros;
+    }
+
+    @JsonAnySetter
+    public void setOtro(String clave, Object valor) {
+        otros.put(clave, valor);
+    }
+
+    // equals comparado por Hibernate para detectar cambios en la columna
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        DetallesEstadisticas that = (DetallesEstadisticas) o;
+        return Objects.equals(posesionLocal, that.posesionLocal)
+                && Objects.equals(posesionVisitante, that.posesionVisitante)
+                && Objects.equals(tirosLocal, that.tirosLocal)
+                && Objects.equals(tirosVisitante, that.tirosVisitante)
+                && Objects.equals(tirosAPuertaLocal, that.tirosAPuertaLocal)
+                && Objects.equals(tirosAPuertaVisitante, that.tirosAPuertaVisitante)
+                && Objects.equals(cornersLocal, that.cornersLocal)
+                && Objects.equals(cornersVisitante, that.cornersVisitante)
+                && Objects.equals(faltasLocal, that.faltasLocal)
+                && Objects.equals(faltasVisitante, that.faltasVisitante)
+                && Objects.equals(otros, that.otros);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(posesionLocal, posesionVisitante, tirosLocal, tirosVisitante, tirosAPuertaLocal,
+                tirosAPuertaVisitante, cornersLocal, cornersVisitante, faltasLocal, faltasVisitante, otros);
+    }
+}
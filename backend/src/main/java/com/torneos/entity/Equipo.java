@@ -1,9 +1,12 @@
 package com.torneos.entity;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.torneos.config.CacheL2Config;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,10 +20,13 @@ import java.util.Objects;
 @Entity
 @Table(name = "equipos")
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheL2Config.REGION_EQUIPOS)
 public class Equipo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "equipos_seq")
+    @SequenceGenerator(name = "equipos_seq", sequenceName = "equipos_id_equipo_seq", allocationSize = 50)
     @Column(name = "id_equipo")
     private Long idEquipo;
 
@@ -203,6 +209,9 @@ public class Equipo {
         jugador.setEquipo(null);
     }
 
+    /**
+     * Recorre la plantilla completa (carga perezosa); para consultas usar ContadoresPlantillaService
+     */
     public long getCantidadJugadores() {
         return jugadores.stream().filter(j -> j.getActivo()).count();
     }
@@ -213,6 +222,9 @@ public class Equipo {
                 .toList();
     }
 
+    /**
+     * Recorre la plantilla completa (carga perezosa); para validar dorsales usar OcupacionDorsales
+     */
     public boolean tieneJugadorConNumero(Integer numero) {
         return jugadores.stream()
                 .anyMatch(j -> j.getActivo() && j.getNumeroCamiseta().equals(numero));
@@ -242,7 +254,6 @@ public class Equipo {
                 ", nombre='" + nombre + '\'' +
                 ", categoria='" + categoria + '\'' +
                 ", activo=" + activo +
-                ", cantidadJugadores=" + getCantidadJugadores() +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,224 @@
+package com.torneos.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "estadisticas_jugador", uniqueConstraints = @UniqueConstraint(columnNames = { "id_partido", "id_jugador" }))
+@EntityListeners(AuditingEntityListener.class)
+public class EstadisticaJugador {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "estadisticas_jugador_seq")
+    @SequenceGenerator(name = "estadisticas_jugador_seq", sequenceName = "estadisticas_jugador_id_estadistica_seq", allocationSize = 50)
+    @Column(name = "id_estadistica")
+    private Long idEstadistica;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_partido", nullable = false)
+    private Partido partido;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_jugador", nullable = false)
+    private Jugador jugador;
+
+    @PositiveOrZero(message = "Los goles no pueden ser negativos")
+    @Column(name = "goles")
+    private Integer goles = 0;
+
+    @PositiveOrZero(message = "Las asistencias no pueden ser negativas")
+    @Column(name = "asistencias")
+    private Integer asistencias = 0;
+
+    @PositiveOrZero(message = "Las tarjetas no pueden ser negativas")
+    @Column(name = "tarjetas_amarillas")
+    private Integer tarjetasAmarillas = 0;
+
+    @PositiveOrZero(message = "Las tarjetas no pueden ser negativas")
+    @Column(name = "tarjetas_rojas")
+    private Integer tarjetasRojas = 0;
+
+    @PositiveOrZero(message = "Los minutos no pueden ser negativos")
+    @Column(name = "minutos_jugados")
+    private Integer minutosJugados = 0;
+
+    // Para porteros
+    @PositiveOrZero(message = "Las atajadas no pueden ser negativas")
+    @Column(name = "atajadas")
+    private Integer atajadas = 0;
+
+    @Valid
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "detalles_adicionales", columnDefinition = "jsonb")
+    private DetallesAdicionales detallesAdicionales;
+
+    @CreatedDate
+    @Column(name = "fecha_registro", updatable = false)
+    private LocalDateTime fechaRegistro;
+
+    // Constructores
+    public EstadisticaJugador() {
+    }
+
+    public EstadisticaJugador(Partido partido, Jugador jugador) {
+        this.partido = partido;
+        this.jugador = jugador;
+    }
+
+    // Getters y Setters
+    public Long getIdEstadistica() {
+        return idEstadistica;
+    }
+
+    public void setIdEstadistica(Long idEstadistica) {
+        this.idEstadistica = idEstadistica;
+    }
+
+    public Partido getPartido() {
+        return partido;
+    }
+
+    public void setPartido(Partido partido) {
+        this.partido = partido;
+    }
+
+    public Jugador getJugador() {
+        return jugador;
+    }
+
+    public void setJugador(Jugador jugador) {
+        this.jugador = jugador;
+    }
+
+    public Integer getGoles() {
+        return goles;
+    }
+
+    public void setGoles(Integer goles) {
+        this.goles = goles;
+    }
+
+    public Integer getAsistencias() {
+        return asistencias;
+    }
+
+    public void setAsistencias(Integer asistencias) {
+        this.asistencias = asistencias;
+    }
+
+    public Integer getTarjetasAmarillas() {
+        return tarjetasAmarillas;
+    }
+
+    public void setTarjetasAmarillas(Integer tarjetasAmarillas) {
+        this.tarjetasAmarillas = tarjetasAmarillas;
+    }
+
+    public Integer getTarjetasRojas() {
+        return tarjetasRojas;
+    }
+
+    public void setTarjetasRojas(Integer tarjetasRojas) {
+        this.tarjetasRojas = tarjetasRojas;
+    }
+
+    public Integer getMinutosJugados() {
+        return minutosJugados;
+    }
+
+    public void setMinutosJugados(Integer minutosJugados) {
+        this.minutosJugados = minutosJugados;
+    }
+
+    public Integer getAtajadas() {
+        return atajadas;
+    }
+
+    public void setAtajadas(Integer atajadas) {
+        this.atajadas = atajadas;
+    }
+
+    public DetallesAdicionales getDetallesAdicionales() {
+        return detallesAdicionales;
+    }
+
+    public void setDetallesAdicionales(DetallesAdicionales detallesAdicionales) {
+        this.detallesAdicionales = detallesAdicionales;
+    }
+
+    public LocalDateTime getFechaRegistro() {
+        return fechaRegistro;
+    }
+
+    public void setFechaRegistro(LocalDateTime fechaRegistro) {
+        this.fechaRegistro = fechaRegistro;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        EstadisticaJugador that = (EstadisticaJugador) o;
+        return Objects.equals(idEstadistica, that.idEstadistica);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(idEstadistica);
+    }
+
+    @Override
+    public String toString() {
+        return "EstadisticaJugador{" +
+                "idEstadistica=" + idEstadistica +
+                ", goles=" + goles +
+                ", asistencias=" + asistencias +
+                ", tarjetasAmarillas=" + tarjetasAmarillas +
+                ", tarjetasRojas=" + tarjetasRojas +
+                ", minutosJugados=" + minutosJugados +
+                ", atajadas=" + atajadas +
+                '}';
+    }
+
+    /**
+     * Métricas acumulables en las tablas de líderes, con su columna en estadisticas_jugador
+     */
+    public enum Metrica {
+        GOLES("goles"),
+        ASISTENCIAS("asistencias"),
+        TARJETAS_AMARILLAS("tarjetas_amarillas"),
+        TARJETAS_ROJAS("tarjetas_rojas"),
+        ATAJADAS("atajadas");
+
+        private final String columna;
+
+        Metrica(String columna) {
+            this.columna = columna;
+        }
+
+        public String getColumna() {
+            return columna;
+        }
+
+        public int valor(EstadisticaJugador estadistica) {
+            Integer valor = switch (this) {
+                case GOLES -> estadistica.getGoles();
+                case ASISTENCIAS -> estadistica.getAsistencias();
+                case TARJETAS_AMARILLAS -> estadistica.getTarjetasAmarillas();
+                case TARJETAS_ROJAS -> estadistica.getTarjetasRojas();
+                case ATAJADAS -> estadistica.getAtajadas();
+            };
+            return valor != null ? valor : 0;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.torneos.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "inscripciones", uniqueConstraints = @UniqueConstraint(columnNames = { "id_torneo", "id_equipo" }))
+@EntityListeners(AuditingEntityListener.class)
+public class Inscripcion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inscripciones_seq")
+    @SequenceGenerator(name = "inscripciones_seq", sequenceName = "inscripciones_id_inscripcion_seq", allocationSize = 50)
+    @Column(name = "id_inscripcion")
+    private Long idInscripcion;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_torneo", nullable = false)
+    private Torneo torneo;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_equipo", nullable = false)
+    private Equipo equipo;
+
+    @CreatedDate
+    @Column(name = "fecha_inscripcion", updatable = false)
+    private LocalDateTime fechaInscripcion;
+
+    @Column(name = "activo", nullable = false)
+    private Boolean activo = true;
+
+    // Constructores
+    public Inscripcion() {
+    }
+
+    public Inscripcion(Torneo torneo, Equipo equipo) {
+        this.torneo = torneo;
+        this.equipo = equipo;
+        this.activo = true;
+    }
+
+    // Getters y Setters
+    public Long getIdInscripcion() {
+        return idInscripcion;
+    }
+
+    public void setIdInscripcion(Long idInscripcion) {
+        this.idInscripcion = idInscripcion;
+    }
+
+    public Torneo getTorneo() {
+        return torneo;
+    }
+
+    public void setTorneo(Torneo torneo) {
+        this.torneo = torneo;
+    }
+
+    public Equipo getEquipo() {
+        return equipo;
+    }
+
+    public void setEquipo(Equipo equipo) {
+        this.equipo = equipo;
+    }
+
+    public LocalDateTime getFechaInscripcion() {
+        return fechaInscripcion;
+    }
+
+    public void setFechaInscripcion(LocalDateTime fechaInscripcion) {
+        this.fechaInscripcion = fechaInscripcion;
+    }
+
+    public Boolean getActivo() {
+        return activo;
+    }
+
+    public void setActivo(Boolean activo) {
+        this.activo = activo;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        Inscripcion that = (Inscripcion) o;
+        return Objects.equals(idInscripcion, that.idInscripcion);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(idInscripcion);
+    }
+
+    @Override
+    public String toString() {
+        return "Inscripcion{" +
+                "idInscripcion=" + idInscripcion +
+                ", fechaInscripcion=" + fechaInscripcion +
+                ", activo=" + activo +
+                '}';
+    }
+}
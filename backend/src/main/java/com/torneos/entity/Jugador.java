@@ -1,11 +1,14 @@
 package com.torneos.entity;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.torneos.config.CacheL2Config;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -20,10 +23,13 @@ import java.util.Objects;
 @Entity
 @Table(name = "jugadores", uniqueConstraints = @UniqueConstraint(columnNames = { "id_equipo", "numero_camiseta" }))
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheL2Config.REGION_JUGADORES)
 public class Jugador {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jugadores_seq")
+    @SequenceGenerator(name = "jugadores_seq", sequenceName = "jugadores_id_jugador_seq", allocationSize = 50)
     @Column(name = "id_jugador")
     private Long idJugador;
 
@@ -244,6 +250,37 @@ public class Jugador {
                 '}';
     }
 
+    // Enum para categorías por edad (límites inclusivos, null = sin límite)
+    public enum CategoriaEdad {
+        SUB_17("Sub-17", null, 16),
+        SUB_20("Sub-20", null, 19),
+        SUB_23("Sub-23", null, 22),
+        MAYORES("Mayores", 18, null),
+        VETERANOS("Veteranos", 35, null);
+
+        private final String descripcion;
+        private final Integer edadMinima;
+        private final Integer edadMaxima;
+
+        CategoriaEdad(String descripcion, Integer edadMinima, Integer edadMaxima) {
+            this.descripcion = descripcion;
+            this.edadMinima = edadMinima;
+            this.edadMaxima = edadMaxima;
+        }
+
+        public String getDescripcion() {
+            return descripcion;
+        }
+
+        public Integer getEdadMinima() {
+            return edadMinima;
+        }
+
+        public Integer getEdadMaxima() {
+            return edadMaxima;
+        }
+    }
+
     // Enum para posiciones
     public enum Posicion {
         PORTERO("Portero"),
@@ -0,0 +1,210 @@
+package com.torneos.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "partidos")
+@EntityListeners(AuditingEntityListener.class)
+public class Partido {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "partidos_seq")
+    @SequenceGenerator(name = "partidos_seq", sequenceName = "partidos_id_partido_seq", allocationSize = 50)
+    @Column(name = "id_partido")
+    private Long idPartido;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_ronda", nullable = false)
+    private Ronda ronda;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "equipo_local", nullable = false)
+    private Equipo equipoLocal;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "equipo_visitante", nullable = false)
+    private Equipo equipoVisitante;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_arbitro")
+    private Arbitro arbitro;
+
+    @NotNull(message = "La fecha y hora del partido es obligatoria")
+    @Column(name = "fecha_hora", nullable = false)
+    private LocalDateTime fechaHora;
+
+    @Size(max = 100, message = "La cancha no puede exceder 100 caracteres")
+    @Column(name = "cancha", length = 100)
+    private String cancha;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "estado", length = 20)
+    private EstadoPartido estado = EstadoPartido.PROGRAMADO;
+
+    @Column(name = "minuto_actual")
+    private Integer minutoActual = 0;
+
+    @Column(name = "activo", nullable = false)
+    private Boolean activo = true;
+
+    @CreatedDate
+    @Column(name = "fecha_creacion", updatable = false)
+    private LocalDateTime fechaCreacion;
+
+    @LastModifiedDate
+    @Column(name = "fecha_actualizacion")
+    private LocalDateTime fechaActualizacion;
+
+    // Constructores
+    public Partido() {
+    }
+
+    public Partido(Equipo equipoLocal, Equipo equipoVisitante, LocalDateTime fechaHora) {
+        this.equipoLocal = equipoLocal;
+        this.equipoVisitante = equipoVisitante;
+        this.fechaHora = fechaHora;
+        this.estado = EstadoPartido.PROGRAMADO;
+        this.activo = true;
+    }
+
+    // Getters y Setters
+    public Long getIdPartido() {
+        return idPartido;
+    }
+
+    public void setIdPartido(Long idPartido) {
+        this.idPartido = idPartido;
+    }
+
+    public Ronda getRonda() {
+        return ronda;
+    }
+
+    public void setRonda(Ronda ronda) {
+        this.ronda = ronda;
+    }
+
+    public Equipo getEquipoLocal() {
+        return equipoLocal;
+    }
+
+    public void setEquipoLocal(Equipo equipoLocal) {
+        this.equipoLocal = equipoLocal;
+    }
+
+    public Equipo getEquipoVisitante() {
+        return equipoVisitante;
+    }
+
+    public void setEquipoVisitante(Equipo equipoVisitante) {
+        this.equipoVisitante = equipoVisitante;
+    }
+
+    public Arbitro getArbitro() {
+        return arbitro;
+    }
+
+    public void setArbitro(Arbitro arbitro) {
+        this.arbitro = arbitro;
+    }
+
+    public LocalDateTime getFechaHora() {
+        return fechaHora;
+    }
+
+    public void setFechaHora(LocalDateTime fechaHora) {
+        this.fechaHora = fechaHora;
+    }
+
+    public String getCancha() {
+        return cancha;
+    }
+
+    public void setCancha(String cancha) {
+        this.cancha = cancha;
+    }
+
+    public EstadoPartido getEstado() {
+        return estado;
+    }
+
+    public void setEstado(EstadoPartido estado) {
+        this.estado = estado;
+    }
+
+    public Integer getMinutoActual() {
+        return minutoActual;
+    }
+
+    public void setMinutoActual(Integer minutoActual) {
+        this.minutoActual = minutoActual;
+    }
+
+    public Boolean getActivo() {
+        return activo;
+    }
+
+    public void setActivo(Boolean activo) {
+        this.activo = activo;
+    }
+
+    public LocalDateTime getFechaCreacion() {
+        return fechaCreacion;
+    }
+
+    public void setFechaCreacion(LocalDateTime fechaCreacion) {
+        this.fechaCreacion = fechaCreacion;
+    }
+
+    public LocalDateTime getFechaActualizacion() {
+        return fechaActualizacion;
+    }
+
+    public void setFechaActualizacion(LocalDateTime fechaActualizacion) {
+        this.fechaActualizacion = fechaActualizacion;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        Partido partido = (Partido) o;
+        return Objects.equals(idPartido, partido.idPartido);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(idPartido);
+    }
+
+    @Override
+    public String toString() {
+        return "Partido{" +
+                "idPartido=" + idPartido +
+                ", fechaHora=" + fechaHora +
+                ", cancha='" + cancha + '\'' +
+                ", estado=" + estado +
+                ", minutoActual=" + minutoActual +
+                ", activo=" + activo +
+                '}';
+    }
+
+    // Enum para estados del partido
+    public enum EstadoPartido {
+        PROGRAMADO,
+        EN_CURSO,
+        FINALIZADO,
+        SUSPENDIDO,
+        CANCELADO
+    }
+}
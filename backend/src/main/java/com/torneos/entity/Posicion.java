@@ -0,0 +1,160 @@
+package com.torneos.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Fila de la tabla de posiciones de un torneo de liga.
+ * Se escribe con upserts de PosicionRepository, nunca modificando la entidad.
+ */
+@Entity
+@Table(name = "posiciones")
+@IdClass(Posicion.PosicionId.class)
+public class Posicion {
+
+    @Id
+    @Column(name = "id_torneo")
+    private Long idTorneo;
+
+    @Id
+    @Column(name = "id_equipo")
+    private Long idEquipo;
+
+    @Column(name = "partidos_jugados", nullable = false)
+    private Integer partidosJugados = 0;
+
+    @Column(name = "ganados", nullable = false)
+    private Integer ganados = 0;
+
+    @Column(name = "empatados", nullable = false)
+    private Integer empatados = 0;
+
+    @Column(name = "perdidos", nullable = false)
+    private Integer perdidos = 0;
+
+    @Column(name = "goles_favor", nullable = false)
+    private Integer golesFavor = 0;
+
+    @Column(name = "goles_contra", nullable = false)
+    private Integer golesContra = 0;
+
+    // Columna generada en BD (goles_favor - goles_contra)
+    @Column(name = "diferencia_goles", insertable = false, updatable = false)
+    private Integer diferenciaGoles;
+
+    @Column(name = "puntos", nullable = false)
+    private Integer puntos = 0;
+
+    // Constructores
+    public Posicion() {
+    }
+
+    // Getters y Setters
+    public Long getIdTorneo() {
+        return idTorneo;
+    }
+
+    public void setIdTorneo(Long idTorneo) {
+        this.idTorneo = idTorneo;
+    }
+
+    public Long getIdEquipo() {
+        return idEquipo;
+    }
+
+    public void setIdEquipo(Long idEquipo) {
+        this.idEquipo = idEquipo;
+    }
+
+    public Integer getPartidosJugados() {
+        return partidosJugados;
+    }
+
+    public void setPartidosJugados(Integer partidosJugados) {
+        this.partidosJugados = partidosJugados;
+    }
+
+    public Integer getGanados() {
+        return ganados;
+    }
+
+    public void setGanados(Integer ganados) {
+        this.ganados = ganados;
+    }
+
+    public Integer getEmpatados() {
+        return empatados;
+    }
+
+    public void setEmpatados(Integer empatados) {
+        this.empatados = empatados;
+    }
+
+    public Integer getPerdidos() {
+        return perdidos;
+    }
+
+    public void setPerdidos(Integer perdidos) {
+        this.perdidos = perdidos;
+    }
+
+    public Integer getGolesFavor() {
+        return golesFavor;
+    }
+
+    public void setGolesFavor(Integer golesFavor) {
+        this.golesFavor = golesFavor;
+    }
+
+    public Integer getGolesContra() {
+        return golesContra;
+    }
+
+    public void setGolesContra(Integer golesContra) {
+        this.golesContra = golesContra;
+    }
+
+    public Integer getDiferenciaGoles() {
+        return diferenciaGoles;
+    }
+
+    public Integer getPuntos() {
+        return puntos;
+    }
+
+    public void setPuntos(Integer puntos) {
+        this.puntos = puntos;
+    }
+
+    // Clave compuesta (torneo, equipo)
+    public static class PosicionId implements Serializable {
+
+        private Long idTorneo;
+        private Long idEquipo;
+
+        public PosicionId() {
+        }
+
+        public PosicionId(Long idTorneo, Long idEquipo) {
+            this.idTorneo = idTorneo;
+            this.idEquipo = idEquipo;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            PosicionId that = (PosicionId) o;
+            return Objects.equals(idTorneo, that.idTorneo) && Objects.equals(idEquipo, that.idEquipo);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(idTorneo, idEquipo);
+        }
+    }
+}
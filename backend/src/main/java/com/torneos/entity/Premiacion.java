@@ -0,0 +1,157 @@
+package com.torneos.entity;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Premios de un torneo (columna JSONB torneos.premiacion). Las claves
+ * desconocidas se conservan en "otros".
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class Premiacion implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @PositiveOrZero(message = "El monto total no puede ser negativo")
+    private BigDecimal montoTotal;
+
+    @Size(max = 3, message = "La moneda es un código ISO de 3 letras")
+    private String moneda;
+
+    @Valid
+    private List<Premio> premios = new ArrayList<>();
+
+    private Map<String, Object> otros = new LinkedHashMap<>();
+
+    public Premiacion() {
+    }
+
+    // Getters y Setters
+    public BigDecimal getMontoTotal() {
+        return montoTotal;
+    }
+
+    public void setMontoTotal(BigDecimal montoTotal) {
+        this.montoTotal = montoTotal;
+    }
+
+    public String getMoneda() {
+        return moneda;
+    }
+
+    public void setMoneda(String moneda) {
+        this.moneda = moneda;
+    }
+
+    public List<Premio> getPremios() {
+        return premios;
+    }
+
+    public void setPremios(List<Premio> premios) {
+        this.premios = premios;
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getOtros() {
+        return otros;
+    }
+
+    @JsonAnySetter
+    public void setOtro(String clave, Object valor) {
+        otros.put(clave, valor);
+    }
+
+    // equals comparado por Hibernate para detectar cambios en la columna
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        Premiacion that = (Premiacion) o;
+        return Objects.equals(montoTotal, that.montoTotal)
+                && Objects.equals(moneda, that.moneda)
+                && Objects.equals(premios, that.premios)
+                && Objects.equals(otros, that.otros);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(montoTotal, moneda, premios, otros);
+    }
+
+    /**
+     * Premio de una posición final
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Premio implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @Positive(message = "La posición debe ser positiva")
+        private Integer posicion;
+
+        @Size(max = 200, message = "La descripción no puede exceder 200 caracteres")
+        private String descripcion;
+
+        @PositiveOrZero(message = "El monto no puede ser negativo")
+        private BigDecimal monto;
+
+        public Premio() {
+        }
+
+        public Integer getPosicion() {
+            return posicion;
+        }
+
+        public void setPosicion(Integer posicion) {
+            this.posicion = posicion;
+        }
+
+        public String getDescripcion() {
+            return descripcion;
+        }
+
+        public void setDescripcion(String descripcion) {
+            this.descripcion = descripcion;
+        }
+
+        public BigDecimal getMonto() {
+            return monto;
+        }
+
+        public void setMonto(BigDecimal monto) {
+            this.monto = monto;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            Premio premio = (Premio) o;
+            return Objects.equals(posicion, premio.posicion)
+                    && Objects.equals(descripcion, premio.descripcion)
+                    && Objects.equals(monto, premio.monto);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(posicion, descripcion, monto);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.torneos.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "resultados")
+@EntityListeners(AuditingEntityListener.class)
+public class Resultado {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resultados_seq")
+    @SequenceGenerator(name = "resultados_seq", sequenceName = "resultados_id_resultado_seq", allocationSize = 50)
+    @Column(name = "id_resultado")
+    private Long idResultado;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_partido", unique = true, nullable = false)
+    private Partido partido;
+
+    @NotNull(message = "Los goles del local son obligatorios")
+    @PositiveOrZero(message = "Los goles no pueden ser negativos")
+    @Column(name = "goles_local")
+    private Integer golesLocal = 0;
+
+    @NotNull(message = "Los goles del visitante son obligatorios")
+    @PositiveOrZero(message = "Los goles no pueden ser negativos")
+    @Column(name = "goles_visitante")
+    private Integer golesVisitante = 0;
+
+    @Column(name = "tarjetas_amarillas_local")
+    private Integer tarjetasAmarillasLocal = 0;
+
+    @Column(name = "tarjetas_rojas_local")
+    private Integer tarjetasRojasLocal = 0;
+
+    @Column(name = "tarjetas_amarillas_visitante")
+    private Integer tarjetasAmarillasVisitante = 0;
+
+    @Column(name = "tarjetas_rojas_visitante")
+    private Integer tarjetasRojasVisitante = 0;
+
+    @Valid
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "detalles_estadisticas", columnDefinition = "jsonb")
+    private DetallesEstadisticas detallesEstadisticas;
+
+    @Column(name = "observaciones", columnDefinition = "TEXT")
+    private String observaciones;
+
+    @CreatedDate
+    @Column(name = "fecha_registro", updatable = false)
+    private LocalDateTime fechaRegistro;
+
+    @LastModifiedDate
+    @Column(name = "fecha_actualizacion")
+    private LocalDateTime fechaActualizacion;
+
+    // Constructores
+    public Resultado() {
+    }
+
+    public Resultado(Partido partido) {
+        this.partido = partido;
+    }
+
+    // Getters y Setters
+    public Long getIdResultado() {
+        return idResultado;
+    }
+
+    public void setIdResultado(Long idResultado) {
+        this.idResultado = idResultado;
+    }
+
+    public Partido getPartido() {
+        return partido;
+    }
+
+    public void setPartido(Partido partido) {
+        this.partido = partido;
+    }
+
+    public Integer getGolesLocal() {
+        return golesLocal;
+    }
+
+    public void setGolesLocal(Integer golesLocal) {
+        this.golesLocal = golesLocal;
+    }
+
+    public Integer getGolesVisitante() {
+        return golesVisitante;
+    }
+
+    public void setGolesVisitante(Integer golesVisitante) {
+        this.golesVisitante = golesVisitante;
+    }
+
+    public Integer getTarjetasAmarillasLocal() {
+        return tarjetasAmarillasLocal;
+    }
+
+    public void setTarjetasAmarillasLocal(Integer tarjetasAmarillasLocal) {
+        this.tarjetasAmarillasLocal = tarjetasAmarillasLocal;
+    }
+
+    public Integer getTarjetasRojasLocal() {
+        return tarjetasRojasLocal;
+    }
+
+    public void setTarjetasRojasLocal(Integer tarjetasRojasLocal) {
+        this.tarjetasRojasLocal = tarjetasRojasLocal;
+    }
+
+    public Integer getTarjetasAmarillasVisitante() {
+        return tarjetasAmarillasVisitante;
+    }
+
+    public void setTarjetasAmarillasVisitante(Integer tarjetasAmarillasVisitante) {
+        this.tarjetasAmarillasVisitante = tarjetasAmarillasVisitante;
+    }
+
+    public Integer getTarjetasRojasVisitante() {
+        return tarjetasRojasVisitante;
+    }
+
+    public void setTarjetasRojasVisitante(Integer tarjetasRojasVisitante) {
+        this.tarjetasRojasVisitante = tarjetasRojasVisitante;
+    }
+
+    public DetallesEstadisticas getDetallesEstadisticas() {
+        return detallesEstadisticas;
+    }
+
+    public void setDetallesEstadisticas(DetallesEstadisticas detallesEstadisticas) {
+        this.detallesEstadisticas = detallesEstadisticas;
+    }
+
+    public String getObservaciones() {
+        return observaciones;
+    }
+
+    public void setObservaciones(String observaciones) {
+        this.observaciones = observaciones;
+    }
+
+    public LocalDateTime getFechaRegistro() {
+        return fechaRegistro;
+    }
+
+    public void setFechaRegistro(LocalDateTime fechaRegistro) {
+        this.fechaRegistro = fechaRegistro;
+    }
+
+    public LocalDateTime getFechaActualizacion() {
+        return fechaActualizacion;
+    }
+
+    public void setFechaActualizacion(LocalDateTime fechaActualizacion) {
+        this.fechaActualizacion = fechaActualizacion;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        Resultado resultado = (Resultado) o;
+        return Objects.equals(idResultado, resultado.idResultado);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(idResultado);
+    }
+
+    @Override
+    public String toString() {
+        return "Resultado{" +
+                "idResultado=" + idResultado +
+                ", golesLocal=" + golesLocal +
+                ", golesVisitante=" + golesVisitante +
+                ", observaciones='" + observaciones + '\'' +
+                '}';
+    }
+}
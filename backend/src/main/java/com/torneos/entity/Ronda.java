@@ -0,0 +1,170 @@
+package com.torneos.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@Entity
+@Table(name = "rondas", uniqueConstraints = @UniqueConstraint(columnNames = { "id_torneo", "orden_ronda" }))
+@EntityListeners(AuditingEntityListener.class)
+public class Ronda {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rondas_seq")
+    @SequenceGenerator(name = "rondas_seq", sequenceName = "rondas_id_ronda_seq", allocationSize = 50)
+    @Column(name = "id_ronda")
+    private Long idRonda;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_torneo", nullable = false)
+    private Torneo torneo;
+
+    @NotBlank(message = "El nombre de la ronda es obligatorio")
+    @Size(max = 50, message = "El nombre no puede exceder 50 caracteres")
+    @Column(name = "nombre_ronda", nullable = false, length = 50)
+    private String nombreRonda;
+
+    @Column(name = "orden_ronda", nullable = false)
+    private Integer ordenRonda;
+
+    @Column(name = "fecha_inicio")
+    private LocalDate fechaInicio;
+
+    @Column(name = "fecha_fin")
+    private LocalDate fechaFin;
+
+    @Column(name = "activo", nullable = false)
+    private Boolean activo = true;
+
+    @CreatedDate
+    @Column(name = "fecha_creacion", updatable = false)
+    private LocalDateTime fechaCreacion;
+
+    // Relaciones
+    @OneToMany(mappedBy = "ronda", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    private List<Partido> partidos = new ArrayList<>();
+
+    // Constructores
+    public Ronda() {
+    }
+
+    public Ronda(String nombreRonda, Integer ordenRonda) {
+        this.nombreRonda = nombreRonda;
+        this.ordenRonda = ordenRonda;
+        this.activo = true;
+    }
+
+    // Getters y Setters
+    public Long getIdRonda() {
+        return idRonda;
+    }
+
+    public void setIdRonda(Long idRonda) {
+        this.idRonda = idRonda;
+    }
+
+    public Torneo getTorneo() {
+        return torneo;
+    }
+
+    public void setTorneo(Torneo torneo) {
+        this.torneo = torneo;
+    }
+
+    public String getNombreRonda() {
+        return nombreRonda;
+    }
+
+    public void setNombreRonda(String nombreRonda) {
+        this.nombreRonda = nombreRonda;
+    }
+
+    public Integer getOrdenRonda() {
+        return ordenRonda;
+    }
+
+    public void setOrdenRonda(Integer ordenRonda) {
+        this.ordenRonda = ordenRonda;
+    }
+
+    public LocalDate getFechaInicio() {
+        return fechaInicio;
+    }
+
+    public void setFechaInicio(LocalDate fechaInicio) {
+        this.fechaInicio = fechaInicio;
+    }
+
+    public LocalDate getFechaFin() {
+        return fechaFin;
+    }
+
+    public void setFechaFin(LocalDate fechaFin) {
+        this.fechaFin = fechaFin;
+    }
+
+    public Boolean getActivo() {
+        return activo;
+    }
+
+    public void setActivo(Boolean activo) {
+        this.activo = activo;
+    }
+
+    public LocalDateTime getFechaCreacion() {
+        return fechaCreacion;
+    }
+
+    public void setFechaCreacion(LocalDateTime fechaCreacion) {
+        this.fechaCreacion = fechaCreacion;
+    }
+
+    public List<Partido> getPartidos() {
+        return partidos;
+    }
+
+    public void setPartidos(List<Partido> partidos) {
+        this.partidos = partidos;
+    }
+
+    // Métodos utilitarios
+    public void agregarPartido(Partido partido) {
+        partidos.add(partido);
+        partido.setRonda(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        Ronda ronda = (Ronda) o;
+        return Objects.equals(idRonda, ronda.idRonda);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(idRonda);
+    }
+
+    @Override
+    public String toString() {
+        return "Ronda{" +
+                "idRonda=" + idRonda +
+                ", nombreRonda='" + nombreRonda + '\'' +
+                ", ordenRonda=" + ordenRonda +
+                ", fechaInicio=" + fechaInicio +
+                ", fechaFin=" + fechaFin +
+                ", activo=" + activo +
+                '}';
+    }
+}
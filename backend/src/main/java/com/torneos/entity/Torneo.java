@@ -1,10 +1,16 @@
 package com.torneos.entity;
 
+import com.torneos.config.CacheL2Config;
 import jakarta.persistence.*;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -18,10 +24,13 @@ import java.util.Objects;
 @Entity
 @Table(name = "torneos")
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheL2Config.REGION_TORNEOS)
 public class Torneo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "torneos_seq")
+    @SequenceGenerator(name = "torneos_seq", sequenceName = "torneos_id_torneo_seq", allocationSize = 50)
     @Column(name = "id_torneo")
     private Long idTorneo;
 
@@ -53,8 +62,10 @@ public class Torneo {
     @Column(name = "descripcion", columnDefinition = "TEXT")
     private String descripcion;
 
+    @Valid
+    @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "premiacion", columnDefinition = "jsonb")
-    private String premiacion;
+    private Premiacion premiacion;
 
     @Column(name = "activo", nullable = false)
     private Boolean activo = true;
@@ -159,11 +170,11 @@ public class Torneo {
         this.descripcion = descripcion;
     }
 
-    public String getPremiacion() {
+    public Premiacion getPremiacion() {
         return premiacion;
     }
 
-    public void setPremiacion(String premiacion) {
+    public void setPremiacion(Premiacion premiacion) {
         this.premiacion = premiacion;
     }
 
@@ -249,4 +260,29 @@ public class Torneo {
                 ", activo=" + activo +
                 '}';
     }
+
+    // Enum para formatos de torneo
+    public enum FormatoTorneo {
+        ELIMINACION_DIRECTA("Eliminación directa"),
+        IDA_VUELTA("Liga a ida y vuelta"),
+        LIGUILLA("Liguilla (todos contra todos)");
+
+        private final String descripcion;
+
+        FormatoTorneo(String descripcion) {
+            this.descripcion = descripcion;
+        }
+
+        public String getDescripcion() {
+            return descripcion;
+        }
+    }
+
+    // Enum para estados del torneo
+    public enum EstadoTorneo {
+        PROGRAMADO,
+        EN_CURSO,
+        FINALIZADO,
+        CANCELADO
+    }
 }
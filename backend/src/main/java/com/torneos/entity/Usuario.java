@@ -17,7 +17,8 @@ import java.util.Objects;
 public class Usuario {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "usuarios_seq")
+    @SequenceGenerator(name = "usuarios_seq", sequenceName = "usuarios_id_usuario_seq", allocationSize = 50)
     @Column(name = "id_usuario")
     private Long idUsuario;
 
@@ -0,0 +1,12 @@
+package com.torneos.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNAUTHORIZED)
+public class CredencialesInvalidasException extends TorneosException {
+
+    public CredencialesInvalidasException() {
+        super("Usuario o contraseña incorrectos");
+    }
+}
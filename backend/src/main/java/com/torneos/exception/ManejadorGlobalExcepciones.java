@@ -0,0 +1,36 @@
+package com.torneos.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+/**
+ * Respuestas que necesitan algo más que @ResponseStatus (cabeceras de reintento, errores de infraestructura).
+ * El resto de TorneosException sigue resolviéndose con su @ResponseStatus.
+ */
+@RestControllerAdvice
+public class ManejadorGlobalExcepciones {
+
+    @ExceptionHandler(ServicioSaturadoException.class)
+    public ResponseEntity<Map<String, String>> manejarSaturacion(ServicioSaturadoException e) {
+        return ResponseEntity.status(e.getEstado())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getReintentarTrasSegundos()))
+                .body(Map.of("mensaje", e.getMessage()));
+    }
+
+    /**
+     * Sin conexión del pool dentro de connection-timeout: con hilos virtuales es el límite de concurrencia
+     */
+    @ExceptionHandler({ CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class })
+    public ResponseEntity<Map<String, String>> manejarPoolAgotado(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("mensaje", "Servicio saturado, reintente en unos segundos"));
+    }
+}
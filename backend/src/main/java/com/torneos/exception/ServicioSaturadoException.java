@@ -0,0 +1,33 @@
+package com.torneos.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Rechazo rápido por falta de capacidad; ManejadorGlobalExcepciones responde con el estado
+ * indicado y la cabecera Retry-After.
+ */
+public class ServicioSaturadoException extends TorneosException {
+
+    private final HttpStatus estado;
+    private final long reintentarTrasSegundos;
+
+    public ServicioSaturadoException(String mensaje, HttpStatus estado, long reintentarTrasSegundos) {
+        super(mensaje);
+        this.estado = estado;
+        this.reintentarTrasSegundos = reintentarTrasSegundos;
+    }
+
+    public ServicioSaturadoException(String mensaje, HttpStatus estado, long reintentarTrasSegundos, Throwable causa) {
+        super(mensaje, causa);
+        this.estado = estado;
+        this.reintentarTrasSegundos = reintentarTrasSegundos;
+    }
+
+    public HttpStatus getEstado() {
+        return estado;
+    }
+
+    public long getReintentarTrasSegundos() {
+        return reintentarTrasSegundos;
+    }
+}
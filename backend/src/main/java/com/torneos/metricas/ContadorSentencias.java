@@ -0,0 +1,111 @@
+package com.torneos.metricas;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cuenta las sentencias JDBC ejecutadas y las filas leídas en el hilo actual mientras haya una
+ * medición abierta. Las mediciones se anidan: cada sentencia cuenta en la actual y en todas
+ * las que la contienen (p. ej. la de la petición y la de un bloque dentro de ella).
+ *
+ * Solo ve el tráfico que pasa por el DataSource principal instrumentado (ver InstrumentacionDataSource).
+ */
+public final class ContadorSentencias {
+
+    private static final ThreadLocal<Medicion> ACTUAL = new ThreadLocal<>();
+
+    private ContadorSentencias() {
+    }
+
+    /**
+     * Abre una medición en el hilo actual; se cierra con close() en el mismo hilo.
+     */
+    public static Medicion abrir(boolean capturarSql) {
+        return abrir(capturarSql ? 0 : Long.MAX_VALUE);
+    }
+
+    /**
+     * Abre una medición que solo guarda el SQL a partir de la sentencia sinCapturar + 1: con el
+     * presupuesto como límite, una llamada que lo cumple no copia ningún SQL.
+     */
+    public static Medicion abrir(long sinCapturar) {
+        Medicion medicion = new Medicion(ACTUAL.get(), sinCapturar);
+        ACTUAL.set(medicion);
+        return medicion;
+    }
+
+    static void registrarSentencia(String sql) {
+        for (Medicion medicion = ACTUAL.get(); medicion != null; medicion = medicion.anterior) {
+            medicion.sentencias++;
+            if (medicion.sentencias > medicion.sinCapturar) {
+                if (medicion.sql == null) {
+                    medicion.sql = new ArrayList<>();
+                }
+                medicion.sql.add(sql);
+            }
+        }
+    }
+
+    static void registrarFila() {
+        for (Medicion medicion = ACTUAL.get(); medicion != null; medicion = medicion.anterior) {
+            medicion.filas++;
+        }
+    }
+
+    public static final class Medicion implements AutoCloseable {
+
+        private final Medicion anterior;
+        private final long sinCapturar;
+        private List<String> sql;
+        private long sentencias;
+        private long filas;
+        private boolean cerrada;
+
+        private Medicion(Medicion anterior, long sinCapturar) {
+            this.anterior = anterior;
+            this.sinCapturar = sinCapturar;
+        }
+
+        public long getSentencias() {
+            return sentencias;
+        }
+
+        public long getFilas() {
+            return filas;
+        }
+
+        /**
+         * SQL de las sentencias capturadas en orden de ejecución: las últimas getSql().size() de
+         * getSentencias() (vacío si no se abrió con captura).
+         */
+        public List<String> getSql() {
+            return sql != null ? Collections.unmodifiableList(sql) : List.of();
+        }
+
+        /**
+         * Falla con el SQL capturado si el bloque medido ejecutó más de maximo sentencias.
+         */
+        public void comprobarPresupuesto(long maximo, String descripcion) {
+            if (sentencias > maximo) {
+                throw new PresupuestoSentenciasExcedidoException(descripcion, sentencias, maximo, getSql());
+            }
+        }
+
+        @Override
+        public void close() {
+            if (cerrada) {
+                return;
+            }
+            cerrada = true;
+            if (ACTUAL.get() != this) {
+                throw new IllegalStateException("Las mediciones de sentencias deben cerrarse en orden inverso");
+            }
+            if (anterior != null) {
+                ACTUAL.set(anterior);
+            } else {
+                ACTUAL.remove();
+            }
+        }
+    }
+}
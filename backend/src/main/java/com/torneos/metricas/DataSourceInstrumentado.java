@@ -0,0 +1,38 @@
+package com.torneos.metricas;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * DataSource que entrega conexiones instrumentadas para ContadorSentencias.
+ * Al ser un DelegatingDataSource, las métricas de Hikari y el health check siguen encontrando el pool.
+ */
+public class DataSourceInstrumentado extends DelegatingDataSource implements AutoCloseable {
+
+    public DataSourceInstrumentado(DataSource destino) {
+        super(destino);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return JdbcInstrumentado.conexion(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return JdbcInstrumentado.conexion(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * Mantiene el cierre del pool al parar el contexto: Spring infiere close() sobre el bean expuesto.
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable cerrable) {
+            cerrable.close();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.torneos.metricas;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Envuelve el DataSource principal ("dataSource", sea el pool de Hikari o el enrutador de réplicas)
+ * para contar sentencias y filas. Solo ese bean, para no contar dos veces la misma sentencia.
+ */
+@Component
+@ConditionalOnProperty(name = "torneos.metricas.jdbc.habilitada", havingValue = "true", matchIfMissing = true)
+public class InstrumentacionDataSource implements BeanPostProcessor {
+
+    private static final String DATA_SOURCE_PRINCIPAL = "dataSource";
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (DATA_SOURCE_PRINCIPAL.equals(beanName) && bean instanceof DataSource dataSource
+                && !(bean instanceof DataSourceInstrumentado)) {
+            return new DataSourceInstrumentado(dataSource);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,72 @@
+package com.torneos.metricas;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Proxies JDBC que informan a ContadorSentencias de cada ejecución y de cada fila leída
+ * con ResultSet.next(). Las llamadas se delegan tal cual en los objetos del driver.
+ */
+final class JdbcInstrumentado {
+
+    private static final ClassLoader CARGADOR = JdbcInstrumentado.class.getClassLoader();
+
+    private JdbcInstrumentado() {
+    }
+
+    static Connection conexion(Connection real) {
+        return (Connection) Proxy.newProxyInstance(CARGADOR, new Class<?>[]{Connection.class},
+                (proxy, metodo, args) -> {
+                    Object resultado = invocar(real, metodo, args);
+                    if (resultado instanceof Statement sentencia) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String texto ? texto : null;
+                        return sentencia(sentencia, sql);
+                    }
+                    return resultado;
+                });
+    }
+
+    private static Statement sentencia(Statement real, String sqlPreparada) {
+        Class<?> tipo = real instanceof CallableStatement ? CallableStatement.class
+                : real instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        InvocationHandler manejador = (proxy, metodo, args) -> {
+            String nombre = metodo.getName();
+            if (nombre.startsWith("execute")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String texto ? texto : sqlPreparada;
+                ContadorSentencias.registrarSentencia(sql);
+            }
+            Object resultado = invocar(real, metodo, args);
+            if (resultado instanceof ResultSet filas && !nombre.equals("getGeneratedKeys")) {
+                return resultSet(filas);
+            }
+            return resultado;
+        };
+        return (Statement) Proxy.newProxyInstance(CARGADOR, new Class<?>[]{tipo}, manejador);
+    }
+
+    private static ResultSet resultSet(ResultSet real) {
+        return (ResultSet) Proxy.newProxyInstance(CARGADOR, new Class<?>[]{ResultSet.class},
+                (proxy, metodo, args) -> {
+                    Object resultado = invocar(real, metodo, args);
+                    if (Boolean.TRUE.equals(resultado) && metodo.getName().equals("next")) {
+                        ContadorSentencias.registrarFila();
+                    }
+                    return resultado;
+                });
+    }
+
+    private static Object invocar(Object real, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(real, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.torneos.metricas;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Sentencias JDBC y filas leídas por petición (torneos.peticion.sentencias y torneos.peticion.filas),
+ * etiquetadas por método HTTP y patrón de ruta. Lo que se ejecuta fuera del hilo de la petición
+ * (@Async, cuerpos en streaming, SSE) no se atribuye a la petición.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "torneos.metricas.jdbc.habilitada", havingValue = "true", matchIfMissing = true)
+public class MetricasPeticionFilter extends OncePerRequestFilter {
+
+    private static final String RUTA_DESCONOCIDA = "desconocida";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContadorSentencias.Medicion medicion = ContadorSentencias.abrir(false);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            medicion.close();
+            Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String ruta = patron != null ? patron.toString() : RUTA_DESCONOCIDA;
+            DistributionSummary.builder("torneos.peticion.sentencias")
+                    .tag("metodo", request.getMethod())
+                    .tag("ruta", ruta)
+                    .register(meterRegistry)
+                    .record(medicion.getSentencias());
+            DistributionSummary.builder("torneos.peticion.filas")
+                    .tag("metodo", request.getMethod())
+                    .tag("ruta", ruta)
+                    .register(meterRegistry)
+                    .record(medicion.getFilas());
+        }
+    }
+}
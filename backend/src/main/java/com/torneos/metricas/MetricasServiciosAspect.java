@@ -0,0 +1,52 @@
+package com.torneos.metricas;
+
+import com.torneos.exception.ServicioSaturadoException;
+import com.torneos.exception.TorneosException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Temporizador torneos.servicio para cada método público de los @Service de com.torneos.service,
+ * etiquetado por clase, método y resultado: exito, rechazo (TorneosException, un 4xx) o error
+ * (cualquier otra excepción, incluida la saturación 503).
+ * Las llamadas internas dentro del mismo servicio no pasan por el proxy y no se miden aparte.
+ * Los repositorios ya los mide Spring Boot (spring.data.repository.invocations).
+ */
+@Aspect
+@Component
+public class MetricasServiciosAspect {
+
+    private static final String EXITO = "exito";
+    private static final String RECHAZO = "rechazo";
+    private static final String ERROR = "error";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Around("within(com.torneos.service..*) && @within(org.springframework.stereotype.Service) "
+            + "&& execution(public * *(..))")
+    public Object medir(ProceedingJoinPoint punto) throws Throwable {
+        Timer.Sample muestra = Timer.start(meterRegistry);
+        String resultado = EXITO;
+        String excepcion = "ninguna";
+        try {
+            return punto.proceed();
+        } catch (Throwable e) {
+            resultado = e instanceof TorneosException && !(e instanceof ServicioSaturadoException) ? RECHAZO : ERROR;
+            excepcion = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            muestra.stop(Timer.builder("torneos.servicio")
+                    .tag("clase", punto.getSignature().getDeclaringType().getSimpleName())
+                    .tag("metodo", punto.getSignature().getName())
+                    .tag("resultado", resultado)
+                    .tag("excepcion", excepcion)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.torneos.metricas;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Máximo de sentencias SQL que puede ejecutar una llamada al método, incluidos los flush al confirmar
+ * y las cargas perezosas hechas dentro de ella. Con torneos.metricas.presupuesto.estricto=true
+ * (perfil test) superarlo lanza PresupuestoSentenciasExcedidoException con el SQL capturado;
+ * si no, se registra un aviso y el contador torneos.presupuesto.excedido.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PresupuestoSentencias {
+
+    int value();
+}
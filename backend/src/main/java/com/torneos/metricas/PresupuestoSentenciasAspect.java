@@ -0,0 +1,59 @@
+package com.torneos.metricas;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Comprueba @PresupuestoSentencias. Va por fuera de @Transactional (orden 0) para contar también
+ * el flush y las sentencias del commit. Solo se comprueban las llamadas que terminan sin excepción.
+ * Fuera del modo estricto el aviso lista únicamente las sentencias que exceden el presupuesto.
+ */
+@Aspect
+@Component
+@Order(0)
+@ConditionalOnProperty(name = "torneos.metricas.jdbc.habilitada", havingValue = "true", matchIfMissing = true)
+public class PresupuestoSentenciasAspect {
+
+    private static final Logger log = LoggerFactory.getLogger(PresupuestoSentenciasAspect.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${torneos.metricas.presupuesto.estricto:false}")
+    private boolean estricto;
+
+    @Around("@annotation(presupuesto)")
+    public Object comprobar(ProceedingJoinPoint punto, PresupuestoSentencias presupuesto) throws Throwable {
+        Object resultado;
+        // En producción solo se copia el SQL que excede el presupuesto; en modo estricto, todo
+        ContadorSentencias.Medicion medicion = ContadorSentencias.abrir(estricto ? 0 : presupuesto.value());
+        try {
+            resultado = punto.proceed();
+        } finally {
+            medicion.close();
+        }
+        if (medicion.getSentencias() > presupuesto.value()) {
+            String clase = punto.getSignature().getDeclaringType().getSimpleName();
+            String metodo = punto.getSignature().getName();
+            if (estricto) {
+                throw new PresupuestoSentenciasExcedidoException(clase + "." + metodo, medicion.getSentencias(),
+                        presupuesto.value(), medicion.getSql());
+            }
+            meterRegistry.counter("torneos.presupuesto.excedido", "clase", clase, "metodo", metodo).increment();
+            if (log.isWarnEnabled()) {
+                log.warn(PresupuestoSentenciasExcedidoException.mensaje(clase + "." + metodo,
+                        medicion.getSentencias(), presupuesto.value(), medicion.getSql()));
+            }
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,46 @@
+package com.torneos.metricas;
+
+import java.util.List;
+
+/**
+ * Una llamada o bloque ejecutó más sentencias SQL que su presupuesto; el mensaje incluye
+ * cada sentencia en orden para localizar el N+1.
+ */
+public class PresupuestoSentenciasExcedidoException extends RuntimeException {
+
+    private final long sentencias;
+    private final long presupuesto;
+    private final List<String> sql;
+
+    public PresupuestoSentenciasExcedidoException(String descripcion, long sentencias, long presupuesto,
+            List<String> sql) {
+        super(mensaje(descripcion, sentencias, presupuesto, sql));
+        this.sentencias = sentencias;
+        this.presupuesto = presupuesto;
+        this.sql = sql;
+    }
+
+    static String mensaje(String descripcion, long sentencias, long presupuesto, List<String> sql) {
+        StringBuilder mensaje = new StringBuilder()
+                .append(descripcion).append(" ejecutó ").append(sentencias)
+                .append(" sentencias SQL (presupuesto ").append(presupuesto).append("):");
+        // Si solo se capturó el exceso, la numeración sigue siendo la de la llamada completa
+        long primera = sentencias - sql.size() + 1;
+        for (int i = 0; i < sql.size(); i++) {
+            mensaje.append("\n  ").append(primera + i).append(". ").append(sql.get(i));
+        }
+        return mensaje.toString();
+    }
+
+    public long getSentencias() {
+        return sentencias;
+    }
+
+    public long getPresupuesto() {
+        return presupuesto;
+    }
+
+    public List<String> getSql() {
+        return sql;
+    }
+}
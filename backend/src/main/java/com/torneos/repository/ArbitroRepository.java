@@ -0,0 +1,26 @@
+package com.torneos.repository;
+
+import com.torneos.entity.Arbitro;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArbitroRepository extends JpaRepository<Arbitro, Long> {
+
+    /**
+     * IDs de los árbitros activos
+     */
+    @Query("SELECT a.idArbitro FROM Arbitro a WHERE a.activo = true ORDER BY a.idArbitro")
+    List<Long> findIdsActivos();
+
+    /**
+     * IDs activos de entre los indicados
+     */
+    @Query("SELECT a.idArbitro FROM Arbitro a WHERE a.activo = true AND a.idArbitro IN :ids")
+    List<Long> findIdsActivosIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,65 @@
+package com.torneos.repository;
+
+import com.torneos.entity.ContadorCategoria;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ContadorCategoriaRepository extends JpaRepository<ContadorCategoria, String> {
+
+    // Tabla afectada por las sentencias nativas: sin ella Hibernate vaciaría toda la caché de segundo nivel
+    String TABLA = "categoria_contadores";
+
+    /**
+     * Categorías con al menos un equipo activo, ordenadas por nombre
+     */
+    List<ContadorCategoria> findByEquiposActivosGreaterThanOrderByCategoria(Integer minimo);
+
+    /**
+     * Sumar un delta a los equipos activos de una categoría (crea la fila si no existe)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TABLA))
+    @Query(value = "INSERT INTO categoria_contadores AS c (categoria, equipos_activos) VALUES (:categoria, :delta) "
+            + "ON CONFLICT (categoria) DO UPDATE SET equipos_activos = c.equipos_activos + EXCLUDED.equipos_activos",
+            nativeQuery = true)
+    void incrementar(@Param("categoria") String categoria, @Param("delta") int delta);
+
+    /**
+     * Bloquear los contadores frente a incrementos concurrentes durante la reconciliación
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TABLA))
+    @Query(value = "LOCK TABLE categoria_contadores IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void bloquear();
+
+    /**
+     * Recalcular desde equipos las categorías existentes; devuelve cuántas se corrigieron
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TABLA))
+    @Query(value = "INSERT INTO categoria_contadores AS c (categoria, equipos_activos) "
+            + "SELECT e.categoria, COUNT(*) FILTER (WHERE e.activo = true) FROM equipos e GROUP BY e.categoria "
+            + "ON CONFLICT (categoria) DO UPDATE SET equipos_activos = EXCLUDED.equipos_activos "
+            + "WHERE c.equipos_activos IS DISTINCT FROM EXCLUDED.equipos_activos",
+            nativeQuery = true)
+    int reconciliar();
+
+    /**
+     * Poner a cero las categorías que ya no tienen equipos activos; devuelve cuántas se corrigieron
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TABLA))
+    @Query(value = "UPDATE categoria_contadores c SET equipos_activos = 0 WHERE c.equipos_activos <> 0 "
+            + "AND NOT EXISTS (SELECT 1 FROM equipos e WHERE e.categoria = c.categoria AND e.activo = true)",
+            nativeQuery = true)
+    int reconciliarHuerfanas();
+}
@@ -0,0 +1,66 @@
+package com.torneos.repository;
+
+import com.torneos.entity.ContadorEquipo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ContadorEquipoRepository extends JpaRepository<ContadorEquipo, Long> {
+
+    // Tabla afectada por las sentencias nativas: sin ella Hibernate vaciaría toda la caché de segundo nivel
+    String TABLA = "equipo_contadores";
+
+    /**
+     * Sumar deltas a los contadores de un equipo (crea la fila si no existe).
+     * El incremento es atómico: dos transacciones concurrentes no pierden actualizaciones.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TABLA))
+    @Query(value = "INSERT INTO equipo_contadores AS c (id_equipo, jugadores_activos, porteros, defensas, medios, delanteros) "
+            + "VALUES (:idEquipo, :activos, :porteros, :defensas, :medios, :delanteros) "
+            + "ON CONFLICT (id_equipo) DO UPDATE SET "
+            + "jugadores_activos = c.jugadores_activos + EXCLUDED.jugadores_activos, "
+            + "porteros = c.porteros + EXCLUDED.porteros, "
+            + "defensas = c.defensas + EXCLUDED.defensas, "
+            + "medios = c.medios + EXCLUDED.medios, "
+            + "delanteros = c.delanteros + EXCLUDED.delanteros",
+            nativeQuery = true)
+    void incrementar(@Param("idEquipo") Long idEquipo, @Param("activos") int activos,
+            @Param("porteros") int porteros, @Param("defensas") int defensas,
+            @Param("medios") int medios, @Param("delanteros") int delanteros);
+
+    /**
+     * Bloquear los contadores frente a incrementos concurrentes durante la reconciliación
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TABLA))
+    @Query(value = "LOCK TABLE equipo_contadores IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void bloquear();
+
+    /**
+     * Recalcular desde jugadores y corregir sólo las filas desviadas; devuelve cuántas se corrigieron
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TABLA))
+    @Query(value = "INSERT INTO equipo_contadores AS c (id_equipo, jugadores_activos, porteros, defensas, medios, delanteros) "
+            + "SELECT e.id_equipo, COUNT(j.id_jugador), "
+            + "COUNT(j.id_jugador) FILTER (WHERE j.posicion = 'PORTERO'), "
+            + "COUNT(j.id_jugador) FILTER (WHERE j.posicion = 'DEFENSA'), "
+            + "COUNT(j.id_jugador) FILTER (WHERE j.posicion = 'MEDIO'), "
+            + "COUNT(j.id_jugador) FILTER (WHERE j.posicion = 'DELANTERO') "
+            + "FROM equipos e LEFT JOIN jugadores j ON j.id_equipo = e.id_equipo AND j.activo = true "
+            + "GROUP BY e.id_equipo "
+            + "ON CONFLICT (id_equipo) DO UPDATE SET "
+            + "jugadores_activos = EXCLUDED.jugadores_activos, porteros = EXCLUDED.porteros, "
+            + "defensas = EXCLUDED.defensas, medios = EXCLUDED.medios, delanteros = EXCLUDED.delanteros "
+            + "WHERE (c.jugadores_activos, c.porteros, c.defensas, c.medios, c.delanteros) IS DISTINCT FROM "
+            + "(EXCLUDED.jugadores_activos, EXCLUDED.porteros, EXCLUDED.defensas, EXCLUDED.medios, EXCLUDED.delanteros)",
+            nativeQuery = true)
+    int reconciliar();
+}
@@ -0,0 +1,23 @@
+package com.torneos.repository;
+
+import com.torneos.entity.EstadisticaJugador;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface EstadisticaJugadorRepository extends JpaRepository<EstadisticaJugador, Long> {
+
+    /**
+     * Buscar la estadística de un jugador en un partido
+     */
+    Optional<EstadisticaJugador> findByPartidoIdPartidoAndJugadorIdJugador(Long idPartido, Long idJugador);
+
+    /**
+     * Identificador de la transacción actual (txid), comparable con una instantánea de txid_current_snapshot
+     */
+    @Query(value = "SELECT txid_current()", nativeQuery = true)
+    Long idTransaccionActual();
+}
@@ -0,0 +1,20 @@
+package com.torneos.repository;
+
+import com.torneos.entity.Inscripcion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface InscripcionRepository extends JpaRepository<Inscripcion, Long> {
+
+    /**
+     * IDs de los equipos activos inscritos en un torneo, en orden de inscripción
+     */
+    @Query("SELECT i.equipo.idEquipo FROM Inscripcion i WHERE i.torneo.idTorneo = :idTorneo "
+            + "AND i.activo = true AND i.equipo.activo = true ORDER BY i.fechaInscripcion, i.idInscripcion")
+    List<Long> findIdsEquiposActivosByTorneo(@Param("idTorneo") Long idTorneo);
+}
@@ -0,0 +1,22 @@
+package com.torneos.repository;
+
+import com.torneos.entity.Partido;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PartidoRepository extends JpaRepository<Partido, Long> {
+
+    /**
+     * Buscar partido bloqueando su fila (serializa el registro y la corrección de su resultado)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Partido p WHERE p.idPartido = :idPartido")
+    Optional<Partido> findByIdParaActualizar(@Param("idPartido") Long idPartido);
+}
@@ -0,0 +1,119 @@
+package com.torneos.repository;
+
+import com.torneos.dto.PosicionDTO;
+import com.torneos.entity.Posicion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PosicionRepository extends JpaRepository<Posicion, Posicion.PosicionId> {
+
+    // Tabla afectada por las sentencias nativas: sin ella Hibernate vaciaría toda la caché de segundo nivel
+    String TABLA = "posiciones";
+
+    // Posiciones recalculadas desde resultados: equipos inscritos en torneos de liga, con o sin partidos
+    String SQL_CALCULAR = "SELECT i.id_torneo, i.id_equipo, "
+            + "COUNT(x.id_equipo) AS partidos_jugados, "
+            + "COUNT(x.id_equipo) FILTER (WHERE x.favor > x.contra) AS ganados, "
+            + "COUNT(x.id_equipo) FILTER (WHERE x.favor = x.contra) AS empatados, "
+            + "COUNT(x.id_equipo) FILTER (WHERE x.favor < x.contra) AS perdidos, "
+            + "COALESCE(SUM(x.favor), 0) AS goles_favor, "
+            + "COALESCE(SUM(x.contra), 0) AS goles_contra, "
+            + "COALESCE(SUM(CASE WHEN x.favor > x.contra THEN 3 WHEN x.favor = x.contra THEN 1 ELSE 0 END), 0) AS puntos "
+            + "FROM inscripciones i "
+            + "JOIN torneos t ON t.id_torneo = i.id_torneo AND t.formato IN ('LIGUILLA', 'IDA_VUELTA') "
+            + "LEFT JOIN (SELECT ro.id_torneo, e.id_equipo, e.favor, e.contra FROM resultados re "
+            + "JOIN partidos pa ON pa.id_partido = re.id_partido AND pa.estado = 'FINALIZADO' AND pa.activo = true "
+            + "JOIN rondas ro ON ro.id_ronda = pa.id_ronda "
+            + "CROSS JOIN LATERAL (VALUES (pa.equipo_local, re.goles_local, re.goles_visitante), "
+            + "(pa.equipo_visitante, re.goles_visitante, re.goles_local)) AS e(id_equipo, favor, contra)) x "
+            + "ON x.id_torneo = i.id_torneo AND x.id_equipo = i.id_equipo "
+            + "WHERE i.activo = true "
+            + "GROUP BY i.id_torneo, i.id_equipo";
+
+    /**
+     * Clasificación de un torneo: recorrido del índice idx_posiciones_clasificacion
+     */
+    @Query("SELECT new com.torneos.dto.PosicionDTO(p.idEquipo, e.nombre, e.escudoUrl, p.partidosJugados, "
+            + "p.ganados, p.empatados, p.perdidos, p.golesFavor, p.golesContra, p.diferenciaGoles, p.puntos) "
+            + "FROM Posicion p, Equipo e WHERE e.idEquipo = p.idEquipo AND p.idTorneo = :idTorneo "
+            + "ORDER BY p.puntos DESC, p.diferenciaGoles DESC, p.golesFavor DESC, p.idEquipo")
+    List<PosicionDTO> findClasificacion(@Param("idTorneo") Long idTorneo);
+
+    /**
+     * Sumar deltas a la fila de un equipo (crea la fila si no existe).
+     * El incremento es atómico: dos resultados concurrentes del mismo equipo no se pisan.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TABLA))
+    @Query(value = "INSERT INTO posiciones AS p (id_torneo, id_equipo, partidos_jugados, ganados, empatados, perdidos, "
+            + "goles_favor, goles_contra, puntos) "
+            + "VALUES (:idTorneo, :idEquipo, :jugados, :ganados, :empatados, :perdidos, :golesFavor, :golesContra, :puntos) "
+            + "ON CONFLICT (id_torneo, id_equipo) DO UPDATE SET "
+            + "partidos_jugados = p.partidos_jugados + EXCLUDED.partidos_jugados, "
+            + "ganados = p.ganados + EXCLUDED.ganados, "
+            + "empatados = p.empatados + EXCLUDED.empatados, "
+            + "perdidos = p.perdidos + EXCLUDED.perdidos, "
+            + "goles_favor = p.goles_favor + EXCLUDED.goles_favor, "
+            + "goles_contra = p.goles_contra + EXCLUDED.goles_contra, "
+            + "puntos = p.puntos + EXCLUDED.puntos",
+            nativeQuery = true)
+    void incrementar(@Param("idTorneo") Long idTorneo, @Param("idEquipo") Long idEquipo,
+            @Param("jugados") int jugados, @Param("ganados") int ganados, @Param("empatados") int empatados,
+            @Param("perdidos") int perdidos, @Param("golesFavor") int golesFavor,
+            @Param("golesContra") int golesContra, @Param("puntos") int puntos);
+
+    /**
+     * Crear a cero las filas de los equipos de un torneo que aún no tengan
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TABLA))
+    @Query(value = "INSERT INTO posiciones (id_torneo, id_equipo) "
+            + "SELECT :idTorneo, unnest(CAST(:idsEquipos AS bigint[])) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int inicializar(@Param("idTorneo") Long idTorneo, @Param("idsEquipos") Long[] idsEquipos);
+
+    /**
+     * Bloquear la tabla frente a incrementos concurrentes durante la reconstrucción
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TABLA))
+    @Query(value = "LOCK TABLE posiciones IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void bloquear();
+
+    /**
+     * Recalcular todas las filas desde resultados y corregir sólo las desviadas; devuelve cuántas se corrigieron
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TABLA))
+    @Query(value = "INSERT INTO posiciones AS p (id_torneo, id_equipo, partidos_jugados, ganados, empatados, perdidos, "
+            + "goles_favor, goles_contra, puntos) " + SQL_CALCULAR + " "
+            + "ON CONFLICT (id_torneo, id_equipo) DO UPDATE SET "
+            + "partidos_jugados = EXCLUDED.partidos_jugados, ganados = EXCLUDED.ganados, "
+            + "empatados = EXCLUDED.empatados, perdidos = EXCLUDED.perdidos, "
+            + "goles_favor = EXCLUDED.goles_favor, goles_contra = EXCLUDED.goles_contra, puntos = EXCLUDED.puntos "
+            + "WHERE (p.partidos_jugados, p.ganados, p.empatados, p.perdidos, p.goles_favor, p.goles_contra, p.puntos) "
+            + "IS DISTINCT FROM (EXCLUDED.partidos_jugados, EXCLUDED.ganados, EXCLUDED.empatados, EXCLUDED.perdidos, "
+            + "EXCLUDED.goles_favor, EXCLUDED.goles_contra, EXCLUDED.puntos)",
+            nativeQuery = true)
+    int reconstruir();
+
+    /**
+     * Eliminar filas de equipos que ya no están inscritos en un torneo de liga; devuelve cuántas se eliminaron
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TABLA))
+    @Query(value = "DELETE FROM posiciones p WHERE NOT EXISTS (SELECT 1 FROM inscripciones i "
+            + "JOIN torneos t ON t.id_torneo = i.id_torneo AND t.formato IN ('LIGUILLA', 'IDA_VUELTA') "
+            + "WHERE i.id_torneo = p.id_torneo AND i.id_equipo = p.id_equipo AND i.activo = true)",
+            nativeQuery = true)
+    int eliminarHuerfanas();
+}
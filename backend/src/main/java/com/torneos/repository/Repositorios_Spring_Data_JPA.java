@@ -1,16 +1,25 @@
 package com.torneos.repository;
 
+import com.torneos.config.CacheL2Config;
+import com.torneos.dto.EquipoBasicoDTO;
+import com.torneos.dto.JugadorResponseDTO;
 import com.torneos.entity.Equipo;
 import com.torneos.entity.Jugador;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 // ====== EQUIPO REPOSITORY ======
 @Repository
@@ -22,13 +31,17 @@ public interface EquipoRepository extends JpaRepository<Equipo, Long> {
     Optional<Equipo> findByNombreIgnoreCase(String nombre);
 
     /**
-     * Buscar equipos por categoría
+     * Buscar equipos por categoría (caché de consultas)
      */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheL2Config.REGION_CONSULTAS_EQUIPOS) })
     List<Equipo> findByCategoriaIgnoreCase(String categoria);
 
     /**
-     * Buscar equipos activos
+     * Buscar equipos activos (caché de consultas)
      */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheL2Config.REGION_CONSULTAS_EQUIPOS) })
     List<Equipo> findByActivoTrue();
 
     /**
@@ -42,6 +55,25 @@ public interface EquipoRepository extends JpaRepository<Equipo, Long> {
     @Query("SELECT e FROM Equipo e WHERE LOWER(e.nombre) LIKE LOWER(CONCAT('%', :nombre, '%')) AND e.activo = true")
     List<Equipo> findByNombreContainingIgnoreCaseAndActivoTrue(@Param("nombre") String nombre);
 
+    /**
+     * Buscar IDs de equipos por similitud de nombre (índice pg_trgm, insensible a acentos)
+     */
+    @Query(value = "SELECT e.id_equipo FROM equipos e WHERE e.activo = true "
+            + "AND (f_unaccent(lower(e.nombre)) LIKE '%' || f_unaccent(lower(:patron)) || '%' "
+            + "OR f_unaccent(lower(e.nombre)) % f_unaccent(lower(:nombre))) "
+            + "ORDER BY similarity(f_unaccent(lower(e.nombre)), f_unaccent(lower(:nombre))) DESC, e.id_equipo "
+            + "LIMIT :limite OFFSET :desplazamiento",
+            nativeQuery = true)
+    List<Long> buscarIdsPorSimilitud(@Param("nombre") String nombre, @Param("patron") String patron,
+            @Param("limite") int limite, @Param("desplazamiento") long desplazamiento);
+
+    /**
+     * Proyección de equipos a DTO básico, sin entidades gestionadas
+     */
+    @Query("SELECT new com.torneos.dto.EquipoBasicoDTO(e.idEquipo, e.nombre, e.categoria, e.escudoUrl) "
+            + "FROM Equipo e WHERE e.idEquipo IN :ids")
+    List<EquipoBasicoDTO> findBasicosByIds(@Param("ids") Collection<Long> ids);
+
     /**
      * Contar equipos por categoría
      */
@@ -58,19 +90,32 @@ public interface EquipoRepository extends JpaRepository<Equipo, Long> {
 @Repository
 public interface JugadorRepository extends JpaRepository<Jugador, Long> {
 
+    /**
+     * Proyección jugador + equipo directa a DTO: una sola sentencia, sin entidades gestionadas
+     */
+    String SELECT_JUGADOR_DTO = "SELECT new com.torneos.dto.JugadorResponseDTO("
+            + "j.idJugador, j.usuario.idUsuario, j.nombre, j.fechaNacimiento, j.posicion, j.numeroCamiseta, "
+            + "j.contactoEmergencia, j.activo, j.fechaCreacion, j.fechaActualizacion, "
+            + "e.idEquipo, e.nombre, e.categoria, e.escudoUrl) "
+            + "FROM Jugador j JOIN j.equipo e ";
+
     /**
      * Buscar jugadores por equipo
      */
     List<Jugador> findByEquipoIdEquipoAndActivoTrue(Long idEquipo);
 
     /**
-     * Buscar jugadores por posición
+     * Buscar jugadores por posición (caché de consultas)
      */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheL2Config.REGION_CONSULTAS_JUGADORES) })
     List<Jugador> findByPosicionAndActivoTrue(Jugador.Posicion posicion);
 
     /**
-     * Buscar jugadores por equipo y posición
+     * Buscar jugadores por equipo y posición (caché de consultas)
      */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheL2Config.REGION_CONSULTAS_JUGADORES) })
     List<Jugador> findByEquipoIdEquipoAndPosicionAndActivoTrue(Long idEquipo, Jugador.Posicion posicion);
 
     /**
@@ -83,12 +128,80 @@ public interface JugadorRepository extends JpaRepository<Jugador, Long> {
      */
     boolean existsByEquipoIdEquipoAndNumeroCamiseta(Long idEquipo, Integer numeroCamiseta);
 
+    /**
+     * Obtener los números de camiseta ocupados de un equipo (incluye inactivos, como la restricción única)
+     */
+    @Query("SELECT j.numeroCamiseta FROM Jugador j WHERE j.equipo.idEquipo = :idEquipo")
+    List<Integer> findNumerosCamisetaByEquipo(@Param("idEquipo") Long idEquipo);
+
+    /**
+     * Obtener los números de camiseta ocupados de varios equipos en una sola consulta
+     */
+    @Query("SELECT j.equipo.idEquipo, j.numeroCamiseta FROM Jugador j WHERE j.equipo.idEquipo IN :idsEquipo")
+    List<Object[]> findNumerosCamisetaPorEquipos(@Param("idsEquipo") Collection<Long> idsEquipo);
+
     /**
      * Buscar jugadores por nombre (búsqueda parcial)
      */
     @Query("SELECT j FROM Jugador j WHERE LOWER(j.nombre) LIKE LOWER(CONCAT('%', :nombre, '%')) AND j.activo = true")
     List<Jugador> findByNombreContainingIgnoreCaseAndActivoTrue(@Param("nombre") String nombre);
 
+    /**
+     * Buscar IDs de jugadores por similitud de nombre (índice pg_trgm, insensible a acentos)
+     */
+    @Query(value = "SELECT j.id_jugador FROM jugadores j WHERE j.activo = true "
+            + "AND (f_unaccent(lower(j.nombre)) LIKE '%' || f_unaccent(lower(:patron)) || '%' "
+            + "OR f_unaccent(lower(j.nombre)) % f_unaccent(lower(:nombre))) "
+            + "ORDER BY similarity(f_unaccent(lower(j.nombre)), f_unaccent(lower(:nombre))) DESC, j.id_jugador "
+            + "LIMIT :limite OFFSET :desplazamiento",
+            nativeQuery = true)
+    List<Long> buscarIdsPorSimilitud(@Param("nombre") String nombre, @Param("patron") String patron,
+            @Param("limite") int limite, @Param("desplazamiento") long desplazamiento);
+
+    // ====== Lecturas proyectadas a DTO ======
+
+    @Query(SELECT_JUGADOR_DTO + "WHERE j.idJugador = :idJugador")
+    Optional<JugadorResponseDTO> findDtoById(@Param("idJugador") Long idJugador);
+
+    @Query(SELECT_JUGADOR_DTO + "WHERE e.idEquipo = :idEquipo AND j.activo = true ORDER BY j.numeroCamiseta")
+    List<JugadorResponseDTO> findDtosByEquipo(@Param("idEquipo") Long idEquipo);
+
+    @Query(SELECT_JUGADOR_DTO + "WHERE LOWER(j.nombre) LIKE LOWER(CONCAT('%', :nombre, '%')) AND j.activo = true")
+    List<JugadorResponseDTO> findDtosByNombre(@Param("nombre") String nombre);
+
+    @Query(SELECT_JUGADOR_DTO + "WHERE j.idJugador IN :ids")
+    List<JugadorResponseDTO> findDtosByIds(@Param("ids") Collection<Long> ids);
+
+    // ====== Listado completo: keyset y streaming ======
+
+    /**
+     * Primera página del listado ordenado por (equipo.nombre, numeroCamiseta, idJugador)
+     */
+    @Query(SELECT_JUGADOR_DTO + "WHERE j.activo = true ORDER BY e.nombre, j.numeroCamiseta, j.idJugador")
+    List<JugadorResponseDTO> findPrimeraPaginaDtos(Pageable pageable);
+
+    /**
+     * Página siguiente por método seek: sólo filas posteriores a la última clave devuelta
+     */
+    @Query(SELECT_JUGADOR_DTO + "WHERE j.activo = true AND (e.nombre > :nombreEquipo "
+            + "OR (e.nombre = :nombreEquipo AND (j.numeroCamiseta > :numeroCamiseta "
+            + "OR (j.numeroCamiseta = :numeroCamiseta AND j.idJugador > :idJugador)))) "
+            + "ORDER BY e.nombre, j.numeroCamiseta, j.idJugador")
+    List<JugadorResponseDTO> findPaginaDtosDespuesDe(@Param("nombreEquipo") String nombreEquipo,
+            @Param("numeroCamiseta") Integer numeroCamiseta,
+            @Param("idJugador") Long idJugador,
+            Pageable pageable);
+
+    /**
+     * Recorrido completo con cursor de servidor (requiere transacción abierta)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_JUGADOR_DTO + "WHERE j.activo = true ORDER BY e.nombre, j.numeroCamiseta, j.idJugador")
+    Stream<JugadorResponseDTO> streamDtosActivos();
+
     /**
      * Contar jugadores por equipo
      */
@@ -102,14 +215,51 @@ public interface JugadorRepository extends JpaRepository<Jugador, Long> {
     List<Jugador> findAllJugadoresConEquipo();
 
     /**
-     * Buscar jugadores por rango de edad
+     * Buscar jugadores por rango de fecha de nacimiento (nacidoDespuesDe, nacidoHasta].
+     * Es la forma sargable de un rango de edad: usa idx_jugadores_fecha_nacimiento.
+     */
+    @Query(value = SELECT_JUGADOR_DTO + "WHERE j.activo = true "
+            + "AND j.fechaNacimiento > :nacidoDespuesDe AND j.fechaNacimiento <= :nacidoHasta "
+            + "ORDER BY j.fechaNacimiento DESC, j.idJugador",
+            countQuery = "SELECT COUNT(j) FROM Jugador j WHERE j.activo = true "
+                    + "AND j.fechaNacimiento > :nacidoDespuesDe AND j.fechaNacimiento <= :nacidoHasta")
+    Page<JugadorResponseDTO> findDtosByRangoNacimiento(@Param("nacidoDespuesDe") LocalDate nacidoDespuesDe,
+            @Param("nacidoHasta") LocalDate nacidoHasta, Pageable pageable);
+
+    /**
+     * Distribución de edades (edad exacta, en años cumplidos) de un equipo
+     */
+    @Query(value = "SELECT CAST(date_part('year', age(CURRENT_DATE, j.fecha_nacimiento)) AS integer) AS edad, "
+            + "COUNT(*) AS cantidad FROM jugadores j "
+            + "WHERE j.activo = true AND j.id_equipo = :idEquipo GROUP BY 1 ORDER BY 1",
+            nativeQuery = true)
+    List<Object[]> getDistribucionEdadesPorEquipo(@Param("idEquipo") Long idEquipo);
+
+    /**
+     * Distribución de edades de los equipos de una categoría
+     */
+    @Query(value = "SELECT CAST(date_part('year', age(CURRENT_DATE, j.fecha_nacimiento)) AS integer) AS edad, "
+            + "COUNT(*) AS cantidad FROM jugadores j JOIN equipos e ON e.id_equipo = j.id_equipo "
+            + "WHERE j.activo = true AND e.activo = true AND lower(e.categoria) = lower(:categoria) "
+            + "GROUP BY 1 ORDER BY 1",
+            nativeQuery = true)
+    List<Object[]> getDistribucionEdadesPorCategoria(@Param("categoria") String categoria);
+
+    /**
+     * Distribución de edades de los equipos inscritos en un torneo
      */
-    @Query("SELECT j FROM Jugador j WHERE EXTRACT(YEAR FROM CURRENT_DATE) - EXTRACT(YEAR FROM j.fechaNacimiento) BETWEEN :edadMin AND :edadMax AND j.activo = true")
-    List<Jugador> findByRangoEdad(@Param("edadMin") int edadMin, @Param("edadMax") int edadMax);
+    @Query(value = "SELECT CAST(date_part('year', age(CURRENT_DATE, j.fecha_nacimiento)) AS integer) AS edad, "
+            + "COUNT(*) AS cantidad FROM jugadores j JOIN inscripciones i ON i.id_equipo = j.id_equipo "
+            + "WHERE j.activo = true AND i.activo = true AND i.id_torneo = :idTorneo "
+            + "GROUP BY 1 ORDER BY 1",
+            nativeQuery = true)
+    List<Object[]> getDistribucionEdadesPorTorneo(@Param("idTorneo") Long idTorneo);
 
     /**
-     * Obtener estadísticas por posición en un equipo
+     * Obtener estadísticas por posición en un equipo (caché de consultas)
      */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheL2Config.REGION_CONSULTAS_JUGADORES) })
     @Query("SELECT j.posicion, COUNT(j) FROM Jugador j WHERE j.equipo.idEquipo = :idEquipo AND j.activo = true GROUP BY j.posicion")
     List<Object[]> getEstadisticasPosicionesPorEquipo(@Param("idEquipo") Long idEquipo);
 }
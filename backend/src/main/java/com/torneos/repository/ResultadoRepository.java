@@ -0,0 +1,26 @@
+package com.torneos.repository;
+
+import com.torneos.entity.Resultado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ResultadoRepository extends JpaRepository<Resultado, Long> {
+
+    /**
+     * Buscar el resultado de un partido
+     */
+    Optional<Resultado> findByPartidoIdPartido(Long idPartido);
+
+    /**
+     * Cargar resultados con su partido en una sola consulta
+     */
+    @Query("SELECT r FROM Resultado r JOIN FETCH r.partido WHERE r.idResultado IN :ids")
+    List<Resultado> findConPartidoByIdResultadoIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,21 @@
+package com.torneos.repository;
+
+import com.torneos.entity.Ronda;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RondaRepository extends JpaRepository<Ronda, Long> {
+
+    /**
+     * Verificar si un torneo ya tiene calendario
+     */
+    boolean existsByTorneoIdTorneo(Long idTorneo);
+
+    /**
+     * Rondas de un torneo en orden
+     */
+    List<Ronda> findByTorneoIdTorneoOrderByOrdenRonda(Long idTorneo);
+}
@@ -0,0 +1,22 @@
+package com.torneos.repository;
+
+import com.torneos.entity.Torneo;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TorneoRepository extends JpaRepository<Torneo, Long> {
+
+    /**
+     * Buscar torneo bloqueando su fila (serializa operaciones sobre el calendario)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Torneo t WHERE t.idTorneo = :idTorneo")
+    Optional<Torneo> findByIdParaActualizar(@Param("idTorneo") Long idTorneo);
+}
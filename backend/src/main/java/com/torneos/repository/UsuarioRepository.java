@@ -0,0 +1,16 @@
+package com.torneos.repository;
+
+import com.torneos.entity.Usuario;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
+
+    /**
+     * Buscar usuario activo por username (case insensitive)
+     */
+    Optional<Usuario> findByUsernameIgnoreCaseAndActivoTrue(String username);
+}
@@ -0,0 +1,49 @@
+package com.torneos.security;
+
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Autentica la petición con el token Bearer, sin sesión ni consulta a usuarios.
+ * Un token ausente o inválido deja la petición anónima; las reglas de SecurityConfig deciden el 401/403.
+ *
+ * No es un @Component para que Spring Boot no lo registre también como filtro del servlet.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String PREFIJO_BEARER = "Bearer ";
+
+    private final JwtService jwtService;
+
+    public JwtAuthenticationFilter(JwtService jwtService) {
+        this.jwtService = jwtService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String cabecera = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (cabecera != null && cabecera.startsWith(PREFIJO_BEARER)) {
+            try {
+                UsuarioAutenticado usuario = jwtService.validarToken(cabecera.substring(PREFIJO_BEARER.length()));
+                SecurityContext contexto = SecurityContextHolder.createEmptyContext();
+                contexto.setAuthentication(
+                        new UsernamePasswordAuthenticationToken(usuario, null, usuario.getAutoridades()));
+                SecurityContextHolder.setContext(contexto);
+            } catch (JwtException | IllegalArgumentException e) {
+                logger.debug("Token JWT rechazado: " + e.getMessage());
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
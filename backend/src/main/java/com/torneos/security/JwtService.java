@@ -0,0 +1,153 @@
+package com.torneos.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.torneos.entity.Usuario;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Emisión y verificación de JWT firmados con HMAC-SHA256.
+ *
+ * La verificación de firma y el parseo de claims se memorizan por SHA-256 del token hasta
+ * su expiración, con un tamaño máximo; los tokens inválidos no se cachean. Como la
+ * autenticación no consulta usuarios, desactivar un usuario no revoca sus tokens vigentes.
+ */
+@Service
+public class JwtService {
+
+    private static final String CLAIM_ID_USUARIO = "uid";
+    private static final String CLAIM_ROL = "rol";
+
+    @Value("${jwt.secret}")
+    private String secreto;
+
+    @Value("${jwt.expiration}")
+    private long expiracionMs;
+
+    @Value("${jwt.cache.tamano-maximo:100000}")
+    private long tamanoMaximoCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Key clave;
+    private JwtParser parser;
+    private Cache<String, UsuarioAutenticado> tokensVerificados;
+    private Timer tiempoVerificacion;
+
+    @PostConstruct
+    public void inicializar() {
+        clave = Keys.hmacShaKeyFor(secreto.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder().setSigningKey(clave).build();
+        tokensVerificados = Caffeine.newBuilder()
+                .maximumSize(tamanoMaximoCache)
+                .expireAfter(new HastaExpiracion())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokensVerificados, "jwt.claims");
+        tiempoVerificacion = Timer.builder("torneos.jwt.verificacion")
+                .description("Verificación de firma y parseo de claims (fallos de caché)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Generar token para un usuario autenticado
+     */
+    public String generarToken(Usuario usuario) {
+        Date ahora = new Date();
+        return Jwts.builder()
+                .setSubject(usuario.getUsername())
+                .claim(CLAIM_ID_USUARIO, usuario.getIdUsuario())
+                .claim(CLAIM_ROL, usuario.getRol().name())
+                .setIssuedAt(ahora)
+                .setExpiration(new Date(ahora.getTime() + expiracionMs))
+                .signWith(clave, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    public long getExpiracionMs() {
+        return expiracionMs;
+    }
+
+    /**
+     * Validar un token y devolver el usuario de sus claims; lanza JwtException si no es válido o expiró
+     */
+    public UsuarioAutenticado validarToken(String token) {
+        String huella = huella(token);
+        UsuarioAutenticado usuario = tokensVerificados.getIfPresent(huella);
+        if (usuario == null) {
+            usuario = tiempoVerificacion.record(() -> verificar(token));
+            tokensVerificados.put(huella, usuario);
+        }
+        return usuario;
+    }
+
+    private UsuarioAutenticado verificar(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        Number idUsuario = claims.get(CLAIM_ID_USUARIO, Number.class);
+        String rol = claims.get(CLAIM_ROL, String.class);
+        if (idUsuario == null || rol == null || claims.getExpiration() == null) {
+            throw new JwtException("Token sin los claims obligatorios");
+        }
+        try {
+            return new UsuarioAutenticado(idUsuario.longValue(), claims.getSubject(),
+                    Usuario.RolUsuario.valueOf(rol), claims.getExpiration().toInstant());
+        } catch (IllegalArgumentException e) {
+            throw new JwtException("Rol desconocido en el token: " + rol);
+        }
+    }
+
+    private static String huella(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    /**
+     * Cada entrada vive hasta la expiración de su token
+     */
+    private static final class HastaExpiracion implements Expiry<String, UsuarioAutenticado> {
+
+        @Override
+        public long expireAfterCreate(String huella, UsuarioAutenticado usuario, long tiempoActual) {
+            return Math.max(0, Duration.between(Instant.now(), usuario.getExpiracion()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String huella, UsuarioAutenticado usuario, long tiempoActual,
+                long duracionRestante) {
+            return expireAfterCreate(huella, usuario, tiempoActual);
+        }
+
+        @Override
+        public long expireAfterRead(String huella, UsuarioAutenticado usuario, long tiempoActual,
+                long duracionRestante) {
+            return duracionRestante;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.torneos.security;
+
+import com.torneos.entity.Usuario;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Principal construido sólo a partir de los claims de un JWT verificado (sin consultar usuarios).
+ * Es inmutable: la misma instancia se reutiliza desde la caché de JwtService.
+ */
+public final class UsuarioAutenticado {
+
+    private final Long idUsuario;
+    private final String username;
+    private final Usuario.RolUsuario rol;
+    private final Instant expiracion;
+    private final List<GrantedAuthority> autoridades;
+
+    public UsuarioAutenticado(Long idUsuario, String username, Usuario.RolUsuario rol, Instant expiracion) {
+        this.idUsuario = idUsuario;
+        this.username = username;
+        this.rol = rol;
+        this.expiracion = expiracion;
+        this.autoridades = List.of(new SimpleGrantedAuthority("ROLE_" + rol.name()));
+    }
+
+    public Long getIdUsuario() {
+        return idUsuario;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public Usuario.RolUsuario getRol() {
+        return rol;
+    }
+
+    public Instant getExpiracion() {
+        return expiracion;
+    }
+
+    public List<GrantedAuthority> getAutoridades() {
+        return autoridades;
+    }
+
+    @Override
+    public String toString() {
+        return "UsuarioAutenticado{" +
+                "idUsuario=" + idUsuario +
+                ", username='" + username + '\'' +
+                ", rol=" + rol +
+                '}';
+    }
+}
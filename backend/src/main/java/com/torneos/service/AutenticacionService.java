@@ -0,0 +1,175 @@
+package com.torneos.service;
+
+import com.torneos.dto.LoginRequestDTO;
+import com.torneos.dto.LoginResponseDTO;
+import com.torneos.entity.Usuario;
+import com.torneos.exception.CredencialesInvalidasException;
+import com.torneos.exception.ServicioSaturadoException;
+import com.torneos.repository.UsuarioRepository;
+import com.torneos.security.JwtService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Inicio de sesión con la verificación BCrypt aislada en un ejecutor propio.
+ *
+ * El hash es la operación más cara de la API: se limita a unos pocos hilos con una cola
+ * acotada, de modo que una avalancha de logins no deja sin CPU al resto de peticiones.
+ * Si la cola está llena o la espera se agota se responde 503 con Retry-After, y un segundo
+ * login simultáneo del mismo usuario recibe 429. La petición no mantiene una conexión de
+ * BD mientras espera al hash: el usuario se lee en la transacción propia del repositorio y,
+ * con spring.jpa.open-in-view desactivado, la conexión vuelve al pool antes de encolar el hash.
+ */
+@Service
+public class AutenticacionService {
+
+    private static final Logger log = LoggerFactory.getLogger(AutenticacionService.class);
+
+    @Value("${torneos.login.hilos:0}")
+    private int hilos;
+
+    @Value("${torneos.login.capacidad-cola:100}")
+    private int capacidadCola;
+
+    @Value("${torneos.login.espera-maxima-ms:2000}")
+    private long esperaMaximaMs;
+
+    @Value("${torneos.login.reintentar-tras-segundos:2}")
+    private long reintentarTrasSegundos;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Set<String> loginsEnCurso = ConcurrentHashMap.newKeySet();
+
+    private ThreadPoolExecutor ejecutorHash;
+    private String hashFicticio;
+    private Timer tiempoHash;
+    private Counter rechazosSaturacion;
+    private Counter rechazosConcurrencia;
+
+    @PostConstruct
+    public void inicializar() {
+        int tamano = hilos > 0 ? hilos : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger contador = new AtomicInteger();
+        ejecutorHash = new ThreadPoolExecutor(tamano, tamano, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadCola),
+                tarea -> {
+                    Thread hilo = new Thread(tarea, "login-hash-" + contador.incrementAndGet());
+                    hilo.setDaemon(true);
+                    return hilo;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        tiempoHash = Timer.builder("torneos.login.hash")
+                .description("Duración de la verificación BCrypt")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("torneos.login.cola", ejecutorHash, e -> e.getQueue().size())
+                .description("Verificaciones esperando hilo").register(meterRegistry);
+        Gauge.builder("torneos.login.activos", ejecutorHash, ThreadPoolExecutor::getActiveCount)
+                .description("Verificaciones en ejecución").register(meterRegistry);
+        rechazosSaturacion = Counter.builder("torneos.login.rechazos").tag("motivo", "saturado")
+                .register(meterRegistry);
+        rechazosConcurrencia = Counter.builder("torneos.login.rechazos").tag("motivo", "concurrente")
+                .register(meterRegistry);
+
+        // Un usuario inexistente también paga un hash, para no revelar qué usernames existen.
+        // Generarlo sirve además de calibración del coste configurado en esta máquina.
+        long inicio = System.nanoTime();
+        hashFicticio = passwordEncoder.encode("usuario-inexistente");
+        long duracionMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+        log.info("Verificación de contraseñas: {} hilos, cola {}, un hash tarda ~{} ms ({} logins/s máx.)",
+                tamano, capacidadCola, duracionMs, duracionMs > 0 ? tamano * 1000 / duracionMs : tamano * 1000);
+    }
+
+    @PreDestroy
+    public void detener() {
+        ejecutorHash.shutdownNow();
+    }
+
+    /**
+     * Verificar credenciales y emitir un JWT
+     */
+    public LoginResponseDTO login(LoginRequestDTO request) {
+        String clave = request.getUsername().trim().toLowerCase(Locale.ROOT);
+        if (!loginsEnCurso.add(clave)) {
+            rechazosConcurrencia.increment();
+            throw new ServicioSaturadoException("Ya hay un inicio de sesión en curso para este usuario",
+                    HttpStatus.TOO_MANY_REQUESTS, 1);
+        }
+        try {
+            Usuario usuario = usuarioRepository.findByUsernameIgnoreCaseAndActivoTrue(clave).orElse(null);
+            String hash = usuario != null ? usuario.getPasswordHash() : hashFicticio;
+            boolean valida = verificarContrasena(request.getPassword(), hash);
+            if (usuario == null || !valida) {
+                throw new CredencialesInvalidasException();
+            }
+
+            return new LoginResponseDTO(jwtService.generarToken(usuario), jwtService.getExpiracionMs(),
+                    usuario.getIdUsuario(), usuario.getUsername(), usuario.getRol());
+        } finally {
+            loginsEnCurso.remove(clave);
+        }
+    }
+
+    private boolean verificarContrasena(String contrasena, String hash) {
+        Future<Boolean> verificacion;
+        try {
+            verificacion = ejecutorHash.submit(
+                    () -> tiempoHash.recordCallable(() -> passwordEncoder.matches(contrasena, hash)));
+        } catch (RejectedExecutionException e) {
+            rechazosSaturacion.increment();
+            throw new ServicioSaturadoException("Demasiados inicios de sesión simultáneos, reintente en unos segundos",
+                    HttpStatus.SERVICE_UNAVAILABLE, reintentarTrasSegundos, e);
+        }
+
+        try {
+            return verificacion.get(esperaMaximaMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            verificacion.cancel(true);
+            rechazosSaturacion.increment();
+            throw new ServicioSaturadoException("La verificación de credenciales tardó demasiado, reintente",
+                    HttpStatus.SERVICE_UNAVAILABLE, reintentarTrasSegundos, e);
+        } catch (InterruptedException e) {
+            verificacion.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServicioSaturadoException("Verificación de credenciales interrumpida",
+                    HttpStatus.SERVICE_UNAVAILABLE, reintentarTrasSegundos, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error verificando la contraseña", e.getCause());
+        }
+    }
+}
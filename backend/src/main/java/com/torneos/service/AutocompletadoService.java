@@ -0,0 +1,138 @@
+package com.torneos.service;
+
+import com.torneos.dto.SugerenciaDTO;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Autocompletado en memoria de nombres de jugadores, equipos y torneos.
+ *
+ * Los índices se construyen al arrancar y se mantienen con los eventos
+ * post-commit de Hibernate (ver SincronizadorAutocompletado), por lo que las
+ * consultas de autocompletado no acceden a la base de datos.
+ */
+@Service
+public class AutocompletadoService {
+
+    private static final Logger log = LoggerFactory.getLogger(AutocompletadoService.class);
+
+    private static final int TAMANO_FETCH = 10_000;
+
+    private static final Map<SugerenciaDTO.Tipo, String> CONSULTAS_CARGA = Map.of(
+            SugerenciaDTO.Tipo.JUGADOR, "SELECT id_jugador, nombre FROM jugadores WHERE activo = true",
+            SugerenciaDTO.Tipo.EQUIPO, "SELECT id_equipo, nombre FROM equipos WHERE activo = true",
+            SugerenciaDTO.Tipo.TORNEO, "SELECT id_torneo, nombre FROM torneos WHERE activo = true");
+
+    private final Map<SugerenciaDTO.Tipo, IndicePrefijos> indices = new EnumMap<>(SugerenciaDTO.Tipo.class);
+
+    // Las fusiones de los índices, de una en una y con prioridad baja para no competir con las peticiones
+    private final ExecutorService ejecutorFusion = Executors.newSingleThreadExecutor(tarea -> {
+        Thread hilo = new Thread(tarea, "autocompletado-fusion");
+        hilo.setDaemon(true);
+        hilo.setPriority(Thread.MIN_PRIORITY);
+        return hilo;
+    });
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${torneos.autocompletado.limite-maximo:20}")
+    private int limiteMaximo;
+
+    public AutocompletadoService() {
+        for (SugerenciaDTO.Tipo tipo : SugerenciaDTO.Tipo.values()) {
+            indices.put(tipo, new IndicePrefijos(tipo, ejecutorFusion));
+        }
+    }
+
+    @PreDestroy
+    public void detener() {
+        ejecutorFusion.shutdownNow();
+    }
+
+    /**
+     * Construir los índices al arrancar la aplicación
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void construirIndices() {
+        for (SugerenciaDTO.Tipo tipo : SugerenciaDTO.Tipo.values()) {
+            long inicio = System.currentTimeMillis();
+            IndicePrefijos.Constructor constructor = new IndicePrefijos.Constructor();
+            // El fetch size sólo tiene efecto en PostgreSQL dentro de una transacción
+            transactionTemplate.executeWithoutResult(estado -> jdbcTemplate.query(conexion -> {
+                PreparedStatement ps = conexion.prepareStatement(CONSULTAS_CARGA.get(tipo));
+                ps.setFetchSize(TAMANO_FETCH);
+                return ps;
+            }, rs -> {
+                constructor.agregar(rs.getLong(1), rs.getString(2));
+            }));
+            indices.get(tipo).cargar(constructor);
+            log.info("Índice de autocompletado {} construido: {} nombres en {} ms",
+                    tipo, indices.get(tipo).tamano(), System.currentTimeMillis() - inicio);
+        }
+    }
+
+    /**
+     * Sugerir nombres cuyo alguna palabra empiece por el texto; sin tipo busca en todos
+     */
+    public List<SugerenciaDTO> sugerir(String texto, SugerenciaDTO.Tipo tipo, int limite) {
+        int limiteEfectivo = Math.max(1, Math.min(limite, limiteMaximo));
+        if (texto == null || texto.isBlank()) {
+            return List.of();
+        }
+        if (tipo != null) {
+            return indices.get(tipo).buscar(texto, limiteEfectivo);
+        }
+
+        List<SugerenciaDTO> sugerencias = new ArrayList<>();
+        for (IndicePrefijos indice : indices.values()) {
+            sugerencias.addAll(indice.buscar(texto, limiteEfectivo - sugerencias.size()));
+            if (sugerencias.size() >= limiteEfectivo) {
+                break;
+            }
+        }
+        return sugerencias;
+    }
+
+    /**
+     * Registrar un alta o cambio de nombre; los inactivos se retiran del índice
+     */
+    public void registrar(SugerenciaDTO.Tipo tipo, Long id, String nombre, Boolean activo) {
+        if (id == null) {
+            return;
+        }
+        if (Boolean.FALSE.equals(activo) || nombre == null) {
+            indices.get(tipo).eliminar(id);
+        } else {
+            indices.get(tipo).registrar(id, nombre);
+        }
+    }
+
+    /**
+     * Retirar una entidad del índice
+     */
+    public void eliminar(SugerenciaDTO.Tipo tipo, Long id) {
+        if (id != null) {
+            indices.get(tipo).eliminar(id);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.torneos.service;
+
+import com.torneos.exception.TorneosException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Utilidades compartidas por las búsquedas paginadas de los servicios
+ */
+final class BusquedaUtil {
+
+    static final int TAMANO_MAXIMO_PAGINA = 100;
+
+    private BusquedaUtil() {
+    }
+
+    /**
+     * Escapar los comodines de LIKE para que el texto del usuario se busque literal
+     */
+    static String escaparLike(String texto) {
+        return texto.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * Validar el término de búsqueda
+     */
+    static String normalizarTermino(String termino) {
+        if (termino == null || termino.isBlank()) {
+            throw new TorneosException("El término de búsqueda es obligatorio");
+        }
+        return termino.trim();
+    }
+
+    /**
+     * Construir una página acotada (el orden lo define la consulta)
+     */
+    static Pageable pagina(int pagina, int tamano) {
+        if (pagina < 0 || tamano < 1 || tamano > TAMANO_MAXIMO_PAGINA) {
+            throw new TorneosException("Paginación inválida: página >= 0 y tamaño entre 1 y " + TAMANO_MAXIMO_PAGINA);
+        }
+        return PageRequest.of(pagina, tamano);
+    }
+
+    /**
+     * Armar una página a partir de los IDs ya ordenados por la búsqueda (se piden tamaño + 1
+     * para saber si hay más) y de una carga proyectada de esos IDs, que vuelve sin orden
+     */
+    static <T> Slice<T> rebanada(List<Long> ids, Pageable pageable, Function<List<Long>, List<T>> cargar,
+            Function<T, Long> obtenerId) {
+        boolean hayMas = ids.size() > pageable.getPageSize();
+        List<Long> idsPagina = hayMas ? ids.subList(0, pageable.getPageSize()) : ids;
+        if (idsPagina.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        Map<Long, T> porId = new HashMap<>();
+        for (T elemento : cargar.apply(idsPagina)) {
+            porId.put(obtenerId.apply(elemento), elemento);
+        }
+        List<T> ordenados = new ArrayList<>(idsPagina.size());
+        for (Long id : idsPagina) {
+            T elemento = porId.get(id);
+            if (elemento != null) {
+                ordenados.add(elemento);
+            }
+        }
+        return new SliceImpl<>(ordenados, pageable, hayMas);
+    }
+}
@@ -0,0 +1,148 @@
+package com.torneos.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.torneos.config.EnrutadorLecturas;
+import com.torneos.dto.EquipoBasicoDTO;
+import com.torneos.dto.JugadorResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Caché en memoria de los JugadorResponseDTO ya construidos, por jugador y por plantilla de equipo.
+ *
+ * No hay TTL: las entradas se invalidan tras el commit de cada escritura (JugadorCambiadoEvent,
+ * EquipoCambiadoEvent) y todas a medianoche, cuando puede cambiar la edad calculada. La carga
+ * se hace con Cache.get, así que una invalidación concurrente espera a que termine y descarta
+ * el valor recién leído en lugar de dejarlo obsoleto. Por la misma razón las cargas se leen siempre
+ * de la primaria: con réplicas, una réplica retrasada devolvería el valor anterior a la escritura ya
+ * invalidada y quedaría en caché sin caducar. El tamaño se acota por peso estimado en bytes.
+ *
+ * Los DTO devueltos se comparten entre peticiones y no deben modificarse.
+ */
+@Component
+public class CacheJugadoresDTO {
+
+    // Estimación del tamaño de un DTO sin contar el texto de sus cadenas
+    private static final int BYTES_BASE_DTO = 320;
+    private static final int BYTES_BASE_LISTA = 64;
+
+    @Value("${torneos.cache.dto.peso-maximo-bytes:67108864}")
+    private long pesoMaximoBytes;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache<Long, JugadorResponseDTO> porJugador;
+    private Cache<Long, List<JugadorResponseDTO>> porEquipo;
+    private Counter invalidaciones;
+
+    @PostConstruct
+    public void inicializar() {
+        // Mitad del presupuesto para cada caché
+        porJugador = Caffeine.newBuilder()
+                .maximumWeight(pesoMaximoBytes / 2)
+                .weigher((Long id, JugadorResponseDTO dto) -> estimarBytes(dto))
+                .recordStats()
+                .build();
+        porEquipo = Caffeine.newBuilder()
+                .maximumWeight(pesoMaximoBytes / 2)
+                .weigher((Long id, List<JugadorResponseDTO> plantilla) -> estimarBytes(plantilla))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, porJugador, "jugadores.dto.por-jugador");
+        CaffeineCacheMetrics.monitor(meterRegistry, porEquipo, "jugadores.dto.por-equipo");
+        Gauge.builder("torneos.cache.dto.peso", porJugador, c -> pesoActual(c))
+                .tag("cache", "jugadores.dto.por-jugador").baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("torneos.cache.dto.peso", porEquipo, c -> pesoActual(c))
+                .tag("cache", "jugadores.dto.por-equipo").baseUnit("bytes").register(meterRegistry);
+        invalidaciones = Counter.builder("torneos.cache.dto.invalidaciones")
+                .description("Entradas descartadas por escrituras confirmadas")
+                .register(meterRegistry);
+    }
+
+    public JugadorResponseDTO obtenerJugador(Long idJugador, Function<Long, JugadorResponseDTO> cargar) {
+        return porJugador.get(idJugador, id -> EnrutadorLecturas.enPrimaria(() -> cargar.apply(id)));
+    }
+
+    public List<JugadorResponseDTO> obtenerPlantilla(Long idEquipo, Function<Long, List<JugadorResponseDTO>> cargar) {
+        return porEquipo.get(idEquipo, id -> EnrutadorLecturas.enPrimaria(() -> List.copyOf(cargar.apply(id))));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void alCambiarJugador(JugadorCambiadoEvent evento) {
+        if (evento.getIdJugador() != null) {
+            invalidar(porJugador, evento.getIdJugador());
+        }
+        if (evento.getIdEquipo() != null) {
+            invalidar(porEquipo, evento.getIdEquipo());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void alCambiarEquipo(EquipoCambiadoEvent evento) {
+        invalidar(porEquipo, evento.getIdEquipo());
+        // Los DTO individuales incluyen el equipo; un cambio de equipo es raro, el recorrido es aceptable
+        porJugador.asMap().values().removeIf(dto -> {
+            boolean obsoleto = dto.getEquipo() != null && evento.getIdEquipo().equals(dto.getEquipo().getIdEquipo());
+            if (obsoleto) {
+                invalidaciones.increment();
+            }
+            return obsoleto;
+        });
+    }
+
+    /**
+     * La edad forma parte del DTO: se descarta todo al cambiar de día
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void invalidarTodo() {
+        porJugador.invalidateAll();
+        porEquipo.invalidateAll();
+    }
+
+    private <V> void invalidar(Cache<Long, V> cache, Long clave) {
+        if (cache.asMap().remove(clave) != null) {
+            invalidaciones.increment();
+        }
+    }
+
+    private static double pesoActual(Cache<?, ?> cache) {
+        return cache.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    private static int estimarBytes(List<JugadorResponseDTO> plantilla) {
+        int bytes = BYTES_BASE_LISTA;
+        for (JugadorResponseDTO dto : plantilla) {
+            bytes += estimarBytes(dto);
+        }
+        return bytes;
+    }
+
+    private static int estimarBytes(JugadorResponseDTO dto) {
+        int bytes = BYTES_BASE_DTO + longitud(dto.getNombre()) + longitud(dto.getContactoEmergencia());
+        EquipoBasicoDTO equipo = dto.getEquipo();
+        if (equipo != null) {
+            bytes += longitud(equipo.getNombre()) + longitud(equipo.getCategoria()) + longitud(equipo.getEscudoUrl());
+        }
+        return bytes;
+    }
+
+    private static int longitud(String valor) {
+        // Cadenas Latin-1 compactas: un byte por carácter más la cabecera
+        return valor == null ? 0 : 40 + valor.length();
+    }
+}
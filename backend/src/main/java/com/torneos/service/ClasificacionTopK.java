@@ -0,0 +1,168 @@
+package com.torneos.service;
+
+/**
+ * Totales por jugador de una métrica en un ámbito (torneo o temporada) y sus K mejores.
+ *
+ * Los totales viven en una tabla hash de direccionamiento abierto sobre arreglos
+ * primitivos (long id -> int total, sin objetos por jugador). El top se mantiene
+ * ordenado (total descendente, id ascendente) en otros dos arreglos: un incremento
+ * lo reordena en O(K) y la lectura copia K entradas. Sólo una corrección a la baja
+ * de un jugador del top obliga a recorrer la tabla, porque alguien de fuera podría
+ * haberle superado; las correcciones son raras frente a los registros.
+ *
+ * Los métodos son synchronized: cada ámbito y métrica tiene su propia instancia.
+ */
+final class ClasificacionTopK {
+
+    private static final long VACIO = 0L;
+
+    private final int capacidadTop;
+
+    private long[] claves = new long[16];
+    private int[] totales = new int[16];
+    private int ocupados;
+
+    private final long[] topJugadores;
+    private final int[] topTotales;
+    private int tamanoTop;
+
+    ClasificacionTopK(int capacidadTop) {
+        this.capacidadTop = capacidadTop;
+        this.topJugadores = new long[capacidadTop];
+        this.topTotales = new int[capacidadTop];
+    }
+
+    /**
+     * Sumar un delta (negativo al corregir) al total de un jugador
+     */
+    synchronized void sumar(long idJugador, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        int total = sumarTotal(idJugador, delta);
+        int posicion = posicionEnTop(idJugador);
+
+        if (delta < 0) {
+            if (posicion >= 0) {
+                reconstruirTop();
+            }
+            return;
+        }
+        if (posicion >= 0) {
+            topTotales[posicion] = total;
+            subir(posicion);
+        } else if (tamanoTop < capacidadTop) {
+            topJugadores[tamanoTop] = idJugador;
+            topTotales[tamanoTop] = total;
+            subir(tamanoTop++);
+        } else if (mejor(total, idJugador, topTotales[tamanoTop - 1], topJugadores[tamanoTop - 1])) {
+            topJugadores[tamanoTop - 1] = idJugador;
+            topTotales[tamanoTop - 1] = total;
+            subir(tamanoTop - 1);
+        }
+    }
+
+    /**
+     * Copiar los primeros k: ids en las posiciones pares y totales en las impares
+     */
+    synchronized long[] primeros(int k) {
+        int n = Math.min(k, tamanoTop);
+        long[] resultado = new long[n * 2];
+        for (int i = 0; i < n; i++) {
+            resultado[2 * i] = topJugadores[i];
+            resultado[2 * i + 1] = topTotales[i];
+        }
+        return resultado;
+    }
+
+    synchronized int jugadores() {
+        return ocupados;
+    }
+
+    private int sumarTotal(long idJugador, int delta) {
+        if ((ocupados + 1) * 2 > claves.length) {
+            redimensionar();
+        }
+        int mascara = claves.length - 1;
+        int i = indice(idJugador, mascara);
+        while (claves[i] != VACIO && claves[i] != idJugador) {
+            i = (i + 1) & mascara;
+        }
+        if (claves[i] == VACIO) {
+            claves[i] = idJugador;
+            ocupados++;
+        }
+        totales[i] += delta;
+        return totales[i];
+    }
+
+    private void redimensionar() {
+        long[] clavesAnteriores = claves;
+        int[] totalesAnteriores = totales;
+        claves = new long[clavesAnteriores.length * 2];
+        totales = new int[clavesAnteriores.length * 2];
+        int mascara = claves.length - 1;
+        for (int j = 0; j < clavesAnteriores.length; j++) {
+            if (clavesAnteriores[j] != VACIO) {
+                int i = indice(clavesAnteriores[j], mascara);
+                while (claves[i] != VACIO) {
+                    i = (i + 1) & mascara;
+                }
+                claves[i] = clavesAnteriores[j];
+                totales[i] = totalesAnteriores[j];
+            }
+        }
+    }
+
+    /**
+     * Recorrer todos los totales y quedarse con los K mejores (sólo totales positivos)
+     */
+    private void reconstruirTop() {
+        tamanoTop = 0;
+        for (int i = 0; i < claves.length; i++) {
+            if (claves[i] == VACIO || totales[i] <= 0) {
+                continue;
+            }
+            if (tamanoTop < capacidadTop) {
+                topJugadores[tamanoTop] = claves[i];
+                topTotales[tamanoTop] = totales[i];
+                subir(tamanoTop++);
+            } else if (mejor(totales[i], claves[i], topTotales[tamanoTop - 1], topJugadores[tamanoTop - 1])) {
+                topJugadores[tamanoTop - 1] = claves[i];
+                topTotales[tamanoTop - 1] = totales[i];
+                subir(tamanoTop - 1);
+            }
+        }
+    }
+
+    private int posicionEnTop(long idJugador) {
+        for (int i = 0; i < tamanoTop; i++) {
+            if (topJugadores[i] == idJugador) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void subir(int posicion) {
+        long jugador = topJugadores[posicion];
+        int total = topTotales[posicion];
+        int i = posicion;
+        while (i > 0 && mejor(total, jugador, topTotales[i - 1], topJugadores[i - 1])) {
+            topJugadores[i] = topJugadores[i - 1];
+            topTotales[i] = topTotales[i - 1];
+            i--;
+        }
+        topJugadores[i] = jugador;
+        topTotales[i] = total;
+    }
+
+    private static boolean mejor(int total, long jugador, int otroTotal, long otroJugador) {
+        return total > otroTotal || (total == otroTotal && jugador < otroJugador);
+    }
+
+    private static int indice(long clave, int mascara) {
+        long h = clave * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mascara;
+    }
+}
@@ -0,0 +1,158 @@
+package com.torneos.service;
+
+import com.torneos.dto.ContadoresEquipoDTO;
+import com.torneos.dto.ReconciliacionContadoresDTO;
+import com.torneos.entity.ContadorCategoria;
+import com.torneos.entity.ContadorEquipo;
+import com.torneos.entity.Jugador;
+import com.torneos.repository.ContadorCategoriaRepository;
+import com.torneos.repository.ContadorEquipoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Contadores desnormalizados de plantilla: jugadores activos por equipo y posición,
+ * y equipos activos por categoría.
+ *
+ * Las operaciones de escritura exigen una transacción en curso (MANDATORY) para que
+ * el contador se confirme o se revierta junto con la fila que lo motiva.
+ */
+@Service
+@Transactional
+public class ContadoresPlantillaService {
+
+    private static final Logger log = LoggerFactory.getLogger(ContadoresPlantillaService.class);
+
+    @Autowired
+    private ContadorEquipoRepository contadorEquipoRepository;
+
+    @Autowired
+    private ContadorCategoriaRepository contadorCategoriaRepository;
+
+    // ====== Escritura (dentro de la transacción del servicio llamante) ======
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarAltaJugador(Long idEquipo, Jugador.Posicion posicion) {
+        incrementarJugadores(idEquipo, posicion, 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarBajaJugador(Long idEquipo, Jugador.Posicion posicion) {
+        incrementarJugadores(idEquipo, posicion, -1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarCambioPosicion(Long idEquipo, Jugador.Posicion anterior, Jugador.Posicion nueva) {
+        if (anterior == nueva) {
+            return;
+        }
+        int[] deltas = new int[Jugador.Posicion.values().length];
+        deltas[anterior.ordinal()] = -1;
+        deltas[nueva.ordinal()] = 1;
+        incrementar(idEquipo, 0, deltas);
+    }
+
+    /**
+     * Sumar un lote de altas de un equipo, indexadas por Jugador.Posicion.ordinal()
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarAltasJugadores(Long idEquipo, int[] altasPorPosicion) {
+        int total = 0;
+        for (int altas : altasPorPosicion) {
+            total += altas;
+        }
+        incrementar(idEquipo, total, altasPorPosicion);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarAltaEquipo(String categoria) {
+        contadorCategoriaRepository.incrementar(categoria, 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarBajaEquipo(String categoria) {
+        contadorCategoriaRepository.incrementar(categoria, -1);
+    }
+
+    // ====== Lectura ======
+
+    @Transactional(readOnly = true)
+    public int contarJugadoresActivos(Long idEquipo) {
+        return contadorEquipoRepository.findById(idEquipo)
+                .map(ContadorEquipo::getJugadoresActivos)
+                .orElse(0);
+    }
+
+    @Transactional(readOnly = true)
+    public ContadoresEquipoDTO obtenerContadoresEquipo(Long idEquipo) {
+        ContadorEquipo contador = contadorEquipoRepository.findById(idEquipo)
+                .orElseGet(() -> new ContadorEquipo(idEquipo));
+        Map<Jugador.Posicion, Integer> porPosicion = new EnumMap<>(Jugador.Posicion.class);
+        for (Jugador.Posicion posicion : Jugador.Posicion.values()) {
+            porPosicion.put(posicion, contador.getCantidadPorPosicion(posicion));
+        }
+        return new ContadoresEquipoDTO(idEquipo, contador.getJugadoresActivos(), porPosicion);
+    }
+
+    @Transactional(readOnly = true)
+    public int contarEquiposActivos(String categoria) {
+        return contadorCategoriaRepository.findById(categoria)
+                .map(ContadorCategoria::getEquiposActivos)
+                .orElse(0);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Integer> listarEquiposPorCategoria() {
+        Map<String, Integer> categorias = new LinkedHashMap<>();
+        for (ContadorCategoria contador : contadorCategoriaRepository.findByEquiposActivosGreaterThanOrderByCategoria(0)) {
+            categorias.put(contador.getCategoria(), contador.getEquiposActivos());
+        }
+        return categorias;
+    }
+
+    // ====== Reconciliación ======
+
+    /**
+     * Recalcular los contadores desde las tablas base y corregir las desviaciones.
+     * Las tablas de contadores se bloquean (los incrementos esperan, las lecturas no)
+     * para que ningún incremento concurrente se pierda entre el recuento y la corrección.
+     */
+    public ReconciliacionContadoresDTO reconciliar() {
+        long inicio = System.currentTimeMillis();
+        contadorEquipoRepository.bloquear();
+        contadorCategoriaRepository.bloquear();
+
+        int equipos = contadorEquipoRepository.reconciliar();
+        int categorias = contadorCategoriaRepository.reconciliar() + contadorCategoriaRepository.reconciliarHuerfanas();
+
+        long duracion = System.currentTimeMillis() - inicio;
+        if (equipos > 0 || categorias > 0) {
+            log.warn("Contadores corregidos: {} equipos, {} categorías ({} ms)", equipos, categorias, duracion);
+        } else {
+            log.info("Contadores de plantilla consistentes ({} ms)", duracion);
+        }
+        return new ReconciliacionContadoresDTO(equipos, categorias, duracion);
+    }
+
+    private void incrementarJugadores(Long idEquipo, Jugador.Posicion posicion, int delta) {
+        int[] deltas = new int[Jugador.Posicion.values().length];
+        deltas[posicion.ordinal()] = delta;
+        incrementar(idEquipo, delta, deltas);
+    }
+
+    private void incrementar(Long idEquipo, int activos, int[] porPosicion) {
+        contadorEquipoRepository.incrementar(idEquipo, activos,
+                porPosicion[Jugador.Posicion.PORTERO.ordinal()],
+                porPosicion[Jugador.Posicion.DEFENSA.ordinal()],
+                porPosicion[Jugador.Posicion.MEDIO.ordinal()],
+                porPosicion[Jugador.Posicion.DELANTERO.ordinal()]);
+    }
+}
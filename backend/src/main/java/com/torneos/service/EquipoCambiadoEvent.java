@@ -0,0 +1,17 @@
+package com.torneos.service;
+
+/**
+ * Los datos de un equipo cambiaron en la transacción actual; los DTO de jugador que lo incluyen quedan obsoletos.
+ */
+public class EquipoCambiadoEvent {
+
+    private final Long idEquipo;
+
+    public EquipoCambiadoEvent(Long idEquipo) {
+        this.idEquipo = idEquipo;
+    }
+
+    public Long getIdEquipo() {
+        return idEquipo;
+    }
+}
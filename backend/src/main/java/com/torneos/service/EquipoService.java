@@ -0,0 +1,173 @@
+package com.torneos.service;
+
+import com.torneos.dto.ContadoresEquipoDTO;
+import com.torneos.dto.EquipoBasicoDTO;
+import com.torneos.dto.EquipoRequestDTO;
+import com.torneos.dto.EquipoResponseDTO;
+import com.torneos.entity.Equipo;
+import com.torneos.exception.TorneosException;
+import com.torneos.metricas.PresupuestoSentencias;
+import com.torneos.repository.EquipoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional
+public class EquipoService {
+
+    @Autowired
+    private EquipoRepository equipoRepository;
+
+    @Autowired
+    private OcupacionDorsales ocupacionDorsales;
+
+    @Autowired
+    private ContadoresPlantillaService contadoresPlantillaService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Registrar nuevo equipo
+     */
+    public EquipoResponseDTO crearEquipo(EquipoRequestDTO request) {
+        if (equipoRepository.existsByNombreIgnoreCase(request.getNombre())) {
+            throw new TorneosException("Ya existe un equipo con el nombre " + request.getNombre());
+        }
+
+        Equipo equipo = new Equipo(request.getNombre(), request.getCategoria(), request.getDescripcion(),
+                request.getFechaFundacion());
+        equipo.setEscudoUrl(request.getEscudoUrl());
+
+        Equipo equipoGuardado = equipoRepository.save(equipo);
+        contadoresPlantillaService.registrarAltaEquipo(equipoGuardado.getCategoria());
+        return convertirAEquipoResponseDTO(equipoGuardado, 0);
+    }
+
+    /**
+     * Obtener equipo por ID; la cantidad de jugadores sale del contador, sin cargar la plantilla
+     */
+    @PresupuestoSentencias(2)
+    @Transactional(readOnly = true)
+    public EquipoResponseDTO obtenerEquipo(Long idEquipo) {
+        Equipo equipo = equipoRepository.findById(idEquipo)
+                .orElseThrow(() -> new TorneosException("Equipo no encontrado con ID: " + idEquipo));
+
+        return convertirAEquipoResponseDTO(equipo, contadoresPlantillaService.contarJugadoresActivos(idEquipo));
+    }
+
+    /**
+     * Actualizar equipo
+     */
+    public EquipoResponseDTO actualizarEquipo(Long idEquipo, EquipoRequestDTO request) {
+        Equipo equipo = equipoRepository.findById(idEquipo)
+                .orElseThrow(() -> new TorneosException("Equipo no encontrado con ID: " + idEquipo));
+
+        if (!equipo.getNombre().equalsIgnoreCase(request.getNombre()) &&
+                equipoRepository.existsByNombreIgnoreCase(request.getNombre())) {
+            throw new TorneosException("Ya existe un equipo con el nombre " + request.getNombre());
+        }
+
+        String categoriaAnterior = equipo.getCategoria();
+        equipo.setNombre(request.getNombre());
+        equipo.setCategoria(request.getCategoria());
+        equipo.setEscudoUrl(request.getEscudoUrl());
+        equipo.setDescripcion(request.getDescripcion());
+        equipo.setFechaFundacion(request.getFechaFundacion());
+
+        Equipo equipoActualizado = equipoRepository.save(equipo);
+        if (Boolean.TRUE.equals(equipoActualizado.getActivo())
+                && !categoriaAnterior.equals(equipoActualizado.getCategoria())) {
+            contadoresPlantillaService.registrarBajaEquipo(categoriaAnterior);
+            contadoresPlantillaService.registrarAltaEquipo(equipoActualizado.getCategoria());
+        }
+        eventPublisher.publishEvent(new EquipoCambiadoEvent(idEquipo));
+        return convertirAEquipoResponseDTO(equipoActualizado, contadoresPlantillaService.contarJugadoresActivos(idEquipo));
+    }
+
+    /**
+     * Eliminar equipo (soft delete)
+     */
+    public void eliminarEquipo(Long idEquipo) {
+        Equipo equipo = equipoRepository.findById(idEquipo)
+                .orElseThrow(() -> new TorneosException("Equipo no encontrado con ID: " + idEquipo));
+
+        // Sólo la primera baja descuenta: repetir el DELETE no debe desviar los contadores
+        if (Boolean.TRUE.equals(equipo.getActivo())) {
+            equipo.setActivo(false);
+            equipoRepository.save(equipo);
+            contadoresPlantillaService.registrarBajaEquipo(equipo.getCategoria());
+        }
+    }
+
+    /**
+     * Jugadores activos del equipo, en total y por posición (contadores desnormalizados)
+     */
+    @PresupuestoSentencias(2)
+    @Transactional(readOnly = true)
+    public ContadoresEquipoDTO obtenerContadoresEquipo(Long idEquipo) {
+        if (!equipoRepository.existsById(idEquipo)) {
+            throw new TorneosException("Equipo no encontrado con ID: " + idEquipo);
+        }
+        return contadoresPlantillaService.obtenerContadoresEquipo(idEquipo);
+    }
+
+    /**
+     * Equipos activos por categoría (contadores desnormalizados)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Integer> listarEquiposPorCategoria() {
+        return contadoresPlantillaService.listarEquiposPorCategoria();
+    }
+
+    /**
+     * Buscar equipos por similitud de nombre (trigramas, insensible a acentos), paginado
+     */
+    @PresupuestoSentencias(2)
+    @Transactional(readOnly = true)
+    public Slice<EquipoBasicoDTO> buscarEquiposPorSimilitud(String nombre, int pagina, int tamano) {
+        String termino = BusquedaUtil.normalizarTermino(nombre);
+        Pageable pageable = BusquedaUtil.pagina(pagina, tamano);
+        List<Long> ids = equipoRepository.buscarIdsPorSimilitud(termino, BusquedaUtil.escaparLike(termino),
+                tamano + 1, pageable.getOffset());
+        return BusquedaUtil.rebanada(ids, pageable, equipoRepository::findBasicosByIds,
+                EquipoBasicoDTO::getIdEquipo);
+    }
+
+    /**
+     * Listar los primeros dorsales libres de un equipo (mapa de bits en memoria)
+     */
+    @Transactional(readOnly = true)
+    public List<Integer> listarDorsalesLibres(Long idEquipo, int limite) {
+        if (!equipoRepository.existsById(idEquipo)) {
+            throw new TorneosException("Equipo no encontrado con ID: " + idEquipo);
+        }
+        int limiteAjustado = Math.max(1, Math.min(limite, OcupacionDorsales.NUMERO_MAXIMO));
+        return ocupacionDorsales.listarLibres(idEquipo, limiteAjustado);
+    }
+
+    /**
+     * Convertir Entity a DTO sin tocar la colección de jugadores
+     */
+    private EquipoResponseDTO convertirAEquipoResponseDTO(Equipo equipo, int cantidadJugadores) {
+        EquipoResponseDTO dto = new EquipoResponseDTO();
+        dto.setIdEquipo(equipo.getIdEquipo());
+        dto.setNombre(equipo.getNombre());
+        dto.setCategoria(equipo.getCategoria());
+        dto.setEscudoUrl(equipo.getEscudoUrl());
+        dto.setDescripcion(equipo.getDescripcion());
+        dto.setFechaFundacion(equipo.getFechaFundacion());
+        dto.setActivo(equipo.getActivo());
+        dto.setFechaCreacion(equipo.getFechaCreacion());
+        dto.setFechaActualizacion(equipo.getFechaActualizacion());
+        dto.setCantidadJugadores(cantidadJugadores);
+        return dto;
+    }
+}
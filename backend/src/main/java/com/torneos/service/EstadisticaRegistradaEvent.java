@@ -0,0 +1,45 @@
+package com.torneos.service;
+
+/**
+ * Las estadísticas de un jugador en un partido cambiaron en la transacción actual.
+ * Lleva la diferencia por métrica (en el orden de EstadisticaJugador.Metrica) y
+ * LideresService la aplica a las tablas de líderes tras el commit. El txid de la
+ * transacción permite saber si una recarga de las tablas ya la incluye.
+ */
+public class EstadisticaRegistradaEvent {
+
+    private final long idTorneo;
+    private final int temporada;
+    private final long idJugador;
+    private final int[] deltas;
+    private final long idTransaccion;
+
+    public EstadisticaRegistradaEvent(long idTorneo, int temporada, long idJugador, int[] deltas,
+            long idTransaccion) {
+        this.idTorneo = idTorneo;
+        this.temporada = temporada;
+        this.idJugador = idJugador;
+        this.deltas = deltas;
+        this.idTransaccion = idTransaccion;
+    }
+
+    public long getIdTorneo() {
+        return idTorneo;
+    }
+
+    public int getTemporada() {
+        return temporada;
+    }
+
+    public long getIdJugador() {
+        return idJugador;
+    }
+
+    public int[] getDeltas() {
+        return deltas;
+    }
+
+    public long getIdTransaccion() {
+        return idTransaccion;
+    }
+}
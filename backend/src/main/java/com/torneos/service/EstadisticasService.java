@@ -0,0 +1,121 @@
+package com.torneos.service;
+
+import com.torneos.dto.EstadisticaJugadorRequestDTO;
+import com.torneos.dto.EstadisticaJugadorResponseDTO;
+import com.torneos.entity.EstadisticaJugador;
+import com.torneos.entity.Jugador;
+import com.torneos.entity.Partido;
+import com.torneos.entity.Torneo;
+import com.torneos.exception.TorneosException;
+import com.torneos.repository.EstadisticaJugadorRepository;
+import com.torneos.repository.JugadorRepository;
+import com.torneos.repository.PartidoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Registro de las estadísticas individuales de los jugadores por partido.
+ * Cada cambio publica la diferencia por métrica para las tablas de líderes.
+ */
+@Service
+@Transactional
+public class EstadisticasService {
+
+    private static final EstadisticaJugador.Metrica[] METRICAS = EstadisticaJugador.Metrica.values();
+
+    @Autowired
+    private EstadisticaJugadorRepository estadisticaJugadorRepository;
+
+    @Autowired
+    private PartidoRepository partidoRepository;
+
+    @Autowired
+    private JugadorRepository jugadorRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Registrar o reemplazar las estadísticas de un jugador en un partido
+     */
+    public EstadisticaJugadorResponseDTO registrarEstadistica(Long idPartido, Long idJugador,
+            EstadisticaJugadorRequestDTO request) {
+        // El bloqueo del partido serializa registros concurrentes del mismo jugador y partido
+        Partido partido = partidoRepository.findByIdParaActualizar(idPartido)
+                .orElseThrow(() -> new TorneosException("Partido no encontrado con ID: " + idPartido));
+        if (!Boolean.TRUE.equals(partido.getActivo())
+                || partido.getEstado() == Partido.EstadoPartido.CANCELADO) {
+            throw new TorneosException("No se pueden registrar estadísticas del partido " + idPartido);
+        }
+
+        Jugador jugador = jugadorRepository.findById(idJugador)
+                .orElseThrow(() -> new TorneosException("Jugador no encontrado con ID: " + idJugador));
+        Long idEquipo = jugador.getEquipo().getIdEquipo();
+        if (!idEquipo.equals(partido.getEquipoLocal().getIdEquipo())
+                && !idEquipo.equals(partido.getEquipoVisitante().getIdEquipo())) {
+            throw new TorneosException("El jugador " + jugador.getNombre() + " no pertenece a ninguno de los equipos del partido");
+        }
+
+        EstadisticaJugador estadistica = estadisticaJugadorRepository
+                .findByPartidoIdPartidoAndJugadorIdJugador(idPartido, idJugador)
+                .orElse(null);
+        int[] deltas = new int[METRICAS.length];
+        if (estadistica == null) {
+            estadistica = new EstadisticaJugador();
+            estadistica.setPartido(partido);
+            estadistica.setJugador(jugador);
+        } else {
+            for (EstadisticaJugador.Metrica metrica : METRICAS) {
+                deltas[metrica.ordinal()] = -metrica.valor(estadistica);
+            }
+        }
+
+        estadistica.setGoles(request.getGoles());
+        estadistica.setAsistencias(request.getAsistencias());
+        estadistica.setTarjetasAmarillas(request.getTarjetasAmarillas());
+        estadistica.setTarjetasRojas(request.getTarjetasRojas());
+        estadistica.setMinutosJugados(request.getMinutosJugados());
+        estadistica.setAtajadas(request.getAtajadas());
+        estadistica.setDetallesAdicionales(request.getDetallesAdicionales());
+        EstadisticaJugador estadisticaGuardada = estadisticaJugadorRepository.save(estadistica);
+
+        for (EstadisticaJugador.Metrica metrica : METRICAS) {
+            deltas[metrica.ordinal()] += metrica.valor(estadisticaGuardada);
+        }
+        Torneo torneo = partido.getRonda().getTorneo();
+        eventPublisher.publishEvent(new EstadisticaRegistradaEvent(torneo.getIdTorneo(),
+                LideresService.temporada(torneo), idJugador, deltas,
+                estadisticaJugadorRepository.idTransaccionActual()));
+        return convertirAEstadisticaResponseDTO(estadisticaGuardada, idPartido, idJugador);
+    }
+
+    /**
+     * Obtener las estadísticas de un jugador en un partido
+     */
+    @Transactional(readOnly = true)
+    public EstadisticaJugadorResponseDTO obtenerEstadistica(Long idPartido, Long idJugador) {
+        EstadisticaJugador estadistica = estadisticaJugadorRepository
+                .findByPartidoIdPartidoAndJugadorIdJugador(idPartido, idJugador)
+                .orElseThrow(() -> new TorneosException("El jugador " + idJugador
+                        + " no tiene estadísticas en el partido " + idPartido));
+        return convertirAEstadisticaResponseDTO(estadistica, idPartido, idJugador);
+    }
+
+    private EstadisticaJugadorResponseDTO convertirAEstadisticaResponseDTO(EstadisticaJugador estadistica,
+            Long idPartido, Long idJugador) {
+        EstadisticaJugadorResponseDTO dto = new EstadisticaJugadorResponseDTO();
+        dto.setIdEstadistica(estadistica.getIdEstadistica());
+        dto.setIdPartido(idPartido);
+        dto.setIdJugador(idJugador);
+        dto.setGoles(estadistica.getGoles());
+        dto.setAsistencias(estadistica.getAsistencias());
+        dto.setTarjetasAmarillas(estadistica.getTarjetasAmarillas());
+        dto.setTarjetasRojas(estadistica.getTarjetasRojas());
+        dto.setMinutosJugados(estadistica.getMinutosJugados());
+        dto.setAtajadas(estadistica.getAtajadas());
+        dto.setDetallesAdicionales(estadistica.getDetallesAdicionales());
+        return dto;
+    }
+}
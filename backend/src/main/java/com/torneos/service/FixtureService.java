@@ -0,0 +1,179 @@
+package com.torneos.service;
+
+import com.torneos.dto.ResultadoFixtureDTO;
+import com.torneos.entity.Torneo;
+import com.torneos.exception.TorneosException;
+import com.torneos.repository.InscripcionRepository;
+import com.torneos.repository.RondaRepository;
+import com.torneos.repository.TorneoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Generación y persistencia del calendario (rondas y partidos) de un torneo.
+ *
+ * El cálculo lo hace GeneradorFixture en memoria; las filas se insertan con
+ * batches JDBC (reWriteBatchedInserts agrupa cada lote en un único INSERT
+ * multi-fila) en lugar de persistir cientos de miles de entidades.
+ */
+@Service
+public class FixtureService {
+
+    private static final String SQL_INSERTAR_RONDA = "INSERT INTO rondas "
+            + "(id_torneo, nombre_ronda, orden_ronda, fecha_inicio, fecha_fin) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SQL_CONSULTAR_RONDAS = "SELECT orden_ronda, id_ronda FROM rondas WHERE id_torneo = ?";
+
+    private static final String SQL_INSERTAR_PARTIDO = "INSERT INTO partidos "
+            + "(id_ronda, equipo_local, equipo_visitante, fecha_hora) VALUES (?, ?, ?, ?)";
+
+    @Autowired
+    private TorneoRepository torneoRepository;
+
+    @Autowired
+    private InscripcionRepository inscripcionRepository;
+
+    @Autowired
+    private RondaRepository rondaRepository;
+
+    @Autowired
+    private PosicionesService posicionesService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${torneos.fixture.tamano-lote:1000}")
+    private int tamanoLote;
+
+    @Value("${torneos.fixture.hora-partidos:18:00}")
+    private String horaPartidos;
+
+    /**
+     * Generar el calendario de un torneo programado a partir de sus inscripciones activas
+     */
+    @Transactional
+    public ResultadoFixtureDTO generarFixture(Long idTorneo) {
+        long inicio = System.currentTimeMillis();
+
+        // El bloqueo de la fila evita dos generaciones simultáneas del mismo torneo
+        Torneo torneo = torneoRepository.findByIdParaActualizar(idTorneo)
+                .orElseThrow(() -> new TorneosException("Torneo no encontrado con ID: " + idTorneo));
+        if (!Boolean.TRUE.equals(torneo.getActivo()) || torneo.getEstado() != Torneo.EstadoTorneo.PROGRAMADO) {
+            throw new TorneosException("Solo se puede generar el calendario de un torneo activo y programado");
+        }
+        if (rondaRepository.existsByTorneoIdTorneo(idTorneo)) {
+            throw new TorneosException("El torneo " + torneo.getNombre() + " ya tiene calendario");
+        }
+
+        List<Long> idsEquipos = inscripcionRepository.findIdsEquiposActivosByTorneo(idTorneo);
+        if (idsEquipos.size() < 2) {
+            throw new TorneosException("Se necesitan al menos 2 equipos inscritos, hay " + idsEquipos.size());
+        }
+        if (torneo.getMaxEquipos() != null && idsEquipos.size() > torneo.getMaxEquipos()) {
+            throw new TorneosException("Hay " + idsEquipos.size() + " equipos inscritos y el máximo es "
+                    + torneo.getMaxEquipos());
+        }
+
+        GeneradorFixture.Fixture fixture = GeneradorFixture.generar(torneo.getFormato(), idsEquipos.size());
+        long duracionGeneracion = System.currentTimeMillis() - inicio;
+
+        LocalDate[] fechas = repartirFechas(torneo, fixture.getRondas());
+        long[] idsRonda = insertarRondas(idTorneo, fixture, fechas);
+        insertarPartidos(fixture, idsRonda, idsEquipos.stream().mapToLong(Long::longValue).toArray(), fechas);
+        if (PosicionesService.tieneTabla(torneo.getFormato())) {
+            posicionesService.inicializarTorneo(idTorneo, idsEquipos);
+        }
+
+        ResultadoFixtureDTO resultado = new ResultadoFixtureDTO();
+        resultado.setIdTorneo(idTorneo);
+        resultado.setFormato(torneo.getFormato());
+        resultado.setEquipos(idsEquipos.size());
+        resultado.setRondas(fixture.getRondas());
+        resultado.setPartidos(fixture.partidos);
+        resultado.setDescansos(fixture.descansos);
+        resultado.setDuracionGeneracionMs(duracionGeneracion);
+        resultado.setDuracionMs(System.currentTimeMillis() - inicio);
+        return resultado;
+    }
+
+    /**
+     * Repartir las rondas de forma uniforme entre la fecha de inicio y la de fin del torneo
+     */
+    private LocalDate[] repartirFechas(Torneo torneo, int rondas) {
+        long dias = Math.max(0, ChronoUnit.DAYS.between(torneo.getFechaInicio(), torneo.getFechaFin()));
+        LocalDate[] fechas = new LocalDate[rondas];
+        for (int r = 0; r < rondas; r++) {
+            fechas[r] = torneo.getFechaInicio().plusDays(rondas > 1 ? r * dias / (rondas - 1) : 0);
+        }
+        return fechas;
+    }
+
+    /**
+     * Insertar las rondas y recuperar sus IDs por la clave única (torneo, orden)
+     */
+    private long[] insertarRondas(Long idTorneo, GeneradorFixture.Fixture fixture, LocalDate[] fechas) {
+        jdbcTemplate.batchUpdate(SQL_INSERTAR_RONDA, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int r) throws SQLException {
+                ps.setLong(1, idTorneo);
+                ps.setString(2, fixture.nombresRondas[r]);
+                ps.setInt(3, r + 1);
+                ps.setDate(4, Date.valueOf(fechas[r]));
+                ps.setDate(5, Date.valueOf(fechas[r]));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return fixture.getRondas();
+            }
+        });
+
+        long[] idsRonda = new long[fixture.getRondas()];
+        jdbcTemplate.query(SQL_CONSULTAR_RONDAS, rs -> {
+            idsRonda[rs.getInt(1) - 1] = rs.getLong(2);
+        }, idTorneo);
+        return idsRonda;
+    }
+
+    private void insertarPartidos(GeneradorFixture.Fixture fixture, long[] idsRonda, long[] idsEquipos,
+            LocalDate[] fechas) {
+        LocalTime hora = LocalTime.parse(horaPartidos);
+        Timestamp[] fechasHora = new Timestamp[fechas.length];
+        for (int r = 0; r < fechas.length; r++) {
+            fechasHora[r] = Timestamp.valueOf(fechas[r].atTime(hora));
+        }
+
+        for (int desde = 0; desde < fixture.partidos; desde += tamanoLote) {
+            int primero = desde;
+            int cantidad = Math.min(tamanoLote, fixture.partidos - desde);
+            jdbcTemplate.batchUpdate(SQL_INSERTAR_PARTIDO, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    int p = primero + i;
+                    ps.setLong(1, idsRonda[fixture.ronda[p]]);
+                    ps.setLong(2, idsEquipos[fixture.local[p]]);
+                    ps.setLong(3, idsEquipos[fixture.visitante[p]]);
+                    ps.setTimestamp(4, fechasHora[fixture.ronda[p]]);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return cantidad;
+                }
+            });
+        }
+    }
+}
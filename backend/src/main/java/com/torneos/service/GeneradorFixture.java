@@ -0,0 +1,188 @@
+package com.torneos.service;
+
+import com.torneos.entity.Torneo;
+
+import java.util.Arrays;
+
+/**
+ * Generación del calendario de un torneo a partir de sus equipos inscritos.
+ *
+ * Los equipos se identifican por su posición (0..n-1) en el orden de siembra y
+ * los partidos se devuelven en tres arreglos paralelos (ronda, local, visitante),
+ * sin objetos por partido: una liga de 1.000 equipos son ~500.000 partidos.
+ *
+ * - LIGUILLA: todos contra todos por el método del círculo; con n impar un
+ *   equipo descansa en cada jornada.
+ * - IDA_VUELTA: la liguilla seguida de la misma secuencia con la localía invertida.
+ * - ELIMINACION_DIRECTA: cuadro sembrado (1 contra el último, 2 contra el
+ *   penúltimo...) completado hasta la potencia de dos; los mejores sembrados
+ *   pasan la primera ronda sin jugar. Las rondas siguientes se crean vacías y
+ *   solo llevan los partidos cuyos dos equipos ya se conocen.
+ */
+final class GeneradorFixture {
+
+    private static final int LIBRE = -2;
+    private static final int POR_DEFINIR = -1;
+
+    private GeneradorFixture() {
+    }
+
+    static Fixture generar(Torneo.FormatoTorneo formato, int equipos) {
+        if (equipos < 2) {
+            throw new IllegalArgumentException("Se necesitan al menos 2 equipos, hay " + equipos);
+        }
+        return switch (formato) {
+            case LIGUILLA -> todosContraTodos(equipos, false);
+            case IDA_VUELTA -> todosContraTodos(equipos, true);
+            case ELIMINACION_DIRECTA -> eliminacionDirecta(equipos);
+        };
+    }
+
+    /**
+     * Método del círculo: el equipo 0 queda fijo y el resto rota una posición por jornada
+     */
+    static Fixture todosContraTodos(int equipos, boolean idaYVuelta) {
+        int m = equipos % 2 == 0 ? equipos : equipos + 1;
+        int jornadas = m - 1;
+        int mitad = m / 2;
+        int vueltas = idaYVuelta ? 2 : 1;
+        int porVuelta = equipos * (equipos - 1) / 2;
+
+        String[] nombres = new String[jornadas * vueltas];
+        for (int j = 0; j < nombres.length; j++) {
+            nombres[j] = "Jornada " + (j + 1);
+        }
+        Fixture fixture = new Fixture(nombres, porVuelta * vueltas);
+
+        int[] circulo = new int[m];
+        for (int j = 0; j < jornadas; j++) {
+            for (int k = 1; k < m; k++) {
+                circulo[k] = 1 + (k - 1 + j) % jornadas;
+            }
+            for (int i = 0; i < mitad; i++) {
+                int a = circulo[i];
+                int b = circulo[m - 1 - i];
+                if (a >= equipos || b >= equipos) {
+                    fixture.descansos++;
+                    continue;
+                }
+                // Localía alternada: el fijo cambia cada jornada y el resto según su mesa
+                boolean invertir = i == 0 ? j % 2 == 1 : i % 2 == 1;
+                fixture.agregar(j, invertir ? b : a, invertir ? a : b);
+            }
+        }
+
+        if (idaYVuelta) {
+            for (int p = 0; p < porVuelta; p++) {
+                fixture.agregar(fixture.ronda[p] + jornadas, fixture.visitante[p], fixture.local[p]);
+            }
+            fixture.descansos *= 2;
+        }
+        return fixture;
+    }
+
+    static Fixture eliminacionDirecta(int equipos) {
+        int cuadro = Integer.highestOneBit(equipos - 1) << 1;
+        int rondas = Integer.numberOfTrailingZeros(cuadro);
+
+        String[] nombres = new String[rondas];
+        for (int r = 0; r < rondas; r++) {
+            nombres[r] = nombreRondaEliminatoria(cuadro >> r);
+        }
+        Fixture fixture = new Fixture(nombres, equipos - 1);
+        fixture.descansos = cuadro - equipos;
+
+        int[] actual = ordenSiembra(cuadro);
+        for (int k = 0; k < cuadro; k++) {
+            if (actual[k] >= equipos) {
+                actual[k] = LIBRE;
+            }
+        }
+
+        for (int r = 0; r < rondas; r++) {
+            int[] siguiente = new int[actual.length / 2];
+            for (int i = 0; i < siguiente.length; i++) {
+                int a = actual[2 * i];
+                int b = actual[2 * i + 1];
+                if (a == LIBRE) {
+                    siguiente[i] = b;
+                } else if (b == LIBRE) {
+                    siguiente[i] = a;
+                } else {
+                    if (a >= 0 && b >= 0) {
+                        // Juega de local el mejor sembrado
+                        fixture.agregar(r, Math.min(a, b), Math.max(a, b));
+                    }
+                    siguiente[i] = POR_DEFINIR;
+                }
+            }
+            actual = siguiente;
+        }
+        return fixture;
+    }
+
+    /**
+     * Posiciones del cuadro por siembra: cada siembra s de un cuadro de t se enfrenta a 2t-1-s en el de 2t
+     */
+    static int[] ordenSiembra(int cuadro) {
+        int[] orden = { 0 };
+        while (orden.length < cuadro) {
+            int tamano = orden.length * 2;
+            int[] siguiente = new int[tamano];
+            for (int i = 0; i < orden.length; i++) {
+                siguiente[2 * i] = orden[i];
+                siguiente[2 * i + 1] = tamano - 1 - orden[i];
+            }
+            orden = siguiente;
+        }
+        return orden;
+    }
+
+    private static String nombreRondaEliminatoria(int equiposEnRonda) {
+        return switch (equiposEnRonda) {
+            case 2 -> "Final";
+            case 4 -> "Semifinales";
+            case 8 -> "Cuartos de final";
+            case 16 -> "Octavos de final";
+            case 32 -> "Dieciseisavos de final";
+            default -> "Ronda de " + equiposEnRonda;
+        };
+    }
+
+    /**
+     * Calendario generado: nombres de ronda por orden y partidos en arreglos paralelos
+     */
+    static final class Fixture {
+
+        final String[] nombresRondas;
+        int[] ronda;
+        int[] local;
+        int[] visitante;
+        int partidos;
+        int descansos;
+
+        private Fixture(String[] nombresRondas, int capacidad) {
+            this.nombresRondas = nombresRondas;
+            this.ronda = new int[capacidad];
+            this.local = new int[capacidad];
+            this.visitante = new int[capacidad];
+        }
+
+        private void agregar(int r, int l, int v) {
+            if (partidos == ronda.length) {
+                int capacidad = Math.max(16, partidos * 2);
+                ronda = Arrays.copyOf(ronda, capacidad);
+                local = Arrays.copyOf(local, capacidad);
+                visitante = Arrays.copyOf(visitante, capacidad);
+            }
+            ronda[partidos] = r;
+            local[partidos] = l;
+            visitante[partidos] = v;
+            partidos++;
+        }
+
+        int getRondas() {
+            return nombresRondas.length;
+        }
+    }
+}
@@ -0,0 +1,471 @@
+package com.torneos.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.torneos.config.CacheL2Config;
+import com.torneos.dto.ErrorFilaDTO;
+import com.torneos.dto.JugadorRequestDTO;
+import com.torneos.dto.ResultadoImportacionDTO;
+import com.torneos.dto.SugerenciaDTO;
+import com.torneos.entity.Equipo;
+import com.torneos.entity.Jugador;
+import com.torneos.exception.TorneosException;
+import com.torneos.repository.EquipoRepository;
+import com.torneos.repository.JugadorRepository;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Importación masiva de plantillas (JSON, NDJSON y CSV).
+ *
+ * Las filas se procesan en lotes: los equipos de cada lote se resuelven en una
+ * sola consulta, los números de camiseta se validan por conjunto contra lo que
+ * ya existe en BD y contra lo importado en el mismo archivo, y las filas válidas
+ * se insertan con un batch JDBC en su propia transacción. Si el batch falla se
+ * divide en mitades hasta aislar las filas rechazadas por la BD.
+ */
+@Service
+public class ImportacionJugadoresService {
+
+    private static final String SQL_INSERTAR_JUGADOR = "INSERT INTO jugadores "
+            + "(id_usuario, id_equipo, nombre, fecha_nacimiento, posicion, numero_camiseta, contacto_emergencia) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SQL_CONSULTAR_INSERTADOS = "SELECT j.id_jugador, j.nombre FROM jugadores j "
+            + "JOIN unnest(?::bigint[], ?::int[]) AS t(id_equipo, numero_camiseta) "
+            + "ON j.id_equipo = t.id_equipo AND j.numero_camiseta = t.numero_camiseta";
+
+    private static final List<String> COLUMNAS_CSV = List.of(
+            "nombre", "fechaNacimiento", "posicion", "numeroCamiseta", "idEquipo", "contactoEmergencia", "idUsuario");
+
+    @Autowired
+    private JugadorRepository jugadorRepository;
+
+    @Autowired
+    private EquipoRepository equipoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private AutocompletadoService autocompletadoService;
+
+    @Autowired
+    private OcupacionDorsales ocupacionDorsales;
+
+    @Autowired
+    private ContadoresPlantillaService contadoresPlantillaService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${torneos.importacion.tamano-lote:500}")
+    private int tamanoLote;
+
+    /**
+     * Importar jugadores desde un arreglo JSON, leído elemento a elemento
+     */
+    public ResultadoImportacionDTO importarJugadoresJson(InputStream entrada) {
+        Importacion importacion = new Importacion();
+        try (JsonParser parser = objectMapper.getFactory().createParser(entrada)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new TorneosException("Se esperaba un arreglo JSON de jugadores");
+            }
+            int fila = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                fila++;
+                if (parser.currentToken() == null) {
+                    throw new TorneosException("Arreglo JSON incompleto tras la fila " + (fila - 1));
+                }
+                // Un error de sintaxis deja el parser sin posición fiable y corta la importación;
+                // un error de tipos solo rechaza la fila
+                JsonNode nodo = objectMapper.readTree(parser);
+                try {
+                    JugadorRequestDTO request = nodo.isNull()
+                            ? null : objectMapper.treeToValue(nodo, JugadorRequestDTO.class);
+                    importacion.agregar(fila, request);
+                } catch (JsonProcessingException e) {
+                    importacion.rechazar(fila, "JSON inválido: " + e.getOriginalMessage());
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new TorneosException("JSON inválido: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new TorneosException("Error leyendo el archivo de importación", e);
+        }
+        return importacion.finalizar();
+    }
+
+    /**
+     * Importar jugadores desde NDJSON (un objeto JSON por línea)
+     */
+    public ResultadoImportacionDTO importarJugadoresNdjson(InputStream entrada) {
+        Importacion importacion = new Importacion();
+        try (BufferedReader lector = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8))) {
+            String linea;
+            int fila = 0;
+            while ((linea = lector.readLine()) != null) {
+                fila++;
+                if (linea.isBlank()) {
+                    continue;
+                }
+                try {
+                    importacion.agregar(fila, objectMapper.readValue(linea, JugadorRequestDTO.class));
+                } catch (JsonProcessingException e) {
+                    importacion.rechazar(fila, "JSON inválido: " + e.getOriginalMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new TorneosException("Error leyendo el archivo de importación", e);
+        }
+        return importacion.finalizar();
+    }
+
+    /**
+     * Importar jugadores desde CSV con cabecera
+     */
+    public ResultadoImportacionDTO importarJugadoresCsv(InputStream entrada) {
+        Importacion importacion = new Importacion();
+        try (BufferedReader lector = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8))) {
+            String cabecera = lector.readLine();
+            if (cabecera == null) {
+                return importacion.finalizar();
+            }
+            Map<String, Integer> columnas = indexarCabecera(separarCampos(cabecera));
+
+            String linea;
+            int fila = 1;
+            while ((linea = lector.readLine()) != null) {
+                fila++;
+                if (linea.isBlank()) {
+                    continue;
+                }
+                try {
+                    importacion.agregar(fila, convertirFilaCsv(separarCampos(linea), columnas));
+                } catch (IllegalArgumentException e) {
+                    importacion.rechazar(fila, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new TorneosException("Error leyendo el archivo de importación", e);
+        }
+        return importacion.finalizar();
+    }
+
+    /**
+     * Estado de una importación en curso. Los equipos y sus números ocupados se
+     * cargan una sola vez por equipo y se conservan entre lotes, de modo que un
+     * número repetido dentro del mismo archivo también se detecta.
+     */
+    private class Importacion {
+
+        private final long inicio = System.currentTimeMillis();
+        private final ResultadoImportacionDTO resultado = new ResultadoImportacionDTO();
+        private final List<FilaImportacion> pendientes = new ArrayList<>(tamanoLote);
+        private final Map<Long, Equipo> equipos = new HashMap<>();
+        private final Set<Long> equiposInexistentes = new HashSet<>();
+        private final Map<Long, Set<Integer>> numerosOcupados = new HashMap<>();
+
+        void agregar(int fila, JugadorRequestDTO request) {
+            resultado.setTotalFilas(resultado.getTotalFilas() + 1);
+            if (request == null) {
+                registrarError(fila, "Fila vacía");
+                return;
+            }
+
+            Set<ConstraintViolation<JugadorRequestDTO>> violaciones = validator.validate(request);
+            if (!violaciones.isEmpty()) {
+                registrarError(fila, violaciones.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+
+            pendientes.add(new FilaImportacion(fila, request));
+            if (pendientes.size() >= tamanoLote) {
+                procesarLote();
+            }
+        }
+
+        void rechazar(int fila, String mensaje) {
+            resultado.setTotalFilas(resultado.getTotalFilas() + 1);
+            registrarError(fila, mensaje);
+        }
+
+        ResultadoImportacionDTO finalizar() {
+            if (!pendientes.isEmpty()) {
+                procesarLote();
+            }
+            resultado.setDuracionMs(System.currentTimeMillis() - inicio);
+            return resultado;
+        }
+
+        private void procesarLote() {
+            resolverEquipos();
+
+            List<FilaImportacion> aceptadas = new ArrayList<>(pendientes.size());
+            for (FilaImportacion fila : pendientes) {
+                JugadorRequestDTO request = fila.request;
+                Equipo equipo = equipos.get(request.getIdEquipo());
+                if (equipo == null) {
+                    registrarError(fila.numero, "Equipo no encontrado con ID: " + request.getIdEquipo());
+                } else if (!numerosOcupados.get(equipo.getIdEquipo()).add(request.getNumeroCamiseta())) {
+                    registrarError(fila.numero, "Ya existe un jugador con el número " + request.getNumeroCamiseta()
+                            + " en el equipo " + equipo.getNombre());
+                } else {
+                    aceptadas.add(fila);
+                }
+            }
+            pendientes.clear();
+
+            if (!aceptadas.isEmpty()) {
+                insertarLote(aceptadas);
+            }
+        }
+
+        /**
+         * Cargar en dos consultas los equipos aún no vistos del lote y sus números ocupados
+         */
+        private void resolverEquipos() {
+            Set<Long> nuevos = pendientes.stream()
+                    .map(f -> f.request.getIdEquipo())
+                    .filter(id -> !equipos.containsKey(id) && !equiposInexistentes.contains(id))
+                    .collect(Collectors.toSet());
+            if (nuevos.isEmpty()) {
+                return;
+            }
+
+            for (Equipo equipo : equipoRepository.findAllById(nuevos)) {
+                equipos.put(equipo.getIdEquipo(), equipo);
+                numerosOcupados.put(equipo.getIdEquipo(), new HashSet<>());
+            }
+            for (Long id : nuevos) {
+                if (!equipos.containsKey(id)) {
+                    equiposInexistentes.add(id);
+                }
+            }
+
+            for (Object[] fila : jugadorRepository.findNumerosCamisetaPorEquipos(nuevos)) {
+                numerosOcupados.get((Long) fila[0]).add((Integer) fila[1]);
+            }
+        }
+
+        private void insertarLote(List<FilaImportacion> filas) {
+            try {
+                List<Object[]> insertados = transactionTemplate.execute(estado -> {
+                    jdbcTemplate.batchUpdate(SQL_INSERTAR_JUGADOR, filas, filas.size(), (ps, fila) -> {
+                        JugadorRequestDTO request = fila.request;
+                        if (request.getIdUsuario() != null) {
+                            ps.setLong(1, request.getIdUsuario());
+                        } else {
+                            ps.setNull(1, Types.BIGINT);
+                        }
+                        ps.setLong(2, request.getIdEquipo());
+                        ps.setString(3, request.getNombre());
+                        ps.setDate(4, Date.valueOf(request.getFechaNacimiento()));
+                        ps.setString(5, request.getPosicion().name());
+                        ps.setInt(6, request.getNumeroCamiseta());
+                        ps.setString(7, request.getContactoEmergencia());
+                    });
+                    registrarContadores(filas);
+                    return consultarInsertados(filas);
+                });
+                resultado.setInsertados(resultado.getInsertados() + filas.size());
+
+                // El JDBC directo no dispara los eventos de Hibernate: se notifica al autocompletado
+                // y a los dorsales tras el commit
+                for (Object[] jugador : insertados) {
+                    autocompletadoService.registrar(SugerenciaDTO.Tipo.JUGADOR, (Long) jugador[0],
+                            (String) jugador[1], true);
+                }
+                for (FilaImportacion fila : filas) {
+                    ocupacionDorsales.ocupar(fila.request.getIdEquipo(), fila.request.getNumeroCamiseta());
+                }
+                // Tampoco invalida la caché de consultas de Hibernate (no-op si la caché L2 está desactivada)
+                entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                        .evictQueryRegion(CacheL2Config.REGION_CONSULTAS_JUGADORES);
+            } catch (DataAccessException e) {
+                if (filas.size() > 1) {
+                    // El lote se revirtió entero: se reintenta por mitades hasta aislar las filas
+                    // que fallan (FK, carrera con otro alta del mismo dorsal...) y el resto se inserta
+                    int mitad = filas.size() / 2;
+                    insertarLote(filas.subList(0, mitad));
+                    insertarLote(filas.subList(mitad, filas.size()));
+                    return;
+                }
+                FilaImportacion fila = filas.get(0);
+                numerosOcupados.get(fila.request.getIdEquipo()).remove(fila.request.getNumeroCamiseta());
+                registrarError(fila.numero, "No se pudo insertar: " + e.getMostSpecificCause().getMessage());
+            }
+        }
+
+        /**
+         * Sumar las altas del lote a los contadores de plantilla: un upsert por equipo, en la misma transacción
+         */
+        private void registrarContadores(List<FilaImportacion> filas) {
+            Map<Long, int[]> altasPorEquipo = new HashMap<>();
+            for (FilaImportacion fila : filas) {
+                int[] altas = altasPorEquipo.computeIfAbsent(fila.request.getIdEquipo(),
+                        id -> new int[Jugador.Posicion.values().length]);
+                altas[fila.request.getPosicion().ordinal()]++;
+            }
+            altasPorEquipo.forEach(contadoresPlantillaService::registrarAltasJugadores);
+            // Las plantillas cacheadas de estos equipos se descartan cuando el lote confirme
+            altasPorEquipo.keySet().forEach(id -> eventPublisher.publishEvent(new JugadorCambiadoEvent(null, id)));
+        }
+
+        /**
+         * Recuperar los IDs generados del lote por la clave única (equipo, número)
+         */
+        private List<Object[]> consultarInsertados(List<FilaImportacion> filas) {
+            Long[] equiposLote = new Long[filas.size()];
+            Integer[] numerosLote = new Integer[filas.size()];
+            for (int i = 0; i < filas.size(); i++) {
+                equiposLote[i] = filas.get(i).request.getIdEquipo();
+                numerosLote[i] = filas.get(i).request.getNumeroCamiseta();
+            }
+            return jdbcTemplate.query(conexion -> {
+                PreparedStatement ps = conexion.prepareStatement(SQL_CONSULTAR_INSERTADOS);
+                ps.setArray(1, conexion.createArrayOf("bigint", equiposLote));
+                ps.setArray(2, conexion.createArrayOf("integer", numerosLote));
+                return ps;
+            }, (rs, i) -> new Object[] { rs.getLong(1), rs.getString(2) });
+        }
+
+        private void registrarError(int fila, String mensaje) {
+            resultado.setRechazados(resultado.getRechazados() + 1);
+            resultado.getErrores().add(new ErrorFilaDTO(fila, mensaje));
+        }
+    }
+
+    private static class FilaImportacion {
+        private final int numero;
+        private final JugadorRequestDTO request;
+
+        FilaImportacion(int numero, JugadorRequestDTO request) {
+            this.numero = numero;
+            this.request = request;
+        }
+    }
+
+    // ====== Lectura CSV ======
+
+    private Map<String, Integer> indexarCabecera(List<String> cabecera) {
+        Map<String, Integer> columnas = new HashMap<>();
+        for (int i = 0; i < cabecera.size(); i++) {
+            columnas.put(cabecera.get(i).trim(), i);
+        }
+        for (String requerida : COLUMNAS_CSV.subList(0, 5)) {
+            if (!columnas.containsKey(requerida)) {
+                throw new TorneosException("Falta la columna obligatoria '" + requerida + "' en la cabecera CSV");
+            }
+        }
+        return columnas;
+    }
+
+    private JugadorRequestDTO convertirFilaCsv(List<String> campos, Map<String, Integer> columnas) {
+        JugadorRequestDTO request = new JugadorRequestDTO();
+        request.setNombre(campo(campos, columnas, "nombre"));
+        request.setContactoEmergencia(campo(campos, columnas, "contactoEmergencia"));
+        try {
+            String fecha = campo(campos, columnas, "fechaNacimiento");
+            request.setFechaNacimiento(fecha != null ? LocalDate.parse(fecha) : null);
+            String posicion = campo(campos, columnas, "posicion");
+            request.setPosicion(posicion != null ? Jugador.Posicion.valueOf(posicion.toUpperCase()) : null);
+            String numero = campo(campos, columnas, "numeroCamiseta");
+            request.setNumeroCamiseta(numero != null ? Integer.valueOf(numero) : null);
+            String idEquipo = campo(campos, columnas, "idEquipo");
+            request.setIdEquipo(idEquipo != null ? Long.valueOf(idEquipo) : null);
+            String idUsuario = campo(campos, columnas, "idUsuario");
+            request.setIdUsuario(idUsuario != null ? Long.valueOf(idUsuario) : null);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Valor inválido en CSV: " + e.getMessage());
+        }
+        return request;
+    }
+
+    private String campo(List<String> campos, Map<String, Integer> columnas, String nombre) {
+        Integer indice = columnas.get(nombre);
+        if (indice == null || indice >= campos.size()) {
+            return null;
+        }
+        String valor = campos.get(indice).trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    /**
+     * Separar una línea CSV respetando comillas dobles ("" escapa una comilla)
+     */
+    private List<String> separarCampos(String linea) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder actual = new StringBuilder();
+        boolean entreComillas = false;
+        for (int i = 0; i < linea.length(); i++) {
+            char c = linea.charAt(i);
+            if (entreComillas) {
+                if (c == '"' && i + 1 < linea.length() && linea.charAt(i + 1) == '"') {
+                    actual.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreComillas = false;
+                } else {
+                    actual.append(c);
+                }
+            } else if (c == '"') {
+                entreComillas = true;
+            } else if (c == ',') {
+                campos.add(actual.toString());
+                actual.setLength(0);
+            } else {
+                actual.append(c);
+            }
+        }
+        if (entreComillas) {
+            throw new IllegalArgumentException("Comillas sin cerrar en la línea CSV");
+        }
+        campos.add(actual.toString());
+        return campos;
+    }
+}
@@ -0,0 +1,517 @@
+package com.torneos.service;
+
+import com.torneos.dto.SugerenciaDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Índice de prefijos por palabra para autocompletado, sin objetos por entrada.
+ *
+ * La instantánea guarda los nombres originales (UTF-8) y normalizados (sin
+ * acentos, minúsculas, un byte por carácter) en dos arreglos de bytes
+ * contiguos, y un long por cada inicio de palabra (índice de nombre + desplazamiento)
+ * ordenado por el sufijo normalizado. Un prefijo se resuelve con una búsqueda
+ * binaria y un recorrido secuencial. Con 2M nombres de ~18 caracteres y ~2,5
+ * palabras ocupa del orden de 150 MB, frente a varios GB de un trie con mapas.
+ *
+ * Las altas, cambios y bajas posteriores se acumulan en un mapa pequeño que
+ * prevalece sobre la instantánea; al superar el umbral se fusionan en una
+ * instantánea nueva en segundo plano. La fusión copia los bytes ya normalizados
+ * y las entradas ya ordenadas de los nombres que no cambian, y sólo normaliza y
+ * ordena los nombres cambiados.
+ */
+final class IndicePrefijos {
+
+    private static final int UMBRAL_FUSION = 4096;
+    private static final int LONGITUD_MAXIMA = 0xFFFF;
+    private static final Cambio BAJA = new Cambio(null);
+
+    private final SugerenciaDTO.Tipo tipo;
+    private final Executor ejecutorFusion;
+    private final ConcurrentHashMap<Long, Cambio> cambios = new ConcurrentHashMap<>();
+    private final ReentrantLock bloqueoFusion = new ReentrantLock();
+    private final AtomicBoolean fusionProgramada = new AtomicBoolean();
+    private volatile Instantanea base = new Constructor().construir();
+
+    IndicePrefijos(SugerenciaDTO.Tipo tipo, Executor ejecutorFusion) {
+        this.tipo = tipo;
+        this.ejecutorFusion = ejecutorFusion;
+    }
+
+    /**
+     * Reemplazar la instantánea con una carga completa
+     */
+    void cargar(Constructor constructor) {
+        bloqueoFusion.lock();
+        try {
+            base = constructor.construir();
+        } finally {
+            bloqueoFusion.unlock();
+        }
+    }
+
+    void registrar(long id, String nombre) {
+        cambios.put(id, new Cambio(nombre));
+        programarFusionSiCorresponde();
+    }
+
+    void eliminar(long id) {
+        cambios.put(id, BAJA);
+        programarFusionSiCorresponde();
+    }
+
+    int tamano() {
+        return base.tamano() + cambios.size();
+    }
+
+    /**
+     * Buscar nombres con alguna palabra que empiece por el texto dado
+     */
+    List<SugerenciaDTO> buscar(String texto, int limite) {
+        byte[] prefijo = normalizar(texto);
+        if (prefijo.length == 0 || limite <= 0) {
+            return List.of();
+        }
+
+        List<Candidato> candidatos = new ArrayList<>(limite * 2);
+        for (Map.Entry<Long, Cambio> entrada : cambios.entrySet()) {
+            Cambio cambio = entrada.getValue();
+            if (cambio != BAJA && cambio.coincide(prefijo)) {
+                candidatos.add(new Candidato(entrada.getKey(), cambio.nombre, cambio.normalizado));
+            }
+        }
+
+        Instantanea actual = base;
+        Set<Long> vistos = new HashSet<>();
+        int encontrados = 0;
+        for (int i = actual.limiteInferior(prefijo); i < actual.entradas.length && encontrados < limite; i++) {
+            long entrada = actual.entradas[i];
+            if (actual.compararPrefijo(entrada, prefijo) != 0) {
+                break;
+            }
+            int nombre = (int) (entrada >>> 16);
+            long id = actual.ids[nombre];
+            if (cambios.containsKey(id) || !vistos.add(id)) {
+                continue;
+            }
+            candidatos.add(new Candidato(id, actual.original(nombre), actual.normalizado(nombre)));
+            encontrados++;
+        }
+
+        candidatos.sort(Comparator.comparing(c -> c.normalizado, Arrays::compareUnsigned));
+        List<SugerenciaDTO> resultado = new ArrayList<>(Math.min(limite, candidatos.size()));
+        for (int i = 0; i < candidatos.size() && resultado.size() < limite; i++) {
+            Candidato c = candidatos.get(i);
+            resultado.add(new SugerenciaDTO(tipo, c.id, c.nombre));
+        }
+        return resultado;
+    }
+
+    private void programarFusionSiCorresponde() {
+        if (cambios.size() >= UMBRAL_FUSION && fusionProgramada.compareAndSet(false, true)) {
+            ejecutorFusion.execute(() -> {
+                try {
+                    fusionar();
+                } finally {
+                    fusionProgramada.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Integrar los cambios acumulados en una instantánea nueva
+     */
+    private void fusionar() {
+        if (!bloqueoFusion.tryLock()) {
+            return;
+        }
+        try {
+            Map<Long, Cambio> aplicados = new HashMap<>(cambios);
+            Instantanea actual = base;
+            int bytesOriginales = actual.originales.length;
+            int bytesNormalizados = actual.normalizados.length;
+            for (Cambio cambio : aplicados.values()) {
+                if (cambio != BAJA) {
+                    // Cota de UTF-8 para el original; el normalizado ya se calculó al registrar el cambio
+                    bytesOriginales += cambio.nombre.length() * 3;
+                    bytesNormalizados += cambio.normalizado.length;
+                }
+            }
+            Constructor constructor = new Constructor(actual.tamano() + aplicados.size(),
+                    bytesOriginales, bytesNormalizados);
+            int[] nuevoIndice = new int[actual.tamano()];
+            for (int i = 0; i < actual.tamano(); i++) {
+                nuevoIndice[i] = aplicados.containsKey(actual.ids[i]) ? -1 : constructor.copiar(actual, i);
+            }
+            // Las entradas conservadas siguen ordenadas: el orden sólo depende de los bytes normalizados
+            long[] conservadas = new long[actual.entradas.length];
+            int cantidadConservadas = 0;
+            for (long entrada : actual.entradas) {
+                int nuevo = nuevoIndice[(int) (entrada >>> 16)];
+                if (nuevo >= 0) {
+                    conservadas[cantidadConservadas++] = ((long) nuevo << 16) | (entrada & 0xFFFF);
+                }
+            }
+            aplicados.forEach((id, cambio) -> {
+                if (cambio != BAJA) {
+                    constructor.agregar(id, cambio.nombre, cambio.normalizado);
+                }
+            });
+            base = constructor.construir(Arrays.copyOf(conservadas, cantidadConservadas));
+            // Sólo se descartan los cambios que no se modificaron durante la fusión
+            aplicados.forEach(cambios::remove);
+        } finally {
+            bloqueoFusion.unlock();
+        }
+    }
+
+    /**
+     * Quitar acentos, pasar a minúsculas y reducir separadores a un espacio.
+     * Los caracteres fuera de ASCII que sobreviven se pliegan a un byte alto.
+     */
+    static byte[] normalizar(String texto) {
+        String descompuesto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        byte[] salida = new byte[descompuesto.length()];
+        int n = 0;
+        boolean separador = true;
+        for (int i = 0; i < descompuesto.length(); i++) {
+            char c = descompuesto.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                char minuscula = Character.toLowerCase(c);
+                salida[n++] = minuscula < 0x80 ? (byte) minuscula : (byte) (0x80 | (minuscula & 0x7F));
+                separador = false;
+            } else if (!separador) {
+                salida[n++] = ' ';
+                separador = true;
+            }
+        }
+        if (n > 0 && salida[n - 1] == ' ') {
+            n--;
+        }
+        return Arrays.copyOf(salida, n);
+    }
+
+    private static boolean empiezaPalabraCon(byte[] normalizado, byte[] prefijo) {
+        for (int inicio = 0; inicio <= normalizado.length - prefijo.length; inicio++) {
+            if ((inicio == 0 || normalizado[inicio - 1] == ' ')
+                    && Arrays.equals(normalizado, inicio, inicio + prefijo.length, prefijo, 0, prefijo.length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Cambio {
+        private final String nombre;
+        private final byte[] normalizado;
+
+        Cambio(String nombre) {
+            this.nombre = nombre;
+            this.normalizado = nombre != null ? normalizar(nombre) : null;
+        }
+
+        boolean coincide(byte[] prefijo) {
+            return empiezaPalabraCon(normalizado, prefijo);
+        }
+    }
+
+    private static final class Candidato {
+        private final long id;
+        private final String nombre;
+        private final byte[] normalizado;
+
+        Candidato(long id, String nombre, byte[] normalizado) {
+            this.id = id;
+            this.nombre = nombre;
+            this.normalizado = normalizado;
+        }
+    }
+
+    /**
+     * Acumula nombres en arreglos primitivos crecientes y produce una instantánea
+     */
+    static final class Constructor {
+        private long[] ids;
+        private int cantidad;
+        private byte[] originales;
+        private int[] inicioOriginal;
+        private byte[] normalizados;
+        private int[] inicioNormal;
+        private long[] entradas = new long[2048];
+        private int cantidadEntradas;
+
+        Constructor() {
+            this(1024, 16 * 1024, 16 * 1024);
+        }
+
+        /**
+         * Con capacidad inicial para los nombres y bytes de una instantánea que se va a copiar
+         */
+        Constructor(int nombres, int bytesOriginales, int bytesNormalizados) {
+            ids = new long[Math.max(nombres, 1)];
+            inicioOriginal = new int[ids.length + 1];
+            inicioNormal = new int[ids.length + 1];
+            originales = new byte[bytesOriginales];
+            normalizados = new byte[bytesNormalizados];
+        }
+
+        void agregar(long id, String nombre) {
+            agregar(id, nombre, normalizar(nombre));
+        }
+
+        private void agregar(long id, String nombre, byte[] normalizado) {
+            byte[] original = nombre.getBytes(StandardCharsets.UTF_8);
+            if (normalizado.length == 0 || normalizado.length > LONGITUD_MAXIMA) {
+                return;
+            }
+            int nombreNuevo = anexar(id, original, 0, original.length, normalizado, 0, normalizado.length);
+            for (int i = 0; i < normalizado.length; i++) {
+                if (i == 0 || normalizado[i - 1] == ' ') {
+                    if (cantidadEntradas == entradas.length) {
+                        entradas = Arrays.copyOf(entradas, cantidadEntradas * 2);
+                    }
+                    entradas[cantidadEntradas++] = ((long) nombreNuevo << 16) | i;
+                }
+            }
+        }
+
+        /**
+         * Copiar un nombre de otra instantánea sin volver a normalizarlo ni generar sus entradas
+         */
+        int copiar(Instantanea origen, int nombre) {
+            return anexar(origen.ids[nombre],
+                    origen.originales, origen.inicioOriginal[nombre], origen.inicioOriginal[nombre + 1],
+                    origen.normalizados, origen.inicioNormal[nombre], origen.inicioNormal[nombre + 1]);
+        }
+
+        private int anexar(long id, byte[] original, int desdeOriginal, int hastaOriginal,
+                byte[] normalizado, int desdeNormal, int hastaNormal) {
+            int longitudOriginal = hastaOriginal - desdeOriginal;
+            int longitudNormal = hastaNormal - desdeNormal;
+            if (cantidad == ids.length) {
+                ids = Arrays.copyOf(ids, cantidad * 2);
+                inicioOriginal = Arrays.copyOf(inicioOriginal, cantidad * 2 + 1);
+                inicioNormal = Arrays.copyOf(inicioNormal, cantidad * 2 + 1);
+            }
+            int finOriginal = inicioOriginal[cantidad];
+            int finNormal = inicioNormal[cantidad];
+            originales = asegurar(originales, finOriginal + longitudOriginal);
+            normalizados = asegurar(normalizados, finNormal + longitudNormal);
+            System.arraycopy(original, desdeOriginal, originales, finOriginal, longitudOriginal);
+            System.arraycopy(normalizado, desdeNormal, normalizados, finNormal, longitudNormal);
+
+            ids[cantidad] = id;
+            cantidad++;
+            inicioOriginal[cantidad] = finOriginal + longitudOriginal;
+            inicioNormal[cantidad] = finNormal + longitudNormal;
+            return cantidad - 1;
+        }
+
+        Instantanea construir() {
+            return construir(new long[0]);
+        }
+
+        /**
+         * Construir con entradas ya ordenadas (de nombres copiados) que se mezclan con las nuevas
+         */
+        Instantanea construir(long[] ordenadas) {
+            return new Instantanea(
+                    Arrays.copyOf(ids, cantidad),
+                    Arrays.copyOf(originales, inicioOriginal[cantidad]),
+                    Arrays.copyOf(inicioOriginal, cantidad + 1),
+                    Arrays.copyOf(normalizados, inicioNormal[cantidad]),
+                    Arrays.copyOf(inicioNormal, cantidad + 1),
+                    Arrays.copyOf(entradas, cantidadEntradas),
+                    ordenadas);
+        }
+
+        private static byte[] asegurar(byte[] arreglo, int requerido) {
+            return requerido <= arreglo.length ? arreglo
+                    : Arrays.copyOf(arreglo, Math.max(requerido, arreglo.length * 2));
+        }
+    }
+
+    /**
+     * Instantánea inmutable del índice
+     */
+    static final class Instantanea {
+        private final long[] ids;
+        private final byte[] originales;
+        private final int[] inicioOriginal;
+        private final byte[] normalizados;
+        private final int[] inicioNormal;
+        private final long[] entradas;
+
+        Instantanea(long[] ids, byte[] originales, int[] inicioOriginal, byte[] normalizados,
+                int[] inicioNormal, long[] nuevas, long[] ordenadas) {
+            this.ids = ids;
+            this.originales = originales;
+            this.inicioOriginal = inicioOriginal;
+            this.normalizados = normalizados;
+            this.inicioNormal = inicioNormal;
+            ordenar(nuevas, 0, nuevas.length);
+            this.entradas = ordenadas.length == 0 ? nuevas : mezclar(ordenadas, nuevas);
+        }
+
+        int tamano() {
+            return ids.length;
+        }
+
+        String original(int nombre) {
+            int inicio = inicioOriginal[nombre];
+            return new String(originales, inicio, inicioOriginal[nombre + 1] - inicio, StandardCharsets.UTF_8);
+        }
+
+        byte[] normalizado(int nombre) {
+            return Arrays.copyOfRange(normalizados, inicioNormal[nombre], inicioNormal[nombre + 1]);
+        }
+
+        /**
+         * Primera entrada cuyo sufijo es mayor o igual que el prefijo
+         */
+        int limiteInferior(byte[] prefijo) {
+            int bajo = 0;
+            int alto = entradas.length;
+            while (bajo < alto) {
+                int medio = (bajo + alto) >>> 1;
+                if (compararPrefijo(entradas[medio], prefijo) < 0) {
+                    bajo = medio + 1;
+                } else {
+                    alto = medio;
+                }
+            }
+            return bajo;
+        }
+
+        /**
+         * Comparar el sufijo de la entrada truncado a la longitud del prefijo (0 = empieza por él)
+         */
+        int compararPrefijo(long entrada, byte[] prefijo) {
+            int nombre = (int) (entrada >>> 16);
+            int i = inicioNormal[nombre] + (int) (entrada & 0xFFFF);
+            int fin = inicioNormal[nombre + 1];
+            for (int j = 0; j < prefijo.length; j++, i++) {
+                if (i == fin) {
+                    return -1;
+                }
+                int diferencia = (normalizados[i] & 0xFF) - (prefijo[j] & 0xFF);
+                if (diferencia != 0) {
+                    return diferencia;
+                }
+            }
+            return 0;
+        }
+
+        private long[] mezclar(long[] a, long[] b) {
+            long[] resultado = new long[a.length + b.length];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < a.length && j < b.length) {
+                resultado[k++] = comparar(a[i], b[j]) <= 0 ? a[i++] : b[j++];
+            }
+            while (i < a.length) {
+                resultado[k++] = a[i++];
+            }
+            while (j < b.length) {
+                resultado[k++] = b[j++];
+            }
+            return resultado;
+        }
+
+        private int comparar(long a, long b) {
+            int nombreA = (int) (a >>> 16);
+            int nombreB = (int) (b >>> 16);
+            int ia = inicioNormal[nombreA] + (int) (a & 0xFFFF);
+            int ib = inicioNormal[nombreB] + (int) (b & 0xFFFF);
+            int finA = inicioNormal[nombreA + 1];
+            int finB = inicioNormal[nombreB + 1];
+            while (ia < finA && ib < finB) {
+                int diferencia = (normalizados[ia++] & 0xFF) - (normalizados[ib++] & 0xFF);
+                if (diferencia != 0) {
+                    return diferencia;
+                }
+            }
+            return (finA - ia) - (finB - ib);
+        }
+
+        /**
+         * Quicksort de tres vías sobre [desde, hasta); recursión sólo en la parte menor
+         */
+        private void ordenar(long[] a, int desde, int hasta) {
+            while (hasta - desde > 16) {
+                long pivote = medianaDeTres(a, desde, desde + (hasta - desde) / 2, hasta - 1);
+                int menor = desde;
+                int i = desde;
+                int mayor = hasta - 1;
+                while (i <= mayor) {
+                    int c = comparar(a[i], pivote);
+                    if (c < 0) {
+                        intercambiar(a, menor++, i++);
+                    } else if (c > 0) {
+                        intercambiar(a, i, mayor--);
+                    } else {
+                        i++;
+                    }
+                }
+                if (menor - desde < hasta - mayor - 1) {
+                    ordenar(a, desde, menor);
+                    desde = mayor + 1;
+                } else {
+                    ordenar(a, mayor + 1, hasta);
+                    hasta = menor;
+                }
+            }
+            for (int i = desde + 1; i < hasta; i++) {
+                long actual = a[i];
+                int j = i - 1;
+                while (j >= desde && comparar(a[j], actual) > 0) {
+                    a[j + 1] = a[j];
+                    j--;
+                }
+                a[j + 1] = actual;
+            }
+        }
+
+        private long medianaDeTres(long[] a, int i, int j, int k) {
+            long x = a[i];
+            long y = a[j];
+            long z = a[k];
+            if (comparar(x, y) > 0) {
+                long t = x;
+                x = y;
+                y = t;
+            }
+            if (comparar(y, z) > 0) {
+                y = z;
+                if (comparar(x, y) > 0) {
+                    y = x;
+                }
+            }
+            return y;
+        }
+
+        private static void intercambiar(long[] a, int i, int j) {
+            long t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.torneos.service;
+
+/**
+ * Un jugador (o, con idJugador null, la plantilla de un equipo) cambió en la transacción actual.
+ * Se publica dentro de la transacción y CacheJugadoresDTO lo atiende tras el commit.
+ */
+public class JugadorCambiadoEvent {
+
+    private final Long idJugador;
+    private final Long idEquipo;
+
+    public JugadorCambiadoEvent(Long idJugador, Long idEquipo) {
+        this.idJugador = idJugador;
+        this.idEquipo = idEquipo;
+    }
+
+    public Long getIdJugador() {
+        return idJugador;
+    }
+
+    public Long getIdEquipo() {
+        return idEquipo;
+    }
+}
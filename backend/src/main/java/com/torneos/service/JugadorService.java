@@ -1,32 +1,67 @@
 package com.torneos.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.torneos.dto.DistribucionEdadDTO;
 import com.torneos.dto.JugadorRequestDTO;
 import com.torneos.dto.JugadorResponseDTO;
 import com.torneos.dto.EquipoBasicoDTO;
+import com.torneos.dto.PaginaCursorDTO;
 import com.torneos.entity.Equipo;
 import com.torneos.entity.Jugador;
 import com.torneos.exception.TorneosException;
+import com.torneos.metricas.PresupuestoSentencias;
 import com.torneos.repository.EquipoRepository;
 import com.torneos.repository.JugadorRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.Base64;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class JugadorService {
 
+    private static final int EDAD_MAXIMA = 150;
+
     @Autowired
     private JugadorRepository jugadorRepository;
 
     @Autowired
     private EquipoRepository equipoRepository;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OcupacionDorsales ocupacionDorsales;
+
+    @Autowired
+    private ContadoresPlantillaService contadoresPlantillaService;
+
+    @Autowired
+    private CacheJugadoresDTO cacheJugadoresDTO;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Registrar nuevo jugador
      */
@@ -36,8 +71,7 @@ public class JugadorService {
                 .orElseThrow(() -> new TorneosException("Equipo no encontrado con ID: " + request.getIdEquipo()));
 
         // Validar número de camiseta único en el equipo
-        if (jugadorRepository.existsByEquipoIdEquipoAndNumeroCamiseta(request.getIdEquipo(),
-                request.getNumeroCamiseta())) {
+        if (ocupacionDorsales.estaOcupado(equipo.getIdEquipo(), request.getNumeroCamiseta())) {
             throw new TorneosException("Ya existe un jugador con el número " + request.getNumeroCamiseta() +
                     " en el equipo " + equipo.getNombre());
         }
@@ -51,30 +85,36 @@ public class JugadorService {
         jugador.setContactoEmergencia(request.getContactoEmergencia());
         jugador.setEquipo(equipo);
 
-        Jugador jugadorGuardado = jugadorRepository.save(jugador);
+        Jugador jugadorGuardado = guardarValidandoDorsal(jugador);
+        contadoresPlantillaService.registrarAltaJugador(equipo.getIdEquipo(), jugadorGuardado.getPosicion());
+        eventPublisher.publishEvent(new JugadorCambiadoEvent(jugadorGuardado.getIdJugador(), equipo.getIdEquipo()));
         return convertirAJugadorResponseDTO(jugadorGuardado);
     }
 
     /**
-     * Obtener jugador por ID
+     * Obtener jugador por ID (caché de DTO). Sin transacción propia: un acierto no toma conexión del pool.
      */
-    @Transactional(readOnly = true)
+    @PresupuestoSentencias(1)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public JugadorResponseDTO obtenerJugador(Long idJugador) {
-        Jugador jugador = jugadorRepository.findById(idJugador)
-                .orElseThrow(() -> new TorneosException("Jugador no encontrado con ID: " + idJugador));
-
-        return convertirAJugadorResponseDTO(jugador);
+        return cacheJugadoresDTO.obtenerJugador(idJugador, id -> {
+            JugadorResponseDTO dto = jugadorRepository.findDtoById(id)
+                    .orElseThrow(() -> new TorneosException("Jugador no encontrado con ID: " + id));
+            return completarEdad(dto);
+        });
     }
 
     /**
-     * Listar jugadores por equipo
+     * Listar jugadores por equipo (caché de DTO)
      */
-    @Transactional(readOnly = true)
+    @PresupuestoSentencias(1)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<JugadorResponseDTO> listarJugadoresPorEquipo(Long idEquipo) {
-        List<Jugador> jugadores = jugadorRepository.findByEquipoIdEquipoAndActivoTrue(idEquipo);
-        return jugadores.stream()
-                .map(this::convertirAJugadorResponseDTO)
-                .collect(Collectors.toList());
+        return cacheJugadoresDTO.obtenerPlantilla(idEquipo, id -> {
+            List<JugadorResponseDTO> jugadores = jugadorRepository.findDtosByEquipo(id);
+            jugadores.forEach(this::completarEdad);
+            return jugadores;
+        });
     }
 
     /**
@@ -86,18 +126,23 @@ public class JugadorService {
 
         // Validar número de camiseta único si cambió
         if (!jugador.getNumeroCamiseta().equals(request.getNumeroCamiseta()) &&
-                jugadorRepository.existsByEquipoIdEquipoAndNumeroCamiseta(
-                        jugador.getEquipo().getIdEquipo(), request.getNumeroCamiseta())) {
+                ocupacionDorsales.estaOcupado(jugador.getEquipo().getIdEquipo(), request.getNumeroCamiseta())) {
             throw new TorneosException("El número " + request.getNumeroCamiseta() + " ya está en uso en este equipo");
         }
 
+        Jugador.Posicion posicionAnterior = jugador.getPosicion();
         jugador.setNombre(request.getNombre());
         jugador.setFechaNacimiento(request.getFechaNacimiento());
         jugador.setPosicion(request.getPosicion());
         jugador.setNumeroCamiseta(request.getNumeroCamiseta());
         jugador.setContactoEmergencia(request.getContactoEmergencia());
 
-        Jugador jugadorActualizado = jugadorRepository.save(jugador);
+        Jugador jugadorActualizado = guardarValidandoDorsal(jugador);
+        if (Boolean.TRUE.equals(jugadorActualizado.getActivo())) {
+            contadoresPlantillaService.registrarCambioPosicion(jugadorActualizado.getEquipo().getIdEquipo(),
+                    posicionAnterior, jugadorActualizado.getPosicion());
+        }
+        eventPublisher.publishEvent(new JugadorCambiadoEvent(idJugador, jugadorActualizado.getEquipo().getIdEquipo()));
         return convertirAJugadorResponseDTO(jugadorActualizado);
     }
 
@@ -108,25 +153,187 @@ public class JugadorService {
         Jugador jugador = jugadorRepository.findById(idJugador)
                 .orElseThrow(() -> new TorneosException("Jugador no encontrado con ID: " + idJugador));
 
-        jugador.setActivo(false);
-        jugadorRepository.save(jugador);
+        // Sólo la primera baja descuenta: repetir el DELETE no debe desviar los contadores
+        if (Boolean.TRUE.equals(jugador.getActivo())) {
+            jugador.setActivo(false);
+            jugadorRepository.save(jugador);
+            contadoresPlantillaService.registrarBajaJugador(jugador.getEquipo().getIdEquipo(), jugador.getPosicion());
+            eventPublisher.publishEvent(new JugadorCambiadoEvent(idJugador, jugador.getEquipo().getIdEquipo()));
+        }
     }
 
     /**
      * Buscar jugadores por nombre
      */
+    @PresupuestoSentencias(1)
     @Transactional(readOnly = true)
     public List<JugadorResponseDTO> buscarJugadoresPorNombre(String nombre) {
-        List<Jugador> jugadores = jugadorRepository.findByNombreContainingIgnoreCaseAndActivoTrue(nombre);
-        return jugadores.stream()
-                .map(this::convertirAJugadorResponseDTO)
-                .collect(Collectors.toList());
+        List<JugadorResponseDTO> jugadores = jugadorRepository.findDtosByNombre(nombre);
+        jugadores.forEach(this::completarEdad);
+        return jugadores;
+    }
+
+    /**
+     * Buscar jugadores por similitud de nombre (trigramas, insensible a acentos), paginado
+     */
+    @PresupuestoSentencias(2)
+    @Transactional(readOnly = true)
+    public Slice<JugadorResponseDTO> buscarJugadoresPorSimilitud(String nombre, int pagina, int tamano) {
+        String termino = BusquedaUtil.normalizarTermino(nombre);
+        Pageable pageable = BusquedaUtil.pagina(pagina, tamano);
+        List<Long> ids = jugadorRepository.buscarIdsPorSimilitud(termino, BusquedaUtil.escaparLike(termino),
+                tamano + 1, pageable.getOffset());
+        Slice<JugadorResponseDTO> resultado = BusquedaUtil.rebanada(ids, pageable,
+                jugadorRepository::findDtosByIds, JugadorResponseDTO::getIdJugador);
+        resultado.forEach(this::completarEdad);
+        return resultado;
+    }
+
+    /**
+     * Buscar jugadores por rango de edad o categoría de edad, paginado.
+     * La edad se traduce a un rango de fechas de nacimiento para usar el índice.
+     */
+    @PresupuestoSentencias(2)
+    @Transactional(readOnly = true)
+    public Page<JugadorResponseDTO> buscarJugadoresPorEdad(Integer edadMin, Integer edadMax,
+            Jugador.CategoriaEdad categoria, int pagina, int tamano) {
+        if (categoria != null) {
+            edadMin = categoria.getEdadMinima();
+            edadMax = categoria.getEdadMaxima();
+        }
+        int minimo = edadMin != null ? edadMin : 0;
+        int maximo = edadMax != null ? edadMax : EDAD_MAXIMA;
+        if (minimo < 0 || maximo < minimo) {
+            throw new TorneosException("Rango de edad inválido: " + minimo + " - " + maximo);
+        }
+
+        // edad >= minimo  <=>  nacido en o antes de hoy - minimo años
+        // edad <= maximo  <=>  nacido después de hoy - (maximo + 1) años
+        LocalDate hoy = LocalDate.now();
+        Page<JugadorResponseDTO> jugadores = jugadorRepository.findDtosByRangoNacimiento(
+                hoy.minusYears(maximo + 1L), hoy.minusYears(minimo), BusquedaUtil.pagina(pagina, tamano));
+        jugadores.forEach(this::completarEdad);
+        return jugadores;
+    }
+
+    /**
+     * Distribución de edades calculada en SQL, por equipo, categoría de equipo o torneo
+     */
+    @PresupuestoSentencias(1)
+    @Transactional(readOnly = true)
+    public List<DistribucionEdadDTO> obtenerDistribucionEdades(Long idEquipo, String categoria, Long idTorneo) {
+        int filtros = (idEquipo != null ? 1 : 0) + (categoria != null ? 1 : 0) + (idTorneo != null ? 1 : 0);
+        if (filtros != 1) {
+            throw new TorneosException("Indique exactamente uno de: idEquipo, categoria o idTorneo");
+        }
+
+        List<Object[]> filas;
+        if (idEquipo != null) {
+            filas = jugadorRepository.getDistribucionEdadesPorEquipo(idEquipo);
+        } else if (categoria != null) {
+            filas = jugadorRepository.getDistribucionEdadesPorCategoria(categoria);
+        } else {
+            filas = jugadorRepository.getDistribucionEdadesPorTorneo(idTorneo);
+        }
+        return filas.stream()
+                .map(f -> new DistribucionEdadDTO(((Number) f[0]).intValue(), ((Number) f[1]).longValue()))
+                .toList();
+    }
+
+    /**
+     * Listar todos los jugadores activos con paginación por cursor (keyset)
+     */
+    @PresupuestoSentencias(1)
+    @Transactional(readOnly = true)
+    public PaginaCursorDTO<JugadorResponseDTO> listarJugadoresPorCursor(String cursor, int tamano) {
+        Pageable limite = PageRequest.of(0, BusquedaUtil.pagina(0, tamano).getPageSize() + 1);
+        List<JugadorResponseDTO> jugadores;
+        if (cursor == null || cursor.isBlank()) {
+            jugadores = jugadorRepository.findPrimeraPaginaDtos(limite);
+        } else {
+            ClaveCursor clave = ClaveCursor.decodificar(cursor);
+            jugadores = jugadorRepository.findPaginaDtosDespuesDe(clave.nombreEquipo, clave.numeroCamiseta,
+                    clave.idJugador, limite);
+        }
+
+        String siguienteCursor = null;
+        if (jugadores.size() > tamano) {
+            jugadores = jugadores.subList(0, tamano);
+            siguienteCursor = ClaveCursor.de(jugadores.get(tamano - 1)).codificar();
+        }
+        jugadores.forEach(this::completarEdad);
+        return new PaginaCursorDTO<>(jugadores, siguienteCursor);
+    }
+
+    /**
+     * Exportar todos los jugadores activos en streaming. La memoria usada no depende del
+     * número de filas: el cursor de BD entrega bloques de filas y cada DTO se escribe y descarta.
+     */
+    @Transactional(readOnly = true)
+    public void exportarJugadores(OutputStream salida, FormatoExportacion formato) throws IOException {
+        Writer escritor = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8));
+        if (formato == FormatoExportacion.CSV) {
+            escritor.write("idJugador,nombre,fechaNacimiento,edad,posicion,numeroCamiseta,idEquipo,equipo,categoria\n");
+        }
+        try (Stream<JugadorResponseDTO> jugadores = jugadorRepository.streamDtosActivos()) {
+            for (JugadorResponseDTO jugador : (Iterable<JugadorResponseDTO>) jugadores::iterator) {
+                completarEdad(jugador);
+                if (formato == FormatoExportacion.CSV) {
+                    escribirFilaCsv(escritor, jugador);
+                } else {
+                    escritor.write(objectMapper.writeValueAsString(jugador));
+                    escritor.write('\n');
+                }
+            }
+        }
+        escritor.flush();
+    }
+
+    private void escribirFilaCsv(Writer escritor, JugadorResponseDTO jugador) throws IOException {
+        escritor.write(jugador.getIdJugador() + "," + escaparCsv(jugador.getNombre()) + ","
+                + jugador.getFechaNacimiento() + "," + jugador.getEdad() + "," + jugador.getPosicion() + ","
+                + jugador.getNumeroCamiseta() + "," + jugador.getEquipo().getIdEquipo() + ","
+                + escaparCsv(jugador.getEquipo().getNombre()) + ","
+                + escaparCsv(jugador.getEquipo().getCategoria()) + "\n");
+    }
+
+    private static String escaparCsv(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.contains(",") || valor.contains("\"") || valor.contains("\n")) {
+            return "\"" + valor.replace("\"", "\"\"") + "\"";
+        }
+        return valor;
+    }
+
+    /**
+     * Guardar con flush inmediato: si otra transacción ocupó el dorsal entre la comprobación
+     * en memoria y el INSERT/UPDATE, la restricción única lo rechaza aquí y el mapa de bits
+     * del equipo se recarga.
+     */
+    private Jugador guardarValidandoDorsal(Jugador jugador) {
+        try {
+            return jugadorRepository.saveAndFlush(jugador);
+        } catch (DataIntegrityViolationException e) {
+            ocupacionDorsales.invalidar(jugador.getEquipo().getIdEquipo());
+            throw new TorneosException("El número " + jugador.getNumeroCamiseta() + " ya está en uso en este equipo", e);
+        }
     }
 
     /**
-     * Convertir Entity a DTO
+     * Completar la edad de un DTO proyectado
      */
-    private JugadorResponseDTO convertirAJugadorResponseDTO(Jugador jugador) {
+    private JugadorResponseDTO completarEdad(JugadorResponseDTO dto) {
+        dto.setEdad(calcularEdad(dto.getFechaNacimiento()));
+        return dto;
+    }
+
+    /**
+     * Convertir Entity a DTO (sólo en el camino de escritura, con la entidad ya cargada).
+     * Visible en el paquete para JugadorServiceBenchmark.
+     */
+    JugadorResponseDTO convertirAJugadorResponseDTO(Jugador jugador) {
         JugadorResponseDTO dto = new JugadorResponseDTO();
         dto.setIdJugador(jugador.getIdJugador());
         dto.setNombre(jugador.getNombre());
@@ -153,7 +360,48 @@ public class JugadorService {
     /**
      * Calcular edad a partir de la fecha de nacimiento
      */
-    private Integer calcularEdad(LocalDate fechaNacimiento) {
+    Integer calcularEdad(LocalDate fechaNacimiento) {
         return Period.between(fechaNacimiento, LocalDate.now()).getYears();
     }
+
+    // Formatos de exportación
+    public enum FormatoExportacion {
+        NDJSON,
+        CSV
+    }
+
+    /**
+     * Clave de ordenación del último jugador devuelto, serializada como cursor opaco
+     */
+    private static final class ClaveCursor {
+        private final String nombreEquipo;
+        private final Integer numeroCamiseta;
+        private final Long idJugador;
+
+        private ClaveCursor(String nombreEquipo, Integer numeroCamiseta, Long idJugador) {
+            this.nombreEquipo = nombreEquipo;
+            this.numeroCamiseta = numeroCamiseta;
+            this.idJugador = idJugador;
+        }
+
+        static ClaveCursor de(JugadorResponseDTO jugador) {
+            return new ClaveCursor(jugador.getEquipo().getNombre(), jugador.getNumeroCamiseta(),
+                    jugador.getIdJugador());
+        }
+
+        String codificar() {
+            String crudo = numeroCamiseta + ":" + idJugador + ":" + nombreEquipo;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(crudo.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static ClaveCursor decodificar(String cursor) {
+            try {
+                String crudo = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] partes = crudo.split(":", 3);
+                return new ClaveCursor(partes[2], Integer.valueOf(partes[0]), Long.valueOf(partes[1]));
+            } catch (RuntimeException e) {
+                throw new TorneosException("Cursor inválido");
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,304 @@
+package com.torneos.service;
+
+import com.torneos.dto.JugadorResponseDTO;
+import com.torneos.dto.LiderDTO;
+import com.torneos.entity.EstadisticaJugador;
+import com.torneos.entity.Torneo;
+import com.torneos.exception.TorneosException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Tablas de líderes (goleadores, asistidores...) por torneo y por temporada.
+ *
+ * Los totales por jugador viven en memoria (ClasificacionTopK, una por ámbito y
+ * métrica) y se mantienen con las diferencias que publica EstadisticasService
+ * tras cada commit, así que una consulta copia K entradas sin tocar la base de
+ * datos. Al arrancar se cargan con un único agregado leído en streaming; cada
+ * juego de tablas recuerda la instantánea de ese agregado y descarta los registros
+ * que ya incluye.
+ *
+ * La temporada de un torneo es el año de su fecha de inicio.
+ */
+@Service
+public class LideresService {
+
+    private static final Logger log = LoggerFactory.getLogger(LideresService.class);
+
+    private static final int TAMANO_FETCH = 10_000;
+
+    private static final EstadisticaJugador.Metrica[] METRICAS = EstadisticaJugador.Metrica.values();
+
+    // Una fila por torneo y jugador: id_torneo, temporada, id_jugador y un total por métrica
+    private static final String SQL_CARGA = "SELECT ro.id_torneo, CAST(EXTRACT(YEAR FROM t.fecha_inicio) AS INTEGER), e.id_jugador, "
+            + Arrays.stream(METRICAS)
+                    .map(m -> "SUM(COALESCE(e." + m.getColumna() + ", 0))")
+                    .collect(Collectors.joining(", "))
+            + " FROM estadisticas_jugador e"
+            + " JOIN partidos pa ON pa.id_partido = e.id_partido AND pa.activo = true"
+            + " JOIN rondas ro ON ro.id_ronda = pa.id_ronda"
+            + " JOIN torneos t ON t.id_torneo = ro.id_torneo"
+            + " GROUP BY ro.id_torneo, t.fecha_inicio, e.id_jugador";
+
+    private final Object bloqueoCarga = new Object();
+
+    // Se sustituye entero al recargar; las lecturas no necesitan bloqueo
+    private volatile Tablas tablas;
+
+    // No nulo mientras se carga: los eventos recibidos se reaplican sobre las tablas nuevas
+    private List<EstadisticaRegistradaEvent> eventosDuranteCarga;
+
+    @Autowired
+    private JugadorService jugadorService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${torneos.lideres.k-maximo:50}")
+    private int kMaximo;
+
+    static int temporada(Torneo torneo) {
+        return torneo.getFechaInicio().getYear();
+    }
+
+    /**
+     * Cargar las tablas al arrancar la aplicación
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargarAlArrancar() {
+        recargar();
+    }
+
+    /**
+     * Reconstruir las tablas desde la base de datos. Los registros recibidos desde
+     * antes de leer el agregado se guardan y se reaplican después, salvo los de
+     * transacciones que la instantánea del agregado ya incluye.
+     */
+    public long recargar() {
+        long inicio = System.currentTimeMillis();
+        synchronized (bloqueoCarga) {
+            if (eventosDuranteCarga != null) {
+                throw new TorneosException("Ya hay una carga de líderes en curso");
+            }
+            eventosDuranteCarga = new ArrayList<>();
+        }
+
+        Tablas nuevas;
+        long[] filas = new long[1];
+        try {
+            // REPEATABLE READ: la instantánea leída primero es la misma con la que se lee el agregado.
+            // El fetch size sólo tiene efecto en PostgreSQL dentro de una transacción
+            TransactionTemplate carga = new TransactionTemplate(transactionTemplate.getTransactionManager());
+            carga.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+            nuevas = carga.execute(estado -> {
+                Tablas leidas = new Tablas(kMaximo, Instantanea.de(
+                        jdbcTemplate.queryForObject("SELECT txid_current_snapshot()::text", String.class)));
+                jdbcTemplate.query(conexion -> {
+                    PreparedStatement ps = conexion.prepareStatement(SQL_CARGA);
+                    ps.setFetchSize(TAMANO_FETCH);
+                    return ps;
+                }, rs -> {
+                    long idTorneo = rs.getLong(1);
+                    int temporada = rs.getInt(2);
+                    long idJugador = rs.getLong(3);
+                    ClasificacionTopK[] porTorneo = leidas.deTorneo(idTorneo);
+                    ClasificacionTopK[] porTemporada = leidas.deTemporada(temporada);
+                    for (int m = 0; m < METRICAS.length; m++) {
+                        int total = rs.getInt(4 + m);
+                        porTorneo[m].sumar(idJugador, total);
+                        porTemporada[m].sumar(idJugador, total);
+                    }
+                    filas[0]++;
+                });
+                return leidas;
+            });
+        } catch (RuntimeException e) {
+            synchronized (bloqueoCarga) {
+                eventosDuranteCarga = null;
+            }
+            throw e;
+        }
+
+        synchronized (bloqueoCarga) {
+            tablas = nuevas;
+            for (EstadisticaRegistradaEvent evento : eventosDuranteCarga) {
+                nuevas.aplicar(evento);
+            }
+            eventosDuranteCarga = null;
+        }
+        log.info("Tablas de líderes cargadas: {} filas, {} torneos y {} temporadas en {} ms",
+                filas[0], nuevas.porTorneo.size(), nuevas.porTemporada.size(), System.currentTimeMillis() - inicio);
+        return filas[0];
+    }
+
+    /**
+     * Aplicar las diferencias de un registro de estadísticas confirmado
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void alRegistrarEstadistica(EstadisticaRegistradaEvent evento) {
+        Tablas actuales;
+        synchronized (bloqueoCarga) {
+            actuales = tablas;
+            if (eventosDuranteCarga != null) {
+                eventosDuranteCarga.add(evento);
+            }
+        }
+        if (actuales != null) {
+            actuales.aplicar(evento);
+        }
+    }
+
+    /**
+     * Listar los líderes de una métrica en un torneo
+     */
+    public List<LiderDTO> listarLideresTorneo(Long idTorneo, EstadisticaJugador.Metrica metrica, int limite) {
+        ClasificacionTopK[] clasificaciones = tablasCargadas().porTorneo.get(idTorneo);
+        return convertirALideres(clasificaciones, metrica, limite);
+    }
+
+    /**
+     * Listar los líderes de una métrica en una temporada (año de inicio de los torneos)
+     */
+    public List<LiderDTO> listarLideresTemporada(int temporada, EstadisticaJugador.Metrica metrica, int limite) {
+        ClasificacionTopK[] clasificaciones = tablasCargadas().porTemporada.get(temporada);
+        return convertirALideres(clasificaciones, metrica, limite);
+    }
+
+    private Tablas tablasCargadas() {
+        Tablas actuales = tablas;
+        if (actuales == null) {
+            throw new TorneosException("Las tablas de líderes todavía se están cargando");
+        }
+        return actuales;
+    }
+
+    private List<LiderDTO> convertirALideres(ClasificacionTopK[] clasificaciones, EstadisticaJugador.Metrica metrica,
+            int limite) {
+        if (limite < 1 || limite > kMaximo) {
+            throw new TorneosException("El límite debe estar entre 1 y " + kMaximo);
+        }
+        if (clasificaciones == null) {
+            return List.of();
+        }
+        long[] primeros = clasificaciones[metrica.ordinal()].primeros(limite);
+        List<LiderDTO> lideres = new ArrayList<>(primeros.length / 2);
+        for (int i = 0; i < primeros.length; i += 2) {
+            // Nombres desde la caché de DTO de jugadores: K aciertos en memoria
+            JugadorResponseDTO jugador = jugadorService.obtenerJugador(primeros[i]);
+            LiderDTO lider = new LiderDTO();
+            lider.setPosicion(i / 2 + 1);
+            lider.setIdJugador(jugador.getIdJugador());
+            lider.setNombreJugador(jugador.getNombre());
+            if (jugador.getEquipo() != null) {
+                lider.setIdEquipo(jugador.getEquipo().getIdEquipo());
+                lider.setNombreEquipo(jugador.getEquipo().getNombre());
+            }
+            lider.setMetrica(metrica);
+            lider.setTotal((int) primeros[i + 1]);
+            lideres.add(lider);
+        }
+        return lideres;
+    }
+
+    /**
+     * Clasificaciones de todos los ámbitos: un arreglo por ámbito con una por métrica
+     */
+    private static final class Tablas {
+
+        private final int capacidadTop;
+        private final Instantanea instantanea;
+        private final ConcurrentHashMap<Long, ClasificacionTopK[]> porTorneo = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Integer, ClasificacionTopK[]> porTemporada = new ConcurrentHashMap<>();
+
+        private Tablas(int capacidadTop, Instantanea instantanea) {
+            this.capacidadTop = capacidadTop;
+            this.instantanea = instantanea;
+        }
+
+        private ClasificacionTopK[] deTorneo(long idTorneo) {
+            return porTorneo.computeIfAbsent(idTorneo, id -> nuevasClasificaciones());
+        }
+
+        private ClasificacionTopK[] deTemporada(int temporada) {
+            return porTemporada.computeIfAbsent(temporada, t -> nuevasClasificaciones());
+        }
+
+        private ClasificacionTopK[] nuevasClasificaciones() {
+            ClasificacionTopK[] clasificaciones = new ClasificacionTopK[METRICAS.length];
+            for (int m = 0; m < clasificaciones.length; m++) {
+                clasificaciones[m] = new ClasificacionTopK(capacidadTop);
+            }
+            return clasificaciones;
+        }
+
+        private void aplicar(EstadisticaRegistradaEvent evento) {
+            if (instantanea.incluye(evento.getIdTransaccion())) {
+                // Ya sumado en el agregado: llega durante la carga o su listener se ejecutó tarde
+                return;
+            }
+            ClasificacionTopK[] porTorneo = deTorneo(evento.getIdTorneo());
+            ClasificacionTopK[] porTemporada = deTemporada(evento.getTemporada());
+            int[] deltas = evento.getDeltas();
+            for (int m = 0; m < deltas.length; m++) {
+                porTorneo[m].sumar(evento.getIdJugador(), deltas[m]);
+                porTemporada[m].sumar(evento.getIdJugador(), deltas[m]);
+            }
+        }
+    }
+
+    /**
+     * Instantánea de PostgreSQL en el formato de txid_current_snapshot ("xmin:xmax:xip,...")
+     */
+    static final class Instantanea {
+
+        private final long xmin;
+        private final long xmax;
+        private final Set<Long> enCurso;
+
+        private Instantanea(long xmin, long xmax, Set<Long> enCurso) {
+            this.xmin = xmin;
+            this.xmax = xmax;
+            this.enCurso = enCurso;
+        }
+
+        static Instantanea de(String texto) {
+            String[] partes = texto.split(":", 3);
+            Set<Long> enCurso = new HashSet<>();
+            if (partes.length == 3 && !partes[2].isEmpty()) {
+                for (String id : partes[2].split(",")) {
+                    enCurso.add(Long.parseLong(id));
+                }
+            }
+            return new Instantanea(Long.parseLong(partes[0]), Long.parseLong(partes[1]), enCurso);
+        }
+
+        /**
+         * La transacción ya estaba confirmada cuando se tomó la instantánea
+         */
+        boolean incluye(long idTransaccion) {
+            return idTransaccion < xmin || (idTransaccion < xmax && !enCurso.contains(idTransaccion));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.torneos.service;
+
+import com.torneos.dto.MarcadorDTO;
+
+/**
+ * El marcador de un partido cambió en la transacción actual.
+ * Se publica dentro de la transacción y TransmisionMarcadores lo emite tras el commit.
+ */
+public class MarcadorCambiadoEvent {
+
+    private final MarcadorDTO marcador;
+
+    public MarcadorCambiadoEvent(MarcadorDTO marcador) {
+        this.marcador = marcador;
+    }
+
+    public MarcadorDTO getMarcador() {
+        return marcador;
+    }
+}
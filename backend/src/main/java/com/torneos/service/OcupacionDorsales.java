@@ -0,0 +1,119 @@
+package com.torneos.service;
+
+import com.torneos.repository.JugadorRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Mapa de bits en memoria de los dorsales ocupados de cada equipo (1-99, dos longs por equipo).
+ *
+ * Refleja la restricción única (id_equipo, numero_camiseta), que también cuenta a los
+ * jugadores inactivos: un soft delete no libera el dorsal. Cada equipo se carga con una
+ * consulta la primera vez que se usa y se actualiza tras el commit (SincronizadorDorsales
+ * y la importación masiva). Es sólo un filtro rápido: la restricción de la BD sigue
+ * decidiendo en las carreras y, si falla, el equipo se invalida y se recarga.
+ */
+@Component
+public class OcupacionDorsales {
+
+    static final int NUMERO_MAXIMO = 99;
+
+    // Bits válidos de cada palabra: dorsales 1-64 y 65-99
+    private static final long[] MASCARAS = { -1L, (1L << (NUMERO_MAXIMO - 64)) - 1 };
+
+    @Autowired
+    private JugadorRepository jugadorRepository;
+
+    // Los arrays no se modifican una vez publicados: cada cambio publica una copia
+    private final ConcurrentMap<Long, long[]> porEquipo = new ConcurrentHashMap<>();
+
+    /**
+     * Indica si el dorsal está ocupado en el equipo. Fuera de rango responde false y deja decidir a la BD.
+     */
+    public boolean estaOcupado(Long idEquipo, int numero) {
+        if (numero < 1 || numero > NUMERO_MAXIMO) {
+            return false;
+        }
+        int indice = numero - 1;
+        return (obtener(idEquipo)[indice >>> 6] & (1L << indice)) != 0;
+    }
+
+    /**
+     * Primeros dorsales libres del equipo en orden ascendente
+     */
+    public List<Integer> listarLibres(Long idEquipo, int limite) {
+        long[] bits = obtener(idEquipo);
+        List<Integer> libres = new ArrayList<>(Math.min(limite, NUMERO_MAXIMO));
+        for (int palabra = 0; palabra < bits.length && libres.size() < limite; palabra++) {
+            long disponibles = ~bits[palabra] & MASCARAS[palabra];
+            while (disponibles != 0 && libres.size() < limite) {
+                libres.add(palabra * 64 + Long.numberOfTrailingZeros(disponibles) + 1);
+                disponibles &= disponibles - 1;
+            }
+        }
+        return libres;
+    }
+
+    public void ocupar(Long idEquipo, Integer numero) {
+        modificar(idEquipo, numero, true);
+    }
+
+    public void liberar(Long idEquipo, Integer numero) {
+        modificar(idEquipo, numero, false);
+    }
+
+    /**
+     * Descartar el mapa de un equipo; se recarga desde la BD en el siguiente uso
+     */
+    public void invalidar(Long idEquipo) {
+        if (idEquipo != null) {
+            porEquipo.remove(idEquipo);
+        }
+    }
+
+    private void modificar(Long idEquipo, Integer numero, boolean ocupado) {
+        if (idEquipo == null || numero == null || numero < 1 || numero > NUMERO_MAXIMO) {
+            return;
+        }
+        int indice = numero - 1;
+        // Los equipos aún no cargados no se tocan: leerán el estado ya confirmado al cargarse
+        porEquipo.computeIfPresent(idEquipo, (id, bits) -> {
+            long[] copia = bits.clone();
+            if (ocupado) {
+                copia[indice >>> 6] |= 1L << indice;
+            } else {
+                copia[indice >>> 6] &= ~(1L << indice);
+            }
+            return copia;
+        });
+    }
+
+    private long[] obtener(Long idEquipo) {
+        long[] bits = porEquipo.get(idEquipo);
+        if (bits == null) {
+            // La consulta se hace fuera del mapa; si otro hilo cargó antes, se usa su copia
+            long[] cargado = cargar(idEquipo);
+            bits = porEquipo.putIfAbsent(idEquipo, cargado);
+            if (bits == null) {
+                bits = cargado;
+            }
+        }
+        return bits;
+    }
+
+    private long[] cargar(Long idEquipo) {
+        long[] bits = new long[2];
+        for (Integer numero : jugadorRepository.findNumerosCamisetaByEquipo(idEquipo)) {
+            if (numero != null && numero >= 1 && numero <= NUMERO_MAXIMO) {
+                int indice = numero - 1;
+                bits[indice >>> 6] |= 1L << indice;
+            }
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,548 @@
+package com.torneos.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Asignación de franja (cancha, día y hora) y árbitro a los partidos de un torneo.
+ *
+ * Restricciones duras, contadas como conflictos: un equipo no juega dos veces el
+ * mismo día, un árbitro no dirige dos partidos a la misma hora ni un día en que no
+ * está disponible, y cada franja aloja un único partido (esta última se cumple por
+ * construcción). Como criterio blando se minimizan los días de desviación respecto
+ * a la fecha de la ronda de cada partido.
+ *
+ * Se parte de una asignación voraz y se mejora con recocido simulado sobre
+ * arreglos de contadores (cada movimiento se evalúa en O(1)). La búsqueda se
+ * reparte en épocas: en cada una, varios trabajadores de un ForkJoinPool parten
+ * de la mejor solución conocida con semillas distintas y la mejor que devuelvan
+ * es el punto de partida de la siguiente, hasta agotar el presupuesto de tiempo.
+ *
+ * Equipos, días, instantes (día y hora), franjas y árbitros se identifican por su
+ * posición; la traducción a IDs y fechas la hace quien construye el Problema.
+ */
+final class PlanificadorPartidos {
+
+    // Un conflicto pesa más que cualquier desviación en días razonable
+    static final int PESO_CONFLICTO = 1_000;
+
+    private static final double TEMPERATURA_INICIAL = 20.0;
+    private static final double TEMPERATURA_FINAL = 0.2;
+    private static final int EPOCAS = 10;
+    private static final long DURACION_MINIMA_EPOCA_NS = 50_000_000L;
+    private static final int PASOS_ENTRE_RELOJ = 1024;
+    private static final int VENTANA_DIAS = 3;
+    private static final int INTENTOS_CONFLICTIVO = 8;
+
+    private PlanificadorPartidos() {
+    }
+
+    /**
+     * Buscar la mejor programación posible dentro del presupuesto de tiempo
+     */
+    static Programacion resolver(Problema problema, ForkJoinPool pool, int trabajadores, long presupuestoNanos,
+            long semilla) {
+        if (problema.franjasLibres() < problema.partidos) {
+            throw new IllegalArgumentException("Hay " + problema.franjasLibres() + " franjas libres para "
+                    + problema.partidos + " partidos");
+        }
+        long inicio = System.nanoTime();
+        long fin = inicio + presupuestoNanos;
+        SplittableRandom raiz = new SplittableRandom(semilla);
+
+        Estado mejor = Estado.inicial(problema);
+        long costoInicial = mejor.costo();
+        long duracionEpoca = Math.max(DURACION_MINIMA_EPOCA_NS, presupuestoNanos / EPOCAS);
+        long iteraciones = 0;
+        int epocas = 0;
+
+        while (mejor.costo() > 0 && problema.partidos > 0) {
+            long ahora = System.nanoTime();
+            if (ahora >= fin) {
+                break;
+            }
+            long finEpoca = Math.min(fin, ahora + duracionEpoca);
+            List<Busqueda> busquedas = new ArrayList<>(trabajadores);
+            for (int w = 0; w < trabajadores; w++) {
+                busquedas.add(new Busqueda(mejor.copia(), raiz.split(), inicio, fin, finEpoca));
+            }
+            Estado mejorEpoca = pool.invoke(new Epoca(busquedas));
+            for (Busqueda busqueda : busquedas) {
+                iteraciones += busqueda.iteraciones;
+            }
+            if (mejorEpoca.costo() <= mejor.costo()) {
+                mejor = mejorEpoca;
+            }
+            epocas++;
+        }
+
+        return new Programacion(mejor.franja.clone(), mejor.arbitro.clone(), mejor.conflictosEquipo,
+                mejor.conflictosArbitro, mejor.desviacionDias, costoInicial, iteraciones, epocas);
+    }
+
+    /**
+     * Datos de entrada. Las ocupaciones previas (partidos ya programados que no se
+     * tocan) se cargan con los métodos bloquear/ocupar antes de resolver.
+     */
+    static final class Problema {
+
+        final int partidos;
+        final int equipos;
+        final int dias;
+        final int instantes;
+        final int arbitros;
+        final int franjas;
+
+        final int[] local;
+        final int[] visitante;
+        // Día de la ronda de cada partido, o -1 si no tiene
+        final int[] diaPreferido;
+
+        final int[] diaFranja;
+        final int[] instanteFranja;
+        final boolean[] franjaBloqueada;
+
+        final int[] equipoDiaFijo;
+        final int[] arbitroInstanteFijo;
+        final boolean[] arbitroNoDisponible;
+
+        // Franjas ordenadas por día: las del día d están en [inicioDia[d], inicioDia[d + 1])
+        final int[] franjasPorDia;
+        final int[] inicioDia;
+
+        Problema(int equipos, int dias, int instantes, int arbitros, int[] local, int[] visitante,
+                int[] diaPreferido, int[] diaFranja, int[] instanteFranja) {
+            this.partidos = local.length;
+            this.equipos = equipos;
+            this.dias = dias;
+            this.instantes = instantes;
+            this.arbitros = arbitros;
+            this.franjas = diaFranja.length;
+            this.local = local;
+            this.visitante = visitante;
+            this.diaPreferido = diaPreferido;
+            this.diaFranja = diaFranja;
+            this.instanteFranja = instanteFranja;
+            this.franjaBloqueada = new boolean[franjas];
+            this.equipoDiaFijo = new int[equipos * dias];
+            this.arbitroInstanteFijo = new int[arbitros * instantes];
+            this.arbitroNoDisponible = new boolean[arbitros * dias];
+
+            this.inicioDia = new int[dias + 1];
+            for (int f = 0; f < franjas; f++) {
+                inicioDia[diaFranja[f] + 1]++;
+            }
+            for (int d = 0; d < dias; d++) {
+                inicioDia[d + 1] += inicioDia[d];
+            }
+            this.franjasPorDia = new int[franjas];
+            int[] siguiente = Arrays.copyOf(inicioDia, dias);
+            for (int f = 0; f < franjas; f++) {
+                franjasPorDia[siguiente[diaFranja[f]]++] = f;
+            }
+        }
+
+        void bloquearFranja(int franja) {
+            franjaBloqueada[franja] = true;
+        }
+
+        void ocuparEquipo(int equipo, int dia) {
+            equipoDiaFijo[equipo * dias + dia]++;
+        }
+
+        void ocuparArbitro(int arbitro, int instante) {
+            arbitroInstanteFijo[arbitro * instantes + instante]++;
+        }
+
+        void marcarArbitroNoDisponible(int arbitro, int dia) {
+            arbitroNoDisponible[arbitro * dias + dia] = true;
+        }
+
+        int franjasLibres() {
+            int libres = 0;
+            for (boolean bloqueada : franjaBloqueada) {
+                if (!bloqueada) {
+                    libres++;
+                }
+            }
+            return libres;
+        }
+    }
+
+    /**
+     * Mejor asignación encontrada: franja y árbitro (-1 sin árbitros) por partido
+     */
+    static final class Programacion {
+
+        final int[] franja;
+        final int[] arbitro;
+        final long conflictosEquipo;
+        final long conflictosArbitro;
+        final long desviacionDias;
+        final long costoInicial;
+        final long iteraciones;
+        final int epocas;
+
+        private Programacion(int[] franja, int[] arbitro, long conflictosEquipo, long conflictosArbitro,
+                long desviacionDias, long costoInicial, long iteraciones, int epocas) {
+            this.franja = franja;
+            this.arbitro = arbitro;
+            this.conflictosEquipo = conflictosEquipo;
+            this.conflictosArbitro = conflictosArbitro;
+            this.desviacionDias = desviacionDias;
+            this.costoInicial = costoInicial;
+            this.iteraciones = iteraciones;
+            this.epocas = epocas;
+        }
+
+        long costo() {
+            return (conflictosEquipo + conflictosArbitro) * PESO_CONFLICTO + desviacionDias;
+        }
+    }
+
+    /**
+     * Asignación en curso con los contadores que permiten evaluar un cambio en O(1)
+     */
+    private static final class Estado {
+
+        final Problema problema;
+        final int[] franja;
+        final int[] arbitro;
+        final int[] ocupante;
+        final int[] equipoDia;
+        final int[] arbitroInstante;
+        long conflictosEquipo;
+        long conflictosArbitro;
+        long desviacionDias;
+
+        private Estado(Problema problema) {
+            this.problema = problema;
+            this.franja = new int[problema.partidos];
+            this.arbitro = new int[problema.partidos];
+            this.ocupante = new int[problema.franjas];
+            Arrays.fill(ocupante, -1);
+            this.equipoDia = problema.equipoDiaFijo.clone();
+            this.arbitroInstante = problema.arbitroInstanteFijo.clone();
+        }
+
+        private Estado(Estado otro) {
+            this.problema = otro.problema;
+            this.franja = otro.franja.clone();
+            this.arbitro = otro.arbitro.clone();
+            this.ocupante = otro.ocupante.clone();
+            this.equipoDia = otro.equipoDia.clone();
+            this.arbitroInstante = otro.arbitroInstante.clone();
+            this.conflictosEquipo = otro.conflictosEquipo;
+            this.conflictosArbitro = otro.conflictosArbitro;
+            this.desviacionDias = otro.desviacionDias;
+        }
+
+        Estado copia() {
+            return new Estado(this);
+        }
+
+        static Estado desdeAsignacion(Problema problema, int[] franja, int[] arbitro) {
+            Estado estado = new Estado(problema);
+            for (int p = 0; p < problema.partidos; p++) {
+                estado.poner(p, franja[p], arbitro[p]);
+            }
+            return estado;
+        }
+
+        /**
+         * Asignación voraz: por orden de fecha preferida, la franja libre más cercana
+         * en un día en que ninguno de los dos equipos juega y el árbitro libre con menos partidos
+         */
+        static Estado inicial(Problema problema) {
+            Estado estado = new Estado(problema);
+            long[] orden = new long[problema.partidos];
+            for (int p = 0; p < problema.partidos; p++) {
+                orden[p] = ((long) Math.max(0, problema.diaPreferido[p]) << 32) | p;
+            }
+            Arrays.sort(orden);
+
+            int[] carga = new int[problema.arbitros];
+            for (long clave : orden) {
+                int p = (int) clave;
+                int f = estado.buscarFranja(p);
+                int a = estado.elegirArbitro(f, carga);
+                estado.poner(p, f, a);
+                if (a >= 0) {
+                    carga[a]++;
+                }
+            }
+            return estado;
+        }
+
+        private int buscarFranja(int p) {
+            Problema pr = problema;
+            int origen = Math.max(0, Math.min(pr.dias - 1, pr.diaPreferido[p]));
+            int respaldo = -1;
+            for (int distancia = 0; distancia < pr.dias; distancia++) {
+                for (int lado = 0; lado < (distancia == 0 ? 1 : 2); lado++) {
+                    int d = lado == 0 ? origen + distancia : origen - distancia;
+                    if (d < 0 || d >= pr.dias) {
+                        continue;
+                    }
+                    boolean equiposLibres = equipoDia[pr.local[p] * pr.dias + d] == 0
+                            && equipoDia[pr.visitante[p] * pr.dias + d] == 0;
+                    if (!equiposLibres && respaldo >= 0) {
+                        continue;
+                    }
+                    for (int k = pr.inicioDia[d]; k < pr.inicioDia[d + 1]; k++) {
+                        int f = pr.franjasPorDia[k];
+                        if (ocupante[f] >= 0 || pr.franjaBloqueada[f]) {
+                            continue;
+                        }
+                        if (equiposLibres) {
+                            return f;
+                        }
+                        respaldo = f;
+                        break;
+                    }
+                }
+            }
+            return respaldo;
+        }
+
+        private int elegirArbitro(int f, int[] carga) {
+            Problema pr = problema;
+            int d = pr.diaFranja[f];
+            int instante = pr.instanteFranja[f];
+            int libre = -1;
+            int cualquiera = -1;
+            for (int a = 0; a < pr.arbitros; a++) {
+                if (cualquiera < 0 || carga[a] < carga[cualquiera]) {
+                    cualquiera = a;
+                }
+                if (!pr.arbitroNoDisponible[a * pr.dias + d] && arbitroInstante[a * pr.instantes + instante] == 0
+                        && (libre < 0 || carga[a] < carga[libre])) {
+                    libre = a;
+                }
+            }
+            return libre >= 0 ? libre : cualquiera;
+        }
+
+        long costo() {
+            return (conflictosEquipo + conflictosArbitro) * PESO_CONFLICTO + desviacionDias;
+        }
+
+        boolean enConflicto(int p) {
+            Problema pr = problema;
+            int f = franja[p];
+            int d = pr.diaFranja[f];
+            if (equipoDia[pr.local[p] * pr.dias + d] > 1 || equipoDia[pr.visitante[p] * pr.dias + d] > 1) {
+                return true;
+            }
+            int a = arbitro[p];
+            return a >= 0 && (arbitroInstante[a * pr.instantes + pr.instanteFranja[f]] > 1
+                    || pr.arbitroNoDisponible[a * pr.dias + d]);
+        }
+
+        void poner(int p, int f, int a) {
+            Problema pr = problema;
+            int d = pr.diaFranja[f];
+            conflictosEquipo += equipoDia[pr.local[p] * pr.dias + d]++;
+            conflictosEquipo += equipoDia[pr.visitante[p] * pr.dias + d]++;
+            if (a >= 0) {
+                conflictosArbitro += arbitroInstante[a * pr.instantes + pr.instanteFranja[f]]++;
+                if (pr.arbitroNoDisponible[a * pr.dias + d]) {
+                    conflictosArbitro++;
+                }
+            }
+            if (pr.diaPreferido[p] >= 0) {
+                desviacionDias += Math.abs(d - pr.diaPreferido[p]);
+            }
+            franja[p] = f;
+            arbitro[p] = a;
+            ocupante[f] = p;
+        }
+
+        void quitar(int p) {
+            Problema pr = problema;
+            int f = franja[p];
+            int d = pr.diaFranja[f];
+            int a = arbitro[p];
+            conflictosEquipo -= --equipoDia[pr.local[p] * pr.dias + d];
+            conflictosEquipo -= --equipoDia[pr.visitante[p] * pr.dias + d];
+            if (a >= 0) {
+                conflictosArbitro -= --arbitroInstante[a * pr.instantes + pr.instanteFranja[f]];
+                if (pr.arbitroNoDisponible[a * pr.dias + d]) {
+                    conflictosArbitro--;
+                }
+            }
+            if (pr.diaPreferido[p] >= 0) {
+                desviacionDias -= Math.abs(d - pr.diaPreferido[p]);
+            }
+            ocupante[f] = -1;
+        }
+    }
+
+    /**
+     * Una época: los trabajadores buscan en paralelo y gana la mejor solución
+     */
+    private static final class Epoca extends RecursiveTask<Estado> {
+
+        private final List<Busqueda> busquedas;
+
+        private Epoca(List<Busqueda> busquedas) {
+            this.busquedas = busquedas;
+        }
+
+        @Override
+        protected Estado compute() {
+            invokeAll(busquedas);
+            Estado mejor = null;
+            for (Busqueda busqueda : busquedas) {
+                Estado estado = busqueda.join();
+                if (mejor == null || estado.costo() < mejor.costo()) {
+                    mejor = estado;
+                }
+            }
+            return mejor;
+        }
+    }
+
+    /**
+     * Recocido simulado desde un estado hasta el fin de la época. La temperatura
+     * depende del tiempo transcurrido sobre el presupuesto total, no de la época.
+     */
+    private static final class Busqueda extends RecursiveTask<Estado> {
+
+        private final Estado actual;
+        private final SplittableRandom aleatorio;
+        private final long inicio;
+        private final long fin;
+        private final long finEpoca;
+        private long iteraciones;
+
+        private Busqueda(Estado actual, SplittableRandom aleatorio, long inicio, long fin, long finEpoca) {
+            this.actual = actual;
+            this.aleatorio = aleatorio;
+            this.inicio = inicio;
+            this.fin = fin;
+            this.finEpoca = finEpoca;
+        }
+
+        @Override
+        protected Estado compute() {
+            Problema pr = actual.problema;
+            // Sólo se copia la asignación al mejorar; los contadores se reconstruyen al final
+            int[] mejorFranja = actual.franja.clone();
+            int[] mejorArbitro = actual.arbitro.clone();
+            long mejorCosto = actual.costo();
+            double temperatura = TEMPERATURA_INICIAL;
+
+            while (true) {
+                if (iteraciones % PASOS_ENTRE_RELOJ == 0) {
+                    long ahora = System.nanoTime();
+                    if (ahora >= finEpoca || mejorCosto == 0) {
+                        break;
+                    }
+                    double avance = Math.min(1.0, (double) (ahora - inicio) / (fin - inicio));
+                    temperatura = TEMPERATURA_INICIAL * Math.pow(TEMPERATURA_FINAL / TEMPERATURA_INICIAL, avance);
+                }
+                iteraciones++;
+
+                int p = elegirPartido(pr);
+                long antes = actual.costo();
+                boolean aplicado = pr.arbitros > 1 && aleatorio.nextInt(4) == 0
+                        ? cambiarArbitro(p, antes, temperatura)
+                        : moverPartido(p, antes, temperatura);
+
+                if (aplicado && actual.costo() < mejorCosto) {
+                    mejorCosto = actual.costo();
+                    System.arraycopy(actual.franja, 0, mejorFranja, 0, mejorFranja.length);
+                    System.arraycopy(actual.arbitro, 0, mejorArbitro, 0, mejorArbitro.length);
+                }
+            }
+            return Estado.desdeAsignacion(pr, mejorFranja, mejorArbitro);
+        }
+
+        /**
+         * Mientras haya conflictos se prefieren los partidos implicados en alguno
+         */
+        private int elegirPartido(Problema pr) {
+            int p = aleatorio.nextInt(pr.partidos);
+            if (actual.conflictosEquipo + actual.conflictosArbitro > 0) {
+                for (int intento = 1; intento < INTENTOS_CONFLICTIVO && !actual.enConflicto(p); intento++) {
+                    p = aleatorio.nextInt(pr.partidos);
+                }
+            }
+            return p;
+        }
+
+        /**
+         * Llevar el partido a otra franja, intercambiándolo con su ocupante si la tiene
+         */
+        private boolean moverPartido(int p, long antes, double temperatura) {
+            Problema pr = actual.problema;
+            int destino = elegirFranja(pr, p);
+            int origen = actual.franja[p];
+            if (destino < 0 || destino == origen || pr.franjaBloqueada[destino]) {
+                return false;
+            }
+            int q = actual.ocupante[destino];
+            int arbitroP = actual.arbitro[p];
+            int arbitroQ = q >= 0 ? actual.arbitro[q] : -1;
+
+            actual.quitar(p);
+            if (q >= 0) {
+                actual.quitar(q);
+                actual.poner(q, origen, arbitroQ);
+            }
+            actual.poner(p, destino, arbitroP);
+
+            if (aceptar(actual.costo() - antes, temperatura)) {
+                return true;
+            }
+            actual.quitar(p);
+            if (q >= 0) {
+                actual.quitar(q);
+                actual.poner(q, destino, arbitroQ);
+            }
+            actual.poner(p, origen, arbitroP);
+            return false;
+        }
+
+        private boolean cambiarArbitro(int p, long antes, double temperatura) {
+            int anterior = actual.arbitro[p];
+            int nuevo = aleatorio.nextInt(actual.problema.arbitros);
+            if (nuevo == anterior) {
+                return false;
+            }
+            int f = actual.franja[p];
+            actual.quitar(p);
+            actual.poner(p, f, nuevo);
+            if (aceptar(actual.costo() - antes, temperatura)) {
+                return true;
+            }
+            actual.quitar(p);
+            actual.poner(p, f, anterior);
+            return false;
+        }
+
+        /**
+         * La mitad de las veces, una franja a pocos días de la fecha de la ronda
+         */
+        private int elegirFranja(Problema pr, int p) {
+            int preferido = pr.diaPreferido[p];
+            if (preferido < 0 || aleatorio.nextBoolean()) {
+                return aleatorio.nextInt(pr.franjas);
+            }
+            int d = preferido + aleatorio.nextInt(-VENTANA_DIAS, VENTANA_DIAS + 1);
+            if (d < 0 || d >= pr.dias || pr.inicioDia[d] == pr.inicioDia[d + 1]) {
+                return -1;
+            }
+            return pr.franjasPorDia[aleatorio.nextInt(pr.inicioDia[d], pr.inicioDia[d + 1])];
+        }
+
+        private boolean aceptar(long delta, double temperatura) {
+            return delta <= 0 || aleatorio.nextDouble() < Math.exp(-delta / temperatura);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.torneos.service;
+
+import com.torneos.dto.PosicionDTO;
+import com.torneos.dto.ReconstruccionPosicionesDTO;
+import com.torneos.entity.Torneo;
+import com.torneos.repository.PosicionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Tabla de posiciones de los torneos de liga, mantenida por deltas.
+ *
+ * Cada resultado suma (o al corregirse, resta) una fila de deltas a los dos
+ * equipos del partido; las escrituras exigen una transacción en curso (MANDATORY)
+ * para confirmarse o revertirse junto con el resultado. Los puntos deben coincidir
+ * con los de PosicionRepository.SQL_CALCULAR.
+ */
+@Service
+@Transactional
+public class PosicionesService {
+
+    private static final Logger log = LoggerFactory.getLogger(PosicionesService.class);
+
+    static final int PUNTOS_VICTORIA = 3;
+    static final int PUNTOS_EMPATE = 1;
+
+    @Autowired
+    private PosicionRepository posicionRepository;
+
+    /**
+     * Sólo los formatos de liga llevan tabla de posiciones
+     */
+    public static boolean tieneTabla(Torneo.FormatoTorneo formato) {
+        return formato == Torneo.FormatoTorneo.LIGUILLA || formato == Torneo.FormatoTorneo.IDA_VUELTA;
+    }
+
+    // ====== Escritura (dentro de la transacción del servicio llamante) ======
+
+    /**
+     * Crear a cero las filas de los equipos de un torneo, para que aparezcan antes de jugar
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void inicializarTorneo(Long idTorneo, List<Long> idsEquipos) {
+        posicionRepository.inicializar(idTorneo, idsEquipos.toArray(new Long[0]));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarResultado(Long idTorneo, Long idLocal, Long idVisitante, int golesLocal, int golesVisitante) {
+        aplicar(idTorneo, idLocal, golesLocal, golesVisitante, 1);
+        aplicar(idTorneo, idVisitante, golesVisitante, golesLocal, 1);
+    }
+
+    /**
+     * Restar un resultado ya aplicado (corrección o anulación)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void revertirResultado(Long idTorneo, Long idLocal, Long idVisitante, int golesLocal, int golesVisitante) {
+        aplicar(idTorneo, idLocal, golesLocal, golesVisitante, -1);
+        aplicar(idTorneo, idVisitante, golesVisitante, golesLocal, -1);
+    }
+
+    // ====== Lectura ======
+
+    @Transactional(readOnly = true)
+    public List<PosicionDTO> listarPosiciones(Long idTorneo) {
+        List<PosicionDTO> posiciones = posicionRepository.findClasificacion(idTorneo);
+        for (int i = 0; i < posiciones.size(); i++) {
+            posiciones.get(i).setPosicion(i + 1);
+        }
+        return posiciones;
+    }
+
+    // ====== Reconstrucción ======
+
+    /**
+     * Recalcular la tabla completa desde resultados y corregir las desviaciones.
+     * La tabla se bloquea (los incrementos esperan, las lecturas no) durante el recálculo.
+     */
+    public ReconstruccionPosicionesDTO reconstruir() {
+        long inicio = System.currentTimeMillis();
+        posicionRepository.bloquear();
+
+        int corregidas = posicionRepository.reconstruir();
+        int eliminadas = posicionRepository.eliminarHuerfanas();
+
+        long duracion = System.currentTimeMillis() - inicio;
+        if (corregidas > 0 || eliminadas > 0) {
+            log.warn("Posiciones corregidas: {} filas, {} eliminadas ({} ms)", corregidas, eliminadas, duracion);
+        } else {
+            log.info("Tabla de posiciones consistente ({} ms)", duracion);
+        }
+        return new ReconstruccionPosicionesDTO(corregidas, eliminadas, duracion);
+    }
+
+    private void aplicar(Long idTorneo, Long idEquipo, int favor, int contra, int signo) {
+        int ganado = favor > contra ? 1 : 0;
+        int empatado = favor == contra ? 1 : 0;
+        int perdido = favor < contra ? 1 : 0;
+        int puntos = ganado * PUNTOS_VICTORIA + empatado * PUNTOS_EMPATE;
+        posicionRepository.incrementar(idTorneo, idEquipo, signo, signo * ganado, signo * empatado,
+                signo * perdido, signo * favor, signo * contra, signo * puntos);
+    }
+}
@@ -0,0 +1,392 @@
+package com.torneos.service;
+
+import com.torneos.dto.ArbitroDisponibleDTO;
+import com.torneos.dto.CanchaDisponibleDTO;
+import com.torneos.dto.PartidoProgramadoDTO;
+import com.torneos.dto.ProgramacionRequestDTO;
+import com.torneos.dto.ResultadoProgramacionDTO;
+import com.torneos.entity.Torneo;
+import com.torneos.exception.TorneosException;
+import com.torneos.repository.ArbitroRepository;
+import com.torneos.repository.TorneoRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Programación de los partidos de un torneo: fecha y hora, cancha y árbitro.
+ *
+ * Se lee el problema (partidos por programar, franjas de las canchas, árbitros y
+ * lo ya ocupado por otros partidos) en una transacción de lectura, se resuelve con
+ * PlanificadorPartidos en un ForkJoinPool propio sin conexión tomada (requiere
+ * spring.jpa.open-in-view desactivado: si no, la conexión de la lectura queda
+ * retenida durante todo el presupuesto de búsqueda), y la asignación se guarda
+ * en otra transacción con batches JDBC. Al guardar se comprueba que ningún
+ * partido haya cambiado de estado entretanto.
+ */
+@Service
+public class ProgramacionPartidosService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProgramacionPartidosService.class);
+
+    // Partidos del torneo que entran en la programación (el segundo parámetro es "reprogramar")
+    private static final String CONDICION_A_PROGRAMAR = "ro.id_torneo = ? AND pa.activo = true "
+            + "AND pa.estado = 'PROGRAMADO' AND (? OR pa.cancha IS NULL OR pa.id_arbitro IS NULL)";
+
+    private static final String SQL_PARTIDOS = "SELECT pa.id_partido, pa.equipo_local, pa.equipo_visitante, "
+            + "ro.fecha_inicio FROM partidos pa JOIN rondas ro ON ro.id_ronda = pa.id_ronda WHERE "
+            + CONDICION_A_PROGRAMAR + " ORDER BY pa.id_partido";
+
+    // Partidos ya programados (de cualquier torneo) que ocupan canchas, equipos o árbitros en el periodo
+    private static final String SQL_OCUPACION = "SELECT pa.equipo_local, pa.equipo_visitante, pa.id_arbitro, "
+            + "pa.cancha, pa.fecha_hora FROM partidos pa JOIN rondas ro ON ro.id_ronda = pa.id_ronda "
+            + "WHERE pa.activo = true AND pa.estado <> 'CANCELADO' AND pa.cancha IS NOT NULL "
+            + "AND pa.fecha_hora >= ? AND pa.fecha_hora < ? AND NOT (" + CONDICION_A_PROGRAMAR + ")";
+
+    private static final String SQL_GUARDAR = "UPDATE partidos SET fecha_hora = ?, cancha = ?, id_arbitro = ? "
+            + "WHERE id_partido = ? AND activo = true AND estado = 'PROGRAMADO'";
+
+    @Autowired
+    private TorneoRepository torneoRepository;
+
+    @Autowired
+    private ArbitroRepository arbitroRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${torneos.programacion.presupuesto-ms:5000}")
+    private long presupuestoPorDefectoMs;
+
+    @Value("${torneos.programacion.presupuesto-maximo-ms:60000}")
+    private long presupuestoMaximoMs;
+
+    @Value("${torneos.programacion.hilos:0}")
+    private int hilos;
+
+    @Value("${torneos.programacion.max-franjas:500000}")
+    private int maxFranjas;
+
+    @Value("${torneos.programacion.tamano-lote:1000}")
+    private int tamanoLote;
+
+    private ForkJoinPool pool;
+
+    private Timer duracionBusqueda;
+
+    @PostConstruct
+    public void inicializar() {
+        int tamano = hilos > 0 ? hilos : Runtime.getRuntime().availableProcessors();
+        // Los hilos del pool por defecto son daemon
+        pool = new ForkJoinPool(tamano);
+        duracionBusqueda = Timer.builder("torneos.programacion.duracion")
+                .description("Duración de la búsqueda de programación").register(meterRegistry);
+        Gauge.builder("torneos.programacion.hilos-activos", pool, ForkJoinPool::getActiveThreadCount)
+                .description("Trabajadores de programación en ejecución").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void detener() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Programar los partidos pendientes de un torneo en las canchas y con los árbitros indicados
+     */
+    public ResultadoProgramacionDTO programar(Long idTorneo, ProgramacionRequestDTO request) {
+        long inicio = System.currentTimeMillis();
+        long presupuestoMs = request.getPresupuestoMs() != null ? request.getPresupuestoMs() : presupuestoPorDefectoMs;
+        if (presupuestoMs > presupuestoMaximoMs) {
+            throw new TorneosException("El presupuesto máximo de búsqueda es " + presupuestoMaximoMs + " ms");
+        }
+        boolean reprogramar = Boolean.TRUE.equals(request.getReprogramar());
+
+        Datos datos = transactionTemplate.execute(estado -> cargar(idTorneo, request, reprogramar));
+        if (datos.idsPartido.length == 0) {
+            throw new TorneosException("El torneo no tiene partidos pendientes de programar");
+        }
+
+        PlanificadorPartidos.Problema problema = datos.problema;
+        if (problema.franjasLibres() < problema.partidos) {
+            throw new TorneosException("Hay " + problema.franjasLibres() + " franjas libres para "
+                    + problema.partidos + " partidos");
+        }
+        long inicioBusqueda = System.nanoTime();
+        PlanificadorPartidos.Programacion programacion = PlanificadorPartidos.resolver(problema, pool,
+                pool.getParallelism(), TimeUnit.MILLISECONDS.toNanos(presupuestoMs), inicioBusqueda);
+        duracionBusqueda.record(System.nanoTime() - inicioBusqueda, TimeUnit.NANOSECONDS);
+
+        List<PartidoProgramadoDTO> asignaciones = new ArrayList<>(problema.partidos);
+        for (int p = 0; p < problema.partidos; p++) {
+            PartidoProgramadoDTO asignacion = new PartidoProgramadoDTO();
+            asignacion.setIdPartido(datos.idsPartido[p]);
+            asignacion.setFechaHora(datos.fechaHoraFranja[programacion.franja[p]]);
+            asignacion.setCancha(datos.canchaFranja[programacion.franja[p]]);
+            asignacion.setIdArbitro(programacion.arbitro[p] >= 0 ? datos.idsArbitro[programacion.arbitro[p]] : null);
+            asignaciones.add(asignacion);
+        }
+
+        // Sólo se guarda una programación sin conflictos
+        boolean aplicado = !Boolean.FALSE.equals(request.getAplicar())
+                && programacion.conflictosEquipo + programacion.conflictosArbitro == 0;
+        if (aplicado) {
+            transactionTemplate.executeWithoutResult(estado -> guardar(idTorneo, asignaciones));
+        }
+
+        ResultadoProgramacionDTO resultado = new ResultadoProgramacionDTO();
+        resultado.setIdTorneo(idTorneo);
+        resultado.setPartidos(problema.partidos);
+        resultado.setFranjas(problema.franjas);
+        resultado.setArbitros(problema.arbitros);
+        resultado.setConflictosEquipo(programacion.conflictosEquipo);
+        resultado.setConflictosArbitro(programacion.conflictosArbitro);
+        resultado.setDesviacionDias(programacion.desviacionDias);
+        resultado.setCostoInicial(programacion.costoInicial);
+        resultado.setCosto(programacion.costo());
+        resultado.setIteraciones(programacion.iteraciones);
+        resultado.setEpocas(programacion.epocas);
+        resultado.setDuracionMs(System.currentTimeMillis() - inicio);
+        resultado.setAplicado(aplicado);
+        resultado.setAsignaciones(asignaciones);
+        log.info("Programación del torneo {}: {} partidos, {} conflictos, {} días de desviación, {} iteraciones en {} ms",
+                idTorneo, problema.partidos, programacion.conflictosEquipo + programacion.conflictosArbitro,
+                programacion.desviacionDias, programacion.iteraciones, resultado.getDuracionMs());
+        return resultado;
+    }
+
+    /**
+     * Construir el problema: partidos, franjas (cancha x día x horario), árbitros y ocupación previa
+     */
+    private Datos cargar(Long idTorneo, ProgramacionRequestDTO request, boolean reprogramar) {
+        Torneo torneo = torneoRepository.findById(idTorneo)
+                .orElseThrow(() -> new TorneosException("Torneo no encontrado con ID: " + idTorneo));
+        if (!Boolean.TRUE.equals(torneo.getActivo()) || torneo.getEstado() == Torneo.EstadoTorneo.FINALIZADO
+                || torneo.getEstado() == Torneo.EstadoTorneo.CANCELADO) {
+            throw new TorneosException("Solo se pueden programar partidos de un torneo activo y sin finalizar");
+        }
+        LocalDate desde = request.getFechaDesde() != null ? request.getFechaDesde() : torneo.getFechaInicio();
+        LocalDate hasta = request.getFechaHasta() != null ? request.getFechaHasta() : torneo.getFechaFin();
+        if (hasta.isBefore(desde)) {
+            throw new TorneosException("La fecha de fin no puede ser anterior a la de inicio");
+        }
+        int dias = (int) ChronoUnit.DAYS.between(desde, hasta) + 1;
+
+        // Partidos por programar; los equipos se numeran por orden de aparición
+        Map<Long, Integer> indiceEquipo = new HashMap<>();
+        List<long[]> filas = new ArrayList<>();
+        jdbcTemplate.query(SQL_PARTIDOS, rs -> {
+            LocalDate fechaRonda = rs.getObject(4, LocalDate.class);
+            // Una ronda fuera del periodo prefiere su extremo más cercano
+            long diaRonda = fechaRonda != null
+                    ? Math.max(0, Math.min(dias - 1, ChronoUnit.DAYS.between(desde, fechaRonda))) : -1;
+            filas.add(new long[] { rs.getLong(1), rs.getLong(2), rs.getLong(3), diaRonda });
+        }, idTorneo, reprogramar);
+        int partidos = filas.size();
+        long[] idsPartido = new long[partidos];
+        int[] local = new int[partidos];
+        int[] visitante = new int[partidos];
+        int[] diaPreferido = new int[partidos];
+        for (int p = 0; p < partidos; p++) {
+            long[] fila = filas.get(p);
+            idsPartido[p] = fila[0];
+            local[p] = indiceEquipo.computeIfAbsent(fila[1], id -> indiceEquipo.size());
+            visitante[p] = indiceEquipo.computeIfAbsent(fila[2], id -> indiceEquipo.size());
+            diaPreferido[p] = (int) fila[3];
+        }
+
+        // Horarios distintos de todas las canchas: un instante es un día y uno de esos horarios
+        List<CanchaDisponibleDTO> canchas = request.getCanchas();
+        TreeSet<LocalTime> horarios = new TreeSet<>();
+        Set<String> nombres = new HashSet<>();
+        for (CanchaDisponibleDTO cancha : canchas) {
+            if (!nombres.add(cancha.getNombre())) {
+                throw new TorneosException("La cancha " + cancha.getNombre() + " está repetida");
+            }
+            horarios.addAll(cancha.getHorarios());
+        }
+        List<LocalTime> listaHorarios = new ArrayList<>(horarios);
+        Map<LocalTime, Integer> indiceHorario = new HashMap<>();
+        for (int h = 0; h < listaHorarios.size(); h++) {
+            indiceHorario.put(listaHorarios.get(h), h);
+        }
+        int instantesPorDia = listaHorarios.size();
+
+        List<Integer> dia = new ArrayList<>();
+        List<Integer> instante = new ArrayList<>();
+        List<String> nombreCancha = new ArrayList<>();
+        List<LocalDateTime> fechaHora = new ArrayList<>();
+        Map<String, Integer> franjaPorCancha = new HashMap<>();
+        for (CanchaDisponibleDTO cancha : canchas) {
+            Set<LocalDate> noDisponibles = cancha.getFechasNoDisponibles() != null
+                    ? new HashSet<>(cancha.getFechasNoDisponibles()) : Set.of();
+            for (int d = 0; d < dias; d++) {
+                LocalDate fecha = desde.plusDays(d);
+                if (noDisponibles.contains(fecha) || (cancha.getDiasSemana() != null
+                        && !cancha.getDiasSemana().isEmpty() && !cancha.getDiasSemana().contains(fecha.getDayOfWeek()))) {
+                    continue;
+                }
+                for (LocalTime hora : new TreeSet<>(cancha.getHorarios())) {
+                    if (dia.size() == maxFranjas) {
+                        throw new TorneosException("La disponibilidad supera las " + maxFranjas + " franjas");
+                    }
+                    franjaPorCancha.put(cancha.getNombre() + "|" + fecha.atTime(hora), dia.size());
+                    dia.add(d);
+                    instante.add(d * instantesPorDia + indiceHorario.get(hora));
+                    nombreCancha.add(cancha.getNombre());
+                    fechaHora.add(fecha.atTime(hora));
+                }
+            }
+        }
+
+        // Árbitros: los indicados o todos los activos
+        List<ArbitroDisponibleDTO> disponibles = request.getArbitros() != null ? request.getArbitros() : List.of();
+        List<Long> idsArbitro;
+        if (disponibles.isEmpty()) {
+            idsArbitro = arbitroRepository.findIdsActivos();
+        } else {
+            idsArbitro = disponibles.stream().map(ArbitroDisponibleDTO::getIdArbitro).distinct().toList();
+            Set<Long> activos = new HashSet<>(arbitroRepository.findIdsActivosIn(idsArbitro));
+            for (Long id : idsArbitro) {
+                if (!activos.contains(id)) {
+                    throw new TorneosException("Árbitro no encontrado o inactivo con ID: " + id);
+                }
+            }
+        }
+        Map<Long, Integer> indiceArbitro = new HashMap<>();
+        for (Long id : idsArbitro) {
+            indiceArbitro.put(id, indiceArbitro.size());
+        }
+
+        PlanificadorPartidos.Problema problema = new PlanificadorPartidos.Problema(indiceEquipo.size(), dias,
+                dias * instantesPorDia, idsArbitro.size(), local, visitante, diaPreferido,
+                dia.stream().mapToInt(Integer::intValue).toArray(),
+                instante.stream().mapToInt(Integer::intValue).toArray());
+
+        for (ArbitroDisponibleDTO arbitro : disponibles) {
+            if (arbitro.getFechasNoDisponibles() == null) {
+                continue;
+            }
+            for (LocalDate fecha : arbitro.getFechasNoDisponibles()) {
+                long d = ChronoUnit.DAYS.between(desde, fecha);
+                if (d >= 0 && d < dias) {
+                    problema.marcarArbitroNoDisponible(indiceArbitro.get(arbitro.getIdArbitro()), (int) d);
+                }
+            }
+        }
+
+        jdbcTemplate.query(SQL_OCUPACION, rs -> {
+            LocalDateTime momento = rs.getTimestamp(5).toLocalDateTime();
+            int d = (int) ChronoUnit.DAYS.between(desde, momento.toLocalDate());
+            Integer franja = franjaPorCancha.get(rs.getString(4) + "|" + momento);
+            if (franja != null) {
+                problema.bloquearFranja(franja);
+            }
+            Integer equipoLocal = indiceEquipo.get(rs.getLong(1));
+            if (equipoLocal != null) {
+                problema.ocuparEquipo(equipoLocal, d);
+            }
+            Integer equipoVisitante = indiceEquipo.get(rs.getLong(2));
+            if (equipoVisitante != null) {
+                problema.ocuparEquipo(equipoVisitante, d);
+            }
+            // Fuera de los horarios de la rejilla un árbitro no puede coincidir con una franja
+            Integer arbitro = indiceArbitro.get(rs.getLong(3));
+            Integer horario = indiceHorario.get(momento.toLocalTime());
+            if (arbitro != null && horario != null) {
+                problema.ocuparArbitro(arbitro, d * instantesPorDia + horario);
+            }
+        }, Timestamp.valueOf(desde.atStartOfDay()), Timestamp.valueOf(hasta.plusDays(1).atStartOfDay()),
+                idTorneo, reprogramar);
+
+        Datos datos = new Datos();
+        datos.problema = problema;
+        datos.idsPartido = idsPartido;
+        datos.idsArbitro = idsArbitro.stream().mapToLong(Long::longValue).toArray();
+        datos.canchaFranja = nombreCancha.toArray(new String[0]);
+        datos.fechaHoraFranja = fechaHora.toArray(new LocalDateTime[0]);
+        return datos;
+    }
+
+    /**
+     * Guardar la asignación; si algún partido dejó de estar programado entretanto se revierte todo
+     */
+    private void guardar(Long idTorneo, List<PartidoProgramadoDTO> asignaciones) {
+        // El bloqueo del torneo serializa la programación con la generación del calendario
+        torneoRepository.findByIdParaActualizar(idTorneo)
+                .orElseThrow(() -> new TorneosException("Torneo no encontrado con ID: " + idTorneo));
+        for (int desde = 0; desde < asignaciones.size(); desde += tamanoLote) {
+            List<PartidoProgramadoDTO> lote = asignaciones.subList(desde,
+                    Math.min(asignaciones.size(), desde + tamanoLote));
+            int[] filas = jdbcTemplate.batchUpdate(SQL_GUARDAR, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    PartidoProgramadoDTO asignacion = lote.get(i);
+                    ps.setTimestamp(1, Timestamp.valueOf(asignacion.getFechaHora()));
+                    ps.setString(2, asignacion.getCancha());
+                    if (asignacion.getIdArbitro() != null) {
+                        ps.setLong(3, asignacion.getIdArbitro());
+                    } else {
+                        ps.setNull(3, Types.BIGINT);
+                    }
+                    ps.setLong(4, asignacion.getIdPartido());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return lote.size();
+                }
+            });
+            for (int i = 0; i < filas.length; i++) {
+                if (filas[i] == 0) {
+                    throw new TorneosException("El partido " + lote.get(i).getIdPartido()
+                            + " cambió durante la programación; vuelva a intentarlo");
+                }
+            }
+        }
+    }
+
+    /**
+     * Problema construido y traducción de sus posiciones a IDs, canchas y fechas
+     */
+    private static final class Datos {
+        private PlanificadorPartidos.Problema problema;
+        private long[] idsPartido;
+        private long[] idsArbitro;
+        private String[] canchaFranja;
+        private LocalDateTime[] fechaHoraFranja;
+    }
+}
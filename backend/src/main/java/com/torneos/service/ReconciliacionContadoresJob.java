@@ -0,0 +1,21 @@
+package com.torneos.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reconciliación periódica de los contadores de plantilla con las tablas base.
+ * Cubre escrituras que no pasan por los servicios (SQL manual, restauraciones).
+ */
+@Component
+public class ReconciliacionContadoresJob {
+
+    @Autowired
+    private ContadoresPlantillaService contadoresPlantillaService;
+
+    @Scheduled(cron = "${torneos.contadores.cron-reconciliacion:0 30 3 * * *}")
+    public void reconciliar() {
+        contadoresPlantillaService.reconciliar();
+    }
+}
@@ -0,0 +1,322 @@
+package com.torneos.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.torneos.dto.MarcadorDTO;
+import com.torneos.dto.MarcadorRequestDTO;
+import com.torneos.dto.PaginaCursorDTO;
+import com.torneos.dto.ResultadoRequestDTO;
+import com.torneos.dto.ResultadoResponseDTO;
+import com.torneos.entity.Partido;
+import com.torneos.entity.Resultado;
+import com.torneos.entity.Torneo;
+import com.torneos.exception.TorneosException;
+import com.torneos.repository.PartidoRepository;
+import com.torneos.repository.ResultadoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registro, corrección y anulación de resultados. Un resultado registrado
+ * finaliza el partido y, en torneos de liga, actualiza la tabla de posiciones
+ * en la misma transacción. Cada cambio publica el marcador para la transmisión en vivo.
+ */
+@Service
+@Transactional
+public class ResultadoService {
+
+    // Los cambios de un partido se serializan con el bloqueo de su fila: el orden de la secuencia es el de BD
+    private static final AtomicLong secuenciaMarcadores = new AtomicLong();
+
+    // Mismas expresiones que los índices de V7__Indices_detalles_jsonb.sql, para que se puedan usar
+    private static final String EXPR_POSESION_MAXIMA = "GREATEST("
+            + "jsonb_entero(r.detalles_estadisticas, 'posesionLocal'), "
+            + "jsonb_entero(r.detalles_estadisticas, 'posesionVisitante'))";
+    private static final String EXPR_TIROS_TOTALES = "(jsonb_entero(r.detalles_estadisticas, 'tirosLocal') "
+            + "+ jsonb_entero(r.detalles_estadisticas, 'tirosVisitante'))";
+
+    @Autowired
+    private ResultadoRepository resultadoRepository;
+
+    @Autowired
+    private PartidoRepository partidoRepository;
+
+    @Autowired
+    private PosicionesService posicionesService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Registrar o corregir el resultado de un partido; una corrección revierte antes el resultado anterior
+     */
+    public ResultadoResponseDTO registrarResultado(Long idPartido, ResultadoRequestDTO request) {
+        Partido partido = bloquearPartido(idPartido);
+        if (partido.getEstado() == Partido.EstadoPartido.CANCELADO
+                || partido.getEstado() == Partido.EstadoPartido.SUSPENDIDO) {
+            throw new TorneosException("No se puede registrar el resultado de un partido " + partido.getEstado());
+        }
+
+        Resultado resultado = resultadoRepository.findByPartidoIdPartido(idPartido).orElse(null);
+        if (resultado == null) {
+            resultado = new Resultado(partido);
+        } else if (partido.getEstado() == Partido.EstadoPartido.FINALIZADO) {
+            revertirPosiciones(partido, resultado);
+        }
+
+        resultado.setGolesLocal(request.getGolesLocal());
+        resultado.setGolesVisitante(request.getGolesVisitante());
+        resultado.setTarjetasAmarillasLocal(request.getTarjetasAmarillasLocal());
+        resultado.setTarjetasRojasLocal(request.getTarjetasRojasLocal());
+        resultado.setTarjetasAmarillasVisitante(request.getTarjetasAmarillasVisitante());
+        resultado.setTarjetasRojasVisitante(request.getTarjetasRojasVisitante());
+        resultado.setObservaciones(request.getObservaciones());
+        resultado.setDetallesEstadisticas(request.getDetallesEstadisticas());
+        Resultado resultadoGuardado = resultadoRepository.save(resultado);
+
+        partido.setEstado(Partido.EstadoPartido.FINALIZADO);
+        Torneo torneo = partido.getRonda().getTorneo();
+        if (PosicionesService.tieneTabla(torneo.getFormato())) {
+            posicionesService.registrarResultado(torneo.getIdTorneo(), partido.getEquipoLocal().getIdEquipo(),
+                    partido.getEquipoVisitante().getIdEquipo(), resultadoGuardado.getGolesLocal(),
+                    resultadoGuardado.getGolesVisitante());
+        }
+        publicarMarcador(partido, resultadoGuardado);
+        return convertirAResultadoResponseDTO(resultadoGuardado, partido);
+    }
+
+    /**
+     * Actualizar el marcador en vivo (minuto, estado, goles, tarjetas) sin tocar la tabla de posiciones.
+     * Para finalizar el partido se registra el resultado.
+     */
+    public MarcadorDTO actualizarMarcador(Long idPartido, MarcadorRequestDTO request) {
+        Partido partido = bloquearPartido(idPartido);
+        if (partido.getEstado() == Partido.EstadoPartido.FINALIZADO
+                || partido.getEstado() == Partido.EstadoPartido.CANCELADO) {
+            throw new TorneosException("El partido " + idPartido + " está " + partido.getEstado());
+        }
+        if (request.getEstado() == Partido.EstadoPartido.FINALIZADO) {
+            throw new TorneosException("Para finalizar el partido registre su resultado");
+        }
+
+        partido.setEstado(request.getEstado() != null ? request.getEstado() : Partido.EstadoPartido.EN_CURSO);
+        if (request.getMinutoActual() != null) {
+            partido.setMinutoActual(request.getMinutoActual());
+        }
+
+        Resultado resultado = resultadoRepository.findByPartidoIdPartido(idPartido)
+                .orElseGet(() -> new Resultado(partido));
+        if (request.getGolesLocal() != null) {
+            resultado.setGolesLocal(request.getGolesLocal());
+        }
+        if (request.getGolesVisitante() != null) {
+            resultado.setGolesVisitante(request.getGolesVisitante());
+        }
+        if (request.getTarjetasAmarillasLocal() != null) {
+            resultado.setTarjetasAmarillasLocal(request.getTarjetasAmarillasLocal());
+        }
+        if (request.getTarjetasRojasLocal() != null) {
+            resultado.setTarjetasRojasLocal(request.getTarjetasRojasLocal());
+        }
+        if (request.getTarjetasAmarillasVisitante() != null) {
+            resultado.setTarjetasAmarillasVisitante(request.getTarjetasAmarillasVisitante());
+        }
+        if (request.getTarjetasRojasVisitante() != null) {
+            resultado.setTarjetasRojasVisitante(request.getTarjetasRojasVisitante());
+        }
+        Resultado resultadoGuardado = resultadoRepository.save(resultado);
+        return publicarMarcador(partido, resultadoGuardado);
+    }
+
+    /**
+     * Obtener el marcador actual de un partido (estado inicial de una suscripción en vivo)
+     */
+    @Transactional(readOnly = true)
+    public MarcadorDTO obtenerMarcador(Long idPartido) {
+        Partido partido = partidoRepository.findById(idPartido)
+                .orElseThrow(() -> new TorneosException("Partido no encontrado con ID: " + idPartido));
+        Resultado resultado = resultadoRepository.findByPartidoIdPartido(idPartido).orElse(null);
+        return construirMarcador(partido, resultado, 0);
+    }
+
+    /**
+     * Obtener el resultado de un partido
+     */
+    @Transactional(readOnly = true)
+    public ResultadoResponseDTO obtenerResultado(Long idPartido) {
+        Resultado resultado = resultadoRepository.findByPartidoIdPartido(idPartido)
+                .orElseThrow(() -> new TorneosException("El partido " + idPartido + " no tiene resultado"));
+        return convertirAResultadoResponseDTO(resultado, resultado.getPartido());
+    }
+
+    /**
+     * Buscar resultados por sus estadísticas (posesión, tiros o contención de claves en el JSONB)
+     * con paginación por cursor, del más reciente al más antiguo. El filtro se resuelve en SQL
+     * sobre los índices de expresión y GIN; sólo se cargan las filas de la página.
+     */
+    @Transactional(readOnly = true)
+    public PaginaCursorDTO<ResultadoResponseDTO> buscarPorDetalles(Long idTorneo, Integer posesionMinima,
+            Integer tirosMinimos, String detalles, String cursor, int tamano) {
+        BusquedaUtil.pagina(0, tamano);
+        if (posesionMinima == null && tirosMinimos == null && detalles == null) {
+            throw new TorneosException("Indique al menos uno de: posesionMinima, tirosMinimos o detalles");
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT r.id_resultado FROM resultados r");
+        List<Object> parametros = new ArrayList<>();
+        if (idTorneo != null) {
+            sql.append(" JOIN partidos pa ON pa.id_partido = r.id_partido")
+                    .append(" JOIN rondas ro ON ro.id_ronda = pa.id_ronda AND ro.id_torneo = ?");
+            parametros.add(idTorneo);
+        }
+        sql.append(" WHERE r.detalles_estadisticas IS NOT NULL");
+        if (posesionMinima != null) {
+            sql.append(" AND ").append(EXPR_POSESION_MAXIMA).append(" >= ?");
+            parametros.add(posesionMinima);
+        }
+        if (tirosMinimos != null) {
+            sql.append(" AND ").append(EXPR_TIROS_TOTALES).append(" >= ?");
+            parametros.add(tirosMinimos);
+        }
+        if (detalles != null) {
+            sql.append(" AND r.detalles_estadisticas @> CAST(? AS jsonb)");
+            parametros.add(validarObjetoJson(detalles));
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            sql.append(" AND r.id_resultado < ?");
+            parametros.add(decodificarCursor(cursor));
+        }
+        sql.append(" ORDER BY r.id_resultado DESC LIMIT ?");
+        parametros.add(tamano + 1);
+
+        List<Long> ids = jdbcTemplate.queryForList(sql.toString(), Long.class, parametros.toArray());
+        String siguienteCursor = null;
+        if (ids.size() > tamano) {
+            ids = ids.subList(0, tamano);
+            siguienteCursor = String.valueOf(ids.get(tamano - 1));
+        }
+        List<ResultadoResponseDTO> resultados = resultadoRepository.findConPartidoByIdResultadoIn(ids).stream()
+                .sorted(Comparator.comparing(Resultado::getIdResultado).reversed())
+                .map(r -> convertirAResultadoResponseDTO(r, r.getPartido()))
+                .toList();
+        return new PaginaCursorDTO<>(resultados, siguienteCursor);
+    }
+
+    /**
+     * Anular el resultado de un partido: se revierte de la tabla y el partido vuelve a programado
+     */
+    public void anularResultado(Long idPartido) {
+        Partido partido = bloquearPartido(idPartido);
+        Resultado resultado = resultadoRepository.findByPartidoIdPartido(idPartido)
+                .orElseThrow(() -> new TorneosException("El partido " + idPartido + " no tiene resultado"));
+
+        if (partido.getEstado() == Partido.EstadoPartido.FINALIZADO) {
+            revertirPosiciones(partido, resultado);
+        }
+        resultadoRepository.delete(resultado);
+        partido.setEstado(Partido.EstadoPartido.PROGRAMADO);
+        publicarMarcador(partido, null);
+    }
+
+    private String validarObjetoJson(String detalles) {
+        try {
+            JsonNode arbol = objectMapper.readTree(detalles);
+            if (arbol == null || !arbol.isObject()) {
+                throw new TorneosException("El filtro de detalles debe ser un objeto JSON");
+            }
+            return arbol.toString();
+        } catch (JsonProcessingException e) {
+            throw new TorneosException("El filtro de detalles no es JSON válido: " + e.getOriginalMessage());
+        }
+    }
+
+    private static long decodificarCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new TorneosException("Cursor inválido: " + cursor);
+        }
+    }
+
+    /**
+     * El bloqueo del partido serializa registros y correcciones concurrentes del mismo resultado
+     */
+    private Partido bloquearPartido(Long idPartido) {
+        Partido partido = partidoRepository.findByIdParaActualizar(idPartido)
+                .orElseThrow(() -> new TorneosException("Partido no encontrado con ID: " + idPartido));
+        if (!Boolean.TRUE.equals(partido.getActivo())) {
+            throw new TorneosException("El partido " + idPartido + " no está activo");
+        }
+        return partido;
+    }
+
+    private void revertirPosiciones(Partido partido, Resultado anterior) {
+        Torneo torneo = partido.getRonda().getTorneo();
+        if (PosicionesService.tieneTabla(torneo.getFormato())) {
+            posicionesService.revertirResultado(torneo.getIdTorneo(), partido.getEquipoLocal().getIdEquipo(),
+                    partido.getEquipoVisitante().getIdEquipo(), anterior.getGolesLocal(),
+                    anterior.getGolesVisitante());
+        }
+    }
+
+    /**
+     * Publicar el marcador; TransmisionMarcadores lo emite sólo si la transacción confirma
+     */
+    private MarcadorDTO publicarMarcador(Partido partido, Resultado resultado) {
+        MarcadorDTO marcador = construirMarcador(partido, resultado, secuenciaMarcadores.incrementAndGet());
+        eventPublisher.publishEvent(new MarcadorCambiadoEvent(marcador));
+        return marcador;
+    }
+
+    private MarcadorDTO construirMarcador(Partido partido, Resultado resultado, long secuencia) {
+        MarcadorDTO marcador = new MarcadorDTO();
+        marcador.setIdPartido(partido.getIdPartido());
+        marcador.setIdTorneo(partido.getRonda().getTorneo().getIdTorneo());
+        marcador.setEstado(partido.getEstado());
+        marcador.setMinutoActual(partido.getMinutoActual());
+        if (resultado != null) {
+            marcador.setGolesLocal(resultado.getGolesLocal());
+            marcador.setGolesVisitante(resultado.getGolesVisitante());
+            marcador.setTarjetasAmarillasLocal(resultado.getTarjetasAmarillasLocal());
+            marcador.setTarjetasRojasLocal(resultado.getTarjetasRojasLocal());
+            marcador.setTarjetasAmarillasVisitante(resultado.getTarjetasAmarillasVisitante());
+            marcador.setTarjetasRojasVisitante(resultado.getTarjetasRojasVisitante());
+        }
+        marcador.setSecuencia(secuencia);
+        return marcador;
+    }
+
+    private ResultadoResponseDTO convertirAResultadoResponseDTO(Resultado resultado, Partido partido) {
+        ResultadoResponseDTO dto = new ResultadoResponseDTO();
+        dto.setIdResultado(resultado.getIdResultado());
+        dto.setIdPartido(partido.getIdPartido());
+        dto.setIdEquipoLocal(partido.getEquipoLocal().getIdEquipo());
+        dto.setIdEquipoVisitante(partido.getEquipoVisitante().getIdEquipo());
+        dto.setGolesLocal(resultado.getGolesLocal());
+        dto.setGolesVisitante(resultado.getGolesVisitante());
+        dto.setTarjetasAmarillasLocal(resultado.getTarjetasAmarillasLocal());
+        dto.setTarjetasRojasLocal(resultado.getTarjetasRojasLocal());
+        dto.setTarjetasAmarillasVisitante(resultado.getTarjetasAmarillasVisitante());
+        dto.setTarjetasRojasVisitante(resultado.getTarjetasRojasVisitante());
+        dto.setObservaciones(resultado.getObservaciones());
+        dto.setDetallesEstadisticas(resultado.getDetallesEstadisticas());
+        dto.setFechaRegistro(resultado.getFechaRegistro());
+        dto.setFechaActualizacion(resultado.getFechaActualizacion());
+        return dto;
+    }
+}
@@ -0,0 +1,104 @@
+package com.torneos.service;
+
+import com.torneos.dto.SugerenciaDTO;
+import com.torneos.entity.Equipo;
+import com.torneos.entity.Jugador;
+import com.torneos.entity.Torneo;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mantiene el índice de autocompletado con los eventos post-commit de Hibernate.
+ *
+ * Cubre cualquier escritura JPA sobre Jugador, Equipo y Torneo, sin importar el
+ * servicio que la haga; un rollback no deja rastro en el índice. Las
+ * escrituras por JDBC directo deben notificar a AutocompletadoService.
+ */
+@Component
+public class SincronizadorAutocompletado implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AutocompletadoService autocompletadoService;
+
+    @PostConstruct
+    public void registrarListeners() {
+        EventListenerRegistry registro = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registro.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registro.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registro.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        sincronizar(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        sincronizar(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        Object entidad = event.getEntity();
+        if (entidad instanceof Jugador jugador) {
+            autocompletadoService.eliminar(SugerenciaDTO.Tipo.JUGADOR, jugador.getIdJugador());
+        } else if (entidad instanceof Equipo equipo) {
+            autocompletadoService.eliminar(SugerenciaDTO.Tipo.EQUIPO, equipo.getIdEquipo());
+        } else if (entidad instanceof Torneo torneo) {
+            autocompletadoService.eliminar(SugerenciaDTO.Tipo.TORNEO, torneo.getIdTorneo());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Transacción revertida: el índice no se modificó
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Transacción revertida: el índice no se modificó
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Transacción revertida: el índice no se modificó
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> clase = persister.getMappedClass();
+        return clase == Jugador.class || clase == Equipo.class || clase == Torneo.class;
+    }
+
+    private void sincronizar(Object entidad) {
+        if (entidad instanceof Jugador jugador) {
+            autocompletadoService.registrar(SugerenciaDTO.Tipo.JUGADOR, jugador.getIdJugador(),
+                    jugador.getNombre(), jugador.getActivo());
+        } else if (entidad instanceof Equipo equipo) {
+            autocompletadoService.registrar(SugerenciaDTO.Tipo.EQUIPO, equipo.getIdEquipo(),
+                    equipo.getNombre(), equipo.getActivo());
+        } else if (entidad instanceof Torneo torneo) {
+            autocompletadoService.registrar(SugerenciaDTO.Tipo.TORNEO, torneo.getIdTorneo(),
+                    torneo.getNombre(), torneo.getActivo());
+        }
+    }
+}
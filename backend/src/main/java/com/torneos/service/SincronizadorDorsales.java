@@ -0,0 +1,116 @@
+package com.torneos.service;
+
+import com.torneos.entity.Equipo;
+import com.torneos.entity.Jugador;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Mantiene OcupacionDorsales con los eventos post-commit de Hibernate sobre Jugador.
+ *
+ * En una actualización se libera el dorsal anterior (estado previo del evento) y se
+ * ocupa el nuevo; un soft delete no cambia el dorsal y por tanto no libera nada.
+ */
+@Component
+public class SincronizadorDorsales implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OcupacionDorsales ocupacionDorsales;
+
+    @PostConstruct
+    public void registrarListeners() {
+        EventListenerRegistry registro = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registro.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registro.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registro.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Jugador jugador) {
+            ocupacionDorsales.ocupar(idEquipo(jugador.getEquipo()), jugador.getNumeroCamiseta());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Jugador jugador)) {
+            return;
+        }
+        Long idEquipo = idEquipo(jugador.getEquipo());
+        Object[] estadoAnterior = event.getOldState();
+        if (estadoAnterior == null) {
+            // Sin estado previo (entidad desasociada) no se sabe qué dorsal liberar
+            ocupacionDorsales.invalidar(idEquipo);
+            return;
+        }
+
+        String[] propiedades = event.getPersister().getPropertyNames();
+        Long idEquipoAnterior = idEquipo((Equipo) valorAnterior(propiedades, estadoAnterior, "equipo"));
+        Integer numeroAnterior = (Integer) valorAnterior(propiedades, estadoAnterior, "numeroCamiseta");
+        if (!jugador.getNumeroCamiseta().equals(numeroAnterior) || !Objects.equals(idEquipo, idEquipoAnterior)) {
+            ocupacionDorsales.liberar(idEquipoAnterior, numeroAnterior);
+            ocupacionDorsales.ocupar(idEquipo, jugador.getNumeroCamiseta());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Jugador jugador) {
+            ocupacionDorsales.liberar(idEquipo(jugador.getEquipo()), jugador.getNumeroCamiseta());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Transacción revertida: el mapa de bits no se modificó
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Transacción revertida: el mapa de bits no se modificó
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Transacción revertida: el mapa de bits no se modificó
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.getMappedClass() == Jugador.class;
+    }
+
+    private static Object valorAnterior(String[] propiedades, Object[] estado, String propiedad) {
+        for (int i = 0; i < propiedades.length; i++) {
+            if (propiedades[i].equals(propiedad)) {
+                return estado[i];
+            }
+        }
+        return null;
+    }
+
+    private static Long idEquipo(Equipo equipo) {
+        return equipo != null ? equipo.getIdEquipo() : null;
+    }
+}
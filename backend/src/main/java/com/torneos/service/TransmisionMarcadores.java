@@ -0,0 +1,317 @@
+package com.torneos.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.torneos.dto.MarcadorDTO;
+import com.torneos.entity.Partido;
+import com.torneos.exception.ServicioSaturadoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Transmisión de marcadores en vivo por Server-Sent Events, por partido y por torneo.
+ *
+ * Los cambios confirmados se acumulan por partido (sólo cuenta el último) y un
+ * temporizador los emite a lo sumo frames-por-segundo veces por segundo: diez goles
+ * registrados en 100 ms producen un único frame. Cada frame se serializa una vez y
+ * se reparte a todos los suscriptores del partido y de su torneo.
+ *
+ * Cada suscriptor tiene una cola acotada que vacía un hilo del ejecutor de envío; si
+ * la cola se llena porque el cliente no lee, se le desconecta en lugar de acumular
+ * frames sin límite (al reconectar recibe el estado actual).
+ */
+@Component
+public class TransmisionMarcadores {
+
+    private static final Logger log = LoggerFactory.getLogger(TransmisionMarcadores.class);
+
+    private static final String EVENTO_MARCADOR = "marcador";
+
+    @Value("${torneos.en-vivo.frames-por-segundo:4}")
+    private int framesPorSegundo;
+
+    @Value("${torneos.en-vivo.capacidad-cola:32}")
+    private int capacidadCola;
+
+    @Value("${torneos.en-vivo.max-suscriptores:20000}")
+    private int maxSuscriptores;
+
+    @Value("${torneos.en-vivo.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${torneos.en-vivo.latido-segundos:15}")
+    private long latidoSegundos;
+
+    @Value("${torneos.en-vivo.hilos-envio:0}")
+    private int hilosEnvio;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Último cambio aún no emitido por partido (coalescencia)
+    private final ConcurrentHashMap<Long, MarcadorDTO> pendientes = new ConcurrentHashMap<>();
+    // Estado vigente de los partidos en juego, para los nuevos suscriptores de un torneo
+    private final ConcurrentHashMap<Long, MarcadorDTO> enJuego = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<Suscriptor>> porPartido = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<Suscriptor>> porTorneo = new ConcurrentHashMap<>();
+    private final AtomicInteger suscriptores = new AtomicInteger();
+
+    private ScheduledExecutorService temporizador;
+    private ExecutorService ejecutorEnvio;
+    private Set<ResponseBodyEmitter.DataWithMediaType> latido;
+    private Counter framesEmitidos;
+    private Counter desconectadosLentos;
+
+    @PostConstruct
+    public void inicializar() {
+        int hilos = hilosEnvio > 0 ? hilosEnvio : Runtime.getRuntime().availableProcessors();
+        AtomicInteger contador = new AtomicInteger();
+        ejecutorEnvio = Executors.newFixedThreadPool(hilos, tarea -> {
+            Thread hilo = new Thread(tarea, "en-vivo-envio-" + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        temporizador = Executors.newSingleThreadScheduledExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "en-vivo-temporizador");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+
+        long periodoMs = Math.max(1, 1000 / Math.max(1, framesPorSegundo));
+        temporizador.scheduleAtFixedRate(this::emitirPendientes, periodoMs, periodoMs, TimeUnit.MILLISECONDS);
+        latido = SseEmitter.event().comment("latido").build();
+        temporizador.scheduleAtFixedRate(this::emitirLatido, latidoSegundos, latidoSegundos, TimeUnit.SECONDS);
+
+        Gauge.builder("torneos.en-vivo.suscriptores", suscriptores, AtomicInteger::get)
+                .description("Conexiones SSE abiertas").register(meterRegistry);
+        Gauge.builder("torneos.en-vivo.pendientes", pendientes, Map::size)
+                .description("Partidos con cambios por emitir").register(meterRegistry);
+        framesEmitidos = Counter.builder("torneos.en-vivo.frames").description("Frames serializados")
+                .register(meterRegistry);
+        desconectadosLentos = Counter.builder("torneos.en-vivo.desconexiones").tag("motivo", "lento")
+                .register(meterRegistry);
+        log.info("Marcadores en vivo: {} frames/s por partido, {} hilos de envío, cola {} por suscriptor",
+                framesPorSegundo, hilos, capacidadCola);
+    }
+
+    @PreDestroy
+    public void detener() {
+        temporizador.shutdownNow();
+        ejecutorEnvio.shutdownNow();
+        porPartido.values().forEach(s -> s.forEach(Suscriptor::cerrar));
+        porTorneo.values().forEach(s -> s.forEach(Suscriptor::cerrar));
+    }
+
+    /**
+     * Suscribirse a un partido; el primer frame es su estado actual
+     */
+    public SseEmitter suscribirPartido(MarcadorDTO actual) {
+        Suscriptor suscriptor = suscribir(porPartido, actual.getIdPartido());
+        suscriptor.ofrecer(serializar(enJuego.getOrDefault(actual.getIdPartido(), actual)));
+        return suscriptor.emitter;
+    }
+
+    /**
+     * Suscribirse a todos los partidos de un torneo; primero llegan los que están en juego
+     */
+    public SseEmitter suscribirTorneo(Long idTorneo) {
+        Suscriptor suscriptor = suscribir(porTorneo, idTorneo);
+        for (MarcadorDTO marcador : enJuego.values()) {
+            if (idTorneo.equals(marcador.getIdTorneo())) {
+                suscriptor.ofrecer(serializar(marcador));
+            }
+        }
+        return suscriptor.emitter;
+    }
+
+    /**
+     * Guardar el cambio confirmado; si ya había uno pendiente del mismo partido, prevalece el más reciente
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void alCambiarMarcador(MarcadorCambiadoEvent evento) {
+        MarcadorDTO marcador = evento.getMarcador();
+        pendientes.merge(marcador.getIdPartido(), marcador,
+                (anterior, nuevo) -> nuevo.getSecuencia() >= anterior.getSecuencia() ? nuevo : anterior);
+    }
+
+    private void emitirPendientes() {
+        try {
+            for (Long idPartido : pendientes.keySet()) {
+                MarcadorDTO marcador = pendientes.remove(idPartido);
+                if (marcador == null) {
+                    continue;
+                }
+                if (marcador.getEstado() == Partido.EstadoPartido.EN_CURSO) {
+                    enJuego.merge(idPartido, marcador,
+                            (anterior, nuevo) -> nuevo.getSecuencia() >= anterior.getSecuencia() ? nuevo : anterior);
+                } else {
+                    enJuego.remove(idPartido);
+                }
+
+                Set<Suscriptor> delPartido = porPartido.get(idPartido);
+                Set<Suscriptor> delTorneo = porTorneo.get(marcador.getIdTorneo());
+                if (delPartido == null && delTorneo == null) {
+                    continue;
+                }
+                Set<ResponseBodyEmitter.DataWithMediaType> frame = serializar(marcador);
+                framesEmitidos.increment();
+                entregar(delPartido, frame);
+                entregar(delTorneo, frame);
+            }
+        } catch (RuntimeException e) {
+            // Una excepción cancelaría la tarea periódica
+            log.error("Error emitiendo marcadores en vivo", e);
+        }
+    }
+
+    private void emitirLatido() {
+        porPartido.values().forEach(s -> entregar(s, latido));
+        porTorneo.values().forEach(s -> entregar(s, latido));
+    }
+
+    private void entregar(Set<Suscriptor> destinatarios, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        if (destinatarios != null) {
+            for (Suscriptor suscriptor : destinatarios) {
+                suscriptor.ofrecer(frame);
+            }
+        }
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> serializar(MarcadorDTO marcador) {
+        try {
+            return SseEmitter.event()
+                    .name(EVENTO_MARCADOR)
+                    .id(marcador.getIdPartido() + ":" + marcador.getSecuencia())
+                    .data(objectMapper.writeValueAsString(marcador))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el marcador del partido " + marcador.getIdPartido(), e);
+        }
+    }
+
+    private Suscriptor suscribir(ConcurrentHashMap<Long, Set<Suscriptor>> indice, Long clave) {
+        if (suscriptores.incrementAndGet() > maxSuscriptores) {
+            suscriptores.decrementAndGet();
+            throw new ServicioSaturadoException("Demasiadas conexiones en vivo, reintente más tarde",
+                    HttpStatus.SERVICE_UNAVAILABLE, 5);
+        }
+        Suscriptor suscriptor = new Suscriptor(indice, clave);
+        // compute es atómico por clave: no se cruza con la retirada del último suscriptor
+        indice.compute(clave, (c, conjunto) -> {
+            Set<Suscriptor> destino = conjunto != null ? conjunto : ConcurrentHashMap.newKeySet();
+            destino.add(suscriptor);
+            return destino;
+        });
+        return suscriptor;
+    }
+
+    /**
+     * Conexión de un cliente: cola acotada de frames ya serializados y, como mucho,
+     * una tarea de envío en curso en el ejecutor.
+     */
+    private final class Suscriptor implements Runnable {
+
+        private final SseEmitter emitter = new SseEmitter(timeoutMs);
+        private final ArrayBlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> cola =
+                new ArrayBlockingQueue<>(capacidadCola);
+        private final AtomicBoolean programado = new AtomicBoolean();
+        private final AtomicBoolean cerrado = new AtomicBoolean();
+        private final ConcurrentHashMap<Long, Set<Suscriptor>> indice;
+        private final Long clave;
+
+        Suscriptor(ConcurrentHashMap<Long, Set<Suscriptor>> indice, Long clave) {
+            this.indice = indice;
+            this.clave = clave;
+            emitter.onCompletion(this::retirar);
+            emitter.onTimeout(this::cerrar);
+            emitter.onError(e -> retirar());
+        }
+
+        void ofrecer(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (cerrado.get()) {
+                return;
+            }
+            if (!cola.offer(frame)) {
+                desconectadosLentos.increment();
+                cerrar();
+                return;
+            }
+            programar();
+        }
+
+        private void programar() {
+            if (programado.compareAndSet(false, true)) {
+                ejecutorEnvio.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> frame;
+                while (!cerrado.get() && (frame = cola.poll()) != null) {
+                    emitter.send(frame);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectado o emisor ya completado
+                cerrar();
+            } finally {
+                programado.set(false);
+                // Un frame ofrecido mientras terminaba el bucle no debe quedarse en la cola
+                if (!cola.isEmpty() && !cerrado.get()) {
+                    programar();
+                }
+            }
+        }
+
+        void cerrar() {
+            if (cerrado.compareAndSet(false, true)) {
+                cola.clear();
+                retirar();
+                try {
+                    emitter.complete();
+                } catch (IllegalStateException e) {
+                    // Ya completado por el contenedor
+                }
+            }
+        }
+
+        private void retirar() {
+            cerrado.set(true);
+            indice.computeIfPresent(clave, (c, conjunto) -> {
+                if (conjunto.remove(this)) {
+                    suscriptores.decrementAndGet();
+                }
+                return conjunto.isEmpty() ? null : conjunto;
+            });
+        }
+    }
+}
@@ -0,0 +1,24 @@
+-- Torneos Deportivos - Secuencias con incremento para el optimizador pooled de Hibernate
+-- Versión: V2__Pooled_id_sequences.sql
+--
+-- Con GenerationType.IDENTITY Hibernate no puede agrupar INSERTs en batches JDBC.
+-- Las entidades pasan a usar las secuencias que ya crea BIGSERIAL, pero con un
+-- incremento igual al allocationSize: cada nextval reserva un bloque de IDs.
+--
+-- El optimizador pooled usa el rango (valor - incremento, valor], por lo que las
+-- inserciones que siguen usando el DEFAULT nextval de la columna (importación
+-- masiva por JDBC, scripts SQL) nunca colisionan con los bloques de Hibernate.
+--
+-- El tamaño del bloque se configura con el placeholder de Flyway
+-- tamano_asignacion_ids (spring.flyway.placeholders.tamano_asignacion_ids).
+
+ALTER SEQUENCE usuarios_id_usuario_seq INCREMENT BY ${tamano_asignacion_ids};
+ALTER SEQUENCE equipos_id_equipo_seq INCREMENT BY ${tamano_asignacion_ids};
+ALTER SEQUENCE jugadores_id_jugador_seq INCREMENT BY ${tamano_asignacion_ids};
+ALTER SEQUENCE arbitros_id_arbitro_seq INCREMENT BY ${tamano_asignacion_ids};
+ALTER SEQUENCE torneos_id_torneo_seq INCREMENT BY ${tamano_asignacion_ids};
+ALTER SEQUENCE rondas_id_ronda_seq INCREMENT BY ${tamano_asignacion_ids};
+ALTER SEQUENCE partidos_id_partido_seq INCREMENT BY ${tamano_asignacion_ids};
+ALTER SEQUENCE resultados_id_resultado_seq INCREMENT BY ${tamano_asignacion_ids};
+ALTER SEQUENCE inscripciones_id_inscripcion_seq INCREMENT BY ${tamano_asignacion_ids};
+ALTER SEQUENCE estadisticas_jugador_id_estadistica_seq INCREMENT BY ${tamano_asignacion_ids};
@@ -0,0 +1,17 @@
+-- Torneos Deportivos - Búsqueda de nombres por trigramas, insensible a acentos
+-- Versión: V3__Trigram_name_search.sql
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() es STABLE (depende del diccionario configurado); para poder indexar
+-- la expresión se fija el diccionario en una función IMMUTABLE.
+CREATE OR REPLACE FUNCTION f_unaccent(text)
+RETURNS text AS $$
+    SELECT public.unaccent('public.unaccent'::regdictionary, $1)
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT;
+
+-- Índices GIN sobre el nombre normalizado: sirven tanto para LIKE '%x%' como
+-- para el operador de similitud %.
+CREATE INDEX idx_jugadores_nombre_trgm ON jugadores USING gin (f_unaccent(lower(nombre)) gin_trgm_ops);
+CREATE INDEX idx_equipos_nombre_trgm ON equipos USING gin (f_unaccent(lower(nombre)) gin_trgm_ops);
@@ -0,0 +1,7 @@
+-- Torneos Deportivos - Índice para filtros por edad
+-- Versión: V4__Jugadores_fecha_nacimiento_index.sql
+--
+-- Los filtros por edad se traducen a un rango de fecha_nacimiento, que sí puede
+-- usar este índice (parcial: sólo se consultan jugadores activos).
+
+CREATE INDEX idx_jugadores_fecha_nacimiento ON jugadores(fecha_nacimiento) WHERE activo = true;
@@ -0,0 +1,37 @@
+-- Torneos Deportivos - Contadores desnormalizados de plantilla
+-- Versión: V5__Contadores_plantilla.sql
+--
+-- Los servicios los actualizan en la misma transacción que la escritura
+-- (upsert con incremento). ReconciliacionContadoresJob los compara con las
+-- tablas base y corrige las desviaciones.
+
+CREATE TABLE equipo_contadores (
+    id_equipo BIGINT PRIMARY KEY REFERENCES equipos(id_equipo) ON DELETE CASCADE,
+    jugadores_activos INTEGER NOT NULL DEFAULT 0,
+    porteros INTEGER NOT NULL DEFAULT 0,
+    defensas INTEGER NOT NULL DEFAULT 0,
+    medios INTEGER NOT NULL DEFAULT 0,
+    delanteros INTEGER NOT NULL DEFAULT 0
+);
+
+CREATE TABLE categoria_contadores (
+    categoria VARCHAR(50) PRIMARY KEY,
+    equipos_activos INTEGER NOT NULL DEFAULT 0
+);
+
+-- Carga inicial
+INSERT INTO equipo_contadores (id_equipo, jugadores_activos, porteros, defensas, medios, delanteros)
+SELECT e.id_equipo,
+       COUNT(j.id_jugador),
+       COUNT(j.id_jugador) FILTER (WHERE j.posicion = 'PORTERO'),
+       COUNT(j.id_jugador) FILTER (WHERE j.posicion = 'DEFENSA'),
+       COUNT(j.id_jugador) FILTER (WHERE j.posicion = 'MEDIO'),
+       COUNT(j.id_jugador) FILTER (WHERE j.posicion = 'DELANTERO')
+FROM equipos e
+LEFT JOIN jugadores j ON j.id_equipo = e.id_equipo AND j.activo = true
+GROUP BY e.id_equipo;
+
+INSERT INTO categoria_contadores (categoria, equipos_activos)
+SELECT categoria, COUNT(*) FILTER (WHERE activo = true)
+FROM equipos
+GROUP BY categoria;
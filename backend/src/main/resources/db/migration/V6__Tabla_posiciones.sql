@@ -0,0 +1,50 @@
+-- Torneos Deportivos - Tabla de posiciones mantenida de forma incremental
+-- Versión: V6__Tabla_posiciones.sql
+--
+-- Una fila por equipo inscrito en un torneo de liga (LIGUILLA, IDA_VUELTA).
+-- ResultadoService aplica el resultado de cada partido finalizado (y revierte
+-- el anterior al corregirlo) en la misma transacción; la consulta de la tabla
+-- recorre el índice ordenado del torneo sin agregar resultados.
+-- Victoria = 3 puntos, empate = 1.
+
+CREATE TABLE posiciones (
+    id_torneo BIGINT NOT NULL REFERENCES torneos(id_torneo) ON DELETE CASCADE,
+    id_equipo BIGINT NOT NULL REFERENCES equipos(id_equipo) ON DELETE CASCADE,
+    partidos_jugados INTEGER NOT NULL DEFAULT 0,
+    ganados INTEGER NOT NULL DEFAULT 0,
+    empatados INTEGER NOT NULL DEFAULT 0,
+    perdidos INTEGER NOT NULL DEFAULT 0,
+    goles_favor INTEGER NOT NULL DEFAULT 0,
+    goles_contra INTEGER NOT NULL DEFAULT 0,
+    diferencia_goles INTEGER GENERATED ALWAYS AS (goles_favor - goles_contra) STORED,
+    puntos INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (id_torneo, id_equipo)
+);
+
+-- Orden de la clasificación: puntos, diferencia de goles, goles a favor
+CREATE INDEX idx_posiciones_clasificacion
+    ON posiciones (id_torneo, puntos DESC, diferencia_goles DESC, goles_favor DESC, id_equipo);
+
+-- Carga inicial desde los resultados existentes
+INSERT INTO posiciones (id_torneo, id_equipo, partidos_jugados, ganados, empatados, perdidos,
+                        goles_favor, goles_contra, puntos)
+SELECT i.id_torneo, i.id_equipo,
+       COUNT(x.id_equipo),
+       COUNT(x.id_equipo) FILTER (WHERE x.favor > x.contra),
+       COUNT(x.id_equipo) FILTER (WHERE x.favor = x.contra),
+       COUNT(x.id_equipo) FILTER (WHERE x.favor < x.contra),
+       COALESCE(SUM(x.favor), 0),
+       COALESCE(SUM(x.contra), 0),
+       COALESCE(SUM(CASE WHEN x.favor > x.contra THEN 3 WHEN x.favor = x.contra THEN 1 ELSE 0 END), 0)
+FROM inscripciones i
+JOIN torneos t ON t.id_torneo = i.id_torneo AND t.formato IN ('LIGUILLA', 'IDA_VUELTA')
+LEFT JOIN (
+    SELECT ro.id_torneo, e.id_equipo, e.favor, e.contra
+    FROM resultados re
+    JOIN partidos pa ON pa.id_partido = re.id_partido AND pa.estado = 'FINALIZADO' AND pa.activo = true
+    JOIN rondas ro ON ro.id_ronda = pa.id_ronda
+    CROSS JOIN LATERAL (VALUES (pa.equipo_local, re.goles_local, re.goles_visitante),
+                               (pa.equipo_visitante, re.goles_visitante, re.goles_local)) AS e(id_equipo, favor, contra)
+) x ON x.id_torneo = i.id_torneo AND x.id_equipo = i.id_equipo
+WHERE i.activo = true
+GROUP BY i.id_torneo, i.id_equipo;
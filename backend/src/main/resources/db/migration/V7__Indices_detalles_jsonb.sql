@@ -0,0 +1,27 @@
+-- Torneos Deportivos - Índices sobre las columnas JSONB de detalles
+-- Versión: V7__Indices_detalles_jsonb.sql
+--
+-- Las columnas JSONB se mapean a objetos tipados (DetallesEstadisticas,
+-- DetallesAdicionales, Premiacion). Los filtros por posesión y tiros de
+-- ResultadoService usan exactamente estas expresiones para poder recorrer los
+-- índices; el resto de claves se filtran por contención (@>) con el índice GIN.
+
+-- Valor entero de una clave, o NULL si falta o no es numérico: un dato antiguo
+-- mal formado no impide crear el índice ni insertar la fila
+CREATE FUNCTION jsonb_entero(datos JSONB, clave TEXT) RETURNS INTEGER
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE AS
+$$
+    SELECT CASE WHEN jsonb_typeof(datos -> clave) = 'number' THEN round((datos ->> clave)::NUMERIC)::INTEGER END
+$$;
+
+-- Partidos con dominio de la posesión (de cualquiera de los dos equipos)
+CREATE INDEX idx_resultados_posesion_maxima ON resultados (
+    GREATEST(jsonb_entero(detalles_estadisticas, 'posesionLocal'),
+             jsonb_entero(detalles_estadisticas, 'posesionVisitante')));
+
+-- Partidos con muchos tiros entre ambos equipos
+CREATE INDEX idx_resultados_tiros_totales ON resultados (
+    (jsonb_entero(detalles_estadisticas, 'tirosLocal') + jsonb_entero(detalles_estadisticas, 'tirosVisitante')));
+
+-- Contención sobre cualquier clave: detalles_estadisticas @> '{"var": true}'
+CREATE INDEX idx_resultados_detalles ON resultados USING GIN (detalles_estadisticas jsonb_path_ops);
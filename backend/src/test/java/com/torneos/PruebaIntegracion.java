@@ -0,0 +1,70 @@
+package com.torneos;
+
+import com.torneos.dto.EquipoRequestDTO;
+import com.torneos.dto.EquipoResponseDTO;
+import com.torneos.dto.JugadorRequestDTO;
+import com.torneos.dto.JugadorResponseDTO;
+import com.torneos.entity.Jugador;
+import com.torneos.service.EquipoService;
+import com.torneos.service.JugadorService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Base de las pruebas de integración: contexto completo con el perfil test sobre PostgreSQL (la base
+ * local torneos_test, o un contenedor con TEST_DB_URL=jdbc:tc:..., ver application.yml). Cada prueba
+ * crea sus propios equipos con nombres únicos, así que no hace falta limpiar la base entre pruebas.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public abstract class PruebaIntegracion {
+
+    @Autowired
+    protected EquipoService equipoService;
+
+    @Autowired
+    protected JugadorService jugadorService;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    protected EquipoResponseDTO crearEquipo() {
+        EquipoRequestDTO request = new EquipoRequestDTO();
+        request.setNombre("Prueba " + UUID.randomUUID());
+        request.setCategoria("Libre");
+        return equipoService.crearEquipo(request);
+    }
+
+    protected JugadorResponseDTO crearJugador(Long idEquipo, int numeroCamiseta) {
+        return jugadorService.registrarJugador(jugador(idEquipo, numeroCamiseta));
+    }
+
+    /**
+     * Partido de liga entre dos equipos, en un torneo y una ronda nuevos que empiezan hoy
+     */
+    protected Long crearPartido(Long local, Long visitante) {
+        LocalDate hoy = LocalDate.now();
+        Long idTorneo = jdbcTemplate.queryForObject("INSERT INTO torneos (nombre, formato, fecha_inicio, fecha_fin) "
+                + "VALUES (?, 'LIGUILLA', ?, ?) RETURNING id_torneo", Long.class,
+                "Prueba " + UUID.randomUUID(), hoy, hoy.plusMonths(1));
+        Long idRonda = jdbcTemplate.queryForObject("INSERT INTO rondas (id_torneo, nombre_ronda, orden_ronda) "
+                + "VALUES (?, 'Jornada 1', 1) RETURNING id_ronda", Long.class, idTorneo);
+        return jdbcTemplate.queryForObject("INSERT INTO partidos (id_ronda, equipo_local, equipo_visitante, "
+                + "fecha_hora) VALUES (?, ?, ?, now()) RETURNING id_partido", Long.class, idRonda, local, visitante);
+    }
+
+    protected static JugadorRequestDTO jugador(Long idEquipo, int numeroCamiseta) {
+        JugadorRequestDTO request = new JugadorRequestDTO();
+        request.setNombre("Jugador " + numeroCamiseta);
+        request.setFechaNacimiento(LocalDate.of(2000, 1, 1).plusDays(numeroCamiseta));
+        request.setPosicion(Jugador.Posicion.MEDIO);
+        request.setNumeroCamiseta(numeroCamiseta);
+        request.setIdEquipo(idEquipo);
+        return request;
+    }
+}
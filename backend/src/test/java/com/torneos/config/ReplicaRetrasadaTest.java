@@ -0,0 +1,257 @@
+package com.torneos.config;
+
+import com.torneos.PruebaIntegracion;
+import com.torneos.dto.EquipoResponseDTO;
+import com.torneos.dto.JugadorRequestDTO;
+import com.torneos.dto.JugadorResponseDTO;
+import com.torneos.entity.Jugador;
+import com.torneos.repository.JugadorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.TransactionState;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cachés con una réplica retrasada: la réplica es la misma base leída con una instantánea exportada
+ * antes de la escritura, así que no ve nada de lo confirmado después (ver ReplicaRetrasada).
+ */
+@SpringBootTest(properties = {
+        "torneos.replicas.habilitadas=true",
+        "torneos.replicas.intervalo-salud=200ms",
+        "torneos.replicas.instancias[0].nombre=retrasada",
+        "torneos.replicas.instancias[0].url=${spring.datasource.url}",
+        "torneos.replicas.instancias[0].username=${spring.datasource.username}",
+        "torneos.replicas.instancias[0].password=${spring.datasource.password}",
+        "torneos.cache.l2.habilitada=true"
+})
+class ReplicaRetrasadaTest extends PruebaIntegracion {
+
+    @Autowired
+    private ReplicaRetrasada replica;
+
+    @Autowired
+    private EnrutadorLecturas enrutadorLecturas;
+
+    @Autowired
+    private JugadorRepository jugadorRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void esperarReplicaSana() throws InterruptedException {
+        long limite = System.currentTimeMillis() + 5000;
+        while (!replicaSana() && System.currentTimeMillis() < limite) {
+            Thread.sleep(50);
+        }
+        assertTrue(replicaSana(), "La réplica no llegó a estar disponible");
+    }
+
+    @AfterEach
+    void descongelar() throws SQLException {
+        replica.descongelar();
+    }
+
+    @Test
+    void laCacheDeDtoCargaDesdeLaPrimaria() throws SQLException {
+        EquipoResponseDTO equipo = crearEquipo();
+        JugadorResponseDTO jugador = crearJugador(equipo.getIdEquipo(), 7);
+        jugadorService.obtenerJugador(jugador.getIdJugador());
+        jugadorService.listarJugadoresPorEquipo(equipo.getIdEquipo());
+
+        replica.congelar();
+        JugadorRequestDTO cambio = jugador(equipo.getIdEquipo(), 7);
+        cambio.setNombre("Renombrado " + jugador.getIdJugador());
+        jugadorService.actualizarJugador(jugador.getIdJugador(), cambio);
+
+        // Una lectura readOnly normal va a la réplica y no ve el cambio...
+        assertTrue(jugadorService.buscarJugadoresPorNombre(cambio.getNombre()).isEmpty());
+        // ...pero la recarga de las entradas invalidadas se hace en la primaria
+        assertEquals(cambio.getNombre(), jugadorService.obtenerJugador(jugador.getIdJugador()).getNombre());
+        List<JugadorResponseDTO> plantilla = jugadorService.listarJugadoresPorEquipo(equipo.getIdEquipo());
+        assertEquals(cambio.getNombre(), plantilla.get(0).getNombre());
+    }
+
+    @Test
+    void laCacheDeConsultasDescartaLoLeidoTrasUnaEscrituraReciente() throws SQLException {
+        EquipoResponseDTO equipo = crearEquipo();
+        crearJugador(equipo.getIdEquipo(), 7);
+
+        replica.congelar();
+        JugadorRequestDTO portero = jugador(equipo.getIdEquipo(), 1);
+        portero.setPosicion(Jugador.Posicion.PORTERO);
+        jugadorService.registrarJugador(portero);
+
+        // Leída de la réplica después de la invalidación: todavía sin el portero
+        assertEquals(1, posiciones(equipo.getIdEquipo()));
+
+        // Con la réplica al día, el resultado anterior no debe seguir sirviéndose desde la caché
+        replica.descongelar();
+        assertEquals(2, posiciones(equipo.getIdEquipo()));
+    }
+
+    private int posiciones(Long idEquipo) {
+        // Los métodos de consulta del repositorio no son transaccionales: readOnly para que vaya a la réplica
+        TransactionTemplate lectura = new TransactionTemplate(transactionManager);
+        lectura.setReadOnly(true);
+        return lectura.execute(estado -> jugadorRepository.getEstadisticasPosicionesPorEquipo(idEquipo).size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean replicaSana() {
+        Map<String, Object> estado = (Map<String, Object>) enrutadorLecturas.estadoReplicas().get("retrasada");
+        return estado != null && Boolean.TRUE.equals(estado.get("sana"));
+    }
+
+    @TestConfiguration
+    static class ConfiguracionReplica {
+
+        @Bean
+        static ReplicaRetrasada replicaRetrasada(Environment entorno) {
+            DriverManagerDataSource base = new DriverManagerDataSource(entorno.getProperty("spring.datasource.url"),
+                    entorno.getProperty("spring.datasource.username"),
+                    entorno.getProperty("spring.datasource.password"));
+            base.setDriverClassName(entorno.getProperty("spring.datasource.driver-class-name"));
+            return new ReplicaRetrasada(base);
+        }
+
+        @Bean
+        static BeanPostProcessor replicaRetrasadaEnPropiedades(ReplicaRetrasada replica) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String nombre) {
+                    if (bean instanceof PropiedadesReplicas propiedades) {
+                        propiedades.getInstancias().forEach(i -> i.getHikari().setDataSource(replica));
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * DataSource de réplica sobre la misma base. Mientras está congelada, cada conexión lee con la
+     * instantánea exportada en congelar(), como una réplica que no ha aplicado nada posterior.
+     */
+    static class ReplicaRetrasada extends AbstractDataSource {
+
+        private final DriverManagerDataSource base;
+        private Connection exportadora;
+        private volatile String instantanea;
+
+        ReplicaRetrasada(DriverManagerDataSource base) {
+            this.base = base;
+        }
+
+        synchronized void congelar() throws SQLException {
+            exportadora = base.getConnection();
+            exportadora.setAutoCommit(false);
+            exportadora.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            try (Statement sentencia = exportadora.createStatement();
+                 ResultSet rs = sentencia.executeQuery("SELECT pg_export_snapshot()")) {
+                rs.next();
+                instantanea = rs.getString(1);
+            }
+        }
+
+        synchronized void descongelar() throws SQLException {
+            instantanea = null;
+            if (exportadora != null) {
+                exportadora.rollback();
+                exportadora.close();
+                exportadora = null;
+            }
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return envolver(base.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String usuario, String clave) throws SQLException {
+            return envolver(base.getConnection(usuario, clave));
+        }
+
+        private Connection envolver(Connection real) {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] { Connection.class }, new Manejador(real));
+        }
+
+        private final class Manejador implements InvocationHandler {
+
+            private final Connection real;
+            private String importada;
+
+            private Manejador(Connection real) {
+                this.real = real;
+            }
+
+            @Override
+            public Object invoke(Object proxy, Method metodo, Object[] argumentos) throws Throwable {
+                String nombre = metodo.getName();
+                if (nombre.equals("setReadOnly")) {
+                    // No se puede cambiar dentro de la transacción de la instantánea; la réplica solo lee
+                    return null;
+                }
+                if (nombre.startsWith("prepare") || nombre.equals("createStatement")) {
+                    ajustarInstantanea();
+                }
+                try {
+                    return metodo.invoke(real, argumentos);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+
+            private void ajustarInstantanea() throws SQLException {
+                String deseada = instantanea;
+                boolean abierta = real.unwrap(BaseConnection.class).getTransactionState() != TransactionState.IDLE;
+                try (Statement sentencia = real.createStatement()) {
+                    if (abierta) {
+                        // Una transacción empezada fuera de la instantánea, o que ya lee con la que toca
+                        if (importada == null || importada.equals(deseada)) {
+                            return;
+                        }
+                        sentencia.execute("COMMIT");
+                    }
+                    importada = null;
+                    if (deseada == null) {
+                        return;
+                    }
+                    if (real.getAutoCommit()) {
+                        sentencia.execute("BEGIN");
+                    }
+                    sentencia.execute("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ");
+                    sentencia.execute("SET TRANSACTION SNAPSHOT '" + deseada + "'");
+                    importada = deseada;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.torneos.controller;
+
+import com.torneos.PruebaIntegracion;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Suscripciones SSE: siguen abiertas mucho después de leer el marcador inicial, así que no deben
+ * retener la conexión de esa lectura (spring.jpa.open-in-view desactivado), y se abren desde un
+ * EventSource del navegador, que no envía cabecera Authorization.
+ */
+@AutoConfigureMockMvc
+class MarcadorEnVivoTest extends PruebaIntegracion {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @WithMockUser
+    void laSuscripcionAbiertaNoRetieneConexion() throws Exception {
+        Long idPartido = crearPartido(crearEquipo().getIdEquipo(), crearEquipo().getIdEquipo());
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+
+        MvcResult suscripcion = mockMvc.perform(get("/partidos/{idPartido}/en-vivo", idPartido))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        try {
+            // Margen para trabajos en segundo plano que tomen una conexión a la vez
+            long limite = System.currentTimeMillis() + 2000;
+            while (pool.getActiveConnections() > 0 && System.currentTimeMillis() < limite) {
+                Thread.sleep(20);
+            }
+            assertEquals(0, pool.getActiveConnections());
+        } finally {
+            suscripcion.getRequest().getAsyncContext().complete();
+        }
+    }
+
+    @Test
+    void seSuscribeSinCabeceraAuthorization() throws Exception {
+        // Como un EventSource del navegador: sin token ni usuario
+        Long idPartido = crearPartido(crearEquipo().getIdEquipo(), crearEquipo().getIdEquipo());
+        Long idTorneo = jdbcTemplate.queryForObject("SELECT ro.id_torneo FROM partidos pa "
+                + "JOIN rondas ro ON ro.id_ronda = pa.id_ronda WHERE pa.id_partido = ?", Long.class, idPartido);
+
+        for (MvcResult suscripcion : List.of(
+                mockMvc.perform(get("/partidos/{idPartido}/en-vivo", idPartido)
+                                .accept(MediaType.TEXT_EVENT_STREAM))
+                        .andExpect(request().asyncStarted())
+                        .andReturn(),
+                mockMvc.perform(get("/torneos/{idTorneo}/en-vivo", idTorneo)
+                                .accept(MediaType.TEXT_EVENT_STREAM))
+                        .andExpect(request().asyncStarted())
+                        .andReturn())) {
+            suscripcion.getRequest().getAsyncContext().complete();
+        }
+
+        // El resto de lecturas sigue pidiendo token
+        mockMvc.perform(get("/partidos/{idPartido}/resultado", idPartido))
+                .andExpect(status().isUnauthorized());
+    }
+}
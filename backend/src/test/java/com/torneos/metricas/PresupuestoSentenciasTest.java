@@ -0,0 +1,96 @@
+package com.torneos.metricas;
+
+import com.torneos.PruebaIntegracion;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PresupuestoSentenciasTest extends PruebaIntegracion {
+
+    @Autowired
+    private ConsultasConPresupuesto consultas;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void dentroDelPresupuestoNoFalla() {
+        assertEquals(1, consultas.unaConsulta());
+    }
+
+    @Test
+    void excederElPresupuestoFallaConElSqlCapturado() {
+        PresupuestoSentenciasExcedidoException excepcion = assertThrows(PresupuestoSentenciasExcedidoException.class,
+                () -> consultas.dosConsultas());
+
+        assertEquals(2, excepcion.getSentencias());
+        assertEquals(1, excepcion.getPresupuesto());
+        assertEquals(List.of("SELECT 1", "SELECT 2"), excepcion.getSql());
+        assertTrue(excepcion.getMessage().contains("ConsultasConPresupuesto.dosConsultas ejecutó 2 sentencias SQL"),
+                excepcion.getMessage());
+        assertTrue(excepcion.getMessage().contains("\n  2. SELECT 2"), excepcion.getMessage());
+    }
+
+    @Test
+    void medicionConPresupuestoFallaConElSqlCapturado() {
+        PresupuestoSentenciasExcedidoException excepcion;
+        try (ContadorSentencias.Medicion medicion = ContadorSentencias.abrir(true)) {
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            jdbcTemplate.queryForObject("SELECT 2", Integer.class);
+            excepcion = assertThrows(PresupuestoSentenciasExcedidoException.class,
+                    () -> medicion.comprobarPresupuesto(1, "bloque"));
+        }
+        assertEquals(List.of("SELECT 1", "SELECT 2"), excepcion.getSql());
+    }
+
+    @Test
+    void sinModoEstrictoSoloSeCapturaElExceso() {
+        try (ContadorSentencias.Medicion medicion = ContadorSentencias.abrir(1)) {
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            jdbcTemplate.queryForObject("SELECT 2", Integer.class);
+            jdbcTemplate.queryForObject("SELECT 3", Integer.class);
+
+            assertEquals(3, medicion.getSentencias());
+            assertEquals(List.of("SELECT 2", "SELECT 3"), medicion.getSql());
+            assertTrue(PresupuestoSentenciasExcedidoException.mensaje("bloque", 3, 1, medicion.getSql())
+                    .endsWith("\n  2. SELECT 2\n  3. SELECT 3"));
+        }
+    }
+
+    @TestConfiguration
+    static class Configuracion {
+
+        @Bean
+        ConsultasConPresupuesto consultasConPresupuesto(JdbcTemplate jdbcTemplate) {
+            return new ConsultasConPresupuesto(jdbcTemplate);
+        }
+    }
+
+    static class ConsultasConPresupuesto {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        ConsultasConPresupuesto(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @PresupuestoSentencias(1)
+        public int unaConsulta() {
+            return jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+        }
+
+        @PresupuestoSentencias(1)
+        public int dosConsultas() {
+            return jdbcTemplate.queryForObject("SELECT 1", Integer.class)
+                    + jdbcTemplate.queryForObject("SELECT 2", Integer.class);
+        }
+    }
+}
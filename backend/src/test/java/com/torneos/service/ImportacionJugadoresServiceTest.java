@@ -0,0 +1,70 @@
+package com.torneos.service;
+
+import com.torneos.PruebaIntegracion;
+import com.torneos.dto.ResultadoImportacionDTO;
+import com.torneos.exception.TorneosException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImportacionJugadoresServiceTest extends PruebaIntegracion {
+
+    @Autowired
+    private ImportacionJugadoresService importacionJugadoresService;
+
+    @Test
+    void unaFilaRechazadaPorLaBaseNoRevierteElRestoDelLote() {
+        Long idEquipo = crearEquipo().getIdEquipo();
+        StringBuilder ndjson = new StringBuilder();
+        for (int numero = 1; numero <= 8; numero++) {
+            // La fila 5 apunta a un usuario inexistente: solo la clave foránea la rechaza
+            String usuario = numero == 5 ? ",\"idUsuario\":2000000000" : "";
+            ndjson.append(fila(idEquipo, numero, usuario)).append('\n');
+        }
+
+        ResultadoImportacionDTO resultado = importacionJugadoresService.importarJugadoresNdjson(entrada(ndjson));
+
+        assertEquals(7, resultado.getInsertados());
+        assertEquals(1, resultado.getRechazados());
+        assertEquals(5, resultado.getErrores().get(0).getFila());
+        assertTrue(resultado.getErrores().get(0).getMensaje().startsWith("No se pudo insertar"),
+                resultado.getErrores().get(0).getMensaje());
+        assertEquals(7, jugadorService.listarJugadoresPorEquipo(idEquipo).size());
+    }
+
+    @Test
+    void elArregloJsonSeLeeElementoAElemento() {
+        Long idEquipo = crearEquipo().getIdEquipo();
+        String json = "[" + fila(idEquipo, 1, "") + ",{\"numeroCamiseta\":\"diez\"}," + fila(idEquipo, 3, "") + "]";
+
+        ResultadoImportacionDTO resultado = importacionJugadoresService.importarJugadoresJson(entrada(json));
+
+        assertEquals(3, resultado.getTotalFilas());
+        assertEquals(2, resultado.getInsertados());
+        assertEquals(2, resultado.getErrores().get(0).getFila());
+        assertTrue(resultado.getErrores().get(0).getMensaje().startsWith("JSON inválido"),
+                resultado.getErrores().get(0).getMensaje());
+    }
+
+    @Test
+    void unErrorDeSintaxisCortaLaImportacion() {
+        assertThrows(TorneosException.class,
+                () -> importacionJugadoresService.importarJugadoresJson(entrada("[{\"nombre\": ")));
+    }
+
+    private static String fila(Long idEquipo, int numero, String extra) {
+        return "{\"nombre\":\"Importado " + numero + "\",\"fechaNacimiento\":\"2001-02-03\",\"posicion\":\"MEDIO\""
+                + ",\"numeroCamiseta\":" + numero + ",\"idEquipo\":" + idEquipo + extra + "}";
+    }
+
+    private static InputStream entrada(CharSequence contenido) {
+        return new ByteArrayInputStream(contenido.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
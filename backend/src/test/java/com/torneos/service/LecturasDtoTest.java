@@ -0,0 +1,63 @@
+package com.torneos.service;
+
+import com.torneos.PruebaIntegracion;
+import com.torneos.dto.EquipoResponseDTO;
+import com.torneos.dto.JugadorResponseDTO;
+import com.torneos.metricas.ContadorSentencias;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Sentencias SQL por lectura: las proyecciones a DTO resuelven jugador y equipo en una sola consulta.
+ */
+class LecturasDtoTest extends PruebaIntegracion {
+
+    @Test
+    void obtenerJugadorEjecutaUnaSentencia() {
+        EquipoResponseDTO equipo = crearEquipo();
+        JugadorResponseDTO creado = crearJugador(equipo.getIdEquipo(), 10);
+
+        JugadorResponseDTO jugador = contar(1, () -> jugadorService.obtenerJugador(creado.getIdJugador()));
+        assertEquals(equipo.getNombre(), jugador.getEquipo().getNombre());
+
+        // El segundo acceso sale de la caché de DTO
+        contar(0, () -> jugadorService.obtenerJugador(creado.getIdJugador()));
+    }
+
+    @Test
+    void listarJugadoresPorEquipoEjecutaUnaSentencia() {
+        EquipoResponseDTO equipo = crearEquipo();
+        for (int numero = 1; numero <= 5; numero++) {
+            crearJugador(equipo.getIdEquipo(), numero);
+        }
+
+        List<JugadorResponseDTO> plantilla = contar(1,
+                () -> jugadorService.listarJugadoresPorEquipo(equipo.getIdEquipo()));
+        assertEquals(5, plantilla.size());
+        plantilla.forEach(jugador -> assertEquals(equipo.getNombre(), jugador.getEquipo().getNombre()));
+    }
+
+    @Test
+    void obtenerEquipoEjecutaDosSentencias() {
+        EquipoResponseDTO creado = crearEquipo();
+        for (int numero = 1; numero <= 3; numero++) {
+            crearJugador(creado.getIdEquipo(), numero);
+        }
+
+        // Equipo y contador de plantilla, sin cargar los jugadores
+        EquipoResponseDTO equipo = contar(2, () -> equipoService.obtenerEquipo(creado.getIdEquipo()));
+        assertEquals(3, equipo.getCantidadJugadores());
+    }
+
+    private static <T> T contar(long esperadas, Supplier<T> lectura) {
+        try (ContadorSentencias.Medicion medicion = ContadorSentencias.abrir(true)) {
+            T resultado = lectura.get();
+            assertEquals(esperadas, medicion.getSentencias(), () -> String.join("\n", medicion.getSql()));
+            return resultado;
+        }
+    }
+}
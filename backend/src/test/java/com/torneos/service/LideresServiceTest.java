@@ -0,0 +1,64 @@
+package com.torneos.service;
+
+import com.torneos.PruebaIntegracion;
+import com.torneos.dto.EstadisticaJugadorRequestDTO;
+import com.torneos.entity.EstadisticaJugador;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Recarga de las tablas de líderes con registros que confirman alrededor de la lectura del agregado.
+ */
+@RecordApplicationEvents
+class LideresServiceTest extends PruebaIntegracion {
+
+    @Autowired
+    private EstadisticasService estadisticasService;
+
+    @Autowired
+    private LideresService lideresService;
+
+    @Autowired
+    private ApplicationEvents eventos;
+
+    @Test
+    void unRegistroIncluidoEnLaRecargaNoSeCuentaDosVeces() {
+        Long local = crearEquipo().getIdEquipo();
+        Long idPartido = crearPartido(local, crearEquipo().getIdEquipo());
+        Long idTorneo = jdbcTemplate.queryForObject("SELECT ro.id_torneo FROM partidos pa "
+                + "JOIN rondas ro ON ro.id_ronda = pa.id_ronda WHERE pa.id_partido = ?", Long.class, idPartido);
+        Long idJugador = crearJugador(local, 9).getIdJugador();
+
+        estadisticasService.registrarEstadistica(idPartido, idJugador, goles(2));
+        EstadisticaRegistradaEvent registro = eventos.stream(EstadisticaRegistradaEvent.class)
+                .reduce((anterior, ultimo) -> ultimo)
+                .orElseThrow();
+
+        // El listener de un commit anterior a la carga que se ejecuta cuando la carga ya terminó
+        lideresService.recargar();
+        lideresService.alRegistrarEstadistica(registro);
+        assertEquals(2, golesDe(idTorneo, idJugador));
+
+        // Lo confirmado después de la recarga sí se aplica
+        estadisticasService.registrarEstadistica(idPartido, idJugador, goles(3));
+        assertEquals(3, golesDe(idTorneo, idJugador));
+    }
+
+    private int golesDe(Long idTorneo, Long idJugador) {
+        return lideresService.listarLideresTorneo(idTorneo, EstadisticaJugador.Metrica.GOLES, 10).stream()
+                .filter(lider -> lider.getIdJugador().equals(idJugador))
+                .findFirst()
+                .orElseThrow()
+                .getTotal();
+    }
+
+    private static EstadisticaJugadorRequestDTO goles(int goles) {
+        EstadisticaJugadorRequestDTO request = new EstadisticaJugadorRequestDTO();
+        request.setGoles(goles);
+        return request;
+    }
+}
@@ -0,0 +1,10 @@
+#!/bin/sh
+# Usuario y acceso de replicación para la réplica de lectura (docker compose --profile replicas).
+# Como todo docker-entrypoint-initdb.d, solo se ejecuta al crear el volumen de datos.
+set -e
+
+psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "$POSTGRES_DB" <<-EOSQL
+	CREATE ROLE replicador WITH REPLICATION LOGIN PASSWORD '${REPLICATION_PASSWORD:-replicador_pass}';
+EOSQL
+
+echo "host replication replicador all scram-sha-256" >> "$PGDATA/pg_hba.conf"